@@ -24,12 +24,16 @@ import org.apache.ignite.lang.IgniteSystemProperties;
 /**
  * Lock state structure is as follows.
  * <pre>
- *     +----------------+---------------+---------+----------+
- *     | WRITE WAIT CNT | READ WAIT CNT |   TAG   | LOCK CNT |
- *     +----------------+---------------+---------+----------+
- *     |     2 bytes    |     2 bytes   | 2 bytes |  2 bytes |
- *     +----------------+---------------+---------+----------+
+ *     +----------------+---------------+---------+----------+---------+
+ *     | WRITE WAIT CNT | READ WAIT CNT |   TAG   | LOCK CNT | VERSION |
+ *     +----------------+---------------+---------+----------+---------+
+ *     |     2 bytes    |     2 bytes   | 2 bytes |  2 bytes | 8 bytes |
+ *     +----------------+---------------+---------+----------+---------+
  * </pre>
+ *
+ * <p>Version is incremented on every release of the write lock, which allows to read the protected data without acquiring the lock, in
+ * the manner of {@link java.util.concurrent.locks.StampedLock}: see {@link #tryOptimisticRead(long, int)} and {@link #validate(long,
+ * long)}.
  */
 public class OffheapReadWriteLock {
     /**
@@ -49,7 +53,10 @@ public class OffheapReadWriteLock {
     public static final int TAG_LOCK_ALWAYS = -1;
 
     /** Lock size. */
-    public static final int LOCK_SIZE = 8;
+    public static final int LOCK_SIZE = 16;
+
+    /** Offset of the version from the lock address. */
+    private static final int VERSION_OFFSET = 8;
 
     /** Maximum number of waiting threads, read or write. */
     public static final int MAX_WAITERS = 0xFFFF;
@@ -101,6 +108,9 @@ public class OffheapReadWriteLock {
 
         assert tag != 0;
 
+        // The version is not reset, to invalidate the stamps of the previous user of the lock, if any.
+        incrementVersion(lock);
+
         GridUnsafe.putLong(lock, (long) tag << 16);
     }
 
@@ -288,6 +298,9 @@ public class OffheapReadWriteLock {
 
             assert updated != 0;
 
+            // Must be visible before the lock is released, only the write lock holder updates the version.
+            incrementVersion(lock);
+
             if (GridUnsafe.compareAndSwapLong(null, lock, state, updated)) {
                 break;
             }
@@ -311,6 +324,40 @@ public class OffheapReadWriteLock {
         }
     }
 
+    /**
+     * Returns a stamp for reading the data protected by the lock without acquiring it. The data read with the stamp may be inconsistent
+     * and must not be used unless {@link #validate(long, long)} succeeds after the read.
+     *
+     * @param lock Lock address.
+     * @param tag Validation tag.
+     * @return Stamp or {@code 0} if the write lock is held or tag validation failed.
+     */
+    public long tryOptimisticRead(long lock, int tag) {
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        if (!checkTag(state, tag) || lockCount(state) == -1) {
+            return 0;
+        }
+
+        return GridUnsafe.getLongVolatile(null, lock + VERSION_OFFSET);
+    }
+
+    /**
+     * Checks that the write lock has not been acquired since the stamp was obtained.
+     *
+     * @param lock Lock address.
+     * @param stamp Stamp returned by {@link #tryOptimisticRead(long, int)}.
+     * @return {@code True} if the data read with the stamp is consistent.
+     */
+    public boolean validate(long lock, long stamp) {
+        // Data reads must not be reordered with the reads of the lock below.
+        GridUnsafe.loadFence();
+
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        return stamp != 0 && lockCount(state) != -1 && GridUnsafe.getLongVolatile(null, lock + VERSION_OFFSET) == stamp;
+    }
+
     /**
      * Signals readers or writers depending on a counter value.
      *
@@ -654,6 +701,17 @@ public class OffheapReadWriteLock {
         return ((long) writersWait << 48) | ((long) readersWait << 32) | ((tag & 0x0000FFFFL) << 16) | (lock & 0xFFFFL);
     }
 
+    /**
+     * Increments the version of the lock.
+     *
+     * @param lock Lock address.
+     */
+    private static void incrementVersion(long lock) {
+        long versionAddr = lock + VERSION_OFFSET;
+
+        GridUnsafe.putLongVolatile(null, versionAddr, GridUnsafe.getLong(versionAddr) + 1);
+    }
+
     /**
      * Updates readers wait count.
      *
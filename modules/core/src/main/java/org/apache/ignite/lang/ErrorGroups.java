@@ -204,6 +204,9 @@ public class ErrorGroups {
 
         /** Execution cancelled. */
         public static final int EXECUTION_CANCELLED_ERR = SQL_ERR_GROUP.registerErrorCode(33);
+
+        /** Query memory quota exceeded. */
+        public static final int QUERY_MEMORY_QUOTA_EXCEEDED_ERR = SQL_ERR_GROUP.registerErrorCode(34);
     }
 
     /** Meta storage error group. */
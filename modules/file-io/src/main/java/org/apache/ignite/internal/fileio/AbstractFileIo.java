@@ -58,6 +58,18 @@ public abstract class AbstractFileIo implements FileIo {
         return fully(offs -> write(srcBuf, position + offs), position, srcBuf.remaining(), true);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public int writeFully(ByteBuffer[] srcBufs, long position) throws IOException {
+        int written = 0;
+
+        for (ByteBuffer srcBuf : srcBufs) {
+            written += writeFully(srcBuf, position + written);
+        }
+
+        return written;
+    }
+
     /** {@inheritDoc} */
     @Override
     public int writeFully(final byte[] buf, final int off, final int len) throws IOException {
@@ -0,0 +1,362 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import com.sun.nio.file.ExtendedOpenOption;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link FileIo} implementation based on {@link FileChannel} opened with {@link ExtendedOpenOption#DIRECT}, so that the file content
+ * bypasses the OS page cache.
+ *
+ * <p>Direct I/O requires the file positions, the sizes and the memory addresses of the buffers to be aligned to the block size of the
+ * file system. Aligned direct buffers are passed to the channel as is, other buffers are copied to a thread-local aligned buffer.
+ * Unaligned writes read the surrounding blocks first and are not concurrent with other writes, so the best performance is achieved
+ * when the writes are aligned, e.g. page writes with the page size being a multiple of the block size.
+ */
+public class DirectFileIo extends AbstractFileIo {
+    /** Block size used if the file system doesn't provide one. */
+    private static final int DFLT_BLOCK_SIZE = 4096;
+
+    /** Thread-local aligned buffer. */
+    private static final ThreadLocal<ByteBuffer> ALIGNED_BUF = new ThreadLocal<>();
+
+    /** File channel. */
+    private final FileChannel ch;
+
+    /** Block size of the file system, the alignment of the direct I/O. */
+    private final int blockSize;
+
+    /** Aligned writes hold the read lock, unaligned writes (read-modify-write of the blocks) hold the write lock. */
+    private final ReadWriteLock writeLock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates I/O implementation for specified file.
+     *
+     * @param filePath File path.
+     * @param modes Open modes, {@link ExtendedOpenOption#DIRECT} is added to them.
+     * @throws IOException If the file can't be opened, including the case when the file system doesn't support direct I/O.
+     * @throws UnsupportedOperationException If the platform doesn't support direct I/O.
+     */
+    public DirectFileIo(Path filePath, OpenOption... modes) throws IOException {
+        OpenOption[] directModes = Arrays.copyOf(modes, modes.length + 1);
+
+        directModes[modes.length] = ExtendedOpenOption.DIRECT;
+
+        ch = FileChannel.open(filePath, directModes);
+
+        blockSize = blockSize(filePath);
+    }
+
+    /**
+     * Returns the block size of the file system, the alignment of the direct I/O.
+     */
+    public int blockSize() {
+        return blockSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long position() throws IOException {
+        return ch.position();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void position(long newPosition) throws IOException {
+        ch.position(newPosition);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer destBuf) throws IOException {
+        long position = ch.position();
+
+        int n = read(destBuf, position);
+
+        if (n > 0) {
+            ch.position(position + n);
+        }
+
+        return n;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer destBuf, long position) throws IOException {
+        if (isAligned(destBuf, position)) {
+            return ch.read(destBuf, position);
+        }
+
+        int len = destBuf.remaining();
+
+        if (len == 0) {
+            return position >= ch.size() ? -1 : 0;
+        }
+
+        long alignedPosition = alignDown(position);
+        int head = (int) (position - alignedPosition);
+
+        ByteBuffer alignedBuf = alignedBuffer(alignUp(head + len));
+
+        int n = readAligned(alignedBuf, alignedPosition);
+
+        if (n <= head) {
+            return -1;
+        }
+
+        int read = Math.min(len, n - head);
+
+        destBuf.put(alignedBuf.limit(head + read).position(head));
+
+        return read;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(byte[] buf, int off, int len) throws IOException {
+        return read(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer srcBuf) throws IOException {
+        long position = ch.position();
+
+        int n = write(srcBuf, position);
+
+        ch.position(position + n);
+
+        return n;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer srcBuf, long position) throws IOException {
+        if (isAligned(srcBuf, position)) {
+            Lock lock = writeLock.readLock();
+
+            lock.lock();
+
+            try {
+                return ch.write(srcBuf, position);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        return write0(position, srcBuf);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte[] buf, int off, int len) throws IOException {
+        return write(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Buffers are copied to a single aligned buffer and written with a single I/O operation.
+     */
+    @Override
+    public int writeFully(ByteBuffer[] srcBufs, long position) throws IOException {
+        return write0(position, srcBufs);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void force(boolean withMetadata) throws IOException {
+        ch.force(withMetadata);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void force() throws IOException {
+        force(false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long size() throws IOException {
+        return ch.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() throws IOException {
+        ch.truncate(0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        ch.close();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MappedByteBuffer map(int sizeBytes) throws IOException {
+        return ch.map(FileChannel.MapMode.READ_WRITE, 0, sizeBytes);
+    }
+
+    /**
+     * Writes the buffers one after another through the thread-local aligned buffer.
+     *
+     * @param position Starting file position.
+     * @param srcBufs Source buffers.
+     * @return Number of written bytes.
+     * @throws IOException If some I/O error occurs.
+     */
+    private int write0(long position, ByteBuffer... srcBufs) throws IOException {
+        int len = 0;
+
+        for (ByteBuffer srcBuf : srcBufs) {
+            len += srcBuf.remaining();
+        }
+
+        if (len == 0) {
+            return 0;
+        }
+
+        long alignedPosition = alignDown(position);
+        int head = (int) (position - alignedPosition);
+        int alignedLen = alignUp(head + len);
+
+        ByteBuffer alignedBuf = alignedBuffer(alignedLen);
+
+        boolean rmw = head != 0 || alignedLen != len;
+
+        Lock lock = rmw ? writeLock.writeLock() : writeLock.readLock();
+
+        lock.lock();
+
+        try {
+            long size = ch.size();
+
+            if (rmw) {
+                // Keeps the content of the blocks around the written bytes.
+                int n = Math.max(readAligned(alignedBuf, alignedPosition), 0);
+
+                alignedBuf.clear().position(n);
+
+                while (alignedBuf.position() < alignedLen) {
+                    alignedBuf.put((byte) 0);
+                }
+            }
+
+            alignedBuf.position(head);
+
+            for (ByteBuffer srcBuf : srcBufs) {
+                alignedBuf.put(srcBuf);
+            }
+
+            alignedBuf.limit(alignedLen).position(0);
+
+            while (alignedBuf.hasRemaining()) {
+                ch.write(alignedBuf, alignedPosition + alignedBuf.position());
+            }
+
+            // Padding of the last block must not extend the file.
+            long end = Math.max(size, position + len);
+
+            if (alignedPosition + alignedLen > end) {
+                ch.truncate(end);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return len;
+    }
+
+    /**
+     * Reads into the aligned buffer, from the position {@code 0} to the limit, either until the buffer is full or until the end of the
+     * file.
+     *
+     * @return Number of read bytes, or {@code -1} if the position is greater than or equal to the file's current size.
+     */
+    private int readAligned(ByteBuffer alignedBuf, long alignedPosition) throws IOException {
+        while (alignedBuf.hasRemaining()) {
+            int n = ch.read(alignedBuf, alignedPosition + alignedBuf.position());
+
+            if (n <= 0) {
+                return alignedBuf.position() == 0 ? n : alignedBuf.position();
+            }
+
+            // Read of a part of a block happens only at the end of the file.
+            if (alignedBuf.position() % blockSize != 0) {
+                break;
+            }
+        }
+
+        return alignedBuf.position();
+    }
+
+    private boolean isAligned(ByteBuffer buf, long position) {
+        return buf.isDirect()
+                && position % blockSize == 0
+                && buf.remaining() % blockSize == 0
+                && buf.alignmentOffset(buf.position(), blockSize) == 0;
+    }
+
+    private long alignDown(long position) {
+        return position - position % blockSize;
+    }
+
+    private int alignUp(int len) {
+        return (len + blockSize - 1) / blockSize * blockSize;
+    }
+
+    /**
+     * Returns the thread-local buffer aligned to the block size, with the position {@code 0} and the limit {@code len}.
+     */
+    private ByteBuffer alignedBuffer(int len) {
+        ByteBuffer buf = ALIGNED_BUF.get();
+
+        if (buf == null || buf.capacity() < len || buf.alignmentOffset(0, blockSize) != 0) {
+            int capacity = Math.max(len, buf == null ? 0 : buf.capacity());
+
+            buf = ByteBuffer.allocateDirect(capacity + blockSize).alignedSlice(blockSize);
+
+            ALIGNED_BUF.set(buf);
+        }
+
+        return buf.clear().limit(len);
+    }
+
+    private static int blockSize(Path filePath) {
+        try {
+            long blockSize = Files.getFileStore(filePath).getBlockSize();
+
+            return blockSize > 0 && blockSize <= DFLT_BLOCK_SIZE * 16 ? (int) blockSize : DFLT_BLOCK_SIZE;
+        } catch (IOException | UnsupportedOperationException e) {
+            return DFLT_BLOCK_SIZE;
+        }
+    }
+}
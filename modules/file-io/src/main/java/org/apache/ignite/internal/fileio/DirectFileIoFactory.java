@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import java.io.IOException;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+
+/**
+ * {@link DirectFileIo} factory.
+ *
+ * <p>Files that can't be opened for direct I/O, e.g. located on a file system that doesn't support it, are opened by the fallback
+ * factory.
+ */
+public class DirectFileIoFactory implements FileIoFactory {
+    private static final IgniteLogger LOG = Loggers.forClass(DirectFileIoFactory.class);
+
+    /** Factory of the files that can't be opened for direct I/O. */
+    private final FileIoFactory fallbackFactory;
+
+    /** Whether a warning about the fallback has been logged. */
+    private volatile boolean fallbackLogged;
+
+    /**
+     * Constructor.
+     *
+     * @param fallbackFactory Factory of the files that can't be opened for direct I/O.
+     */
+    public DirectFileIoFactory(FileIoFactory fallbackFactory) {
+        this.fallbackFactory = fallbackFactory;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FileIo create(Path filePath, OpenOption... modes) throws IOException {
+        try {
+            return new DirectFileIo(filePath, modes);
+        } catch (IOException | UnsupportedOperationException e) {
+            if (!fallbackLogged) {
+                fallbackLogged = true;
+
+                LOG.warn("Direct I/O is not available, falling back to the page cache [filePath={}, error={}]", filePath, e.toString());
+            }
+
+            return fallbackFactory.create(filePath, modes);
+        }
+    }
+}
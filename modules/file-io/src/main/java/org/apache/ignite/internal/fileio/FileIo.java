@@ -163,6 +163,18 @@ public interface FileIo extends AutoCloseable {
      */
     int writeFully(ByteBuffer srcBuf, long position) throws IOException;
 
+    /**
+     * Writes a sequence of bytes to this file from the {@code srcBufs}, one after another, starting from specified file {@code position}.
+     *
+     * <p>Tries to write the entire {@code srcBufs}, an implementation may write all of them with a single I/O operation.
+     *
+     * @param srcBufs Source buffers.
+     * @param position Starting file position.
+     * @return Number of written bytes.
+     * @throws IOException If some I/O error occurs.
+     */
+    int writeFully(ByteBuffer[] srcBufs, long position) throws IOException;
+
     /**
      * Writes {@code len} bytes from the {@code buf} starting at offset {@code off} to this file.
      *
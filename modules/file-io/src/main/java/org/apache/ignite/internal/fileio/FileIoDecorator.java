@@ -81,6 +81,12 @@ public class FileIoDecorator extends AbstractFileIo {
         return delegate.write(srcBuf, position);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public int writeFully(ByteBuffer[] srcBufs, long position) throws IOException {
+        return delegate.writeFully(srcBufs, position);
+    }
+
     /** {@inheritDoc} */
     @Override
     public int write(byte[] buf, int off, int len) throws IOException {
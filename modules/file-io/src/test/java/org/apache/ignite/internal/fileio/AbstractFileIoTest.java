@@ -134,6 +134,32 @@ public abstract class AbstractFileIoTest {
         checkWriteFromByteArrayOperation((fileIo, off, bytes) -> fileIo.writeFully(bytes, (int) off, Math.min(1024, bytes.length)));
     }
 
+    @Test
+    void testWriteBuffersFully() throws Exception {
+        byte[] randomBytes = randomByteArray(4 * 1024);
+
+        Path testFilePath = workDir.resolve("test");
+
+        FileIo fileIo = fileIoFactory.create(testFilePath);
+
+        ByteBuffer[] buffers = {
+                rangeBuffer(randomBytes, 0, 1024),
+                rangeBuffer(randomBytes, 1024, 1536),
+                sliceBuffer(ByteBuffer.wrap(randomBytes), 1536, 4 * 1024)
+        };
+
+        assertEquals(4 * 1024, fileIo.writeFully(buffers, 512));
+        assertEquals(0, fileIo.position());
+
+        fileIo.force();
+
+        byte[] expectedBytes = new byte[512 + 4 * 1024];
+
+        System.arraycopy(randomBytes, 0, expectedBytes, 512, randomBytes.length);
+
+        assertArrayEquals(expectedBytes, toByteArray(testFilePath));
+    }
+
     @Test
     void testMap() throws Exception {
         Path testFilePath = workDir.resolve("test");
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link DirectFileIo} testing.
+ */
+public class DirectFileIoTest extends AbstractFileIoTest {
+    @BeforeEach
+    void setUp() throws Exception {
+        assumeTrue(isDirectIoSupported(), "Direct I/O is not supported by the file system of the work directory");
+
+        fileIoFactory = DirectFileIo::new;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Class<? extends FileIo> fileIoClass() {
+        return DirectFileIo.class;
+    }
+
+    @Test
+    @Override
+    void testTransferTo() {
+        assertThrows(UnsupportedOperationException.class, super::testTransferTo);
+    }
+
+    @Test
+    @Override
+    void testTransferFrom() {
+        assertThrows(UnsupportedOperationException.class, super::testTransferFrom);
+    }
+
+    @Test
+    void testAlignedAndUnalignedWrites() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        try (DirectFileIo fileIo = new DirectFileIo(testFilePath, CREATE, READ, WRITE)) {
+            int blockSize = fileIo.blockSize();
+
+            byte[] expectedBytes = new byte[2 * blockSize];
+
+            ThreadLocalRandom.current().nextBytes(expectedBytes);
+
+            ByteBuffer alignedBuf = ByteBuffer.allocateDirect(3 * blockSize).alignedSlice(blockSize);
+
+            alignedBuf.put(expectedBytes).flip();
+
+            assertEquals(2 * blockSize, fileIo.writeFully(alignedBuf, 0));
+
+            // Crosses the boundary of the blocks.
+            byte[] unalignedBytes = new byte[10];
+
+            ThreadLocalRandom.current().nextBytes(unalignedBytes);
+
+            assertEquals(unalignedBytes.length, fileIo.writeFully(ByteBuffer.wrap(unalignedBytes), blockSize - 5));
+
+            System.arraycopy(unalignedBytes, 0, expectedBytes, blockSize - 5, unalignedBytes.length);
+
+            fileIo.force();
+
+            assertEquals(2 * blockSize, fileIo.size());
+            assertArrayEquals(expectedBytes, Files.readAllBytes(testFilePath));
+
+            ByteBuffer readBuf = ByteBuffer.allocate(2 * blockSize);
+
+            assertEquals(2 * blockSize - 3, fileIo.readFully(readBuf, 3));
+            assertArrayEquals(Arrays.copyOfRange(expectedBytes, 3, 2 * blockSize), Arrays.copyOf(readBuf.array(), 2 * blockSize - 3));
+        }
+    }
+
+    private boolean isDirectIoSupported() throws IOException {
+        Path probeFilePath = workDir.resolve("probe");
+
+        try (FileIo fileIo = new DirectFileIo(probeFilePath, CREATE, READ, WRITE)) {
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            return false;
+        } finally {
+            Files.deleteIfExists(probeFilePath);
+        }
+    }
+}
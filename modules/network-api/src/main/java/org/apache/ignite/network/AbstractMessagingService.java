@@ -20,6 +20,8 @@ package org.apache.ignite.network;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.apache.ignite.network.annotations.MessageGroup;
 
@@ -52,6 +54,9 @@ public abstract class AbstractMessagingService implements MessagingService {
     /** Mapping from group type (array index) to a list of registered message handlers. */
     private final AtomicReferenceArray<Handler> handlersByGroupType = new AtomicReferenceArray<>(Short.MAX_VALUE + 1);
 
+    /** Group types of the messages which handlers run in the network threads. */
+    private final Set<Short> groupTypesHandledInNetworkThread = ConcurrentHashMap.newKeySet();
+
     /** {@inheritDoc} */
     @Override
     public void addMessageHandler(Class<?> messageGroup, NetworkMessageHandler handler) {
@@ -77,6 +82,12 @@ public abstract class AbstractMessagingService implements MessagingService {
         });
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void handleInNetworkThread(Class<?> messageGroup) {
+        groupTypesHandledInNetworkThread.add(getMessageGroupType(messageGroup));
+    }
+
     /**
      * Extracts the message group ID from a class annotated with {@link MessageGroup}.
      *
@@ -108,4 +119,14 @@ public abstract class AbstractMessagingService implements MessagingService {
 
         return result == null ? List.of() : result.handlers;
     }
+
+    /**
+     * Returns {@code true} if the handlers of the given group ID should run in the network threads.
+     *
+     * @param groupType Message group ID.
+     * @see #handleInNetworkThread(Class)
+     */
+    protected final boolean isHandledInNetworkThread(short groupType) {
+        return groupTypesHandledInNetworkThread.contains(groupType);
+    }
 }
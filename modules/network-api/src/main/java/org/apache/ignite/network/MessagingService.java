@@ -101,4 +101,15 @@ public interface MessagingService {
      *                                  ID as the given {@code messageGroup}.
      */
     void addMessageHandler(Class<?> messageGroup, NetworkMessageHandler handler);
+
+    /**
+     * Makes the handlers of a group of network messages run directly in the network threads, without handing the messages over to the
+     * inbound threads of the messaging service.
+     *
+     * <p>This saves a thread hop per message, but the handlers must be fast and must never block, since they hold up the network I/O of
+     * all the connections served by the same thread.
+     *
+     * @param messageGroup Message group descriptor.
+     */
+    void handleInNetworkThread(Class<?> messageGroup);
 }
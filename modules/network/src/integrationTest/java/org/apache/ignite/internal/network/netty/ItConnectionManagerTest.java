@@ -17,12 +17,16 @@
 
 package org.apache.ignite.internal.network.netty;
 
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
 import static org.apache.ignite.utils.ClusterServiceTestUtils.defaultSerializationRegistry;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.isA;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyShort;
@@ -39,6 +43,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
@@ -113,6 +118,43 @@ public class ItConnectionManagerTest {
         assertEquals(msgText, ((TestMessage) receivedMessage).msg());
     }
 
+    /**
+     * Tests that several connections are opened to the same node if configured.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testMultipleConnectionsPerPeer() throws Exception {
+        networkConfiguration.outbound().connectionsPerPeer().update(2).join();
+
+        ConnectionManagerWrapper manager1 = startManager(4000);
+        ConnectionManagerWrapper manager2 = startManager(4001);
+
+        var received = new CopyOnWriteArrayList<String>();
+
+        manager2.connectionManager.addListener(obj -> received.add(((TestMessage) obj.message()).msg()));
+
+        NettySender sender0 = manager1.openChannelTo(manager2, (short) 0).get(3, TimeUnit.SECONDS);
+        NettySender sender1 = manager1.openChannelTo(manager2, (short) 1).get(3, TimeUnit.SECONDS);
+
+        assertEquals(0, sender0.connectionId());
+        assertEquals(1, sender1.connectionId());
+        assertNotSame(sender0.channel(), sender1.channel());
+
+        TestMessage message0 = messageFactory.testMessage().msg("0").build();
+        TestMessage message1 = messageFactory.testMessage().msg("1").build();
+
+        sender0.send(new OutNetworkObject(message0, Collections.emptyList())).get(3, TimeUnit.SECONDS);
+        sender1.send(new OutNetworkObject(message1, Collections.emptyList())).get(3, TimeUnit.SECONDS);
+
+        assertTrue(waitForCondition(() -> received.size() == 2, 3_000));
+
+        assertThat(received, containsInAnyOrder("0", "1"));
+
+        // Same connection ids reuse the channels.
+        assertSame(sender1, manager1.openChannelTo(manager2, (short) 1).get(3, TimeUnit.SECONDS));
+    }
+
     /**
      * Tests that incoming connection is reused for sending messages.
      *
@@ -378,5 +420,13 @@ public class ItConnectionManagerTest {
         OrderingFuture<NettySender> openChannelTo(ConnectionManagerWrapper recipient) {
             return connectionManager.channel(recipient.connectionManager.consistentId(), recipient.connectionManager.localAddress());
         }
+
+        OrderingFuture<NettySender> openChannelTo(ConnectionManagerWrapper recipient, short connectionId) {
+            return connectionManager.channel(
+                    recipient.connectionManager.consistentId(),
+                    recipient.connectionManager.localAddress(),
+                    connectionId
+            );
+        }
     }
 }
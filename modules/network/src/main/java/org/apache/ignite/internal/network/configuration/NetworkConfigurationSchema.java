@@ -74,4 +74,8 @@ public class NetworkConfigurationSchema {
     /** SSL configuration.*/
     @ConfigValue
     public SslConfigurationSchema ssl;
+
+    /** Compression configuration. */
+    @ConfigValue
+    public CompressionConfigurationSchema compression;
 }
@@ -38,4 +38,12 @@ public class OutboundConfigurationSchema {
     /** TCP no delay flag. */
     @Value(hasDefault = true)
     public final boolean tcpNoDelay = true;
+
+    /**
+     * Number of connections opened to every remote node. Messages are distributed between the connections by their message groups, so
+     * that a group sending large amounts of data doesn't delay the messages of other groups.
+     */
+    @Range(min = 1, max = Short.MAX_VALUE)
+    @Value(hasDefault = true)
+    public final int connectionsPerPeer = 1;
 }
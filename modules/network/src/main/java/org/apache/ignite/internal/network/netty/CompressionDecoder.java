@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static org.apache.ignite.internal.network.netty.CompressionEncoder.COMPRESSED_FRAME;
+import static org.apache.ignite.internal.network.netty.CompressionEncoder.COMPRESSED_FRAME_HEADER_SIZE;
+import static org.apache.ignite.internal.network.netty.CompressionEncoder.RAW_FRAME;
+import static org.apache.ignite.internal.network.netty.CompressionEncoder.RAW_FRAME_HEADER_SIZE;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Decoder of the frames written by the {@link CompressionEncoder}. It is added to the pipeline together with the encoder, once the
+ * compression is agreed on during the handshake.
+ */
+public class CompressionDecoder extends ByteToMessageDecoder {
+    /** Handler name. */
+    public static final String NAME = "compression-decoder";
+
+    /** Inflater. */
+    private final Inflater inflater = new Inflater(true);
+
+    /** Compression to collect the decompression statistics. */
+    private final NetworkCompression compression;
+
+    /**
+     * Constructor.
+     *
+     * @param compression Compression.
+     */
+    public CompressionDecoder(NetworkCompression compression) {
+        this.compression = compression;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws DataFormatException {
+        while (in.readableBytes() >= RAW_FRAME_HEADER_SIZE) {
+            int readerIndex = in.readerIndex();
+
+            byte type = in.getByte(readerIndex);
+            int size = in.getInt(readerIndex + Byte.BYTES);
+
+            if (size < 0) {
+                throw new CorruptedFrameException("Negative frame size: " + size);
+            }
+
+            if (type == RAW_FRAME) {
+                if (in.readableBytes() < RAW_FRAME_HEADER_SIZE + size) {
+                    return;
+                }
+
+                in.skipBytes(RAW_FRAME_HEADER_SIZE);
+
+                out.add(in.readRetainedSlice(size));
+            } else if (type == COMPRESSED_FRAME) {
+                if (in.readableBytes() < COMPRESSED_FRAME_HEADER_SIZE + size) {
+                    return;
+                }
+
+                int uncompressedSize = in.getInt(readerIndex + RAW_FRAME_HEADER_SIZE);
+
+                if (uncompressedSize < 0) {
+                    throw new CorruptedFrameException("Negative decompressed frame size: " + uncompressedSize);
+                }
+
+                out.add(inflate(ctx, in.nioBuffer(readerIndex + COMPRESSED_FRAME_HEADER_SIZE, size), uncompressedSize));
+
+                in.skipBytes(COMPRESSED_FRAME_HEADER_SIZE + size);
+            } else {
+                throw new CorruptedFrameException("Unknown frame type: " + type);
+            }
+        }
+    }
+
+    /**
+     * Decompresses the data of a frame.
+     *
+     * @param src Compressed data.
+     * @param uncompressedSize Size of the data after the decompression.
+     * @return Decompressed data.
+     */
+    private ByteBuf inflate(ChannelHandlerContext ctx, ByteBuffer src, int uncompressedSize) throws DataFormatException {
+        long start = System.nanoTime();
+
+        // One extra byte lets the inflater consume the flush marker following the data, and detects the frames with more data.
+        ByteBuf frame = ctx.alloc().ioBuffer(uncompressedSize + 1);
+
+        try {
+            ByteBuffer dst = frame.internalNioBuffer(0, uncompressedSize + 1);
+
+            inflater.setInput(src);
+
+            while (!inflater.needsInput()) {
+                if (inflater.inflate(dst) == 0 && !inflater.needsInput()) {
+                    throw new CorruptedFrameException("Failed to decompress a frame");
+                }
+            }
+
+            if (dst.position() != uncompressedSize) {
+                throw new CorruptedFrameException(
+                        "Unexpected size of a decompressed frame [expected=" + uncompressedSize + ", actual=" + dst.position() + ']'
+                );
+            }
+
+            frame.writerIndex(uncompressedSize);
+        } catch (Throwable e) {
+            frame.release();
+
+            throw e;
+        }
+
+        compression.onDecompressed(System.nanoTime() - start);
+
+        return frame;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void handlerRemoved0(ChannelHandlerContext ctx) {
+        inflater.end();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageEncoder;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Encoder that wraps the bytes written to the channel into frames, compressing the frames starting from the
+ * {@link NetworkCompression#threshold() threshold} size. It is added to the pipeline only if the compression is agreed on during the
+ * handshake, so the connections without the compression don't pay for the framing.
+ *
+ * <p>A frame starts with a {@code byte} type and an {@code int} size of the frame's data. Compressed frames are followed by an
+ * {@code int} size of the data after the decompression. The data of all the compressed frames of a channel is a single Deflate stream,
+ * flushed at the end of every frame, so that the frames share the compression history while each frame can be decoded as soon as it
+ * is received.
+ */
+public class CompressionEncoder extends MessageToMessageEncoder<ByteBuf> {
+    /** Handler name. */
+    public static final String NAME = "compression-encoder";
+
+    /** Type of the frame with the data as is. */
+    static final byte RAW_FRAME = 0;
+
+    /** Type of the frame with the compressed data. */
+    static final byte COMPRESSED_FRAME = 1;
+
+    /** Size of the header of the frame with the data as is. */
+    static final int RAW_FRAME_HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+
+    /** Size of the header of the frame with the compressed data. */
+    static final int COMPRESSED_FRAME_HEADER_SIZE = RAW_FRAME_HEADER_SIZE + Integer.BYTES;
+
+    /** Compression. */
+    private final NetworkCompression compression;
+
+    /** Deflater. */
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+
+    /**
+     * Constructor.
+     *
+     * @param compression Compression.
+     */
+    public CompressionEncoder(NetworkCompression compression) {
+        assert compression.enabled();
+
+        this.compression = compression;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void encode(ChannelHandlerContext ctx, ByteBuf msg, List<Object> out) {
+        int size = msg.readableBytes();
+
+        if (size < compression.threshold()) {
+            ByteBuf header = ctx.alloc().ioBuffer(RAW_FRAME_HEADER_SIZE)
+                    .writeByte(RAW_FRAME)
+                    .writeInt(size);
+
+            CompositeByteBuf frame = ctx.alloc().compositeDirectBuffer(2)
+                    .addComponents(true, header, msg.retain());
+
+            out.add(frame);
+
+            return;
+        }
+
+        long start = System.nanoTime();
+
+        ByteBuf frame = ctx.alloc().ioBuffer(COMPRESSED_FRAME_HEADER_SIZE + size + size / 16 + 64);
+
+        try {
+            frame.writerIndex(COMPRESSED_FRAME_HEADER_SIZE);
+
+            deflater.setInput(msg.nioBuffer());
+
+            // Deflate until the output buffer is left not full, which means that all the input is flushed.
+            while (true) {
+                ByteBuffer dst = frame.internalNioBuffer(frame.writerIndex(), frame.writableBytes());
+
+                int written = deflater.deflate(dst, Deflater.SYNC_FLUSH);
+
+                frame.writerIndex(frame.writerIndex() + written);
+
+                if (frame.isWritable()) {
+                    break;
+                }
+
+                frame.ensureWritable(size / 2 + 64);
+            }
+
+            int compressedSize = frame.readableBytes() - COMPRESSED_FRAME_HEADER_SIZE;
+
+            frame.setByte(0, COMPRESSED_FRAME)
+                    .setInt(Byte.BYTES, compressedSize)
+                    .setInt(RAW_FRAME_HEADER_SIZE, size);
+
+            compression.onCompressed(size, compressedSize, System.nanoTime() - start);
+        } catch (Throwable e) {
+            frame.release();
+
+            throw e;
+        }
+
+        out.add(frame);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        deflater.end();
+
+        super.handlerRemoved(ctx);
+    }
+}
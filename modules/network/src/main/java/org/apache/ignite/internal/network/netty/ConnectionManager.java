@@ -66,12 +66,11 @@ public class ConnectionManager {
     /** Server. */
     private final NettyServer server;
 
-    // TODO: IGNITE-16948 Should be a map consistentId -> connectionId -> sender
-    /** Channels map from consistentId to {@link NettySender}. */
-    private final Map<String, NettySender> channels = new ConcurrentHashMap<>();
+    /** Channels map from consistentId and connectionId to {@link NettySender}. */
+    private final Map<ConnectorKey<String>, NettySender> channels = new ConcurrentHashMap<>();
 
-    /** Clients. */
-    private final Map<InetSocketAddress, NettyClient> clients = new ConcurrentHashMap<>();
+    /** Clients map from address and connectionId to {@link NettyClient}. */
+    private final Map<ConnectorKey<InetSocketAddress>, NettyClient> clients = new ConcurrentHashMap<>();
 
     /** Serialization service. */
     private final SerializationService serializationService;
@@ -100,6 +99,12 @@ public class ConnectionManager {
     /** Network Configuration. */
     private final NetworkView networkConfiguration;
 
+    /** Number of connections opened to every remote node. */
+    private final int connectionsPerPeer;
+
+    /** Compression settings and statistics of the connections. */
+    private final NetworkCompression compression;
+
     /**
      * Constructor.
      *
@@ -149,6 +154,8 @@ public class ConnectionManager {
         this.consistentId = consistentId;
         this.clientHandhakeManagerFactory = clientHandhakeManagerFactory;
         this.networkConfiguration = networkConfiguration;
+        this.connectionsPerPeer = networkConfiguration.outbound().connectionsPerPeer();
+        this.compression = new NetworkCompression(networkConfiguration.compression());
 
         this.server = new NettyServer(
                 networkConfiguration,
@@ -209,12 +216,27 @@ public class ConnectionManager {
      * @return Sender.
      */
     public OrderingFuture<NettySender> channel(@Nullable String consistentId, InetSocketAddress address) {
+        return channel(consistentId, address, (short) 0);
+    }
+
+    /**
+     * Gets a {@link NettySender}, that sends data from this node to another node with the specified address, using one of the
+     * connections to that node.
+     *
+     * @param consistentId Another node's consistent id.
+     * @param address      Another node's address.
+     * @param connectionId Connection id, from {@code 0} to {@link #connectionsPerPeer()} exclusive.
+     * @return Sender.
+     */
+    public OrderingFuture<NettySender> channel(@Nullable String consistentId, InetSocketAddress address, short connectionId) {
+        assert connectionId >= 0 && connectionId < connectionsPerPeer : connectionId;
+
         if (consistentId != null) {
             // If consistent id is known, try looking up a channel by consistent id. There can be an outbound connection
             // or an inbound connection associated with that consistent id.
             NettySender channel = channels.compute(
-                    consistentId,
-                    (addr, sender) -> (sender == null || !sender.isOpen()) ? null : sender
+                    new ConnectorKey<>(consistentId, connectionId),
+                    (key, sender) -> (sender == null || !sender.isOpen()) ? null : sender
             );
 
             if (channel != null) {
@@ -225,10 +247,9 @@ public class ConnectionManager {
         // Get an existing client or create a new one. NettyClient provides a CompletableFuture that resolves
         // when the client is ready for write operations, so previously started client, that didn't establish connection
         // or didn't perform the handshake operation, can be reused.
-        // TODO: IGNITE-16948 Connection id may be different from 0
         NettyClient client = clients.compute(
-                address,
-                (addr, existingClient) -> isClientConnected(existingClient) ? existingClient : connect(addr, (short) 0)
+                new ConnectorKey<>(address, connectionId),
+                (key, existingClient) -> isClientConnected(existingClient) ? existingClient : connect(key.id(), key.connectionId())
         );
 
         return client.sender();
@@ -253,7 +274,7 @@ public class ConnectionManager {
      * @param channel Channel from client to this {@link #server}.
      */
     private void onNewIncomingChannel(NettySender channel) {
-        NettySender oldChannel = channels.put(channel.consistentId(), channel);
+        NettySender oldChannel = channels.put(new ConnectorKey<>(channel.consistentId(), channel.connectionId()), channel);
 
         if (oldChannel != null) {
             oldChannel.close();
@@ -264,6 +285,7 @@ public class ConnectionManager {
      * Create new client from this node to specified address.
      *
      * @param address Target address.
+     * @param connectionId Connection id.
      * @return New netty client.
      */
     private NettyClient connect(InetSocketAddress address, short connectionId) {
@@ -277,9 +299,9 @@ public class ConnectionManager {
 
         client.start(clientBootstrap).whenComplete((sender, throwable) -> {
             if (throwable == null) {
-                channels.put(sender.consistentId(), sender);
+                channels.put(new ConnectorKey<>(sender.consistentId(), connectionId), sender);
             } else {
-                clients.remove(address);
+                clients.remove(new ConnectorKey<>(address, connectionId));
             }
         });
 
@@ -335,12 +357,13 @@ public class ConnectionManager {
                 launchId,
                 consistentId,
                 connectionId,
+                compression,
                 descriptorProvider
         );
     }
 
     private HandshakeManager createServerHandshakeManager() {
-        return new RecoveryServerHandshakeManager(launchId, consistentId, FACTORY, descriptorProvider);
+        return new RecoveryServerHandshakeManager(launchId, consistentId, FACTORY, compression, descriptorProvider);
     }
 
     /**
@@ -353,6 +376,24 @@ public class ConnectionManager {
         return server;
     }
 
+    /**
+     * Returns number of connections opened to every remote node.
+     *
+     * @return Number of connections opened to every remote node.
+     */
+    public int connectionsPerPeer() {
+        return connectionsPerPeer;
+    }
+
+    /**
+     * Returns compression settings and statistics of the connections.
+     *
+     * @return Compression settings and statistics of the connections.
+     */
+    public NetworkCompression compression() {
+        return compression;
+    }
+
     /**
      * Returns this node's consistent id.
      *
@@ -378,7 +419,7 @@ public class ConnectionManager {
      * @return Map of the channels.
      */
     @TestOnly
-    public Map<String, NettySender> channels() {
+    public Map<ConnectorKey<String>, NettySender> channels() {
         return Collections.unmodifiableMap(channels);
     }
 
@@ -388,8 +429,8 @@ public class ConnectionManager {
     private static class DefaultRecoveryClientHandhakeManagerFactory implements RecoveryClientHandhakeManagerFactory {
         @Override
         public RecoveryClientHandshakeManager create(UUID launchId, String consistentId, short connectionId,
-                RecoveryDescriptorProvider recoveryDescriptorProvider) {
-            return new RecoveryClientHandshakeManager(launchId, consistentId, connectionId, recoveryDescriptorProvider);
+                NetworkCompression compression, RecoveryDescriptorProvider recoveryDescriptorProvider) {
+            return new RecoveryClientHandshakeManager(launchId, consistentId, connectionId, compression, recoveryDescriptorProvider);
         }
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * Key of a connection to a remote node: the identifier of the node and the connection ID, which tells apart the connections to the same
+ * node.
+ *
+ * @param <T> Type of the remote node identifier.
+ */
+public class ConnectorKey<T> {
+    /** Remote node identifier. */
+    private final T id;
+
+    /** Connection ID. */
+    private final short connectionId;
+
+    /**
+     * Constructor.
+     *
+     * @param id Remote node identifier.
+     * @param connectionId Connection ID.
+     */
+    public ConnectorKey(T id, short connectionId) {
+        this.id = id;
+        this.connectionId = connectionId;
+    }
+
+    /**
+     * Returns remote node identifier.
+     *
+     * @return Remote node identifier.
+     */
+    public T id() {
+        return id;
+    }
+
+    /**
+     * Returns connection ID.
+     *
+     * @return Connection ID.
+     */
+    public short connectionId() {
+        return connectionId;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ConnectorKey<?> that = (ConnectorKey<?>) o;
+
+        return connectionId == that.connectionId && id.equals(that.id);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return 31 * id.hashCode() + connectionId;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(ConnectorKey.class, this);
+    }
+}
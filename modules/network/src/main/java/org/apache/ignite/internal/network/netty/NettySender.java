@@ -39,17 +39,22 @@ public class NettySender {
     /** Consistent id of the remote node. */
     private final String consistentId;
 
+    /** Connection id, tells apart the connections to the same remote node. */
+    private final short connectionId;
+
     /**
      * Constructor.
      *
      * @param channel      Netty channel.
      * @param launchId     Launch id of the remote node.
      * @param consistentId Consistent id of the remote node.
+     * @param connectionId Connection id.
      */
-    public NettySender(Channel channel, String launchId, String consistentId) {
+    public NettySender(Channel channel, String launchId, String consistentId, short connectionId) {
         this.channel = channel;
         this.launchId = launchId;
         this.consistentId = consistentId;
+        this.connectionId = connectionId;
     }
 
     /**
@@ -80,6 +85,15 @@ public class NettySender {
         return consistentId;
     }
 
+    /**
+     * Returns connection id.
+     *
+     * @return Connection id.
+     */
+    public short connectionId() {
+        return connectionId;
+    }
+
     /**
      * Closes channel.
      */
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.internal.network.configuration.CompressionView;
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * Compression settings of the connections of a node and the statistics of the compression, shared by all the connections.
+ *
+ * @see CompressionEncoder
+ * @see CompressionDecoder
+ */
+public class NetworkCompression {
+    /** Compression flag. */
+    private final boolean enabled;
+
+    /** Size of the written data, in bytes, starting from which it is compressed. */
+    private final int threshold;
+
+    /** Number of bytes before the compression. */
+    private final LongAdder uncompressedBytes = new LongAdder();
+
+    /** Number of bytes after the compression. */
+    private final LongAdder compressedBytes = new LongAdder();
+
+    /** Time spent compressing the data. */
+    private final LongAdder compressionNanos = new LongAdder();
+
+    /** Time spent decompressing the data. */
+    private final LongAdder decompressionNanos = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param compressionConfiguration Compression configuration.
+     */
+    public NetworkCompression(CompressionView compressionConfiguration) {
+        this(compressionConfiguration.enabled(), compressionConfiguration.threshold());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param enabled Compression flag.
+     * @param threshold Size of the written data, in bytes, starting from which it is compressed.
+     */
+    public NetworkCompression(boolean enabled, int threshold) {
+        assert threshold >= 0 : threshold;
+
+        this.enabled = enabled;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns {@code true} if this node compresses the data it sends, if the remote node has the compression enabled as well.
+     */
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the size of the written data, in bytes, starting from which it is compressed.
+     */
+    public int threshold() {
+        return threshold;
+    }
+
+    /**
+     * Callback on the data compression.
+     *
+     * @param uncompressedSize Size of the data before the compression.
+     * @param compressedSize Size of the data after the compression.
+     * @param nanos Time spent compressing the data.
+     */
+    void onCompressed(int uncompressedSize, int compressedSize, long nanos) {
+        uncompressedBytes.add(uncompressedSize);
+        compressedBytes.add(compressedSize);
+        compressionNanos.add(nanos);
+    }
+
+    /**
+     * Callback on the data decompression.
+     *
+     * @param nanos Time spent decompressing the data.
+     */
+    void onDecompressed(long nanos) {
+        decompressionNanos.add(nanos);
+    }
+
+    /**
+     * Returns the number of the bytes sent by this node before the compression, counting the compressed data only.
+     */
+    public long uncompressedBytes() {
+        return uncompressedBytes.sum();
+    }
+
+    /**
+     * Returns the number of the bytes sent by this node after the compression, counting the compressed data only.
+     */
+    public long compressedBytes() {
+        return compressedBytes.sum();
+    }
+
+    /**
+     * Returns the ratio of the size of the sent data before the compression to its size after, or {@code 1} if nothing has been
+     * compressed.
+     */
+    public double compressionRatio() {
+        long compressed = compressedBytes();
+
+        return compressed == 0 ? 1 : (double) uncompressedBytes() / compressed;
+    }
+
+    /**
+     * Returns the time spent by this node compressing the sent data, in nanoseconds.
+     */
+    public long compressionNanos() {
+        return compressionNanos.sum();
+    }
+
+    /**
+     * Returns the time spent by this node decompressing the received data, in nanoseconds.
+     */
+    public long decompressionNanos() {
+        return decompressionNanos.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(NetworkCompression.class, this, "compressionRatio", compressionRatio());
+    }
+}
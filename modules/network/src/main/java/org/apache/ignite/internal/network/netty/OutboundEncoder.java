@@ -43,6 +43,12 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
 
     private static final NetworkMessagesFactory MSG_FACTORY = new NetworkMessagesFactory();
 
+    /** Size of the first chunk of a message in bytes, enough for most of the messages. */
+    static final int INITIAL_CHUNK_SIZE = 1024;
+
+    /** Max size of a chunk of a message in bytes. */
+    static final int MAX_CHUNK_SIZE = 64 * 1024;
+
     /** Serialization registry. */
     private final PerSessionSerializationService serializationService;
 
@@ -83,6 +89,12 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
         private boolean finished = false;
         private boolean descriptorsFinished = false;
 
+        /**
+         * Size of the next chunk. Grows with every chunk of the message, so that the large messages are written in a few large buffers
+         * instead of a lot of small ones.
+         */
+        private int chunkSize = INITIAL_CHUNK_SIZE;
+
         /**
          * Constructor.
          *
@@ -137,9 +149,11 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
         /** {@inheritDoc} */
         @Override
         public ByteBuf readChunk(ByteBufAllocator allocator) throws Exception {
-            ByteBuf buffer = allocator.ioBuffer();
+            ByteBuf buffer = allocator.ioBuffer(chunkSize, chunkSize);
             int capacity = buffer.capacity();
 
+            chunkSize = Math.min(chunkSize * 2, MAX_CHUNK_SIZE);
+
             ByteBuffer byteBuffer = buffer.internalNioBuffer(0, capacity);
 
             int initialPosition = byteBuffer.position();
@@ -82,4 +82,25 @@ public class PipelineUtils {
         pipeline.addBefore(HandshakeHandler.NAME, InboundRecoveryHandler.NAME, new InboundRecoveryHandler(descriptor, factory));
         pipeline.addAfter(HandshakeHandler.NAME, MessageHandler.NAME, messageHandler);
     }
+
+    /**
+     * Starts decoding the compression frames of the received data. Must be called once the remote node has sent all the data preceding
+     * its {@link #addCompressionEncoder compression encoder}, and before any data following it is received.
+     *
+     * @param pipeline Pipeline.
+     * @param compression Compression settings of this node.
+     */
+    public static void addCompressionDecoder(ChannelPipeline pipeline, NetworkCompression compression) {
+        pipeline.addBefore(InboundDecoder.NAME, CompressionDecoder.NAME, new CompressionDecoder(compression));
+    }
+
+    /**
+     * Starts wrapping the sent data into the compression frames.
+     *
+     * @param pipeline Pipeline.
+     * @param compression Compression settings of this node.
+     */
+    public static void addCompressionEncoder(ChannelPipeline pipeline, NetworkCompression compression) {
+        pipeline.addBefore(InboundDecoder.NAME, CompressionEncoder.NAME, new CompressionEncoder(compression));
+    }
 }
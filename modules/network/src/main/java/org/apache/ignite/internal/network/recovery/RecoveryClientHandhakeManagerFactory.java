@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.network.recovery;
 
 import java.util.UUID;
+import org.apache.ignite.internal.network.netty.NetworkCompression;
 
 /**
  * Factory producing {@link RecoveryClientHandshakeManager} instances.
@@ -29,6 +30,7 @@ public interface RecoveryClientHandhakeManagerFactory {
      * @param launchId                   ID of the launch.
      * @param consistentId               Consistent ID of the node.
      * @param connectionId               ID of the connection.
+     * @param compression                Compression settings.
      * @param recoveryDescriptorProvider Provider of recovery descriptors to be used.
      * @return Created manager.
      */
@@ -36,6 +38,7 @@ public interface RecoveryClientHandhakeManagerFactory {
             UUID launchId,
             String consistentId,
             short connectionId,
+            NetworkCompression compression,
             RecoveryDescriptorProvider recoveryDescriptorProvider
     );
 }
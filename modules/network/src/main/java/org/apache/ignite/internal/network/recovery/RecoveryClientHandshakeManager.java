@@ -31,6 +31,7 @@ import org.apache.ignite.internal.network.netty.HandshakeHandler;
 import org.apache.ignite.internal.network.netty.MessageHandler;
 import org.apache.ignite.internal.network.netty.NettySender;
 import org.apache.ignite.internal.network.netty.NettyUtils;
+import org.apache.ignite.internal.network.netty.NetworkCompression;
 import org.apache.ignite.internal.network.netty.PipelineUtils;
 import org.apache.ignite.internal.network.recovery.message.HandshakeFinishMessage;
 import org.apache.ignite.internal.network.recovery.message.HandshakeStartMessage;
@@ -58,6 +59,12 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
     /** Connection id. */
     private final short connectionId;
 
+    /** Compression settings. */
+    private final NetworkCompression compression;
+
+    /** Whether both nodes have the compression enabled, so the data of the connection is compressed after the handshake. */
+    private boolean compressed;
+
     /** Handshake completion future. */
     private final CompletableFuture<NettySender> handshakeCompleteFuture = new CompletableFuture<>();
 
@@ -84,14 +91,17 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
      *
      * @param launchId Launch id.
      * @param consistentId Consistent id.
+     * @param connectionId Connection id.
+     * @param compression Compression settings.
      * @param recoveryDescriptorProvider Recovery descriptor provider.
      */
     public RecoveryClientHandshakeManager(
-            UUID launchId, String consistentId, short connectionId,
+            UUID launchId, String consistentId, short connectionId, NetworkCompression compression,
             RecoveryDescriptorProvider recoveryDescriptorProvider) {
         this.launchId = launchId;
         this.consistentId = consistentId;
         this.connectionId = connectionId;
+        this.compression = compression;
         this.recoveryDescriptorProvider = recoveryDescriptorProvider;
     }
 
@@ -115,7 +125,7 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
             this.recoveryDescriptor = recoveryDescriptorProvider.getRecoveryDescriptor(remoteConsistentId, remoteLaunchId, connectionId,
                     false);
 
-            handshake(recoveryDescriptor);
+            handshake(recoveryDescriptor, msg.compressionEnabled());
 
             return;
         }
@@ -126,6 +136,12 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
             HandshakeFinishMessage msg = (HandshakeFinishMessage) message;
             long receivedCount = msg.receivedCount();
 
+            // The server doesn't receive anything from the client between the handshake start response and the handshake finish
+            // messages, so the data sent from now on is the first data the server expects to be compressed.
+            if (compressed) {
+                PipelineUtils.addCompressionEncoder(ctx.pipeline(), compression);
+            }
+
             recoveryDescriptor.acknowledge(receivedCount);
 
             int cnt = recoveryDescriptor.unacknowledgedCount();
@@ -162,14 +178,23 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
         return handshakeCompleteFuture;
     }
 
-    private void handshake(RecoveryDescriptor descriptor) {
+    private void handshake(RecoveryDescriptor descriptor, boolean remoteCompressionEnabled) {
         PipelineUtils.afterHandshake(ctx.pipeline(), descriptor, createMessageHandler(), MESSAGE_FACTORY);
 
+        compressed = compression.enabled() && remoteCompressionEnabled;
+
+        // The server doesn't send anything between the handshake start and the handshake finish messages, and compresses everything
+        // starting from the latter.
+        if (compressed) {
+            PipelineUtils.addCompressionDecoder(ctx.pipeline(), compression);
+        }
+
         HandshakeStartResponseMessage response = MESSAGE_FACTORY.handshakeStartResponseMessage()
                 .launchId(launchId)
                 .consistentId(consistentId)
                 .receivedCount(descriptor.receivedCount())
                 .connectionId(connectionId)
+                .compressionEnabled(compression.enabled())
                 .build();
 
         ChannelFuture sendFuture = ctx.channel().writeAndFlush(new OutNetworkObject(response, Collections.emptyList(), false));
@@ -199,7 +224,7 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
         // Removes handshake handler from the pipeline as the handshake is finished
         this.ctx.pipeline().remove(this.handler);
 
-        handshakeCompleteFuture.complete(new NettySender(channel, remoteLaunchId.toString(), remoteConsistentId));
+        handshakeCompleteFuture.complete(new NettySender(channel, remoteLaunchId.toString(), remoteConsistentId, connectionId));
     }
 
     @TestOnly
@@ -31,6 +31,7 @@ import org.apache.ignite.internal.network.netty.HandshakeHandler;
 import org.apache.ignite.internal.network.netty.MessageHandler;
 import org.apache.ignite.internal.network.netty.NettySender;
 import org.apache.ignite.internal.network.netty.NettyUtils;
+import org.apache.ignite.internal.network.netty.NetworkCompression;
 import org.apache.ignite.internal.network.netty.PipelineUtils;
 import org.apache.ignite.internal.network.recovery.message.HandshakeFinishMessage;
 import org.apache.ignite.internal.network.recovery.message.HandshakeStartMessage;
@@ -52,6 +53,9 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
     /** Message factory. */
     private final NetworkMessagesFactory messageFactory;
 
+    /** Compression settings. */
+    private final NetworkCompression compression;
+
     /** Handshake completion future. */
     private final CompletableFuture<NettySender> handshakeCompleteFuture = new CompletableFuture<>();
 
@@ -61,6 +65,9 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
     /** Remote node's consistent id. */
     private String remoteConsistentId;
 
+    /** Id of the connection, assigned by the remote node. */
+    private short remoteConnectionId;
+
     /** Netty pipeline channel handler context. */
     private ChannelHandlerContext ctx;
 
@@ -85,14 +92,16 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
      * @param launchId Launch id.
      * @param consistentId Consistent id.
      * @param messageFactory Message factory.
+     * @param compression Compression settings.
      * @param recoveryDescriptorProvider Recovery descriptor provider.
      */
     public RecoveryServerHandshakeManager(
-            UUID launchId, String consistentId, NetworkMessagesFactory messageFactory,
+            UUID launchId, String consistentId, NetworkMessagesFactory messageFactory, NetworkCompression compression,
             RecoveryDescriptorProvider recoveryDescriptorProvider) {
         this.launchId = launchId;
         this.consistentId = consistentId;
         this.messageFactory = messageFactory;
+        this.compression = compression;
         this.recoveryDescriptorProvider = recoveryDescriptorProvider;
     }
 
@@ -110,6 +119,7 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
         HandshakeStartMessage handshakeStartMessage = messageFactory.handshakeStartMessage()
                 .launchId(launchId)
                 .consistentId(consistentId)
+                .compressionEnabled(compression.enabled())
                 .build();
 
         ChannelFuture sendFuture = channel.writeAndFlush(new OutNetworkObject(handshakeStartMessage, Collections.emptyList(), false));
@@ -132,11 +142,12 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
             this.remoteLaunchId = msg.launchId();
             this.remoteConsistentId = msg.consistentId();
             this.receivedCount = msg.receivedCount();
+            this.remoteConnectionId = msg.connectionId();
 
             this.recoveryDescriptor = recoveryDescriptorProvider.getRecoveryDescriptor(remoteConsistentId, remoteLaunchId,
                     msg.connectionId(), true);
 
-            handshake(recoveryDescriptor);
+            handshake(recoveryDescriptor, msg.compressionEnabled());
 
             return;
         }
@@ -150,9 +161,16 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
         ctx.fireChannelRead(message);
     }
 
-    private void handshake(RecoveryDescriptor descriptor) {
+    private void handshake(RecoveryDescriptor descriptor, boolean remoteCompressionEnabled) {
         PipelineUtils.afterHandshake(ctx.pipeline(), descriptor, createMessageHandler(), messageFactory);
 
+        // The client sends nothing after the handshake start response message until it receives the handshake finish message, and
+        // compresses everything after that, so both directions are compressed starting from the handshake finish message.
+        if (compression.enabled() && remoteCompressionEnabled) {
+            PipelineUtils.addCompressionDecoder(ctx.pipeline(), compression);
+            PipelineUtils.addCompressionEncoder(ctx.pipeline(), compression);
+        }
+
         HandshakeFinishMessage response = messageFactory.handshakeFinishMessage()
                 .receivedCount(descriptor.receivedCount())
                 .build();
@@ -216,7 +234,7 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
         // Removes handshake handler from the pipeline as the handshake is finished
         this.ctx.pipeline().remove(this.handler);
 
-        handshakeCompleteFuture.complete(new NettySender(channel, remoteLaunchId.toString(), remoteConsistentId));
+        handshakeCompleteFuture.complete(new NettySender(channel, remoteLaunchId.toString(), remoteConsistentId, remoteConnectionId));
     }
 
     @TestOnly
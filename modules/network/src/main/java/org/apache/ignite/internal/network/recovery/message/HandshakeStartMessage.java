@@ -40,4 +40,11 @@ public interface HandshakeStartMessage extends InternalMessage {
      * @return Consistent id.
      */
     String consistentId();
+
+    /**
+     * Returns {@code true} if the node has the compression of the sent data enabled.
+     *
+     * @return {@code true} if the node has the compression of the sent data enabled.
+     */
+    boolean compressionEnabled();
 }
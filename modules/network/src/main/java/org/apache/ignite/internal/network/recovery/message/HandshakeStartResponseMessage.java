@@ -54,4 +54,11 @@ public interface HandshakeStartResponseMessage extends InternalMessage {
      * @return Connection id.
      */
     short connectionId();
+
+    /**
+     * Returns {@code true} if the node has the compression of the sent data enabled.
+     *
+     * @return {@code true} if the node has the compression of the sent data enabled.
+     */
+    boolean compressionEnabled();
 }
@@ -30,8 +30,7 @@ import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiPredicate;
@@ -49,17 +48,30 @@ import org.apache.ignite.internal.network.netty.NettySender;
 import org.apache.ignite.internal.network.serialization.ClassDescriptorRegistry;
 import org.apache.ignite.internal.network.serialization.DescriptorRegistry;
 import org.apache.ignite.internal.network.serialization.marshal.UserObjectMarshaller;
-import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.apache.ignite.internal.thread.LogUncaughtExceptionHandler;
+import org.apache.ignite.internal.thread.StripedThreadPoolExecutor;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.NodeStoppingException;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
-/** Default messaging service implementation. */
+/**
+ * Default messaging service implementation.
+ *
+ * <p>Messages are handed over from the network threads to striped executors, so that neither the handlers nor the marshalling block
+ * the network I/O. Inbound messages are striped by the sender and the message group, which preserves the order of the messages of a
+ * group coming from the same node, and responses to invocations are striped by their correlation IDs. Outbound messages are striped by
+ * the recipient address. Message groups registered with {@link #handleInNetworkThread(Class)} are handled in the network threads.
+ *
+ * <p>If several connections are opened to every remote node, the messages are striped between them by their message groups.
+ */
 public class DefaultMessagingService extends AbstractMessagingService {
     private static final IgniteLogger LOG = Loggers.forClass(DefaultMessagingService.class);
 
+    /** Number of stripes of the inbound and the outbound executors. */
+    private static final int STRIPE_COUNT = Runtime.getRuntime().availableProcessors();
+
     /** Network messages factory. */
     private final NetworkMessagesFactory factory;
 
@@ -81,14 +93,22 @@ public class DefaultMessagingService extends AbstractMessagingService {
     /** Correlation id generator. */
     private final AtomicLong correlationIdGenerator = new AtomicLong();
 
-    /** Executor for outbound messages. */
-    private final ExecutorService outboundExecutor = Executors.newSingleThreadExecutor(
-            new NamedThreadFactory("MessagingService-outbound-", LOG)
+    /** Executor for outbound messages, striped by the recipient. */
+    private final StripedThreadPoolExecutor outboundExecutor = new StripedThreadPoolExecutor(
+            STRIPE_COUNT,
+            "MessagingService-outbound-",
+            new LogUncaughtExceptionHandler(LOG),
+            false,
+            0
     );
 
-    /** Executor for inbound messages. */
-    private final ExecutorService inboundExecutor = Executors.newSingleThreadExecutor(
-            new NamedThreadFactory("MessagingService-inbound-", LOG)
+    /** Executor for inbound messages, striped by the sender and the message group. */
+    private final StripedThreadPoolExecutor inboundExecutor = new StripedThreadPoolExecutor(
+            STRIPE_COUNT,
+            "MessagingService-inbound-",
+            new LogUncaughtExceptionHandler(LOG),
+            false,
+            0
     );
 
     // TODO: IGNITE-18493 - remove/move this
@@ -244,7 +264,12 @@ public class DefaultMessagingService extends AbstractMessagingService {
      */
     private CompletableFuture<Void> sendMessage0(@Nullable String consistentId, InetSocketAddress addr, NetworkMessage message) {
         if (isInNetworkThread()) {
-            return CompletableFuture.supplyAsync(() -> sendMessage0(consistentId, addr, message), outboundExecutor)
+            // Messages to the same recipient go through the same stripe to keep their order.
+            int stripe = IgniteUtils.safeAbs(addr.hashCode());
+
+            Executor stripeExecutor = command -> outboundExecutor.execute(command, stripe);
+
+            return CompletableFuture.supplyAsync(() -> sendMessage0(consistentId, addr, message), stripeExecutor)
                     .thenCompose(Function.identity());
         }
 
@@ -256,10 +281,35 @@ public class DefaultMessagingService extends AbstractMessagingService {
             return failedFuture(new IgniteException("Failed to marshal message: " + e.getMessage(), e));
         }
 
-        return connectionManager.channel(consistentId, addr)
+        return connectionManager.channel(consistentId, addr, connectionId(message))
                 .thenComposeToCompletable(sender -> sender.send(new OutNetworkObject(message, descriptors)));
     }
 
+    /**
+     * Returns the id of the connection to send a message through. Messages are striped between the connections by their message groups,
+     * so that the messages of a group keep their order.
+     *
+     * @param message Message.
+     * @return Connection id.
+     */
+    private short connectionId(NetworkMessage message) {
+        int connectionsPerPeer = connectionManager.connectionsPerPeer();
+
+        if (connectionsPerPeer == 1) {
+            return 0;
+        }
+
+        NetworkMessage payload = message;
+
+        if (message instanceof InvokeRequest) {
+            payload = ((InvokeRequest) message).message();
+        } else if (message instanceof InvokeResponse) {
+            payload = ((InvokeResponse) message).message();
+        }
+
+        return (short) (payload.groupType() % connectionsPerPeer);
+    }
+
     private List<ClassDescriptorMessage> beforeRead(NetworkMessage msg) throws Exception {
         IntSet ids = new IntOpenHashSet();
 
@@ -287,21 +337,57 @@ public class DefaultMessagingService extends AbstractMessagingService {
      */
     private void onMessage(InNetworkObject obj) {
         if (isInNetworkThread()) {
-            inboundExecutor.execute(() -> {
-                try {
-                    onMessage(obj);
-                } catch (Throwable e) {
-                    LOG.error("onMessage() failed while processing {} from {}", e, obj.message(), obj.consistentId());
-
-                    if (e instanceof Error) {
-                        throw e;
-                    }
+            NetworkMessage msg = obj.message();
+
+            int stripe;
+
+            if (msg instanceof InvokeResponse) {
+                // Responses only complete their futures, their order doesn't matter.
+                stripe = IgniteUtils.safeAbs(IgniteUtils.hash(((InvokeResponse) msg).correlationId()));
+            } else {
+                NetworkMessage message = msg instanceof InvokeRequest ? ((InvokeRequest) msg).message() : msg;
+
+                if (isHandledInNetworkThread(message.groupType())) {
+                    handleMessage(obj);
+
+                    return;
                 }
-            });
+
+                // Messages of the same group from the same sender go through the same stripe to keep their order.
+                stripe = IgniteUtils.safeAbs(31 * Objects.hashCode(obj.consistentId()) + message.groupType());
+            }
+
+            inboundExecutor.execute(() -> handleMessage(obj), stripe);
 
             return;
         }
 
+        onMessage0(obj);
+    }
+
+    /**
+     * Handles an incoming message, logging the failures.
+     *
+     * @param obj Incoming message wrapper.
+     */
+    private void handleMessage(InNetworkObject obj) {
+        try {
+            onMessage0(obj);
+        } catch (Throwable e) {
+            LOG.error("onMessage() failed while processing {} from {}", e, obj.message(), obj.consistentId());
+
+            if (e instanceof Error) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Handles an incoming message in the current thread.
+     *
+     * @param obj Incoming message wrapper.
+     */
+    private void onMessage0(InNetworkObject obj) {
         NetworkMessage msg = obj.message();
         DescriptorRegistry registry = obj.registry();
         try {
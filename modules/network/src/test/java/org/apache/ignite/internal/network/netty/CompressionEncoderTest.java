@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.DecoderException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CompressionEncoder} and {@link CompressionDecoder}.
+ */
+public class CompressionEncoderTest {
+    /** Random. */
+    private final Random random = new Random();
+
+    /**
+     * Tests that the data is compressed starting from the threshold, and smaller data is sent as is.
+     */
+    @Test
+    public void testCompression() {
+        var compression = new NetworkCompression(true, 100);
+
+        var channel = new EmbeddedChannel(new CompressionEncoder(compression));
+
+        List<byte[]> data = List.of(compressibleBytes(1000), compressibleBytes(10), compressibleBytes(10_000), randomBytes(10_000));
+
+        List<ByteBuf> frames = encode(channel, data);
+
+        assertThat(frames.get(0).readableBytes(), lessThan(1000));
+        assertEquals(10 + CompressionEncoder.RAW_FRAME_HEADER_SIZE, frames.get(1).readableBytes());
+        assertThat(frames.get(2).readableBytes(), lessThan(10_000));
+
+        assertDataEquals(data, decode(frames));
+
+        assertEquals(1000 + 10_000 + 10_000, compression.uncompressedBytes());
+        assertThat(compression.compressionRatio(), greaterThan(1.0));
+
+        assertFalse(channel.finish());
+    }
+
+    /**
+     * Tests that the frames are decoded from the data received in arbitrary parts.
+     */
+    @Test
+    public void testDecodeSplitFrames() {
+        var encoderChannel = new EmbeddedChannel(new CompressionEncoder(new NetworkCompression(true, 0)));
+
+        List<byte[]> data = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            data.add(compressibleBytes(random.nextInt(5000) + 1));
+        }
+
+        byte[] encoded = ByteBufUtil.getBytes(join(encode(encoderChannel, data)));
+
+        var decoderChannel = new EmbeddedChannel(new CompressionDecoder(new NetworkCompression(true, 0)));
+
+        int pos = 0;
+
+        while (pos < encoded.length) {
+            int len = Math.min(random.nextInt(100) + 1, encoded.length - pos);
+
+            decoderChannel.writeInbound(Unpooled.wrappedBuffer(encoded, pos, len));
+
+            pos += len;
+        }
+
+        assertDataEquals(data, readInbound(decoderChannel));
+
+        assertFalse(encoderChannel.finish());
+        assertFalse(decoderChannel.finish());
+    }
+
+    /**
+     * Tests that a frame of an unknown type fails the decoding.
+     */
+    @Test
+    public void testUnknownFrameType() {
+        var channel = new EmbeddedChannel(new CompressionDecoder(new NetworkCompression(true, 0)));
+
+        assertThrows(DecoderException.class, () -> channel.writeInbound(Unpooled.buffer().writeByte(42).writeInt(0)));
+    }
+
+    /**
+     * Tests that a frame of a negative size fails the decoding.
+     */
+    @Test
+    public void testNegativeFrameSize() {
+        var channel = new EmbeddedChannel(new CompressionDecoder(new NetworkCompression(true, 0)));
+
+        DecoderException e = assertThrows(DecoderException.class,
+                () -> channel.writeInbound(Unpooled.buffer().writeByte(CompressionEncoder.RAW_FRAME).writeInt(-1)));
+
+        assertInstanceOf(CorruptedFrameException.class, e.getCause());
+    }
+
+    private static List<ByteBuf> encode(EmbeddedChannel channel, List<byte[]> data) {
+        for (byte[] bytes : data) {
+            channel.writeOutbound(Unpooled.wrappedBuffer(bytes));
+        }
+
+        List<ByteBuf> frames = new ArrayList<>();
+
+        ByteBuf frame;
+
+        while ((frame = channel.readOutbound()) != null) {
+            frames.add(frame);
+        }
+
+        assertEquals(data.size(), frames.size());
+
+        return frames;
+    }
+
+    private static List<byte[]> decode(List<ByteBuf> frames) {
+        var channel = new EmbeddedChannel(new CompressionDecoder(new NetworkCompression(true, 0)));
+
+        channel.writeInbound(join(frames));
+
+        List<byte[]> data = readInbound(channel);
+
+        assertFalse(channel.finish());
+
+        return data;
+    }
+
+    private static ByteBuf join(List<ByteBuf> frames) {
+        return Unpooled.wrappedBuffer(frames.toArray(ByteBuf[]::new));
+    }
+
+    private static List<byte[]> readInbound(EmbeddedChannel channel) {
+        List<byte[]> data = new ArrayList<>();
+
+        ByteBuf buf;
+
+        while ((buf = channel.readInbound()) != null) {
+            data.add(ByteBufUtil.getBytes(buf));
+
+            buf.release();
+        }
+
+        return data;
+    }
+
+    private static void assertDataEquals(List<byte[]> expected, List<byte[]> actual) {
+        assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    private byte[] compressibleBytes(int size) {
+        byte[] bytes = new byte[size];
+
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) ('a' + random.nextInt(4));
+        }
+
+        return bytes;
+    }
+
+    private byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+
+        random.nextBytes(bytes);
+
+        return bytes;
+    }
+}
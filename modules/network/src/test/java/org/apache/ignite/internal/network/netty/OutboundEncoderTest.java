@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static org.apache.ignite.internal.network.netty.OutboundEncoder.INITIAL_CHUNK_SIZE;
+import static org.apache.ignite.internal.network.netty.OutboundEncoder.MAX_CHUNK_SIZE;
+import static org.apache.ignite.utils.ClusterServiceTestUtils.defaultSerializationRegistry;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.ignite.internal.network.messages.TestMessage;
+import org.apache.ignite.internal.network.messages.TestMessagesFactory;
+import org.apache.ignite.internal.network.serialization.PerSessionSerializationService;
+import org.apache.ignite.internal.network.serialization.SerializationService;
+import org.apache.ignite.internal.network.serialization.UserObjectSerializationContext;
+import org.apache.ignite.network.OutNetworkObject;
+import org.apache.ignite.network.serialization.MessageSerializationRegistry;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link OutboundEncoder}.
+ */
+public class OutboundEncoderTest {
+    /** Registry. */
+    private final MessageSerializationRegistry registry = defaultSerializationRegistry();
+
+    /**
+     * Tests that a small message is written in a single chunk.
+     */
+    @Test
+    public void testSmallMessage() {
+        TestMessage msg = new TestMessagesFactory().testMessage().msg("test").build();
+
+        List<ByteBuf> chunks = encode(msg);
+
+        assertEquals(1, chunks.size());
+
+        assertEquals(msg, decode(chunks));
+    }
+
+    /**
+     * Tests that a large message is written in growing chunks, up to {@link OutboundEncoder#MAX_CHUNK_SIZE}.
+     */
+    @Test
+    public void testLargeMessage() {
+        TestMessage msg = new TestMessagesFactory().testMessage().msg("x".repeat(1024 * 1024)).build();
+
+        List<ByteBuf> chunks = encode(msg);
+
+        int expectedChunkSize = INITIAL_CHUNK_SIZE;
+
+        for (ByteBuf chunk : chunks) {
+            assertThat(chunk.readableBytes(), lessThanOrEqualTo(expectedChunkSize));
+
+            expectedChunkSize = Math.min(expectedChunkSize * 2, MAX_CHUNK_SIZE);
+        }
+
+        // 127 KiB in the first 7 chunks, then 64 KiB per chunk.
+        assertThat(chunks.size(), lessThanOrEqualTo(7 + (1024 - 127) / 64 + 2));
+
+        assertEquals(msg, decode(chunks));
+    }
+
+    private List<ByteBuf> encode(TestMessage msg) {
+        var channel = new EmbeddedChannel(new ChunkedWriteHandler(), new OutboundEncoder(perSessionSerializationService()));
+
+        channel.writeAndFlush(new OutNetworkObject(msg, Collections.emptyList()));
+
+        List<ByteBuf> chunks = new ArrayList<>();
+
+        ByteBuf chunk;
+
+        while ((chunk = channel.readOutbound()) != null) {
+            chunks.add(chunk);
+        }
+
+        assertFalse(channel.finish());
+
+        return chunks;
+    }
+
+    private TestMessage decode(List<ByteBuf> chunks) {
+        var channel = new EmbeddedChannel(new InboundDecoder(perSessionSerializationService()));
+
+        for (ByteBuf chunk : chunks) {
+            channel.writeInbound(chunk);
+        }
+
+        TestMessage received = channel.readInbound();
+
+        assertFalse(channel.finish());
+
+        return received;
+    }
+
+    private PerSessionSerializationService perSessionSerializationService() {
+        var serializationService = new SerializationService(registry, mock(UserObjectSerializationContext.class));
+
+        return new PerSessionSerializationService(serializationService);
+    }
+}
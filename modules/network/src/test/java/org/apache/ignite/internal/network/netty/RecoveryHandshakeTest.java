@@ -18,6 +18,9 @@
 package org.apache.ignite.internal.network.netty;
 
 import static org.apache.ignite.utils.ClusterServiceTestUtils.defaultSerializationRegistry;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -29,6 +32,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.embedded.EmbeddedChannel;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -100,6 +104,79 @@ public class RecoveryHandshakeTest {
         assertFalse(clientSideChannel.finish());
     }
 
+    @Test
+    public void testHandshakeWithCompression() throws Exception {
+        var clientCompression = new NetworkCompression(true, 0);
+        var serverCompression = new NetworkCompression(true, 0);
+
+        testCompression(clientCompression, serverCompression);
+
+        // Everything sent after the handshake start response message is compressed.
+        assertThat(clientCompression.compressedBytes(), greaterThan(0L));
+        assertThat(serverCompression.compressedBytes(), greaterThan(0L));
+
+        assertThat(clientCompression.compressionRatio(), greaterThan(1.0));
+    }
+
+    @Test
+    public void testHandshakeWithCompressionDisabledOnRemoteNode() throws Exception {
+        var clientCompression = new NetworkCompression(true, 0);
+        var serverCompression = new NetworkCompression(false, 0);
+
+        testCompression(clientCompression, serverCompression);
+
+        assertEquals(0, clientCompression.compressedBytes());
+        assertEquals(0, serverCompression.compressedBytes());
+    }
+
+    private void testCompression(NetworkCompression clientCompression, NetworkCompression serverCompression) throws Exception {
+        var clientHandshakeManager = new RecoveryClientHandshakeManager(UUID.randomUUID(), "client", CONNECTION_ID, clientCompression,
+                createRecoveryDescriptorProvider());
+        var serverHandshakeManager = new RecoveryServerHandshakeManager(UUID.randomUUID(), "server", MESSAGE_FACTORY, serverCompression,
+                createRecoveryDescriptorProvider());
+
+        var messageCaptor = new AtomicReference<TestMessage>();
+
+        EmbeddedChannel clientSideChannel = setupChannel(clientHandshakeManager, noMessageListener);
+
+        EmbeddedChannel serverSideChannel = setupChannel(serverHandshakeManager, inObject -> {
+            NetworkMessage msg = inObject.message();
+
+            assertInstanceOf(TestMessage.class, msg);
+
+            messageCaptor.set((TestMessage) msg);
+        });
+
+        exchangeServerToClient(serverSideChannel, clientSideChannel);
+        exchangeClientToServer(serverSideChannel, clientSideChannel);
+        exchangeServerToClient(serverSideChannel, clientSideChannel);
+
+        checkHandshakeCompleted(serverHandshakeManager);
+        checkHandshakeCompleted(clientHandshakeManager);
+
+        // The frames of the compression are only used if both nodes have the compression enabled.
+        boolean compressed = clientCompression.enabled() && serverCompression.enabled();
+
+        for (EmbeddedChannel channel : List.of(clientSideChannel, serverSideChannel)) {
+            assertEquals(compressed, channel.pipeline().get(CompressionEncoder.class) != null);
+            assertEquals(compressed, channel.pipeline().get(CompressionDecoder.class) != null);
+        }
+
+        TestMessage msg = TEST_MESSAGES_FACTORY.testMessage().msg("x".repeat(500)).build();
+
+        clientSideChannel.writeAndFlush(new OutNetworkObject(msg, Collections.emptyList()));
+
+        exchangeClientToServer(serverSideChannel, clientSideChannel);
+
+        assertEquals(msg, messageCaptor.get());
+
+        // Acknowledgement.
+        exchangeServerToClient(serverSideChannel, clientSideChannel);
+
+        assertFalse(serverSideChannel.finish());
+        assertFalse(clientSideChannel.finish());
+    }
+
     @Test
     public void testHandshakeWithUnacknowledgedServerMessage() throws Exception {
         RecoveryDescriptorProvider clientRecovery = createRecoveryDescriptorProvider();
@@ -447,7 +524,7 @@ public class RecoveryHandshakeTest {
 
     private RecoveryClientHandshakeManager createRecoveryClientHandshakeManager(String consistentId, UUID launchId,
             RecoveryDescriptorProvider provider) {
-        return new RecoveryClientHandshakeManager(launchId, consistentId, CONNECTION_ID, provider);
+        return new RecoveryClientHandshakeManager(launchId, consistentId, CONNECTION_ID, new NetworkCompression(false, 0), provider);
     }
 
     private RecoveryServerHandshakeManager createRecoveryServerHandshakeManager(RecoveryDescriptorProvider provider) {
@@ -456,7 +533,7 @@ public class RecoveryHandshakeTest {
 
     private RecoveryServerHandshakeManager createRecoveryServerHandshakeManager(String consistentId, UUID launchId,
             RecoveryDescriptorProvider provider) {
-        return new RecoveryServerHandshakeManager(launchId, consistentId, MESSAGE_FACTORY, provider);
+        return new RecoveryServerHandshakeManager(launchId, consistentId, MESSAGE_FACTORY, new NetworkCompression(false, 0), provider);
     }
 
     private RecoveryDescriptorProvider createRecoveryDescriptorProvider() {
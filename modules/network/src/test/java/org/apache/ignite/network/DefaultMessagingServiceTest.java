@@ -17,10 +17,13 @@
 
 package org.apache.ignite.network;
 
+import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willBe;
 import static org.apache.ignite.utils.ClusterServiceTestUtils.defaultSerializationRegistry;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
@@ -33,6 +36,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.network.NetworkMessagesFactory;
@@ -41,6 +45,7 @@ import org.apache.ignite.internal.network.messages.TestMessage;
 import org.apache.ignite.internal.network.messages.TestMessageTypes;
 import org.apache.ignite.internal.network.messages.TestMessagesFactory;
 import org.apache.ignite.internal.network.netty.ConnectionManager;
+import org.apache.ignite.internal.network.netty.NetworkCompression;
 import org.apache.ignite.internal.network.recovery.RecoveryClientHandhakeManagerFactory;
 import org.apache.ignite.internal.network.recovery.RecoveryClientHandshakeManager;
 import org.apache.ignite.internal.network.recovery.RecoveryDescriptorProvider;
@@ -124,6 +129,58 @@ class DefaultMessagingServiceTest {
         }
     }
 
+    @Test
+    void messagesOfGroupFromSameSenderAreHandledInOrder() throws Exception {
+        try (
+                Services senderServices = createMessagingService(senderNode, senderNetworkConfig, () -> {});
+                Services receiverServices = createMessagingService(receiverNode, receiverNetworkConfig, () -> {})
+        ) {
+            int messageCount = 1_000;
+
+            List<String> payloads = new CopyOnWriteArrayList<>();
+            CountDownLatch messagesDeliveredLatch = new CountDownLatch(messageCount);
+
+            receiverServices.messagingService.addMessageHandler(
+                    TestMessageTypes.class,
+                    (message, sender, correlationId) -> {
+                        payloads.add(((TestMessage) message).msg());
+                        messagesDeliveredLatch.countDown();
+                    }
+            );
+
+            List<String> expectedPayloads = IntStream.range(0, messageCount).mapToObj(Integer::toString).collect(toList());
+
+            for (String payload : expectedPayloads) {
+                senderServices.messagingService.send(receiverNode, testMessage(payload));
+            }
+
+            assertTrue(messagesDeliveredLatch.await(10, TimeUnit.SECONDS));
+
+            assertThat(payloads, is(expectedPayloads));
+        }
+    }
+
+    @Test
+    void messagesOfGroupHandledInNetworkThreadAreNotHandedOver() throws Exception {
+        try (
+                Services senderServices = createMessagingService(senderNode, senderNetworkConfig, () -> {});
+                Services receiverServices = createMessagingService(receiverNode, receiverNetworkConfig, () -> {})
+        ) {
+            CompletableFuture<Boolean> handledInNetworkThread = new CompletableFuture<>();
+
+            receiverServices.messagingService.handleInNetworkThread(TestMessageTypes.class);
+
+            receiverServices.messagingService.addMessageHandler(
+                    TestMessageTypes.class,
+                    (message, sender, correlationId) -> handledInNetworkThread.complete(NettyBootstrapFactory.isInNetworkThread())
+            );
+
+            senderServices.messagingService.send(receiverNode, testMessage("one"));
+
+            assertThat(handledInNetworkThread, willBe(true));
+        }
+    }
+
     @Test
     void respondingWhenSenderIsNotInTopologyResultsInFailingFuture() throws Exception {
         try (Services services = createMessagingService(senderNode, senderNetworkConfig, () -> {})) {
@@ -186,8 +243,8 @@ class DefaultMessagingServiceTest {
         return new RecoveryClientHandhakeManagerFactory() {
             @Override
             public RecoveryClientHandshakeManager create(UUID launchId, String consistentId, short connectionId,
-                    RecoveryDescriptorProvider recoveryDescriptorProvider) {
-                return new RecoveryClientHandshakeManager(launchId, consistentId, connectionId, recoveryDescriptorProvider) {
+                    NetworkCompression compression, RecoveryDescriptorProvider recoveryDescriptorProvider) {
+                return new RecoveryClientHandshakeManager(launchId, consistentId, connectionId, compression, recoveryDescriptorProvider) {
                     @Override
                     protected void finishHandshake() {
                         beforeHandshake.run();
@@ -1950,6 +1950,73 @@ public abstract class AbstractBplusTreePageMemoryTest extends BaseIgniteAbstract
         doTestRandomPutRemoveMultithreaded(true);
     }
 
+    /**
+     * Checks that the lookups reading the inner pages without a lock find the rows concurrently with the splits and merges of the pages.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testOptimisticReadsConcurrentPutRemove() throws Exception {
+        MAX_PER_PAGE = 5;
+        CNT = 10_000;
+
+        TestTree tree = createTestTree(false);
+
+        tree.enableOptimisticReads();
+
+        // Even keys are always present, odd keys are concurrently put and removed.
+        for (long i = 0; i < CNT; i += 2) {
+            tree.put(i);
+        }
+
+        CompletableFuture<?> putRmvFut = runMultiThreadedAsync(() -> {
+            Random random = ThreadLocalRandom.current();
+
+            while (!stop.get()) {
+                long key = random.nextInt(CNT / 2) * 2L + 1;
+
+                if (random.nextBoolean()) {
+                    tree.put(key);
+                } else {
+                    tree.remove(key);
+                }
+            }
+
+            return null;
+        }, Math.max(1, CPUS / 2), "put-rmv");
+
+        CompletableFuture<?> findFut = runMultiThreadedAsync(() -> {
+            Random random = ThreadLocalRandom.current();
+
+            for (int i = 0; i < CNT * 10 && !stop.get(); i++) {
+                long key = random.nextInt(CNT / 2) * 2L;
+
+                assertEquals((Long) key, tree.findOne(key));
+
+                try (Cursor<Long> cursor = tree.find(key, key)) {
+                    assertTrue(cursor.hasNext());
+                    assertEquals((Long) key, cursor.next());
+                }
+            }
+
+            return null;
+        }, Math.max(1, CPUS / 2), "find");
+
+        asyncRunFut = CompletableFuture.allOf(putRmvFut, findFut);
+
+        try {
+            findFut.get(getTestTimeout(), MILLISECONDS);
+        } finally {
+            stop.set(true);
+
+            asyncRunFut.get(getTestTimeout(), MILLISECONDS);
+        }
+
+        tree.validateTree();
+
+        assertNoLocks();
+    }
+
     @Test
     public void testFindFirstAndLast() throws Exception {
         MAX_PER_PAGE = 5;
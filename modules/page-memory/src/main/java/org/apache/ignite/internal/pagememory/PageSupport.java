@@ -86,6 +86,40 @@ public interface PageSupport {
      */
     void readUnlock(int groupId, long pageId, long page);
 
+    /**
+     * Returns a stamp for reading the page without a lock, the page must already be acquired. The page read with the stamp may be
+     * inconsistent and must not be used unless {@link #validateOptimisticRead(int, long, long, long)} succeeds after the read.
+     *
+     * @param groupId Group ID.
+     * @param pageId  Page ID.
+     * @param page    Page pointer.
+     * @return Stamp or {@code 0} if the page is write locked or has been reused.
+     * @see #optimisticReadAddress(int, long, long)
+     */
+    long tryOptimisticRead(int groupId, long pageId, long page);
+
+    /**
+     * Returns pointer for reading the page without a lock, valid only for the reads validated by
+     * {@link #validateOptimisticRead(int, long, long, long)}.
+     *
+     * @param groupId Group ID.
+     * @param pageId  Page ID.
+     * @param page    Page pointer.
+     * @return Pointer for reading the page.
+     */
+    long optimisticReadAddress(int groupId, long pageId, long page);
+
+    /**
+     * Checks that the page has not been write locked since the stamp was obtained.
+     *
+     * @param groupId Group ID.
+     * @param pageId  Page ID.
+     * @param page    Page pointer.
+     * @param stamp   Stamp returned by {@link #tryOptimisticRead(int, long, long)}.
+     * @return {@code True} if the page read with the stamp is consistent.
+     */
+    boolean validateOptimisticRead(int groupId, long pageId, long page, long stamp);
+
     /**
      * Acquired a write lock on the page.
      *
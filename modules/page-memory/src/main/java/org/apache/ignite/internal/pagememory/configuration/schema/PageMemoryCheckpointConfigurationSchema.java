@@ -64,4 +64,11 @@ public class PageMemoryCheckpointConfigurationSchema {
     /** Use an asynchronous file I/O operations provider. */
     @Value(hasDefault = true)
     public boolean useAsyncFileIoFactory = true;
+
+    /**
+     * Use direct I/O for the partition files and the delta files, bypassing the OS page cache. Files on the file systems that don't
+     * support direct I/O are accessed as usual.
+     */
+    @Value(hasDefault = true)
+    public boolean useDirectIo = false;
 }
@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.util.Constants.MiB;
 import org.apache.ignite.configuration.annotation.Config;
 import org.apache.ignite.configuration.annotation.Value;
 import org.apache.ignite.configuration.validation.OneOf;
+import org.apache.ignite.configuration.validation.Range;
 
 /**
  * Persistent data region configuration schema.
@@ -40,6 +41,18 @@ public class PersistentPageMemoryDataRegionConfigurationSchema extends BasePageM
     /** CLOCK page replacement algorithm. */
     public static final String CLOCK_REPLACEMENT_MODE = "CLOCK";
 
+    /** Pages are written to the partition files as is. */
+    public static final String DISABLED_PAGE_COMPRESSION = "DISABLED";
+
+    /** Pages are compressed with the Deflate algorithm before they are written to the partition files. */
+    public static final String DEFLATE_PAGE_COMPRESSION = "DEFLATE";
+
+    /** Writers are not throttled, they stall on the checkpoint lock once they dirty too many pages before the checkpoint is finished. */
+    public static final String DISABLED_WRITE_THROTTLING = "DISABLED";
+
+    /** Writers are slowed down in advance according to the progress of the checkpoint. */
+    public static final String SPEED_BASED_WRITE_THROTTLING = "SPEED_BASED";
+
     /** Memory region size in bytes. */
     @Value(hasDefault = true)
     public long size = DFLT_DATA_REGION_SIZE;
@@ -48,4 +61,19 @@ public class PersistentPageMemoryDataRegionConfigurationSchema extends BasePageM
     @OneOf({RANDOM_LRU_REPLACEMENT_MODE, SEGMENTED_LRU_REPLACEMENT_MODE, CLOCK_REPLACEMENT_MODE})
     @Value(hasDefault = true)
     public String replacementMode = CLOCK_REPLACEMENT_MODE;
+
+    /** Compression of the pages written to the partition files and the delta files. */
+    @OneOf({DISABLED_PAGE_COMPRESSION, DEFLATE_PAGE_COMPRESSION})
+    @Value(hasDefault = true)
+    public String pageCompression = DISABLED_PAGE_COMPRESSION;
+
+    /** Page compression level, from 1 (the fastest) to 9 (the smallest pages). */
+    @Range(min = 1, max = 9)
+    @Value(hasDefault = true)
+    public int pageCompressionLevel = 1;
+
+    /** Throttling of the threads marking the pages dirty during a checkpoint. */
+    @OneOf({DISABLED_WRITE_THROTTLING, SPEED_BASED_WRITE_THROTTLING})
+    @Value(hasDefault = true)
+    public String writeThrottling = SPEED_BASED_WRITE_THROTTLING;
 }
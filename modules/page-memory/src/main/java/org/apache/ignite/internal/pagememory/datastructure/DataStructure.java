@@ -418,6 +418,29 @@ public abstract class DataStructure implements ManuallyCloseable {
         return PageHandler.readPage(pageMem, grpId, pageId, page, lockLsnr, h, arg, intArg, lockFailed, statHolder);
     }
 
+    /**
+     * Executes handler without a lock, see {@link PageHandler#readPageOptimistically}.
+     *
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param h Handler.
+     * @param arg Argument.
+     * @param intArg Argument of type {@code int}.
+     * @param statHolder Statistics holder to track IO operations.
+     * @return Handler result or {@code null} if the page has been written during the read.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    protected final <X, R> @Nullable R readOptimistically(
+            long pageId,
+            long page,
+            PageHandler<X, R> h,
+            X arg,
+            int intArg,
+            IoStatisticsHolder statHolder
+    ) throws IgniteInternalCheckedException {
+        return PageHandler.readPageOptimistically(pageMem, grpId, pageId, page, h, arg, intArg, statHolder);
+    }
+
     /**
      * Initializes a new page.
      *
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.pagememory.persistence;
 
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
+import static org.apache.ignite.internal.pagememory.persistence.io.PartitionMetaIo.UNKNOWN_ROW_STATISTICS;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
 
 import java.lang.invoke.MethodHandles;
@@ -34,12 +35,24 @@ import org.jetbrains.annotations.TestOnly;
 public class PartitionMeta {
     private static final VarHandle PAGE_COUNT;
 
+    private static final VarHandle ROWS_COUNT;
+
+    private static final VarHandle VERSIONS_COUNT;
+
+    private static final VarHandle VERSIONS_SIZE;
+
     private static final VarHandle META_SNAPSHOT;
 
     static {
         try {
             PAGE_COUNT = MethodHandles.lookup().findVarHandle(PartitionMeta.class, "pageCount", int.class);
 
+            ROWS_COUNT = MethodHandles.lookup().findVarHandle(PartitionMeta.class, "rowsCount", long.class);
+
+            VERSIONS_COUNT = MethodHandles.lookup().findVarHandle(PartitionMeta.class, "versionsCount", long.class);
+
+            VERSIONS_SIZE = MethodHandles.lookup().findVarHandle(PartitionMeta.class, "versionsSize", long.class);
+
             META_SNAPSHOT = MethodHandles.lookup().findVarHandle(PartitionMeta.class, "metaSnapshot", PartitionMetaSnapshot.class);
         } catch (ReflectiveOperationException e) {
             throw new ExceptionInInitializerError(e);
@@ -64,6 +77,12 @@ public class PartitionMeta {
 
     private volatile int pageCount;
 
+    private volatile long rowsCount;
+
+    private volatile long versionsCount;
+
+    private volatile long versionsSize;
+
     private volatile PartitionMetaSnapshot metaSnapshot;
 
     /**
@@ -94,6 +113,50 @@ public class PartitionMeta {
             long indexTreeMetaPageId,
             long gcQueueMetaPageId,
             int pageCount
+    ) {
+        this(
+                checkpointId,
+                lastAppliedIndex,
+                lastAppliedTerm,
+                lastReplicationProtocolGroupConfigFirstPageId,
+                rowVersionFreeListRootPageId,
+                indexColumnsFreeListRootPageId,
+                versionChainTreeRootPageId,
+                indexTreeMetaPageId,
+                gcQueueMetaPageId,
+                pageCount,
+                0,
+                0,
+                0
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param checkpointId Checkpoint ID.
+     * @param lastAppliedIndex Last applied index value.
+     * @param rowVersionFreeListRootPageId Row version free list root page ID.
+     * @param versionChainTreeRootPageId Version chain tree root page ID.
+     * @param pageCount Count of pages in the partition.
+     * @param rowsCount Count of the rows whose latest committed version is not a tombstone.
+     * @param versionsCount Count of the stored row versions.
+     * @param versionsSize Total size of the values of the stored row versions in bytes.
+     */
+    public PartitionMeta(
+            @Nullable UUID checkpointId,
+            long lastAppliedIndex,
+            long lastAppliedTerm,
+            long lastReplicationProtocolGroupConfigFirstPageId,
+            long rowVersionFreeListRootPageId,
+            long indexColumnsFreeListRootPageId,
+            long versionChainTreeRootPageId,
+            long indexTreeMetaPageId,
+            long gcQueueMetaPageId,
+            int pageCount,
+            long rowsCount,
+            long versionsCount,
+            long versionsSize
     ) {
         this.lastAppliedIndex = lastAppliedIndex;
         this.lastAppliedTerm = lastAppliedTerm;
@@ -104,6 +167,9 @@ public class PartitionMeta {
         this.indexTreeMetaPageId = indexTreeMetaPageId;
         this.gcQueueMetaPageId = gcQueueMetaPageId;
         this.pageCount = pageCount;
+        this.rowsCount = rowsCount;
+        this.versionsCount = versionsCount;
+        this.versionsSize = versionsSize;
 
         metaSnapshot = new PartitionMetaSnapshot(checkpointId, this);
     }
@@ -126,7 +192,10 @@ public class PartitionMeta {
                 metaIo.getVersionChainTreeRootPageId(pageAddr),
                 metaIo.getIndexTreeMetaPageId(pageAddr),
                 metaIo.getGcQueueMetaPageId(pageAddr),
-                metaIo.getPageCount(pageAddr)
+                metaIo.getPageCount(pageAddr),
+                metaIo.getRowsCount(pageAddr),
+                metaIo.getVersionsCount(pageAddr),
+                metaIo.getVersionsSize(pageAddr)
         );
     }
 
@@ -288,6 +357,72 @@ public class PartitionMeta {
         PAGE_COUNT.getAndAdd(this, 1);
     }
 
+    /**
+     * Returns the count of the rows whose latest committed version is not a tombstone.
+     */
+    public long rowsCount() {
+        return rowsCount;
+    }
+
+    /**
+     * Returns the count of the stored row versions, including write intents and tombstones.
+     */
+    public long versionsCount() {
+        return versionsCount;
+    }
+
+    /**
+     * Returns the total size of the values of the stored row versions in bytes.
+     */
+    public long versionsSize() {
+        return versionsSize;
+    }
+
+    /**
+     * Returns {@code true} if the row statistics are known, {@code false} if the partition meta was read from a page written before the
+     * row statistics were added to it, and they have not been {@link #rowStatistics set} since.
+     */
+    public boolean hasRowStatistics() {
+        return rowsCount != UNKNOWN_ROW_STATISTICS;
+    }
+
+    /**
+     * Sets the row statistics of the partition, counted by a scan of its rows.
+     *
+     * @param checkpointId Checkpoint ID.
+     * @param rowsCount Count of the rows whose latest committed version is not a tombstone.
+     * @param versionsCount Count of the stored row versions.
+     * @param versionsSize Total size of the values of the stored row versions in bytes.
+     */
+    public void rowStatistics(@Nullable UUID checkpointId, long rowsCount, long versionsCount, long versionsSize) {
+        updateSnapshot(checkpointId);
+
+        this.rowsCount = rowsCount;
+        this.versionsCount = versionsCount;
+        this.versionsSize = versionsSize;
+    }
+
+    /**
+     * Updates the row statistics of the partition by the given deltas.
+     *
+     * <p>Must be called under the same lock as the modification of the rows, so that the statistics are consistent with them in the
+     * checkpoint. The row statistics must be {@link #hasRowStatistics known}.
+     *
+     * @param checkpointId Checkpoint ID.
+     * @param rowsCountDelta Delta of the count of the rows whose latest committed version is not a tombstone.
+     * @param versionsCountDelta Delta of the count of the stored row versions.
+     * @param versionsSizeDelta Delta of the total size of the values of the stored row versions in bytes.
+     */
+    public void updateRowStatistics(@Nullable UUID checkpointId, long rowsCountDelta, long versionsCountDelta, long versionsSizeDelta) {
+        assert hasRowStatistics();
+
+        updateSnapshot(checkpointId);
+
+        ROWS_COUNT.getAndAdd(this, rowsCountDelta);
+        VERSIONS_COUNT.getAndAdd(this, versionsCountDelta);
+        VERSIONS_SIZE.getAndAdd(this, versionsSizeDelta);
+    }
+
     /**
      * Returns the latest snapshot of the partition meta.
      *
@@ -342,6 +477,12 @@ public class PartitionMeta {
 
         private final int pageCount;
 
+        private final long rowsCount;
+
+        private final long versionsCount;
+
+        private final long versionsSize;
+
         /**
          * Private constructor.
          *
@@ -359,6 +500,9 @@ public class PartitionMeta {
             indexTreeMetaPageId = partitionMeta.indexTreeMetaPageId;
             gcQueueMetaPageId = partitionMeta.gcQueueMetaPageId;
             pageCount = partitionMeta.pageCount;
+            rowsCount = partitionMeta.rowsCount;
+            versionsCount = partitionMeta.versionsCount;
+            versionsSize = partitionMeta.versionsSize;
         }
 
         /**
@@ -424,6 +568,27 @@ public class PartitionMeta {
             return pageCount;
         }
 
+        /**
+         * Returns the count of the rows whose latest committed version is not a tombstone.
+         */
+        public long rowsCount() {
+            return rowsCount;
+        }
+
+        /**
+         * Returns the count of the stored row versions, including write intents and tombstones.
+         */
+        public long versionsCount() {
+            return versionsCount;
+        }
+
+        /**
+         * Returns the total size of the values of the stored row versions in bytes.
+         */
+        public long versionsSize() {
+            return versionsSize;
+        }
+
         /**
          * Writes the contents of the snapshot to a page of type {@link PartitionMetaIo}.
          *
@@ -440,6 +605,9 @@ public class PartitionMeta {
             metaIo.setIndexTreeMetaPageId(pageAddr, indexTreeMetaPageId);
             metaIo.setGcQueueMetaPageId(pageAddr, gcQueueMetaPageId);
             metaIo.setPageCount(pageAddr, pageCount);
+            metaIo.setRowsCount(pageAddr, rowsCount);
+            metaIo.setVersionsCount(pageAddr, versionsCount);
+            metaIo.setVersionsSize(pageAddr, versionsSize);
         }
 
         @Override
@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.pagememory.FullPageId.NULL_PAGE;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.CLOCK_REPLACEMENT_MODE;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.RANDOM_LRU_REPLACEMENT_MODE;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.SEGMENTED_LRU_REPLACEMENT_MODE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.SPEED_BASED_WRITE_THROTTLING;
 import static org.apache.ignite.internal.pagememory.io.PageIo.getCrc;
 import static org.apache.ignite.internal.pagememory.io.PageIo.getPageId;
 import static org.apache.ignite.internal.pagememory.io.PageIo.getType;
@@ -31,6 +32,7 @@ import static org.apache.ignite.internal.pagememory.persistence.PageHeader.dirty
 import static org.apache.ignite.internal.pagememory.persistence.PageHeader.fullPageId;
 import static org.apache.ignite.internal.pagememory.persistence.PageHeader.isAcquired;
 import static org.apache.ignite.internal.pagememory.persistence.PageHeader.readPageId;
+import static org.apache.ignite.internal.pagememory.persistence.PageHeader.readTimestamp;
 import static org.apache.ignite.internal.pagememory.persistence.PageHeader.tempBufferPointer;
 import static org.apache.ignite.internal.pagememory.persistence.PageHeader.writeTimestamp;
 import static org.apache.ignite.internal.pagememory.persistence.PagePool.SEGMENT_INDEX_MASK;
@@ -72,6 +74,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.pagememory.FullPageId;
@@ -88,6 +91,7 @@ import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricsTracker;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointPages;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTimeoutLock;
 import org.apache.ignite.internal.pagememory.persistence.replacement.ClockPageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.DelayedPageReplacementTracker;
@@ -95,6 +99,8 @@ import org.apache.ignite.internal.pagememory.persistence.replacement.PageReplace
 import org.apache.ignite.internal.pagememory.persistence.replacement.PageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.RandomLruPageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.SegmentedLruPageReplacementPolicyFactory;
+import org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteThrottlePolicy;
+import org.apache.ignite.internal.pagememory.persistence.throttling.SpeedBasedPagesWriteThrottle;
 import org.apache.ignite.internal.util.CollectionUtils;
 import org.apache.ignite.internal.util.OffheapReadWriteLock;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
@@ -119,7 +125,7 @@ import org.jetbrains.annotations.TestOnly;
  * <p>When page is allocated and is in use:
  * <pre>
  * +------------------+--------+--------+----+----+--------+--------+----------------------+
- * |     8 bytes      |8 bytes |8 bytes |4 b |4 b |8 bytes |8 bytes |       PAGE_SIZE      |
+ * |     8 bytes      |8 bytes |8 bytes |4 b |4 b |16 bytes|8 bytes |       PAGE_SIZE      |
  * +------------------+--------+--------+----+----+--------+--------+----------------------+
  * | Marker/Timestamp |Rel ptr |Page ID |C ID|PIN | LOCK   |TMP BUF |       Page data      |
  * +------------------+--------+--------+----+----+--------+--------+----------------------+
@@ -145,8 +151,8 @@ public class PersistentPageMemory implements PageMemory {
     /** Page lock offset. */
     public static final int PAGE_LOCK_OFFSET = 32;
 
-    /** 8b Marker/timestamp 8b Relative pointer 8b Page ID 4b Group ID 4b Pin count 8b Lock 8b Temporary buffer. */
-    public static final int PAGE_OVERHEAD = 48;
+    /** 8b Marker/timestamp 8b Relative pointer 8b Page ID 4b Group ID 4b Pin count 16b Lock 8b Temporary buffer. */
+    public static final int PAGE_OVERHEAD = 56;
 
     /** Try again tag. */
     public static final int TRY_AGAIN_TAG = -1;
@@ -213,6 +219,10 @@ public class PersistentPageMemory implements PageMemory {
     /** Checkpoint timeout lock. */
     private final CheckpointTimeoutLock checkpointTimeoutLock;
 
+    /** Throttling policy of the writers, {@code null} if the write throttling is disabled. */
+    @Nullable
+    private final PagesWriteThrottlePolicy writeThrottle;
+
     /**
      * Constructor.
      *
@@ -224,6 +234,7 @@ public class PersistentPageMemory implements PageMemory {
      * @param changeTracker Callback invoked to track changes in pages.
      * @param flushDirtyPageForReplacement Write callback invoked when a dirty page is removed for replacement.
      * @param checkpointTimeoutLock Checkpoint timeout lock.
+     * @param checkpointProgress Provider of the progress of the current checkpoint for the write throttling, may return {@code null}.
      * @param pageSize Page size in bytes.
      */
     public PersistentPageMemory(
@@ -235,6 +246,7 @@ public class PersistentPageMemory implements PageMemory {
             @Nullable PageChangeTracker changeTracker,
             WriteDirtyPage flushDirtyPageForReplacement,
             CheckpointTimeoutLock checkpointTimeoutLock,
+            Supplier<CheckpointProgress> checkpointProgress,
             // TODO: IGNITE-17017 Move to common config
             int pageSize
     ) {
@@ -275,6 +287,10 @@ public class PersistentPageMemory implements PageMemory {
         }
 
         delayedPageReplacementTracker = new DelayedPageReplacementTracker(pageSize, flushDirtyPageForReplacement, LOG, sizes.length - 1);
+
+        writeThrottle = SPEED_BASED_WRITE_THROTTLING.equals(dataRegionConfigView.writeThrottling())
+                ? new SpeedBasedPagesWriteThrottle(dataRegionConfigView.name(), this, checkpointProgress)
+                : null;
     }
 
     /** {@inheritDoc} */
@@ -419,6 +435,37 @@ public class PersistentPageMemory implements PageMemory {
         return readLock(absPtr, pageId, force, true);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public long tryOptimisticRead(int grpId, long pageId, long page) {
+        assert started;
+
+        long stamp = rwLock.tryOptimisticRead(page + PAGE_LOCK_OFFSET, tag(pageId));
+
+        if (stamp != 0) {
+            long now = coarseCurrentTimeMillis();
+
+            // Avoids invalidating the cache line of the header for the other readers on every read.
+            if (readTimestamp(page) != (now & ~0xFFL)) {
+                writeTimestamp(page, now);
+            }
+        }
+
+        return stamp;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long optimisticReadAddress(int grpId, long pageId, long page) {
+        return page + PAGE_OVERHEAD;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean validateOptimisticRead(int grpId, long pageId, long page, long stamp) {
+        return rwLock.validate(page + PAGE_LOCK_OFFSET, stamp);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void readUnlock(int grpId, long pageId, long page) {
@@ -1164,6 +1211,10 @@ public class PersistentPageMemory implements PageMemory {
                 throw ex;
             }
         }
+
+        if (writeThrottle != null && markDirty && !restore) {
+            writeThrottle.onMarkDirty(isInCheckpoint(fullId));
+        }
     }
 
     /**
@@ -1751,6 +1802,51 @@ public class PersistentPageMemory implements PageMemory {
         return true;
     }
 
+    /**
+     * Returns number of the pages marked dirty since the beginning of the current checkpoint.
+     */
+    public long dirtyPagesCount() {
+        Segment[] segments = this.segments;
+
+        if (segments == null) {
+            return 0;
+        }
+
+        long total = 0;
+
+        for (Segment seg : segments) {
+            total += seg.dirtyPagesCntr.get();
+        }
+
+        return total;
+    }
+
+    /**
+     * Returns max number of dirty pages, reaching it in any segment triggers the next checkpoint and blocks the writers until it begins.
+     */
+    public long maxDirtyPages() {
+        Segment[] segments = this.segments;
+
+        if (segments == null) {
+            return 0;
+        }
+
+        long total = 0;
+
+        for (Segment seg : segments) {
+            total += seg.maxDirtyPages;
+        }
+
+        return total;
+    }
+
+    /**
+     * Returns throttling policy of the writers, {@code null} if the write throttling is disabled.
+     */
+    public @Nullable PagesWriteThrottlePolicy writeThrottle() {
+        return writeThrottle;
+    }
+
     /**
      * Returns number of pages used in checkpoint buffer.
      */
@@ -1811,15 +1907,18 @@ public class PersistentPageMemory implements PageMemory {
      *      checkpoint temporary buffer is used.
      * @param pageStoreWriter Checkpoint page writer.
      * @param tracker Checkpoint metrics tracker.
+     * @param keepPinned Whether the page passed to the writer stays pinned.
+     * @return Absolute pointer of the page left pinned, {@code 0} if the page is released.
      */
-    private void copyPageForCheckpoint(
+    private long copyPageForCheckpoint(
             long absPtr,
             FullPageId fullId,
             ByteBuffer buf,
             int tag,
             boolean pageSingleAcquire,
             PageStoreWriter pageStoreWriter,
-            CheckpointMetricsTracker tracker
+            CheckpointMetricsTracker tracker,
+            boolean keepPinned
     ) throws IgniteInternalCheckedException {
         assert absPtr != 0;
         assert isAcquired(absPtr) || !isInCheckpoint(fullId);
@@ -1843,7 +1942,7 @@ public class PersistentPageMemory implements PageMemory {
                 pageStoreWriter.writePage(fullId, buf, TRY_AGAIN_TAG);
             }
 
-            return;
+            return 0;
         }
 
         if (!clearCheckpoint(fullId)) {
@@ -1853,9 +1952,11 @@ public class PersistentPageMemory implements PageMemory {
                 PageHeader.releasePage(absPtr);
             }
 
-            return;
+            return 0;
         }
 
+        boolean pinned = false;
+
         try {
             long tmpRelPtr = tempBufferPointer(absPtr);
 
@@ -1898,12 +1999,18 @@ public class PersistentPageMemory implements PageMemory {
                 pageStoreWriter.writePage(fullId, buf, tag);
 
                 buf.rewind();
+
+                pinned = keepPinned;
             }
 
             // We pinned the page either when allocated the temp buffer, or when resolved abs pointer.
-            // Must release the page only after write unlock.
-            PageHeader.releasePage(absPtr);
+            // Must release the page only after write unlock, or after the page is written if the writer postpones the write.
+            if (!pinned) {
+                PageHeader.releasePage(absPtr);
+            }
         }
+
+        return pinned ? absPtr : 0;
     }
 
     /**
@@ -1921,6 +2028,32 @@ public class PersistentPageMemory implements PageMemory {
             ByteBuffer buf,
             PageStoreWriter pageStoreWriter,
             CheckpointMetricsTracker tracker
+    ) throws IgniteInternalCheckedException {
+        checkpointWritePage(fullId, buf, pageStoreWriter, tracker, false);
+    }
+
+    /**
+     * Prepare page for write during checkpoint. {@link PageStoreWriter} will be called when the page will be ready to write.
+     *
+     * <p>If {@code keepPinned} is {@code true}, the page passed to the writer stays pinned, so it can't be replaced and read back from the
+     * page store before the writer actually writes it there. Such page must be released with {@link #releaseCheckpointPage(long)} after
+     * it is written.
+     *
+     * @param fullId Page ID to get byte buffer for. The page ID must be present in the collection returned by the {@link
+     * #beginCheckpoint(CompletableFuture)} method call.
+     * @param buf Temporary buffer to write changes into.
+     * @param pageStoreWriter Checkpoint page write context.
+     * @param tracker Checkpoint metrics tracker.
+     * @param keepPinned Whether the page passed to the writer stays pinned.
+     * @return Absolute pointer of the page left pinned, {@code 0} if there's no such page.
+     * @throws IgniteInternalCheckedException If failed to obtain page data.
+     */
+    public long checkpointWritePage(
+            FullPageId fullId,
+            ByteBuffer buf,
+            PageStoreWriter pageStoreWriter,
+            CheckpointMetricsTracker tracker,
+            boolean keepPinned
     ) throws IgniteInternalCheckedException {
         assert buf.remaining() == pageSize() : buf.remaining();
 
@@ -1938,14 +2071,14 @@ public class PersistentPageMemory implements PageMemory {
 
         try {
             if (!isInCheckpoint(fullId)) {
-                return;
+                return 0;
             }
 
             relPtr = resolveRelativePointer(seg, fullId, tag = generationTag(seg, fullId));
 
             // Page may have been cleared during eviction. We have nothing to do in this case.
             if (relPtr == INVALID_REL_PTR) {
-                return;
+                return 0;
             }
 
             if (relPtr != OUTDATED_REL_PTR) {
@@ -1970,7 +2103,7 @@ public class PersistentPageMemory implements PageMemory {
                 relPtr = resolveRelativePointer(seg, fullId, generationTag(seg, fullId));
 
                 if (relPtr == INVALID_REL_PTR) {
-                    return;
+                    return 0;
                 }
 
                 if (relPtr == OUTDATED_REL_PTR) {
@@ -1985,13 +2118,25 @@ public class PersistentPageMemory implements PageMemory {
                     seg.pool.releaseFreePage(relPtr);
                 }
 
-                return;
+                return 0;
             } finally {
                 seg.writeLock().unlock();
             }
         }
 
-        copyPageForCheckpoint(absPtr, fullId, buf, tag, pageSingleAcquire, pageStoreWriter, tracker);
+        return copyPageForCheckpoint(absPtr, fullId, buf, tag, pageSingleAcquire, pageStoreWriter, tracker, keepPinned);
+    }
+
+    /**
+     * Releases the page left pinned by {@link #checkpointWritePage(FullPageId, ByteBuffer, PageStoreWriter, CheckpointMetricsTracker,
+     * boolean)}.
+     *
+     * @param absPtr Absolute pointer of the page.
+     */
+    public void releaseCheckpointPage(long absPtr) {
+        assert absPtr != 0;
+
+        PageHeader.releasePage(absPtr);
     }
 
     /**
@@ -2055,6 +2200,10 @@ public class PersistentPageMemory implements PageMemory {
 
         safeToUpdate.set(true);
 
+        if (writeThrottle != null) {
+            writeThrottle.onBeginCheckpoint();
+        }
+
         return CollectionUtils.concat(dirtyPageIds);
     }
 
@@ -2071,5 +2220,9 @@ public class PersistentPageMemory implements PageMemory {
                 seg.checkpointPages = null;
             }
         }
+
+        if (writeThrottle != null) {
+            writeThrottle.onFinishCheckpoint();
+        }
     }
 }
@@ -34,4 +34,25 @@ public interface WriteDirtyPage {
      * @throws IgniteInternalCheckedException If failed.
      */
     void write(PersistentPageMemory pageMemory, FullPageId fullPageId, ByteBuffer buffer) throws IgniteInternalCheckedException;
+
+    /**
+     * Writes the pages of the same partition, sorted by page index, to the page store. The pages stored consecutively may be written with
+     * a single I/O operation, by default the pages are written one by one.
+     *
+     * @param pageMemory Page memory.
+     * @param fullPageIds Full page ids.
+     * @param buffers Byte buffers to write from.
+     * @param count Number of the pages to write, from the beginning of the arrays.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    default void write(
+            PersistentPageMemory pageMemory,
+            FullPageId[] fullPageIds,
+            ByteBuffer[] buffers,
+            int count
+    ) throws IgniteInternalCheckedException {
+        for (int i = 0; i < count; i++) {
+            write(pageMemory, fullPageIds[i], buffers[i]);
+        }
+    }
 }
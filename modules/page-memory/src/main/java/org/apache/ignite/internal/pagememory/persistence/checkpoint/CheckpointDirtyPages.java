@@ -18,17 +18,17 @@
 package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 
 import static java.util.Arrays.binarySearch;
-import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.partitionId;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Queue;
 import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import org.apache.ignite.internal.pagememory.FullPageId;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
-import org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue;
-import org.apache.ignite.lang.IgniteBiTuple;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -71,14 +71,31 @@ class CheckpointDirtyPages {
     }
 
     /**
-     * Returns a queue of dirty page IDs to be written to a checkpoint.
+     * Returns a queue of the dirty page IDs views of the partitions to be written to a checkpoint, the largest partitions first.
+     *
+     * <p>Every partition is written by a single checkpoint thread, so that each thread writes sequentially. The largest partitions are
+     * taken first, so that the threads finish at about the same time.
      */
-    public IgniteConcurrentMultiPairQueue<PersistentPageMemory, FullPageId> toDirtyPageIdQueue() {
-        List<IgniteBiTuple<PersistentPageMemory, FullPageId[]>> dirtyPageIds = dirtyPages.stream()
-                .map(pages -> new IgniteBiTuple<>(pages.pageMemory, pages.dirtyPages))
-                .collect(toList());
+    public Queue<CheckpointDirtyPagesView> toDirtyPartitionQueue() {
+        List<CheckpointDirtyPagesView> partitionViews = new ArrayList<>();
+
+        for (int regionIndex = 0; regionIndex < dirtyPages.size(); regionIndex++) {
+            FullPageId[] pageIds = dirtyPages.get(regionIndex).dirtyPages;
+
+            int fromPosition = 0;
+
+            while (fromPosition < pageIds.length) {
+                int toPosition = partitionEndPosition(pageIds, fromPosition);
+
+                partitionViews.add(new CheckpointDirtyPagesView(regionIndex, fromPosition, toPosition));
+
+                fromPosition = toPosition;
+            }
+        }
 
-        return new IgniteConcurrentMultiPairQueue<>(dirtyPageIds);
+        partitionViews.sort(Comparator.comparingInt(CheckpointDirtyPagesView::size).reversed());
+
+        return new ConcurrentLinkedQueue<>(partitionViews);
     }
 
     /**
@@ -148,14 +165,22 @@ class CheckpointDirtyPages {
 
         FullPageId[] pageIds = dirtyPages.get(regionIndex).dirtyPages;
 
+        return new CheckpointDirtyPagesView(regionIndex, fromPosition, partitionEndPosition(pageIds, fromPosition));
+    }
+
+    /**
+     * Returns the end position (exclusive) of the dirty pages of the partition of the page at the given position.
+     *
+     * @param pageIds Sorted dirty page IDs of a data region.
+     * @param fromPosition Position of the first dirty page of the partition.
+     */
+    private static int partitionEndPosition(FullPageId[] pageIds, int fromPosition) {
         FullPageId startPageId = pageIds[fromPosition];
         FullPageId endPageId = new FullPageId(pageId(partitionId(startPageId.pageId()) + 1, (byte) 0, 0), startPageId.groupId());
 
         int toPosition = binarySearch(pageIds, fromPosition, pageIds.length, endPageId, DIRTY_PAGE_COMPARATOR);
 
-        toPosition = toPosition > 0 ? toPosition : -toPosition - 1;
-
-        return new CheckpointDirtyPagesView(regionIndex, fromPosition, toPosition);
+        return toPosition > 0 ? toPosition : -toPosition - 1;
     }
 
     /**
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.components.LongJvmPauseDetector;
@@ -31,6 +32,7 @@ import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.apache.ignite.internal.pagememory.persistence.WriteDirtyPage;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointDirtyPages.CheckpointDirtyPagesView;
 import org.apache.ignite.internal.pagememory.persistence.compaction.Compactor;
 import org.apache.ignite.internal.pagememory.persistence.store.DeltaFilePageStoreIo;
@@ -122,8 +124,22 @@ public class CheckpointManager {
                 checkpointConfigView.checkpointThreads()
         );
 
+        WriteDirtyPage dirtyPageWriter = new WriteDirtyPage() {
+            @Override
+            public void write(PersistentPageMemory pageMemory, FullPageId fullPageId, ByteBuffer buffer)
+                    throws IgniteInternalCheckedException {
+                writePageToDeltaFilePageStore(pageMemory, fullPageId, buffer, true);
+            }
+
+            @Override
+            public void write(PersistentPageMemory pageMemory, FullPageId[] fullPageIds, ByteBuffer[] buffers, int count)
+                    throws IgniteInternalCheckedException {
+                writePagesToDeltaFilePageStore(pageMemory, fullPageIds, buffers, count);
+            }
+        };
+
         checkpointPagesWriterFactory = new CheckpointPagesWriterFactory(
-                (pageMemory, fullPageId, pageBuf) -> writePageToDeltaFilePageStore(pageMemory, fullPageId, pageBuf, true),
+                dirtyPageWriter,
                 ioRegistry,
                 partitionMetaManager,
                 pageSize
@@ -269,11 +285,78 @@ public class CheckpointManager {
             ByteBuffer pageBuf,
             boolean calculateCrc
     ) throws IgniteInternalCheckedException {
+        DeltaFilePageStoreIo deltaFilePageStore = deltaFilePageStore(pageMemory, pageId);
+
+        if (deltaFilePageStore != null) {
+            deltaFilePageStore.write(pageId.pageId(), pageBuf, calculateCrc);
+        }
+    }
+
+    /**
+     * Writes the pages of the same partition, sorted by page index, to delta file page store. The pages stored consecutively in the delta
+     * file are written with a single I/O operation.
+     *
+     * <p>Must be used at checkpoint.
+     *
+     * @param pageMemory Page memory.
+     * @param pageIds Page IDs.
+     * @param pageBufs Page buffers to write from.
+     * @param count Number of the pages to write, from the beginning of the arrays.
+     * @throws IgniteInternalCheckedException If page writing failed (IO error occurred).
+     */
+    void writePagesToDeltaFilePageStore(
+            PersistentPageMemory pageMemory,
+            FullPageId[] pageIds,
+            ByteBuffer[] pageBufs,
+            int count
+    ) throws IgniteInternalCheckedException {
+        if (count == 0) {
+            return;
+        }
+
+        DeltaFilePageStoreIo deltaFilePageStore = deltaFilePageStore(pageMemory, pageIds[0]);
+
+        if (deltaFilePageStore == null) {
+            return;
+        }
+
+        int fromIndex = 0;
+
+        for (int i = 1; i <= count; i++) {
+            if (i < count && deltaFilePageStore.pageOffset(pageIds[i].pageId())
+                    == deltaFilePageStore.pageOffset(pageIds[i - 1].pageId()) + deltaFilePageStore.pageSize()) {
+                continue;
+            }
+
+            if (i - fromIndex == 1) {
+                deltaFilePageStore.write(pageIds[fromIndex].pageId(), pageBufs[fromIndex], true);
+            } else {
+                long[] runPageIds = new long[i - fromIndex];
+
+                for (int j = 0; j < runPageIds.length; j++) {
+                    runPageIds[j] = pageIds[fromIndex + j].pageId();
+                }
+
+                deltaFilePageStore.write(runPageIds, Arrays.copyOfRange(pageBufs, fromIndex, i), true);
+            }
+
+            fromIndex = i;
+        }
+    }
+
+    /**
+     * Returns the delta file page store of the current checkpoint for the partition of the page, {@code null} if the partition is
+     * deleted (or will be soon) and the writes to the disk should be skipped.
+     *
+     * @param pageMemory Page memory.
+     * @param pageId Page ID.
+     */
+    private @Nullable DeltaFilePageStoreIo deltaFilePageStore(PersistentPageMemory pageMemory, FullPageId pageId) {
         FilePageStore filePageStore = filePageStoreManager.getStore(new GroupPartitionId(pageId.groupId(), pageId.partitionId()));
 
         // If the partition is deleted (or will be soon), then such writes to the disk should be skipped.
         if (filePageStore == null || filePageStore.isMarkedToDestroy()) {
-            return;
+            return null;
         }
 
         CheckpointProgress lastCheckpointProgress = lastCheckpointProgress();
@@ -290,7 +373,7 @@ public class CheckpointManager {
                 () -> pageIndexesForDeltaFilePageStore(pagesToWrite.getPartitionView(pageMemory, pageId.groupId(), pageId.partitionId()))
         );
 
-        deltaFilePageStoreFuture.join().write(pageId.pageId(), pageBuf, calculateCrc);
+        return deltaFilePageStoreFuture.join();
     }
 
     /**
@@ -44,8 +44,18 @@ public class CheckpointMetricsTracker {
     private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> COPY_ON_WRITE_PAGES_WRITTEN_UPDATER =
             newUpdater(CheckpointMetricsTracker.class, "copyOnWritePagesWritten");
 
+    private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> PAGES_WRITTEN_UPDATER =
+            newUpdater(CheckpointMetricsTracker.class, "pagesWritten");
+
+    private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> WRITE_BATCHES_UPDATER =
+            newUpdater(CheckpointMetricsTracker.class, "writeBatches");
+
     private volatile int dataPagesWritten;
 
+    private volatile int pagesWritten;
+
+    private volatile int writeBatches;
+
     private volatile int copyOnWritePagesWritten;
 
     private final long checkpointStartTimestamp = coarseCurrentTimeMillis();
@@ -104,6 +114,18 @@ public class CheckpointMetricsTracker {
         DATA_PAGES_WRITTEN_UPDATER.incrementAndGet(this);
     }
 
+    /**
+     * Increments counters on the pages written to a page store together.
+     *
+     * <p>Thread safe.
+     *
+     * @param pages Number of the pages written together.
+     */
+    public void onPagesWritten(int pages) {
+        PAGES_WRITTEN_UPDATER.addAndGet(this, pages);
+        WRITE_BATCHES_UPDATER.incrementAndGet(this);
+    }
+
     /**
      * Returns written copy on write pages.
      *
@@ -122,6 +144,56 @@ public class CheckpointMetricsTracker {
         return dataPagesWritten;
     }
 
+    /**
+     * Returns number of the pages written to the page stores, including the partition meta pages.
+     *
+     * <p>Thread safe.
+     */
+    public int pagesWritten() {
+        return pagesWritten;
+    }
+
+    /**
+     * Returns number of the writes to the page stores, each one of the consecutive pages of a partition.
+     *
+     * <p>Thread safe.
+     */
+    public int writeBatches() {
+        return writeBatches;
+    }
+
+    /**
+     * Returns average number of the pages written to a page store together, {@code 0} if nothing was written.
+     *
+     * <p>Thread safe.
+     */
+    public double pagesPerWriteBatch() {
+        int writeBatches = this.writeBatches;
+
+        return writeBatches == 0 ? 0 : (double) pagesWritten / writeBatches;
+    }
+
+    /**
+     * Returns write amplification of the checkpoint: ratio of the pages written to the page stores to the dirty pages of the checkpoint,
+     * {@code 0} if there were no dirty pages.
+     *
+     * <p>Thread safe.
+     *
+     * @param dirtyPages Number of the dirty pages of the checkpoint.
+     */
+    public double writeAmplification(int dirtyPages) {
+        return dirtyPages == 0 ? 0 : (double) pagesWritten / dirtyPages;
+    }
+
+    /**
+     * Returns number of the pages written per second at the pages write phase.
+     *
+     * <p>Not thread safe.
+     */
+    public long pagesWriteThroughput() {
+        return pagesWritten * 1000L / Math.max(pagesWriteDuration(), 1);
+    }
+
     /**
      * Callback before acquiring checkpoint write lock.
      *
@@ -23,7 +23,6 @@ import static org.apache.ignite.internal.pagememory.io.PageIo.getVersion;
 import static org.apache.ignite.internal.pagememory.persistence.PartitionMeta.partitionMetaPageId;
 import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.TRY_AGAIN_TAG;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.flag;
-import static org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue.EMPTY;
 import static org.apache.ignite.internal.util.IgniteUtils.hexLong;
 
 import java.nio.ByteBuffer;
@@ -32,6 +31,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
@@ -49,6 +49,7 @@ import org.apache.ignite.internal.pagememory.persistence.PartitionMeta.Partition
 import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
 import org.apache.ignite.internal.pagememory.persistence.WriteDirtyPage;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointDirtyPages.CheckpointDirtyPagesView;
 import org.apache.ignite.internal.pagememory.persistence.io.PartitionMetaIo;
 import org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue;
 import org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue.Result;
@@ -57,21 +58,22 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of page writer which able to store pages to disk during checkpoint.
+ *
+ * <p>Takes the dirty partitions one by one and writes their pages in the order of page indexes, so that the I/O of every writer is
+ * sequential. Pages following each other are written to the page stores together, up to {@link #WRITE_BATCH_SIZE} pages at once.
  */
 public class CheckpointPagesWriter implements Runnable {
     /** Logger. */
     private static final IgniteLogger LOG = Loggers.forClass(CheckpointPagesWriter.class);
 
+    /** Max number of the pages written to a page store together. */
+    static final int WRITE_BATCH_SIZE = 16;
+
     /** Checkpoint specific metrics tracker. */
     private final CheckpointMetricsTracker tracker;
 
-    /**
-     * Queue of dirty page IDs to write under this task.
-     *
-     * <p>Overall pages to write may be greater than this queue, since it may be necessary to retire write some pages due to unsuccessful
-     * page write lock acquisition
-     */
-    private final IgniteConcurrentMultiPairQueue<PersistentPageMemory, FullPageId> writePageIds;
+    /** Queue of dirty partitions to write under this task, shared with the other tasks of the checkpoint. */
+    private final Queue<CheckpointDirtyPagesView> dirtyPartitionQueue;
 
     /** Updated partitions -> count of written pages. */
     private final ConcurrentMap<GroupPartitionId, LongAdder> updatedPartitions;
@@ -83,12 +85,12 @@ public class CheckpointPagesWriter implements Runnable {
     private final Runnable updateHeartbeat;
 
     /** Thread local with buffers for the checkpoint threads. Each buffer represent one page for durable memory. */
-    private final ThreadLocal<ByteBuffer> threadBuf;
+    private final ThreadLocal<ByteBuffer[]> threadBufs;
 
     /** Current checkpoint. This field is updated only by checkpoint thread. */
     private final CheckpointProgressImpl checkpointProgress;
 
-    /** Writer which able to write one page. */
+    /** Writer which able to write pages. */
     private final WriteDirtyPage pageWriter;
 
     /** Page IO registry. */
@@ -104,11 +106,11 @@ public class CheckpointPagesWriter implements Runnable {
      * Creates task for write pages.
      *
      * @param tracker Checkpoint metrics tracker.
-     * @param writePageIds Queue of dirty page IDs to write.
+     * @param dirtyPartitionQueue Queue of dirty partitions to write.
      * @param updatedPartitions Updated partitions.
      * @param doneFut Done future.
      * @param updateHeartbeat Update heartbeat callback.
-     * @param threadBuf Thread local byte buffer.
+     * @param threadBufs Thread local byte buffers, {@link #WRITE_BATCH_SIZE} of them.
      * @param checkpointProgress Checkpoint progress.
      * @param pageWriter File page store manager.
      * @param ioRegistry Page IO registry.
@@ -117,11 +119,11 @@ public class CheckpointPagesWriter implements Runnable {
      */
     CheckpointPagesWriter(
             CheckpointMetricsTracker tracker,
-            IgniteConcurrentMultiPairQueue<PersistentPageMemory, FullPageId> writePageIds,
+            Queue<CheckpointDirtyPagesView> dirtyPartitionQueue,
             ConcurrentMap<GroupPartitionId, LongAdder> updatedPartitions,
             CompletableFuture<?> doneFut,
             Runnable updateHeartbeat,
-            ThreadLocal<ByteBuffer> threadBuf,
+            ThreadLocal<ByteBuffer[]> threadBufs,
             CheckpointProgressImpl checkpointProgress,
             WriteDirtyPage pageWriter,
             PageIoRegistry ioRegistry,
@@ -129,11 +131,11 @@ public class CheckpointPagesWriter implements Runnable {
             BooleanSupplier shutdownNow
     ) {
         this.tracker = tracker;
-        this.writePageIds = writePageIds;
+        this.dirtyPartitionQueue = dirtyPartitionQueue;
         this.updatedPartitions = updatedPartitions;
         this.doneFut = doneFut;
         this.updateHeartbeat = updateHeartbeat;
-        this.threadBuf = threadBuf;
+        this.threadBufs = threadBufs;
         this.checkpointProgress = checkpointProgress;
         this.pageWriter = pageWriter;
         this.ioRegistry = ioRegistry;
@@ -144,15 +146,15 @@ public class CheckpointPagesWriter implements Runnable {
     @Override
     public void run() {
         try {
-            IgniteConcurrentMultiPairQueue<PersistentPageMemory, FullPageId> pageIdsToRetry = writePages(writePageIds);
+            Map<PersistentPageMemory, List<FullPageId>> pageIdsToRetry = writePartitions();
 
             while (!pageIdsToRetry.isEmpty()) {
                 if (LOG.isInfoEnabled()) {
-                    LOG.info("Checkpoint pages were not written yet due to "
-                            + "unsuccessful page write lock acquisition and will be retried [pageCount={}]", pageIdsToRetry.size());
+                    LOG.info("Checkpoint pages were not written yet due to unsuccessful page write lock acquisition and will be retried "
+                            + "[pageCount={}]", pageIdsToRetry.values().stream().mapToInt(List::size).sum());
                 }
 
-                pageIdsToRetry = writePages(pageIdsToRetry);
+                pageIdsToRetry = writePages(new IgniteConcurrentMultiPairQueue<>(pageIdsToRetry));
             }
 
             doneFut.complete(null);
@@ -162,96 +164,70 @@ public class CheckpointPagesWriter implements Runnable {
     }
 
     /**
-     * Writes dirty pages.
+     * Writes dirty pages of the partitions from the {@link #dirtyPartitionQueue}.
      *
-     * @param writePageIds Queue of dirty page IDs to write.
-     * @return pagesToRetry Queue dirty page IDs which should be retried.
+     * @return Page IDs which should be retried.
      */
-    private IgniteConcurrentMultiPairQueue<PersistentPageMemory, FullPageId> writePages(
-            IgniteConcurrentMultiPairQueue<PersistentPageMemory, FullPageId> writePageIds
-    ) throws IgniteInternalCheckedException {
-        Map<PersistentPageMemory, List<FullPageId>> pageIdsToRetry = new HashMap<>();
-
-        Map<PersistentPageMemory, PageStoreWriter> pageStoreWriters = new HashMap<>();
-
-        ByteBuffer tmpWriteBuf = threadBuf.get();
-
-        Result<PersistentPageMemory, FullPageId> queueResult = new Result<>();
-
-        GroupPartitionId partitionId = null;
-
-        AtomicBoolean writeMetaPage = new AtomicBoolean();
-
-        Set<GroupPartitionId> inProgressPartitions = new HashSet<>();
+    private Map<PersistentPageMemory, List<FullPageId>> writePartitions() throws IgniteInternalCheckedException {
+        PagesWriteBatch batch = new PagesWriteBatch();
 
         try {
-            while (!shutdownNow.getAsBoolean() && writePageIds.next(queueResult)) {
-                updateHeartbeat.run();
-
-                FullPageId fullId = queueResult.getValue();
-
-                PersistentPageMemory pageMemory = queueResult.getKey();
-
-                if (hasPartitionChanged(partitionId, fullId)) {
-                    GroupPartitionId newPartitionId = toPartitionId(fullId);
+            CheckpointDirtyPagesView partitionView;
 
-                    // Starting for the new partition.
-                    checkpointProgress.onStartPartitionProcessing(newPartitionId);
-
-                    inProgressPartitions.add(newPartitionId);
-
-                    if (partitionId != null) {
-                        // Finishing for the previous partition.
-                        checkpointProgress.onFinishPartitionProcessing(partitionId);
-
-                        inProgressPartitions.remove(partitionId);
-                    }
-
-                    partitionId = newPartitionId;
-
-                    updatedPartitions.computeIfAbsent(partitionId, partId -> {
-                        writeMetaPage.set(true);
+            while (!shutdownNow.getAsBoolean() && (partitionView = dirtyPartitionQueue.poll()) != null) {
+                for (int i = 0; i < partitionView.size() && !shutdownNow.getAsBoolean(); i++) {
+                    batch.writePage(partitionView.pageMemory(), partitionView.get(i));
+                }
+            }
 
-                        return new LongAdder();
-                    });
+            batch.flush();
+        } finally {
+            batch.releasePages();
 
-                    if (writeMetaPage.get()) {
-                        writePartitionMeta(pageMemory, partitionId, tmpWriteBuf.rewind());
+            batch.finishPartitionProcessing();
+        }
 
-                        writeMetaPage.set(false);
-                    }
-                }
+        return batch.pageIdsToRetry;
+    }
 
-                tmpWriteBuf.rewind();
+    /**
+     * Writes dirty pages.
+     *
+     * @param writePageIds Queue of dirty page IDs to write.
+     * @return Page IDs which should be retried.
+     */
+    private Map<PersistentPageMemory, List<FullPageId>> writePages(
+            IgniteConcurrentMultiPairQueue<PersistentPageMemory, FullPageId> writePageIds
+    ) throws IgniteInternalCheckedException {
+        PagesWriteBatch batch = new PagesWriteBatch();
 
-                PageStoreWriter pageStoreWriter = pageStoreWriters.computeIfAbsent(
-                        pageMemory,
-                        pm -> createPageStoreWriter(pm, pageIdsToRetry)
-                );
+        Result<PersistentPageMemory, FullPageId> queueResult = new Result<>();
 
-                // Should also be done for partitions that will be destroyed to remove their pages from the data region.
-                pageMemory.checkpointWritePage(fullId, tmpWriteBuf, pageStoreWriter, tracker);
+        try {
+            while (!shutdownNow.getAsBoolean() && writePageIds.next(queueResult)) {
+                batch.writePage(queueResult.getKey(), queueResult.getValue());
             }
+
+            batch.flush();
         } finally {
-            inProgressPartitions.forEach(checkpointProgress::onFinishPartitionProcessing);
+            batch.releasePages();
+
+            batch.finishPartitionProcessing();
         }
 
-        return pageIdsToRetry.isEmpty() ? EMPTY : new IgniteConcurrentMultiPairQueue<>(pageIdsToRetry);
+        return batch.pageIdsToRetry;
     }
 
     /**
      * Returns a new instance of {@link PageStoreWriter}.
      *
      * @param pageMemory Page memory.
-     * @param pagesToRetry Page IDs that need to be rewritten.
+     * @param batch Batch to add the pages to.
      */
-    private PageStoreWriter createPageStoreWriter(
-            PersistentPageMemory pageMemory,
-            Map<PersistentPageMemory, List<FullPageId>> pagesToRetry
-    ) {
+    private PageStoreWriter createPageStoreWriter(PersistentPageMemory pageMemory, PagesWriteBatch batch) {
         return (fullPageId, buf, tag) -> {
             if (tag == TRY_AGAIN_TAG) {
-                pagesToRetry.computeIfAbsent(pageMemory, k -> new ArrayList<>()).add(fullPageId);
+                batch.pageIdsToRetry.computeIfAbsent(pageMemory, k -> new ArrayList<>()).add(fullPageId);
 
                 return;
             }
@@ -269,7 +245,7 @@ public class CheckpointPagesWriter implements Runnable {
 
             checkpointProgress.writtenPagesCounter().incrementAndGet();
 
-            pageWriter.write(pageMemory, fullPageId, buf);
+            batch.add(fullPageId, buf);
 
             updatedPartitions.get(toPartitionId(fullPageId)).increment();
         };
@@ -295,6 +271,8 @@ public class CheckpointPagesWriter implements Runnable {
 
         pageWriter.write(pageMemory, fullPageId, buffer.rewind());
 
+        tracker.onPagesWritten(1);
+
         checkpointProgress.writtenPagesCounter().incrementAndGet();
 
         updatedPartitions.get(partitionId).increment();
@@ -307,4 +285,152 @@ public class CheckpointPagesWriter implements Runnable {
     private static GroupPartitionId toPartitionId(FullPageId pageId) {
         return new GroupPartitionId(pageId.groupId(), pageId.partitionId());
     }
+
+    /**
+     * Pages of a partition copied from the page memory to the thread local buffers, to be written to the page store together.
+     *
+     * <p>The pages of the batch stay pinned in the page memory until they are written, otherwise a page could be replaced and read back
+     * from the page store before its copy is written there.
+     *
+     * <p>Not thread safe.
+     */
+    private class PagesWriteBatch {
+        private final ByteBuffer[] bufs = threadBufs.get();
+
+        private final FullPageId[] pageIds = new FullPageId[bufs.length];
+
+        /** Absolute pointers of the pinned pages of the batch. */
+        private final long[] pagePtrs = new long[bufs.length];
+
+        /** Number of the pages in the batch. */
+        private int size;
+
+        /** Page memory of the pages in the batch. */
+        private @Nullable PersistentPageMemory pageMemory;
+
+        /** Partition of the pages in the batch. */
+        private @Nullable GroupPartitionId partitionId;
+
+        private final Set<GroupPartitionId> inProgressPartitions = new HashSet<>();
+
+        private final Map<PersistentPageMemory, PageStoreWriter> pageStoreWriters = new HashMap<>();
+
+        /** Page IDs which should be retried. */
+        private final Map<PersistentPageMemory, List<FullPageId>> pageIdsToRetry = new HashMap<>();
+
+        /**
+         * Copies the page to the batch, writing the pages of the batch first if the page doesn't belong to it.
+         *
+         * @param pageMemory Page memory.
+         * @param fullId Page ID.
+         */
+        void writePage(PersistentPageMemory pageMemory, FullPageId fullId) throws IgniteInternalCheckedException {
+            updateHeartbeat.run();
+
+            if (pageMemory != this.pageMemory || hasPartitionChanged(partitionId, fullId)) {
+                flush();
+            }
+
+            if (hasPartitionChanged(partitionId, fullId)) {
+                GroupPartitionId newPartitionId = toPartitionId(fullId);
+
+                // Starting for the new partition.
+                checkpointProgress.onStartPartitionProcessing(newPartitionId);
+
+                inProgressPartitions.add(newPartitionId);
+
+                if (partitionId != null) {
+                    // Finishing for the previous partition.
+                    checkpointProgress.onFinishPartitionProcessing(partitionId);
+
+                    inProgressPartitions.remove(partitionId);
+                }
+
+                partitionId = newPartitionId;
+
+                AtomicBoolean writeMetaPage = new AtomicBoolean();
+
+                updatedPartitions.computeIfAbsent(partitionId, partId -> {
+                    writeMetaPage.set(true);
+
+                    return new LongAdder();
+                });
+
+                if (writeMetaPage.get()) {
+                    writePartitionMeta(pageMemory, partitionId, bufs[0].rewind());
+                }
+            }
+
+            this.pageMemory = pageMemory;
+
+            PageStoreWriter pageStoreWriter = pageStoreWriters.computeIfAbsent(pageMemory, pm -> createPageStoreWriter(pm, this));
+
+            int idx = size;
+
+            // Should also be done for partitions that will be destroyed to remove their pages from the data region.
+            long pagePtr = pageMemory.checkpointWritePage(fullId, bufs[idx].rewind(), pageStoreWriter, tracker, true);
+
+            if (size > idx) {
+                pagePtrs[idx] = pagePtr;
+            } else {
+                assert pagePtr == 0 : "Pinned page is not added to the batch [pageId=" + hexLong(fullId.pageId()) + "]";
+            }
+
+            if (size == bufs.length) {
+                flush();
+            }
+        }
+
+        /**
+         * Adds the page copied to the next free buffer to the batch.
+         *
+         * @param fullId Page ID.
+         * @param buf Buffer with the page.
+         */
+        void add(FullPageId fullId, ByteBuffer buf) {
+            assert buf == bufs[size] : "Unexpected buffer [pageId=" + hexLong(fullId.pageId()) + ", size=" + size + "]";
+
+            pageIds[size++] = fullId;
+        }
+
+        /**
+         * Writes the pages of the batch to the page store and releases them.
+         */
+        void flush() throws IgniteInternalCheckedException {
+            if (size == 0) {
+                return;
+            }
+
+            int count = size;
+
+            try {
+                pageWriter.write(pageMemory, pageIds, bufs, count);
+            } finally {
+                releasePages();
+            }
+
+            tracker.onPagesWritten(count);
+        }
+
+        /**
+         * Releases the pages of the batch, written or not, and clears the batch.
+         */
+        void releasePages() {
+            for (int i = 0; i < size; i++) {
+                if (pagePtrs[i] != 0) {
+                    pageMemory.releaseCheckpointPage(pagePtrs[i]);
+
+                    pagePtrs[i] = 0;
+                }
+
+                pageIds[i] = null;
+            }
+
+            size = 0;
+        }
+
+        void finishPartitionProcessing() {
+            inProgressPartitions.forEach(checkpointProgress::onFinishPartitionProcessing);
+        }
+    }
 }
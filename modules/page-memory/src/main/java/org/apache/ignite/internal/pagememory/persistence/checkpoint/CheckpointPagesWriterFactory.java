@@ -19,17 +19,16 @@ package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BooleanSupplier;
-import org.apache.ignite.internal.pagememory.FullPageId;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
-import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
 import org.apache.ignite.internal.pagememory.persistence.WriteDirtyPage;
-import org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointDirtyPages.CheckpointDirtyPagesView;
 
 /**
  * Factory class for checkpoint pages writer.
@@ -38,7 +37,7 @@ import org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue;
  */
 public class CheckpointPagesWriterFactory {
     /** Thread local with buffers for the checkpoint threads. Each buffer represent one page for durable memory. */
-    private final ThreadLocal<ByteBuffer> threadBuf;
+    private final ThreadLocal<ByteBuffer[]> threadBufs;
 
     /** Writer which writes pages to page store during the checkpoint. */
     private final WriteDirtyPage dirtyPageWriter;
@@ -68,12 +67,14 @@ public class CheckpointPagesWriterFactory {
         this.ioRegistry = ioRegistry;
         this.partitionMetaManager = partitionMetaManager;
 
-        threadBuf = ThreadLocal.withInitial(() -> {
-            ByteBuffer tmpWriteBuf = ByteBuffer.allocateDirect(pageSize);
+        threadBufs = ThreadLocal.withInitial(() -> {
+            ByteBuffer[] tmpWriteBufs = new ByteBuffer[CheckpointPagesWriter.WRITE_BATCH_SIZE];
 
-            tmpWriteBuf.order(ByteOrder.nativeOrder());
+            for (int i = 0; i < tmpWriteBufs.length; i++) {
+                tmpWriteBufs[i] = ByteBuffer.allocateDirect(pageSize).order(ByteOrder.nativeOrder());
+            }
 
-            return tmpWriteBuf;
+            return tmpWriteBufs;
         });
     }
 
@@ -81,7 +82,7 @@ public class CheckpointPagesWriterFactory {
      * Returns instance of page checkpoint writer.
      *
      * @param tracker Checkpoint metrics tracker.
-     * @param dirtyPageIdQueue Checkpoint dirty page ID queue to write.
+     * @param dirtyPartitionQueue Checkpoint dirty partition queue to write.
      * @param updatedPartitions Updated partitions.
      * @param doneWriteFut Write done future.
      * @param updateHeartbeat Update heartbeat callback.
@@ -90,7 +91,7 @@ public class CheckpointPagesWriterFactory {
      */
     CheckpointPagesWriter build(
             CheckpointMetricsTracker tracker,
-            IgniteConcurrentMultiPairQueue<PersistentPageMemory, FullPageId> dirtyPageIdQueue,
+            Queue<CheckpointDirtyPagesView> dirtyPartitionQueue,
             ConcurrentMap<GroupPartitionId, LongAdder> updatedPartitions,
             CompletableFuture<?> doneWriteFut,
             Runnable updateHeartbeat,
@@ -100,11 +101,11 @@ public class CheckpointPagesWriterFactory {
     ) {
         return new CheckpointPagesWriter(
                 tracker,
-                dirtyPageIdQueue,
+                dirtyPartitionQueue,
                 updatedPartitions,
                 doneWriteFut,
                 updateHeartbeat,
-                threadBuf,
+                threadBufs,
                 checkpointProgress,
                 dirtyPageWriter,
                 ioRegistry,
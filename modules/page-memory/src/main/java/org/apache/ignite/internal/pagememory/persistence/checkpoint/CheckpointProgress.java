@@ -19,6 +19,7 @@ package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -50,6 +51,11 @@ public interface CheckpointProgress {
      */
     int currentCheckpointPagesCount();
 
+    /**
+     * Returns counter for written checkpoint pages.
+     */
+    AtomicInteger writtenPagesCounter();
+
     /**
      * Returns the sorted dirty pages to be written on the checkpoint, {@code null} if there were no dirty pages, or they have already been
      * written.
@@ -131,9 +131,7 @@ class CheckpointProgressImpl implements CheckpointProgress {
         currCheckpointPagesCnt = num;
     }
 
-    /**
-     * Returns counter for written checkpoint pages.
-     */
+    @Override
     public AtomicInteger writtenPagesCounter() {
         return writtenPagesCntr;
     }
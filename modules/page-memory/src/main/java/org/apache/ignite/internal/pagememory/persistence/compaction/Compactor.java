@@ -23,6 +23,7 @@ import static java.util.stream.Collectors.toCollection;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
@@ -71,8 +72,11 @@ public class Compactor extends IgniteWorker {
 
     private final FilePageStoreManager filePageStoreManager;
 
+    /** Maximum number of pages with consecutive indexes written to the file page store with a single I/O operation. */
+    private static final int WRITE_BATCH_SIZE = 16;
+
     /** Thread local with buffers for the compaction threads. */
-    private static final ThreadLocal<ByteBuffer> THREAD_BUF = new ThreadLocal<>();
+    private static final ThreadLocal<ByteBuffer[]> THREAD_BUF = new ThreadLocal<>();
 
     /** Partitions for which delta files are currently compacted. */
     private final PartitionProcessingCounterMap partitionCompactionInProgressMap = new PartitionProcessingCounterMap();
@@ -334,10 +338,17 @@ public class Compactor extends IgniteWorker {
             FilePageStore filePageStore,
             DeltaFilePageStoreIo deltaFilePageStore
     ) throws Throwable {
-        // Copy pages deltaFilePageStore -> filePageStore.
-        ByteBuffer buffer = getThreadLocalBuffer(pageSize);
+        // Copy pages deltaFilePageStore -> filePageStore, pages with consecutive indexes are written together.
+        ByteBuffer[] buffers = getThreadLocalBuffers(pageSize);
+        long[] pageIds = new long[buffers.length];
+
+        int[] pageIndexes = deltaFilePageStore.pageIndexes();
+
+        int batchSize = 0;
+
+        for (int i = 0; i < pageIndexes.length; i++) {
+            int pageIndex = pageIndexes[i];
 
-        for (long pageIndex : deltaFilePageStore.pageIndexes()) {
             updateHeartbeat();
 
             if (isCancelled()) {
@@ -350,6 +361,8 @@ public class Compactor extends IgniteWorker {
 
             long pageOffset = deltaFilePageStore.pageOffset(pageIndex);
 
+            ByteBuffer buffer = buffers[batchSize];
+
             // pageIndex instead of pageId, only for debugging in case of errors
             // since we do not know the pageId until we read it from the pageOffset.
             boolean read = deltaFilePageStore.readWithMergedToFilePageStoreCheck(pageIndex, pageOffset, buffer.rewind(), false);
@@ -360,6 +373,12 @@ public class Compactor extends IgniteWorker {
 
             assert pageId != 0 : deltaFilePageStore.filePath();
 
+            pageIds[batchSize++] = pageId;
+
+            if (i + 1 < pageIndexes.length && pageIndexes[i + 1] == pageIndex + 1 && batchSize < buffers.length) {
+                continue;
+            }
+
             updateHeartbeat();
 
             if (isCancelled()) {
@@ -370,7 +389,19 @@ public class Compactor extends IgniteWorker {
                 return;
             }
 
-            filePageStore.write(pageId, buffer.rewind(), true);
+            if (batchSize == 1) {
+                filePageStore.write(pageId, buffer.rewind(), true);
+            } else {
+                ByteBuffer[] batch = Arrays.copyOf(buffers, batchSize);
+
+                for (ByteBuffer pageBuf : batch) {
+                    pageBuf.rewind();
+                }
+
+                filePageStore.write(Arrays.copyOf(pageIds, batchSize), batch, true);
+            }
+
+            batchSize = 0;
         }
 
         // Fsync the file page store.
@@ -421,18 +452,20 @@ public class Compactor extends IgniteWorker {
         return partitionProcessingFuture == null ? completedFuture(null) : partitionProcessingFuture;
     }
 
-    private static ByteBuffer getThreadLocalBuffer(int pageSize) {
-        ByteBuffer buffer = THREAD_BUF.get();
+    private static ByteBuffer[] getThreadLocalBuffers(int pageSize) {
+        ByteBuffer[] buffers = THREAD_BUF.get();
 
-        if (buffer == null) {
-            buffer = ByteBuffer.allocateDirect(pageSize);
+        if (buffers == null) {
+            buffers = new ByteBuffer[WRITE_BATCH_SIZE];
 
-            buffer.order(ByteOrder.nativeOrder());
+            for (int i = 0; i < buffers.length; i++) {
+                buffers[i] = ByteBuffer.allocateDirect(pageSize).order(ByteOrder.nativeOrder());
+            }
 
-            THREAD_BUF.set(buffer);
+            THREAD_BUF.set(buffers);
         }
 
-        return buffer;
+        return buffers;
     }
 
     /**
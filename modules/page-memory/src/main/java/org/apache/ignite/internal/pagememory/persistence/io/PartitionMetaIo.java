@@ -29,6 +29,8 @@ import org.apache.ignite.lang.IgniteStringBuilder;
 
 /**
  * Io for partition metadata pages.
+ *
+ * <p>Version 2 adds the row statistics counters. They are unknown for the pages of version 1, see {@link #UNKNOWN_ROW_STATISTICS}.
  */
 public class PartitionMetaIo extends PageIo {
     private static final int LAST_APPLIED_INDEX_OFF = COMMON_HEADER_END;
@@ -49,11 +51,24 @@ public class PartitionMetaIo extends PageIo {
 
     private static final int PAGE_COUNT_OFF = GC_QUEUE_META_PAGE_ID_OFF + Long.BYTES;
 
+    /** Row statistics counters, since {@link #ROW_STATISTICS_VERSION}. */
+    private static final int ROWS_COUNT_OFF = PAGE_COUNT_OFF + Integer.BYTES;
+
+    private static final int VERSIONS_COUNT_OFF = ROWS_COUNT_OFF + Long.BYTES;
+
+    private static final int VERSIONS_SIZE_OFF = VERSIONS_COUNT_OFF + Long.BYTES;
+
     /** Page IO type. */
     public static final short T_TABLE_PARTITION_META_IO = 7;
 
+    /** Page format version which contains the row statistics counters. */
+    private static final int ROW_STATISTICS_VERSION = 2;
+
+    /** Value of the row statistics counters of a page written before they were added to the page format. */
+    public static final long UNKNOWN_ROW_STATISTICS = -1;
+
     /** I/O versions. */
-    public static final IoVersions<PartitionMetaIo> VERSIONS = new IoVersions<>(new PartitionMetaIo(1));
+    public static final IoVersions<PartitionMetaIo> VERSIONS = new IoVersions<>(new PartitionMetaIo(1), new PartitionMetaIo(2));
 
     /**
      * Constructor.
@@ -78,6 +93,12 @@ public class PartitionMetaIo extends PageIo {
         setIndexTreeMetaPageId(pageAddr, 0);
         setGcQueueMetaPageId(pageAddr, 0);
         setPageCount(pageAddr, 0);
+
+        if (hasRowStatistics()) {
+            setRowsCount(pageAddr, 0);
+            setVersionsCount(pageAddr, 0);
+            setVersionsSize(pageAddr, 0);
+        }
     }
 
     /**
@@ -269,6 +290,82 @@ public class PartitionMetaIo extends PageIo {
         return getInt(pageAddr, PAGE_COUNT_OFF);
     }
 
+    /**
+     * Sets the count of the rows whose latest committed version is not a tombstone.
+     *
+     * @param pageAddr Page address.
+     * @param rowsCount Count of rows.
+     */
+    public void setRowsCount(long pageAddr, long rowsCount) {
+        assertPageType(pageAddr);
+        assert hasRowStatistics() : getVersion();
+
+        putLong(pageAddr, ROWS_COUNT_OFF, rowsCount);
+    }
+
+    /**
+     * Returns the count of the rows whose latest committed version is not a tombstone.
+     *
+     * @param pageAddr Page address.
+     * @return Value of the counter, or {@link #UNKNOWN_ROW_STATISTICS} if the page format doesn't contain it.
+     */
+    public long getRowsCount(long pageAddr) {
+        return hasRowStatistics() ? getLong(pageAddr, ROWS_COUNT_OFF) : UNKNOWN_ROW_STATISTICS;
+    }
+
+    /**
+     * Sets the count of the stored row versions, including write intents and tombstones.
+     *
+     * @param pageAddr Page address.
+     * @param versionsCount Count of row versions.
+     */
+    public void setVersionsCount(long pageAddr, long versionsCount) {
+        assertPageType(pageAddr);
+        assert hasRowStatistics() : getVersion();
+
+        putLong(pageAddr, VERSIONS_COUNT_OFF, versionsCount);
+    }
+
+    /**
+     * Returns the count of the stored row versions, including write intents and tombstones.
+     *
+     * @param pageAddr Page address.
+     * @return Value of the counter, or {@link #UNKNOWN_ROW_STATISTICS} if the page format doesn't contain it.
+     */
+    public long getVersionsCount(long pageAddr) {
+        return hasRowStatistics() ? getLong(pageAddr, VERSIONS_COUNT_OFF) : UNKNOWN_ROW_STATISTICS;
+    }
+
+    /**
+     * Sets the total size of the values of the stored row versions in bytes.
+     *
+     * @param pageAddr Page address.
+     * @param versionsSize Size in bytes.
+     */
+    public void setVersionsSize(long pageAddr, long versionsSize) {
+        assertPageType(pageAddr);
+        assert hasRowStatistics() : getVersion();
+
+        putLong(pageAddr, VERSIONS_SIZE_OFF, versionsSize);
+    }
+
+    /**
+     * Returns the total size of the values of the stored row versions in bytes.
+     *
+     * @param pageAddr Page address.
+     * @return Value of the counter, or {@link #UNKNOWN_ROW_STATISTICS} if the page format doesn't contain it.
+     */
+    public long getVersionsSize(long pageAddr) {
+        return hasRowStatistics() ? getLong(pageAddr, VERSIONS_SIZE_OFF) : UNKNOWN_ROW_STATISTICS;
+    }
+
+    /**
+     * Returns {@code true} if the page format contains the row statistics counters.
+     */
+    private boolean hasRowStatistics() {
+        return getVersion() >= ROW_STATISTICS_VERSION;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected void printPage(long addr, int pageSize, IgniteStringBuilder sb) {
@@ -282,6 +379,9 @@ public class PartitionMetaIo extends PageIo {
                 .app("indexTreeMetaPageId=").appendHex(getIndexTreeMetaPageId(addr)).nl()
                 .app("gcQueueMetaPageId=").appendHex(getGcQueueMetaPageId(addr)).nl()
                 .app("pageCount=").app(getPageCount(addr)).nl()
+                .app("rowsCount=").app(getRowsCount(addr)).nl()
+                .app("versionsCount=").app(getVersionsCount(addr)).nl()
+                .app("versionsSize=").app(getVersionsSize(addr)).nl()
                 .app(']');
     }
 }
@@ -59,6 +59,9 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
 
     private volatile Path filePath;
 
+    /** Compression of the written pages. */
+    private volatile PageCompression pageCompression = PageCompression.DISABLED;
+
     private volatile @Nullable FileIo fileIo;
 
     /** Initialized file page store IO. */
@@ -168,27 +171,13 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
                 readWriteLock.readLock().lock();
 
                 try {
-                    assert pageBuf.position() == 0 : pageBuf.position();
-                    assert pageBuf.order() == nativeOrder() : "Page buffer order " + pageBuf.order()
-                            + " should be same with " + nativeOrder();
-                    assert PageIo.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + hexLong(pageId);
-                    assert PageIo.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + hexLong(pageId);
-
-                    if (calculateCrc && !skipCrc) {
-                        assert PageIo.getCrc(pageBuf) == 0 : hexLong(pageId);
-
-                        PageIo.setCrc(pageBuf, calcCrc32(pageBuf, pageSize()));
-                    }
-
-                    // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
-                    assert skipCrc || PageIo.getCrc(pageBuf) != 0
-                            || calcCrc32(pageBuf, pageSize()) == 0 : "CRC hasn't been calculated, crc=0";
-
-                    assert pageBuf.position() == 0 : pageBuf.position();
+                    prepareToWrite(pageId, pageBuf, calculateCrc);
 
                     long pageOff = pageOffset(pageId);
 
-                    fileIo.writeFully(pageBuf, pageOff);
+                    ByteBuffer compressedPageBuf = pageCompression.compress(pageBuf, pageSize());
+
+                    fileIo.writeFully(compressedPageBuf != null ? compressedPageBuf : pageBuf, pageOff);
 
                     PageIo.setCrc(pageBuf, 0);
 
@@ -231,6 +220,90 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
         }
     }
 
+    /**
+     * Writes pages stored consecutively in the file, with a single I/O operation if the pages are not compressed.
+     *
+     * @param pageIds Page IDs, the pages must be stored consecutively in the file, see {@link #pageOffset(long)}.
+     * @param pageBufs Page buffers to write from.
+     * @param calculateCrc If {@code false} crc calculation will be forcibly skipped.
+     * @throws IgniteInternalCheckedException If page writing failed (IO error occurred).
+     */
+    public void write(long[] pageIds, ByteBuffer[] pageBufs, boolean calculateCrc) throws IgniteInternalCheckedException {
+        assert pageIds.length == pageBufs.length : "pageIds=" + pageIds.length + ", pageBufs=" + pageBufs.length;
+
+        if (pageBufs.length == 1 || pageCompression != PageCompression.DISABLED) {
+            for (int i = 0; i < pageBufs.length; i++) {
+                write(pageIds[i], pageBufs[i], calculateCrc);
+            }
+
+            return;
+        }
+
+        ensure();
+
+        boolean interrupted = false;
+
+        while (true) {
+            FileIo fileIo = this.fileIo;
+
+            try {
+                readWriteLock.readLock().lock();
+
+                try {
+                    for (int i = 0; i < pageBufs.length; i++) {
+                        assert i == 0 || pageOffset(pageIds[i]) == pageOffset(pageIds[i - 1]) + pageSize() : "Pages must be stored "
+                                + "consecutively [prev=" + hexLong(pageIds[i - 1]) + ", next=" + hexLong(pageIds[i]) + "]";
+
+                        prepareToWrite(pageIds[i], pageBufs[i], calculateCrc);
+                    }
+
+                    fileIo.writeFully(pageBufs, pageOffset(pageIds[0]));
+
+                    for (ByteBuffer pageBuf : pageBufs) {
+                        PageIo.setCrc(pageBuf, 0);
+                    }
+
+                    if (interrupted) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    return;
+                } finally {
+                    readWriteLock.readLock().unlock();
+                }
+            } catch (IOException e) {
+                if (e instanceof ClosedChannelException) {
+                    try {
+                        if (e instanceof ClosedByInterruptException) {
+                            interrupted = true;
+
+                            Thread.interrupted();
+                        }
+
+                        reinit(fileIo);
+
+                        for (ByteBuffer pageBuf : pageBufs) {
+                            pageBuf.position(0);
+
+                            PageIo.setCrc(pageBuf, 0);
+                        }
+
+                        continue;
+                    } catch (IOException e0) {
+                        e0.addSuppressed(e);
+
+                        e = e0;
+                    }
+                }
+
+                throw new IgniteInternalCheckedException(
+                        "Failed to write pages [filePath=" + filePath + ", firstPageId=" + pageIds[0] + ", count=" + pageIds.length + "]",
+                        e
+                );
+            }
+        }
+    }
+
     /**
      * Sync method used to ensure that the given pages are guaranteed to be written to the file page store.
      *
@@ -494,6 +567,13 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
                 return;
             }
 
+            // Compressed page may occupy only the beginning of the last page of the file.
+            if (pageBuf.hasRemaining()) {
+                pageBuf.put(new byte[pageBuf.remaining()]);
+            }
+
+            PageCompression.decompress(pageBuf, pageSize());
+
             int savedCrc32 = PageIo.getCrc(pageBuf);
 
             PageIo.setCrc(pageBuf, 0);
@@ -522,6 +602,33 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
         }
     }
 
+    /**
+     * Checks the page before writing it and calculates its CRC.
+     *
+     * @param pageId Page ID.
+     * @param pageBuf Page buffer to write from.
+     * @param calculateCrc If {@code false} crc calculation will be forcibly skipped.
+     */
+    private void prepareToWrite(long pageId, ByteBuffer pageBuf, boolean calculateCrc) {
+        assert pageBuf.position() == 0 : pageBuf.position();
+        assert pageBuf.order() == nativeOrder() : "Page buffer order " + pageBuf.order()
+                + " should be same with " + nativeOrder();
+        assert PageIo.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + hexLong(pageId);
+        assert PageIo.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + hexLong(pageId);
+
+        if (calculateCrc && !skipCrc) {
+            assert PageIo.getCrc(pageBuf) == 0 : hexLong(pageId);
+
+            PageIo.setCrc(pageBuf, calcCrc32(pageBuf, pageSize()));
+        }
+
+        // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
+        assert skipCrc || PageIo.getCrc(pageBuf) != 0
+                || calcCrc32(pageBuf, pageSize()) == 0 : "CRC hasn't been calculated, crc=0";
+
+        assert pageBuf.position() == 0 : pageBuf.position();
+    }
+
     /**
      * Reads from page storage with failover.
      *
@@ -565,6 +672,22 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
         }
     }
 
+    /**
+     * Returns the compression of the written pages.
+     */
+    public PageCompression pageCompression() {
+        return pageCompression;
+    }
+
+    /**
+     * Sets the compression of the written pages, the pages are read regardless of their compression.
+     *
+     * @param pageCompression Page compression.
+     */
+    public void pageCompression(PageCompression pageCompression) {
+        this.pageCompression = pageCompression;
+    }
+
     /**
      * Returns file page store path.
      */
@@ -197,6 +197,21 @@ public class FilePageStore implements PageStore {
         filePageStoreIo.write(pageId, pageBuf, calculateCrc);
     }
 
+    /**
+     * Writes pages with consecutive indexes, with a single I/O operation if possible.
+     *
+     * @param pageIds Page IDs, the page indexes must be consecutive.
+     * @param pageBufs Page buffers to write from.
+     * @param calculateCrc If {@code false} crc calculation will be forcibly skipped.
+     * @throws IgniteInternalCheckedException If page writing failed (IO error occurred).
+     */
+    public void write(long[] pageIds, ByteBuffer[] pageBufs, boolean calculateCrc) throws IgniteInternalCheckedException {
+        assert pageIndex(pageIds[pageIds.length - 1]) <= pageCount
+                : "pageIdx=" + pageIndex(pageIds[pageIds.length - 1]) + ", pageCount=" + pageCount;
+
+        filePageStoreIo.write(pageIds, pageBufs, calculateCrc);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void sync() throws IgniteInternalCheckedException {
@@ -260,6 +275,15 @@ public class FilePageStore implements PageStore {
         pageAllocationListener = listener;
     }
 
+    /**
+     * Sets the compression of the pages written to the file page store and to its new delta files.
+     *
+     * @param pageCompression Page compression.
+     */
+    public void pageCompression(PageCompression pageCompression) {
+        filePageStoreIo.pageCompression(pageCompression);
+    }
+
     /**
      * Gets or creates a new delta file, a new delta file will be created when the previous one is {@link #completeNewDeltaFile()
      * completed}.
@@ -300,6 +324,8 @@ public class FilePageStore implements PageStore {
                 header
         );
 
+        deltaFilePageStoreIo.pageCompression(filePageStoreIo.pageCompression());
+
         // Should add to the head, since read operations should always start from the most recent.
         deltaFilePageStoreIos.add(0, deltaFilePageStoreIo);
 
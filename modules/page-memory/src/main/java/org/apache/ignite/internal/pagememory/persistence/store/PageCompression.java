@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.store;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.DEFLATE_PAGE_COMPRESSION;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.DISABLED_PAGE_COMPRESSION;
+import static org.apache.ignite.internal.pagememory.io.PageIo.COMMON_HEADER_END;
+
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compression of the pages written to the file page stores.
+ *
+ * <p>Compressed page keeps its common header ({@link PageIo#COMMON_HEADER_END} bytes) as is, with the compression type and the
+ * compressed size set in it, followed by the compressed rest of the page. Such page occupies only the beginning of its slot in the file,
+ * the rest of the slot is not written. So the checkpoint writes fewer bytes, and the file system doesn't allocate the blocks for the rest
+ * of the slots of the files that are written once (delta files) or grow (new pages of the partition files).
+ *
+ * <p>Pages are decompressed on read depending on the compression type in their header, regardless of the current compression, so the
+ * compression can be changed at any time.
+ */
+public class PageCompression {
+    /** Compression type of an uncompressed page. */
+    static final byte NO_COMPRESSION = 0;
+
+    /** Compression type of a page compressed with {@link Deflater}. */
+    static final byte DEFLATE = 1;
+
+    /** No compression. */
+    public static final PageCompression DISABLED = new PageCompression(NO_COMPRESSION, 0);
+
+    /** Size of a file system block, compression is of no use unless the page is smaller by at least one block. */
+    private static final int FS_BLOCK_SIZE = 4096;
+
+    /** Inflater of the deflated pages, without the ZLIB header, since the page has its own checksum. */
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
+    /** Buffer of the decompressed page. */
+    private static final ThreadLocal<ByteBuffer> DECOMPRESSED_BUFFER = new ThreadLocal<>();
+
+    private final byte type;
+
+    private final @Nullable ThreadLocal<Deflater> deflater;
+
+    /** Buffer of the compressed page. */
+    private final ThreadLocal<ByteBuffer> compressedBuffer = new ThreadLocal<>();
+
+    private PageCompression(byte type, int level) {
+        this.type = type;
+
+        deflater = type == DEFLATE ? ThreadLocal.withInitial(() -> new Deflater(level, true)) : null;
+    }
+
+    /**
+     * Creates a page compression.
+     *
+     * @param name Name of the compression, for example {@code DEFLATE}.
+     * @param level Compression level.
+     * @throws IllegalArgumentException If the compression is unknown.
+     */
+    public static PageCompression create(String name, int level) {
+        switch (name) {
+            case DISABLED_PAGE_COMPRESSION:
+                return DISABLED;
+
+            case DEFLATE_PAGE_COMPRESSION:
+                return new PageCompression(DEFLATE, level);
+
+            default:
+                throw new IllegalArgumentException("Unknown page compression: " + name);
+        }
+    }
+
+    /**
+     * Compresses a page.
+     *
+     * @param page Page buffer, its position is not changed.
+     * @param pageSize Page size in bytes.
+     * @return Buffer with the compressed page from the position {@code 0} to the limit, valid until the next call of the method by the
+     *      current thread, or {@code null} if the page should be written as is.
+     */
+    @Nullable ByteBuffer compress(ByteBuffer page, int pageSize) {
+        // Compressed size is stored as an unsigned short.
+        if (deflater == null || pageSize - FS_BLOCK_SIZE <= COMMON_HEADER_END || pageSize > 0xFFFF) {
+            return null;
+        }
+
+        ByteBuffer compressed = threadLocalBuffer(compressedBuffer, pageSize);
+
+        Deflater deflater = this.deflater.get();
+
+        deflater.reset();
+        deflater.setInput(page.duplicate().limit(pageSize).position(COMMON_HEADER_END));
+        deflater.finish();
+
+        compressed.limit(pageSize - FS_BLOCK_SIZE).position(COMMON_HEADER_END);
+
+        while (!deflater.finished()) {
+            if (!compressed.hasRemaining()) {
+                return null;
+            }
+
+            deflater.deflate(compressed);
+        }
+
+        int compressedSize = compressed.position();
+
+        compressed.position(0);
+        compressed.put(page.duplicate().limit(COMMON_HEADER_END).position(0));
+
+        PageIo.setCompressionType(compressed, type);
+        PageIo.setCompressedSize(compressed, (short) compressedSize);
+
+        return compressed.limit(compressedSize).position(0);
+    }
+
+    /**
+     * Decompresses a page read from a file page store in place, if it is compressed.
+     *
+     * <p>Page that can't be decompressed is left as is, its corruption is detected by the CRC check.
+     *
+     * @param page Page buffer, its position is not changed.
+     * @param pageSize Page size in bytes.
+     */
+    static void decompress(ByteBuffer page, int pageSize) {
+        if (PageIo.getCompressionType(page) != DEFLATE) {
+            return;
+        }
+
+        int compressedSize = PageIo.getCompressedSize(page) & 0xFFFF;
+
+        if (compressedSize < COMMON_HEADER_END || compressedSize > pageSize) {
+            return;
+        }
+
+        // The page is inflated aside, since the compressed data overlaps the decompressed one, and the page that can't be decompressed
+        // must be left as is.
+        ByteBuffer output = threadLocalBuffer(DECOMPRESSED_BUFFER, pageSize).limit(pageSize - COMMON_HEADER_END);
+
+        Inflater inflater = INFLATER.get();
+
+        inflater.reset();
+        inflater.setInput(page.duplicate().limit(compressedSize).position(COMMON_HEADER_END));
+
+        try {
+            while (output.hasRemaining()) {
+                if (inflater.inflate(output) == 0) {
+                    break;
+                }
+            }
+        } catch (DataFormatException e) {
+            return;
+        }
+
+        if (output.hasRemaining() || !inflater.finished()) {
+            return;
+        }
+
+        page.duplicate().position(COMMON_HEADER_END).put(output.flip());
+
+        PageIo.setCompressionType(page, NO_COMPRESSION);
+        PageIo.setCompressedSize(page, (short) 0);
+    }
+
+    private static ByteBuffer threadLocalBuffer(ThreadLocal<ByteBuffer> threadLocal, int pageSize) {
+        ByteBuffer buf = threadLocal.get();
+
+        if (buf == null || buf.capacity() != pageSize) {
+            buf = ByteBuffer.allocate(pageSize).order(nativeOrder());
+
+            threadLocal.set(buf);
+        }
+
+        return buf.clear();
+    }
+}
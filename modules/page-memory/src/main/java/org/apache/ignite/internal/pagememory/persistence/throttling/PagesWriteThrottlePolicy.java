@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+
+/**
+ * Throttling policy of the threads marking the pages of a {@link PersistentPageMemory} dirty.
+ *
+ * <p>Pages dirtied during a checkpoint count towards the dirty pages limit of the next one. Once the limit is reached before the current
+ * checkpoint is finished, all the writers stall on the checkpoint read lock until it is. A policy slows the writers down in advance, so
+ * that they proceed at a lower but steady speed instead.
+ */
+public interface PagesWriteThrottlePolicy {
+    /**
+     * Callback on a page being marked dirty, invoked after the page is unlocked, may park the current thread.
+     *
+     * @param isPageInCheckpoint {@code True} if the page belongs to the current checkpoint, so its copy occupies the checkpoint buffer.
+     */
+    void onMarkDirty(boolean isPageInCheckpoint);
+
+    /**
+     * Callback on the beginning of a checkpoint, after its dirty pages are collected.
+     */
+    void onBeginCheckpoint();
+
+    /**
+     * Callback on the end of a checkpoint.
+     */
+    void onFinishCheckpoint();
+
+    /**
+     * Returns total time the writers have been parked for, in nanoseconds.
+     */
+    long throttleParkTimeNanos();
+
+    /**
+     * Returns total number of times the writers have been parked.
+     */
+    long throttledCount();
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
+
+/**
+ * Throttling policy pacing the writers by the speed of the current checkpoint.
+ *
+ * <p>The remaining time of the checkpoint is estimated from the number of its pages written so far. Once the pages dirtied since the
+ * beginning of the checkpoint exceed {@link #MIN_DIRTY_PAGES_RATIO} of the dirty pages limit, the pages left to the limit are spread
+ * evenly over that time: the writers take the consecutive time slots and are parked until their slot comes.
+ *
+ * <p>Independently, if the checkpoint buffer is filled over {@link #CP_BUFFER_DANGER_RATIO}, the writers of the pages of the current
+ * checkpoint are parked with an exponentially growing timeout, since they would fail on an exhausted checkpoint buffer.
+ */
+public class SpeedBasedPagesWriteThrottle implements PagesWriteThrottlePolicy {
+    private static final IgniteLogger LOG = Loggers.forClass(SpeedBasedPagesWriteThrottle.class);
+
+    /** Share of the dirty pages limit below which the writers are not throttled. */
+    static final double MIN_DIRTY_PAGES_RATIO = 0.5;
+
+    /** Share of the checkpoint buffer above which the writers of the checkpoint pages are throttled. */
+    static final double CP_BUFFER_DANGER_RATIO = 2.0 / 3;
+
+    /** Starting park time of the exponential backoff in nanoseconds. */
+    static final long STARTING_BACKOFF_NANOS = 10_000;
+
+    /** Growth of the park time of the exponential backoff. */
+    static final double BACKOFF_RATIO = 1.05;
+
+    /** Max time a writer is parked for at once in nanoseconds. */
+    static final long MAX_PARK_NANOS = MILLISECONDS.toNanos(100);
+
+    private final String dataRegionName;
+
+    private final PersistentPageMemory pageMemory;
+
+    /** Provider of the progress of the current checkpoint, may return {@code null}. */
+    private final Supplier<CheckpointProgress> checkpointProgress;
+
+    /** Beginning of the current checkpoint in nanoseconds, {@code 0} if there is no checkpoint in progress. */
+    private volatile long checkpointStartNanos;
+
+    /** Time slot of the next throttled writer in nanoseconds. */
+    private final AtomicLong nextSlotNanos = new AtomicLong();
+
+    /** Exponent of the exponential backoff. */
+    private final AtomicInteger backoffExponent = new AtomicInteger();
+
+    private final LongAdder totalParkTimeNanos = new LongAdder();
+
+    private final LongAdder totalThrottledCount = new LongAdder();
+
+    private final LongAdder checkpointParkTimeNanos = new LongAdder();
+
+    private final LongAdder checkpointThrottledCount = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param dataRegionName Data region name.
+     * @param pageMemory Page memory.
+     * @param checkpointProgress Provider of the progress of the current checkpoint, may return {@code null}.
+     */
+    public SpeedBasedPagesWriteThrottle(
+            String dataRegionName,
+            PersistentPageMemory pageMemory,
+            Supplier<CheckpointProgress> checkpointProgress
+    ) {
+        this.dataRegionName = dataRegionName;
+        this.pageMemory = pageMemory;
+        this.checkpointProgress = checkpointProgress;
+    }
+
+    @Override
+    public void onMarkDirty(boolean isPageInCheckpoint) {
+        long parkNanos = parkNanos(isPageInCheckpoint, System.nanoTime());
+
+        if (parkNanos <= 0) {
+            return;
+        }
+
+        long start = System.nanoTime();
+
+        LockSupport.parkNanos(parkNanos);
+
+        long parkedNanos = System.nanoTime() - start;
+
+        totalParkTimeNanos.add(parkedNanos);
+        totalThrottledCount.increment();
+
+        checkpointParkTimeNanos.add(parkedNanos);
+        checkpointThrottledCount.increment();
+    }
+
+    @Override
+    public void onBeginCheckpoint() {
+        checkpointStartNanos = System.nanoTime();
+
+        checkpointParkTimeNanos.reset();
+        checkpointThrottledCount.reset();
+    }
+
+    @Override
+    public void onFinishCheckpoint() {
+        checkpointStartNanos = 0;
+
+        backoffExponent.set(0);
+
+        long throttledCount = checkpointThrottledCount.sumThenReset();
+        long parkTimeNanos = checkpointParkTimeNanos.sumThenReset();
+
+        if (throttledCount > 0 && LOG.isInfoEnabled()) {
+            LOG.info(
+                    "Writers were throttled during the checkpoint [dataRegion={}, throttledCount={}, throttleParkTime={}ms]",
+                    dataRegionName,
+                    throttledCount,
+                    NANOSECONDS.toMillis(parkTimeNanos)
+            );
+        }
+    }
+
+    @Override
+    public long throttleParkTimeNanos() {
+        return totalParkTimeNanos.sum();
+    }
+
+    @Override
+    public long throttledCount() {
+        return totalThrottledCount.sum();
+    }
+
+    /**
+     * Returns the time the current writer has to be parked for in nanoseconds, {@code 0} if it should not be parked.
+     *
+     * @param isPageInCheckpoint {@code True} if the page belongs to the current checkpoint.
+     * @param nowNanos Current time in nanoseconds.
+     */
+    long parkNanos(boolean isPageInCheckpoint, long nowNanos) {
+        long checkpointStartNanos = this.checkpointStartNanos;
+
+        if (checkpointStartNanos == 0) {
+            return 0;
+        }
+
+        if (isPageInCheckpoint) {
+            long backoffNanos = checkpointBufferBackoffNanos();
+
+            if (backoffNanos > 0) {
+                return backoffNanos;
+            }
+        }
+
+        CheckpointProgress progress = checkpointProgress.get();
+
+        if (progress == null || !progress.inProgress()) {
+            return 0;
+        }
+
+        int totalPages = progress.currentCheckpointPagesCount();
+        int writtenPages = progress.writtenPagesCounter().get();
+
+        // Nothing to estimate the speed of the checkpoint by.
+        if (writtenPages <= 0 || writtenPages >= totalPages) {
+            return 0;
+        }
+
+        long dirtyPages = pageMemory.dirtyPagesCount();
+        long maxDirtyPages = pageMemory.maxDirtyPages();
+
+        if (dirtyPages < maxDirtyPages * MIN_DIRTY_PAGES_RATIO) {
+            return 0;
+        }
+
+        long pagesToLimit = maxDirtyPages - dirtyPages;
+
+        if (pagesToLimit <= 0) {
+            return MAX_PARK_NANOS;
+        }
+
+        double nanosPerWrittenPage = (double) (nowNanos - checkpointStartNanos) / writtenPages;
+
+        long remainingNanos = (long) (nanosPerWrittenPage * (totalPages - writtenPages));
+
+        return nextSlotDelayNanos(nowNanos, remainingNanos / pagesToLimit);
+    }
+
+    /**
+     * Takes the next time slot of the writers and returns the delay until its beginning.
+     *
+     * @param nowNanos Current time in nanoseconds.
+     * @param intervalNanos Interval between the slots in nanoseconds.
+     */
+    private long nextSlotDelayNanos(long nowNanos, long intervalNanos) {
+        if (intervalNanos <= 0) {
+            return 0;
+        }
+
+        while (true) {
+            long nextSlot = nextSlotNanos.get();
+
+            long slot = Math.max(nextSlot, nowNanos);
+
+            if (nextSlotNanos.compareAndSet(nextSlot, slot + intervalNanos)) {
+                return Math.min(slot - nowNanos, MAX_PARK_NANOS);
+            }
+        }
+    }
+
+    private long checkpointBufferBackoffNanos() {
+        int maxCheckpointBufferPages = pageMemory.maxCheckpointBufferPages();
+
+        if (maxCheckpointBufferPages > 0 && pageMemory.usedCheckpointBufferPages() > maxCheckpointBufferPages * CP_BUFFER_DANGER_RATIO) {
+            int exponent = backoffExponent.getAndIncrement();
+
+            return (long) Math.min(STARTING_BACKOFF_NANOS * Math.pow(BACKOFF_RATIO, exponent), MAX_PARK_NANOS);
+        }
+
+        if (backoffExponent.get() != 0) {
+            backoffExponent.set(0);
+        }
+
+        return 0;
+    }
+}
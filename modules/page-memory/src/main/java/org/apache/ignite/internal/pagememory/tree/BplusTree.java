@@ -203,6 +203,12 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
     /** Number of retries. */
     private static final int LOCK_RETRIES = getInteger(IGNITE_BPLUS_TREE_LOCK_RETRIES, 1000);
 
+    /** Number of attempts to read an inner page without a lock before falling back to the read lock. */
+    private static final int OPTIMISTIC_READ_ATTEMPTS = 3;
+
+    /** Result of {@link #findInsertionPoint} if the page can't be searched without a lock. */
+    private static final int OPTIMISTIC_READ_FAILED = Integer.MIN_VALUE;
+
     /** Flag that the tree is destroyed. */
     private final AtomicBoolean destroyed = new AtomicBoolean(false);
 
@@ -232,6 +238,9 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
     /** Flag for enabling single-threaded append-only tree creation. */
     private boolean sequentialWriteOptsEnabled;
 
+    /** Flag for enabling the lookups reading the inner pages without a lock. */
+    private boolean optimisticReadsEnabled;
+
     /**
      * B+tree structure printer.
      */
@@ -388,6 +397,11 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
 
             int cnt = io.getCount(pageAddr);
 
+            // The count is checked to stay within the page if its content is inconsistent.
+            if (g.optimisticRead && (io.isLeaf() || cnt < 0 || cnt > io.getMaxCount(pageAddr, pageSize()))) {
+                return abortOptimisticRead(g);
+            }
+
             int idx;
 
             if (g.findLast) {
@@ -395,11 +409,20 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
                 idx = io.isLeaf() ? cnt - 1 : -cnt - 1;
             } else {
                 // in case of cnt = 0 we end up in 'not found' branch below with idx being 0 after fix() adjustment
-                idx = findInsertionPoint(lvl, io, pageAddr, 0, cnt, g.row, g.shift);
+                idx = findInsertionPoint(lvl, io, pageAddr, 0, cnt, g.row, g.shift, g.optimisticRead);
+
+                if (idx == OPTIMISTIC_READ_FAILED) {
+                    return abortOptimisticRead(g);
+                }
             }
 
             boolean found = idx >= 0;
 
+            if (found && g.optimisticRead && canGetRowFromInner) {
+                // The row can't be read from a page with inconsistent content.
+                return abortOptimisticRead(g);
+            }
+
             if (found) { // Found exact match.
                 assert g.getClass() != GetCursor.class;
 
@@ -439,6 +462,9 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
                 // Setup fwdId.
                 if (fwdId == 0) {
                     g.fwdId(0L);
+                } else if (g.optimisticRead) {
+                    // The forward page ID may be inconsistent.
+                    return abortOptimisticRead(g);
                 } else {
                     // We can do askNeighbor on forward page here because we always take locks in forward direction.
                     Result res = askNeighbor(fwdId, g, false);
@@ -1028,6 +1054,15 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         sequentialWriteOptsEnabled = true;
     }
 
+    /**
+     * Enables the lookups reading the inner pages without a lock, the read is retried under the lock if the page has been written
+     * concurrently. The tree must be able to compare the lookup row with the items of a page with inconsistent content without following
+     * the links, see {@link #canCompareOptimistically}.
+     */
+    public void enableOptimisticReads() {
+        optimisticReadsEnabled = true;
+    }
+
     /**
      * Initialize new tree.
      *
@@ -1651,7 +1686,15 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
                 g.pageId = pageId;
                 g.fwdId = fwdId;
 
-                Result res = read(pageId, page, search, g, lvl, RETRY);
+                Result res = null;
+
+                if (lvl > 0 && optimisticReadsEnabled && g.canSearchOptimistically()) {
+                    res = searchOptimistically(pageId, page, g, lvl);
+                }
+
+                if (res == null) {
+                    res = read(pageId, page, search, g, lvl, RETRY);
+                }
 
                 switch (res) {
                     case GO_DOWN:
@@ -1688,6 +1731,55 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Searches the inner page without a lock.
+     *
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param g Operation.
+     * @param lvl Level.
+     * @return Result code or {@code null} if the page has to be searched under the read lock.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    private @Nullable Result searchOptimistically(long pageId, long page, Get g, int lvl) throws IgniteInternalCheckedException {
+        long fwdId = g.fwdId;
+        long backId = g.backId;
+
+        g.optimisticRead = true;
+
+        try {
+            // The handler clears the flag if the page can't be searched without a lock.
+            for (int i = 0; i < OPTIMISTIC_READ_ATTEMPTS && g.optimisticRead; i++) {
+                Result res = readOptimistically(pageId, page, search, g, lvl, statisticsHolder());
+
+                if (res != null) {
+                    return res;
+                }
+
+                // Restore the arguments modified by the discarded read.
+                g.pageId = pageId;
+                g.fwdId = fwdId;
+                g.backId = backId;
+            }
+
+            return null;
+        } finally {
+            g.optimisticRead = false;
+        }
+    }
+
+    /**
+     * Clears the flag of the search without a lock, the page will be searched under the read lock.
+     *
+     * @param g Operation.
+     * @return {@code null} as the result of the page handler.
+     */
+    private @Nullable Result abortOptimisticRead(Get g) {
+        g.optimisticRead = false;
+
+        return null;
+    }
+
     /**
      * Returns tree name.
      *
@@ -3212,6 +3304,9 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         /** Ignore row passed, find last row. */
         boolean findLast;
 
+        /** The current page is searched without a lock, cleared by the handler if the page has to be searched under the lock. */
+        boolean optimisticRead;
+
         /** Number of repetitions to capture a lock in the B+Tree (countdown). */
         int lockRetriesCnt = getLockRetries();
 
@@ -3304,6 +3399,14 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
             return pageId != 0L;
         }
 
+        /**
+         * Returns {@code true} if the inner pages may be searched without a lock: the operation doesn't modify the tree and doesn't
+         * take any actions on the inner pages, but going down.
+         */
+        boolean canSearchOptimistically() {
+            return false;
+        }
+
         /**
          * Sets back page ID.
          *
@@ -3392,6 +3495,11 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
             this.arg = arg;
         }
 
+        @Override
+        boolean canSearchOptimistically() {
+            return true;
+        }
+
         @Override
         boolean found(BplusIo<L> io, long pageAddr, int idx, int lvl) throws IgniteInternalCheckedException {
             // Check if we are on an inner page and can't get row from it.
@@ -3445,6 +3553,12 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
             this.cursor = cursor;
         }
 
+        /** {@inheritDoc} */
+        @Override
+        boolean canSearchOptimistically() {
+            return true;
+        }
+
         /** {@inheritDoc} */
         @Override
         boolean found(BplusIo<L> io, long pageAddr, int idx, int lvl) {
@@ -5686,6 +5800,32 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
             int cnt,
             L row,
             int shift
+    ) throws IgniteInternalCheckedException {
+        return findInsertionPoint(lvl, io, buf, low, cnt, row, shift, false);
+    }
+
+    /**
+     * Returns insertion point as in {@link Arrays#binarySearch(Object[], Object, Comparator)}.
+     *
+     * @param io IO.
+     * @param buf Buffer.
+     * @param low Start index.
+     * @param cnt Row count.
+     * @param row Lookup row.
+     * @param shift Shift if equal.
+     * @param optimisticRead {@code True} if the page is read without a lock.
+     * @return Insertion point or {@link #OPTIMISTIC_READ_FAILED} if the page can't be searched without a lock.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    private int findInsertionPoint(
+            int lvl,
+            BplusIo<L> io,
+            long buf,
+            int low,
+            int cnt,
+            L row,
+            int shift,
+            boolean optimisticRead
     ) throws IgniteInternalCheckedException {
         assert row != null;
 
@@ -5700,6 +5840,10 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         while (low <= high) {
             int mid = (low + high) >>> 1;
 
+            if (optimisticRead && !canCompareOptimistically(io, buf, mid)) {
+                return OPTIMISTIC_READ_FAILED;
+            }
+
             int cmp = compare(lvl, io, buf, mid, row);
 
             if (cmp == 0) {
@@ -5785,6 +5929,19 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
      */
     protected abstract int compare(BplusIo<L> io, long pageAddr, int idx, L row) throws IgniteInternalCheckedException;
 
+    /**
+     * Checks that the lookup row can be compared with the item of a page read without a lock, which content may be inconsistent. Such
+     * comparison must not follow the links and must not read outside the page, even if the item is garbage.
+     *
+     * @param io IO.
+     * @param pageAddr Page address.
+     * @param idx Index of row in the given buffer.
+     * @return {@code True} if the item can be compared.
+     */
+    protected boolean canCompareOptimistically(BplusIo<L> io, long pageAddr, int idx) {
+        return true;
+    }
+
     /**
      * Returns comparison result as in {@link Comparator#compare(Object, Object)}.
      *
@@ -162,6 +162,56 @@ public interface PageHandler<X, R> {
         }
     }
 
+    /**
+     * Executes handler without a lock, the page must already be acquired. Handler must tolerate inconsistent page content: it may not
+     * follow links or take any actions based on the content read, since the result is discarded unless the page has not been written
+     * during the read.
+     *
+     * @param pageMem Page memory.
+     * @param groupId Group ID.
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param h Handler.
+     * @param arg Argument.
+     * @param intArg Argument of type {@code int}.
+     * @param statHolder Statistics holder to track IO operations.
+     * @return Handler result or {@code null} if the page has been written during the read, the page has to be read under the lock then.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    static <X, R> @Nullable R readPageOptimistically(
+            PageMemory pageMem,
+            int groupId,
+            long pageId,
+            long page,
+            PageHandler<X, R> h,
+            X arg,
+            int intArg,
+            IoStatisticsHolder statHolder
+    ) throws IgniteInternalCheckedException {
+        long stamp = pageMem.tryOptimisticRead(groupId, pageId, page);
+
+        if (stamp == 0L) {
+            return null;
+        }
+
+        try {
+            long pageAddr = pageMem.optimisticReadAddress(groupId, pageId, page);
+
+            PageIo io = pageMem.ioRegistry().resolve(pageAddr);
+
+            R res = h.run(groupId, pageId, page, pageAddr, io, arg, intArg, statHolder);
+
+            return pageMem.validateOptimisticRead(groupId, pageId, page, stamp) ? res : null;
+        } catch (Throwable e) {
+            // Inconsistent page content may fail the handler.
+            if (!pageMem.validateOptimisticRead(groupId, pageId, page, stamp)) {
+                return null;
+            }
+
+            throw e;
+        }
+    }
+
     /**
      * Acquires the read lock on the page.
      *
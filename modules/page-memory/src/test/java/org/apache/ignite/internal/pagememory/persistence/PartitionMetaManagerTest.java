@@ -19,14 +19,17 @@ package org.apache.ignite.internal.pagememory.persistence;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.ignite.internal.pagememory.persistence.PartitionMeta.partitionMetaPageId;
+import static org.apache.ignite.internal.pagememory.persistence.io.PartitionMetaIo.UNKNOWN_ROW_STATISTICS;
 import static org.apache.ignite.internal.pagememory.persistence.store.FilePageStore.VERSION_1;
 import static org.apache.ignite.internal.util.GridUnsafe.allocateBuffer;
 import static org.apache.ignite.internal.util.GridUnsafe.bufferAddress;
 import static org.apache.ignite.internal.util.GridUnsafe.freeBuffer;
 import static org.apache.ignite.internal.util.GridUnsafe.zeroMemory;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 import java.nio.ByteBuffer;
@@ -35,6 +38,7 @@ import java.util.UUID;
 import org.apache.ignite.internal.fileio.FileIo;
 import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.persistence.io.PartitionMetaIo;
 import org.apache.ignite.internal.pagememory.persistence.store.DeltaFilePageStoreIo;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreHeader;
@@ -187,6 +191,71 @@ public class PartitionMetaManagerTest {
         }
     }
 
+    @Test
+    void testReadPartitionMetaWithoutRowStatistics(@WorkDirectory Path workDir) throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        PartitionMetaManager manager = new PartitionMetaManager(ioRegistry, PAGE_SIZE);
+
+        GroupPartitionId partId = new GroupPartitionId(0, 0);
+
+        long partitionMetaPageId = partitionMetaPageId(partId.getPartitionId());
+
+        ByteBuffer buffer = allocateBuffer(PAGE_SIZE);
+
+        try {
+            // Writes a page of the first version, which has no row statistics.
+            try (FilePageStore filePageStore = createFilePageStore(testFilePath)) {
+                manager.readOrCreateMeta(null, partId, filePageStore);
+
+                PartitionMetaIo io = PartitionMetaIo.VERSIONS.forVersion(1);
+
+                io.initNewPage(bufferAddress(buffer), partitionMetaPageId, PAGE_SIZE);
+
+                io.setLastAppliedIndex(bufferAddress(buffer), 50);
+                io.setPageCount(bufferAddress(buffer), 2);
+
+                filePageStore.write(partitionMetaPageId, buffer.rewind(), true);
+
+                filePageStore.sync();
+            }
+
+            try (FilePageStore filePageStore = createFilePageStore(testFilePath)) {
+                PartitionMeta meta = manager.readOrCreateMeta(null, partId, filePageStore);
+
+                assertEquals(50, meta.lastAppliedIndex());
+                assertEquals(2, meta.pageCount());
+
+                assertFalse(meta.hasRowStatistics());
+                assertEquals(UNKNOWN_ROW_STATISTICS, meta.rowsCount());
+                assertEquals(UNKNOWN_ROW_STATISTICS, meta.versionsCount());
+                assertEquals(UNKNOWN_ROW_STATISTICS, meta.versionsSize());
+
+                // Recounted statistics are written with the latest version of the page.
+                meta.rowStatistics(null, 5, 7, 100);
+
+                manager.writeMetaToBuffer(partId, meta.metaSnapshot(UUID.randomUUID()), buffer.rewind());
+
+                filePageStore.write(partitionMetaPageId, buffer.rewind(), true);
+
+                filePageStore.sync();
+            }
+
+            try (FilePageStore filePageStore = createFilePageStore(testFilePath)) {
+                PartitionMeta meta = manager.readOrCreateMeta(null, partId, filePageStore);
+
+                assertEquals(50, meta.lastAppliedIndex());
+
+                assertTrue(meta.hasRowStatistics());
+                assertEquals(5, meta.rowsCount());
+                assertEquals(7, meta.versionsCount());
+                assertEquals(100, meta.versionsSize());
+            }
+        } finally {
+            freeBuffer(buffer);
+        }
+    }
+
     @Test
     void testRemoveMeta() {
         PartitionMetaManager manager = new PartitionMetaManager(ioRegistry, PAGE_SIZE);
@@ -96,6 +96,32 @@ public class PartitionMetaTest {
         assertEquals(2, meta.pageCount());
     }
 
+    @Test
+    void testRowStatistics() {
+        PartitionMeta meta = new PartitionMeta();
+
+        assertEquals(0, meta.rowsCount());
+        assertEquals(0, meta.versionsCount());
+        assertEquals(0, meta.versionsSize());
+
+        assertDoesNotThrow(() -> meta.updateRowStatistics(null, 1, 2, 100));
+
+        assertEquals(1, meta.rowsCount());
+        assertEquals(2, meta.versionsCount());
+        assertEquals(100, meta.versionsSize());
+
+        UUID checkpointId = UUID.randomUUID();
+
+        assertDoesNotThrow(() -> meta.updateRowStatistics(checkpointId, -1, -1, -40));
+
+        assertEquals(0, meta.rowsCount());
+        assertEquals(1, meta.versionsCount());
+        assertEquals(60, meta.versionsSize());
+
+        // The snapshot of the checkpoint has the values before the update.
+        assertEquals(2, meta.metaSnapshot(checkpointId).versionsCount());
+    }
+
     @Test
     void testVersionChainTreeRootPageId() {
         PartitionMeta meta = new PartitionMeta();
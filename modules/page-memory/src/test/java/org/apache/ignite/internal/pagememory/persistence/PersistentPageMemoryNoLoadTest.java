@@ -17,8 +17,11 @@
 
 package org.apache.ignite.internal.pagememory.persistence;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.PAGE_OVERHEAD;
+import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.TRY_AGAIN_TAG;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState.FINISHED;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState.PAGES_SORTED;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTestUtils.mockCheckpointTimeoutLock;
@@ -30,6 +33,7 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -40,9 +44,11 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.LongStream;
@@ -58,6 +64,7 @@ import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPage
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMeta.PartitionMetaSnapshot;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricsTracker;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
@@ -419,6 +426,71 @@ public class PersistentPageMemoryNoLoadTest extends AbstractPageMemoryNoLoadSelf
         }
     }
 
+    @Test
+    void testCheckpointPageIsNotReplacedUntilWritten() throws Exception {
+        long systemPageSize = PAGE_SIZE + PAGE_OVERHEAD;
+
+        dataRegionCfg.change(c -> c.changeSize(128 * systemPageSize)).get(1, SECONDS);
+
+        PersistentPageMemory pageMemory = createPageMemory(
+                new long[]{100 * systemPageSize},
+                28 * systemPageSize,
+                null,
+                null,
+                shouldNotHappenFlushDirtyPageForReplacement()
+        );
+
+        pageMemory.start();
+
+        try {
+            FullPageId pinnedPageId = createDirtyPage(pageMemory);
+
+            for (int i = 0; i < 40; i++) {
+                createDirtyPage(pageMemory);
+            }
+
+            Collection<FullPageId> checkpointPages = pageMemory.beginCheckpoint(completedFuture(null));
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(PAGE_SIZE).order(ByteOrder.nativeOrder());
+
+            PageStoreWriter pageStoreWriter = (fullPageId, buf, tag) -> assertNotEquals(TRY_AGAIN_TAG, tag);
+
+            CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
+
+            long pinnedPagePtr = 0;
+
+            // Pages are copied, but the write of the pinned one is postponed.
+            for (FullPageId fullPageId : checkpointPages) {
+                if (fullPageId.equals(pinnedPageId)) {
+                    pinnedPagePtr = pageMemory.checkpointWritePage(fullPageId, buffer.rewind(), pageStoreWriter, tracker, true);
+                } else {
+                    pageMemory.checkpointWritePage(fullPageId, buffer.rewind(), pageStoreWriter, tracker);
+                }
+            }
+
+            assertNotEquals(0, pinnedPagePtr);
+
+            List<FullPageId> replaceablePageIds = checkpointPages.stream()
+                    .filter(fullPageId -> !fullPageId.equals(pinnedPageId))
+                    .collect(toList());
+
+            // New dirty pages make the copied pages, which are clean now, replaced.
+            for (int i = 0; i < pageMemory.totalPages() && replaceablePageIds.stream().anyMatch(pageMemory::hasLoadedPage); i++) {
+                createDirtyPage(pageMemory);
+            }
+
+            assertThat(replaceablePageIds.stream().filter(pageMemory::hasLoadedPage).collect(toList()), empty());
+
+            assertTrue(pageMemory.hasLoadedPage(pinnedPageId));
+
+            pageMemory.releaseCheckpointPage(pinnedPagePtr);
+
+            pageMemory.finishCheckpoint();
+        } finally {
+            pageMemory.stop(true);
+        }
+    }
+
     protected PersistentPageMemory createPageMemory(
             long[] segmentSizes,
             long checkpointBufferSize,
@@ -435,6 +507,7 @@ public class PersistentPageMemoryNoLoadTest extends AbstractPageMemoryNoLoadSelf
                 null,
                 flushDirtyPageForReplacement,
                 checkpointManager == null ? mockCheckpointTimeoutLock(true) : checkpointManager.checkpointTimeoutLock(),
+                checkpointManager == null ? () -> null : checkpointManager::lastCheckpointProgress,
                 PAGE_SIZE
         );
     }
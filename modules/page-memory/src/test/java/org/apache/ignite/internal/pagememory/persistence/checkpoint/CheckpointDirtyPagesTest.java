@@ -32,6 +32,7 @@ import static org.mockito.Mockito.mock;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Queue;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -39,8 +40,6 @@ import org.apache.ignite.internal.pagememory.FullPageId;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointDirtyPages.CheckpointDirtyPagesView;
 import org.apache.ignite.internal.pagememory.util.PageIdUtils;
-import org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue;
-import org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue.Result;
 import org.apache.ignite.lang.IgniteBiTuple;
 import org.junit.jupiter.api.Test;
 
@@ -60,8 +59,8 @@ public class CheckpointDirtyPagesTest {
     }
 
     @Test
-    void testToDirtyPageIdQueue() {
-        assertTrue(EMPTY.toDirtyPageIdQueue().isEmpty());
+    void testToDirtyPartitionQueue() {
+        assertTrue(EMPTY.toDirtyPartitionQueue().isEmpty());
 
         DataRegionDirtyPages<FullPageId[]> dirtyPages0 = createDirtyPages(of(0, 0, 0));
         DataRegionDirtyPages<FullPageId[]> dirtyPages1 = createDirtyPages(of(1, 0, 0), of(1, 0, 1));
@@ -69,10 +68,18 @@ public class CheckpointDirtyPagesTest {
 
         CheckpointDirtyPages checkpointDirtyPages = new CheckpointDirtyPages(List.of(dirtyPages0, dirtyPages1, dirtyPages2));
 
-        assertThat(
-                toListPair(checkpointDirtyPages.toDirtyPageIdQueue()),
-                equalTo(toListPair(dirtyPages0, dirtyPages1, dirtyPages2))
-        );
+        Queue<CheckpointDirtyPagesView> queue = checkpointDirtyPages.toDirtyPartitionQueue();
+
+        assertEquals(5, queue.size());
+
+        // The largest partitions go first.
+        assertThat(toListPair(queue.poll()), equalTo(toListPair(dirtyPages1)));
+        assertThat(toListPair(queue.poll()), equalTo(toListPair(dirtyPages0)));
+        assertThat(toListPair(queue.poll()), equalTo(toListPair(equalsByGroupAndPartition(2, 0), dirtyPages2)));
+        assertThat(toListPair(queue.poll()), equalTo(toListPair(equalsByGroupAndPartition(2, 1), dirtyPages2)));
+        assertThat(toListPair(queue.poll()), equalTo(toListPair(equalsByGroupAndPartition(3, 2), dirtyPages2)));
+
+        assertTrue(queue.isEmpty());
     }
 
     @Test
@@ -205,20 +212,6 @@ public class CheckpointDirtyPagesTest {
         return new FullPageId(PageIdUtils.pageId(partId, (byte) 0, pageIdx), groupId);
     }
 
-    private static <T> List<IgniteBiTuple<PersistentPageMemory, T>> toListPair(
-            IgniteConcurrentMultiPairQueue<PersistentPageMemory, T> queue
-    ) {
-        return IntStream.range(0, queue.size())
-                .mapToObj(i -> {
-                    Result<PersistentPageMemory, T> queueResult = new Result<>();
-
-                    queue.next(queueResult);
-
-                    return new IgniteBiTuple<>(queueResult.getKey(), queueResult.getValue());
-                })
-                .collect(toList());
-    }
-
     private static List<IgniteBiTuple<PersistentPageMemory, FullPageId>> toListPair(DataRegionDirtyPages<FullPageId[]>... dirtyPages) {
         return toListPair(dirtyPageId -> true, dirtyPages);
     }
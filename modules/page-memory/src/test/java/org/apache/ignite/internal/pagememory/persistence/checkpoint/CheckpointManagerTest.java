@@ -21,12 +21,14 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager.pageIndexesForDeltaFilePageStore;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager.safeToUpdateAllPageMemories;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageIndex;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -203,6 +205,62 @@ public class CheckpointManagerTest {
         verify(deltaFilePageStoreIo, times(1)).write(eq(dirtyPageId.pageId()), eq(pageBuf), eq(true));
     }
 
+    @Test
+    void testWritePagesToDeltaFilePageStore() throws Exception {
+        FullPageId[] dirtyPageIds = dirtyPageArray(0, 0, 1, 2, 3, 5);
+
+        DeltaFilePageStoreIo deltaFilePageStoreIo = mock(DeltaFilePageStoreIo.class);
+
+        when(deltaFilePageStoreIo.pageSize()).thenReturn(1024);
+        when(deltaFilePageStoreIo.pageOffset(any(long.class))).then(answer -> pageIndex(answer.<Long>getArgument(0)) * 1024L);
+
+        FilePageStore filePageStore = mock(FilePageStore.class);
+
+        when(filePageStore.getOrCreateNewDeltaFile(any(IntFunction.class), any(Supplier.class)))
+                .thenReturn(completedFuture(deltaFilePageStoreIo));
+
+        FilePageStoreManager filePageStoreManager = mock(FilePageStoreManager.class);
+
+        when(filePageStoreManager.getStore(eq(new GroupPartitionId(0, 0)))).thenReturn(filePageStore);
+
+        CheckpointManager checkpointManager = spy(new CheckpointManager(
+                "test",
+                null,
+                null,
+                checkpointConfig,
+                filePageStoreManager,
+                mock(PartitionMetaManager.class),
+                List.of(),
+                mock(PageIoRegistry.class),
+                1024
+        ));
+
+        PersistentPageMemory pageMemory = mock(PersistentPageMemory.class);
+
+        CheckpointProgress checkpointProgress = mock(CheckpointProgress.class);
+
+        when(checkpointProgress.inProgress()).thenReturn(true);
+
+        when(checkpointProgress.pagesToWrite()).thenReturn(new CheckpointDirtyPages(List.of(
+                new DataRegionDirtyPages<>(pageMemory, dirtyPageIds)
+        )));
+
+        when(checkpointManager.lastCheckpointProgress()).thenReturn(checkpointProgress);
+
+        ByteBuffer[] pageBufs = IntStream.range(0, dirtyPageIds.length).mapToObj(i -> mock(ByteBuffer.class)).toArray(ByteBuffer[]::new);
+
+        checkpointManager.writePagesToDeltaFilePageStore(pageMemory, dirtyPageIds, pageBufs, dirtyPageIds.length);
+
+        // Pages stored consecutively are written together.
+        verify(deltaFilePageStoreIo, times(1)).write(
+                aryEq(new long[]{dirtyPageIds[0].pageId(), dirtyPageIds[1].pageId(), dirtyPageIds[2].pageId()}),
+                aryEq(new ByteBuffer[]{pageBufs[0], pageBufs[1], pageBufs[2]}),
+                eq(true)
+        );
+
+        verify(deltaFilePageStoreIo, times(1)).write(eq(dirtyPageIds[3].pageId()), eq(pageBufs[3]), eq(true));
+    }
+
     private static FullPageId[] dirtyPageArray(int grpId, int partId, int... pageIndex) {
         Arrays.sort(pageIndex);
 
@@ -83,6 +83,24 @@ public class CheckpointMetricsTrackerTest {
         assertThat(tracker.dataPagesWritten(), equalTo(2));
     }
 
+    @Test
+    void testPagesWritten() {
+        CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
+
+        assertThat(tracker.pagesWritten(), equalTo(0));
+        assertThat(tracker.writeBatches(), equalTo(0));
+        assertThat(tracker.pagesPerWriteBatch(), equalTo(0.0));
+        assertThat(tracker.writeAmplification(0), equalTo(0.0));
+
+        tracker.onPagesWritten(1);
+        tracker.onPagesWritten(5);
+
+        assertThat(tracker.pagesWritten(), equalTo(6));
+        assertThat(tracker.writeBatches(), equalTo(2));
+        assertThat(tracker.pagesPerWriteBatch(), equalTo(3.0));
+        assertThat(tracker.writeAmplification(4), equalTo(1.5));
+    }
+
     @Test
     void testSplitAndSortCheckpointPages() throws Exception {
         CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
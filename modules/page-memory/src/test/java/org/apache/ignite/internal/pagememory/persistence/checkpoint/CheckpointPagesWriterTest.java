@@ -20,6 +20,7 @@ package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
 import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.TRY_AGAIN_TAG;
+import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointDirtyPages.DIRTY_PAGE_COMPARATOR;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTestUtils.createPartitionMetaManager;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
 import static org.apache.ignite.internal.util.GridUnsafe.allocateBuffer;
@@ -33,17 +34,24 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -60,13 +68,14 @@ import org.apache.ignite.internal.pagememory.persistence.PageStoreWriter;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMeta;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
 import org.apache.ignite.internal.pagememory.persistence.WriteDirtyPage;
-import org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointDirtyPages.CheckpointDirtyPagesView;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
 /**
  * For {@link CheckpointPagesWriter} testing.
@@ -99,8 +108,9 @@ public class CheckpointPagesWriterTest {
         FullPageId fullPageId5 = new FullPageId(pageId(0, FLAG_DATA, 5), 0);
         FullPageId fullPageId6 = new FullPageId(pageId(1, FLAG_DATA, 6), 0);
 
-        IgniteConcurrentMultiPairQueue<PersistentPageMemory, FullPageId> writePageIds = new IgniteConcurrentMultiPairQueue<>(
-                Map.of(pageMemory, List.of(fullPageId1, fullPageId2, fullPageId3, fullPageId4, fullPageId5, fullPageId6))
+        Queue<CheckpointDirtyPagesView> dirtyPartitionQueue = dirtyPartitionQueue(
+                pageMemory,
+                fullPageId1, fullPageId2, fullPageId3, fullPageId4, fullPageId5, fullPageId6
         );
 
         GroupPartitionId groupPartId0 = groupPartId(0, 0);
@@ -108,7 +118,7 @@ public class CheckpointPagesWriterTest {
 
         Runnable beforePageWrite = mock(Runnable.class);
 
-        ThreadLocal<ByteBuffer> threadBuf = createThreadLocalBuffer();
+        ThreadLocal<ByteBuffer[]> threadBufs = createThreadLocalBuffers();
 
         ArgumentCaptor<FullPageId> writtenFullPageIds = ArgumentCaptor.forClass(FullPageId.class);
 
@@ -127,11 +137,11 @@ public class CheckpointPagesWriterTest {
 
         CheckpointPagesWriter pagesWriter = new CheckpointPagesWriter(
                 tracker,
-                writePageIds,
+                dirtyPartitionQueue,
                 updatedPartitions,
                 doneFuture,
                 beforePageWrite,
-                threadBuf,
+                threadBufs,
                 progressImpl,
                 pageWriter,
                 ioRegistry,
@@ -145,7 +155,7 @@ public class CheckpointPagesWriterTest {
 
         assertDoesNotThrow(() -> doneFuture.get(1, TimeUnit.SECONDS));
 
-        assertTrue(writePageIds.isEmpty());
+        assertTrue(dirtyPartitionQueue.isEmpty());
 
         assertThat(updatedPartitions.keySet(), containsInAnyOrder(groupPartId0, groupPartId1));
 
@@ -155,6 +165,10 @@ public class CheckpointPagesWriterTest {
         assertThat(tracker.dataPagesWritten(), equalTo(4));
         assertThat(progressImpl.writtenPagesCounter().get(), equalTo(8));
 
+        assertThat(tracker.pagesWritten(), equalTo(8));
+        // Meta pages are written one by one, the rest of the pages of a partition are written together.
+        assertThat(tracker.writeBatches(), equalTo(5));
+
         assertThat(
                 writtenFullPageIds.getAllValues(),
                 equalTo(List.of(
@@ -169,7 +183,18 @@ public class CheckpointPagesWriterTest {
 
         verify(beforePageWrite, times(9)).run();
 
-        verify(threadBuf, times(2)).get();
+        verify(threadBufs, times(2)).get();
+
+        verify(pageWriter, times(3)).write(any(PersistentPageMemory.class), any(FullPageId[].class), any(ByteBuffer[].class), anyInt());
+
+        // Every written page is released after it's written.
+        InOrder inOrder = inOrder(pageWriter, pageMemory);
+
+        inOrder.verify(pageWriter).write(eq(pageMemory), any(FullPageId[].class), any(ByteBuffer[].class), eq(2));
+        inOrder.verify(pageMemory).releaseCheckpointPage(4L);
+        inOrder.verify(pageMemory).releaseCheckpointPage(5L);
+
+        verify(pageMemory, times(6)).releaseCheckpointPage(anyLong());
 
         verify(partitionMeta0, times(1)).metaSnapshot(any(UUID.class));
         verify(partitionMeta0, times(1)).metaSnapshot(any(UUID.class));
@@ -187,18 +212,19 @@ public class CheckpointPagesWriterTest {
                         any(FullPageId.class),
                         any(ByteBuffer.class),
                         any(PageStoreWriter.class),
-                        any(CheckpointMetricsTracker.class)
+                        any(CheckpointMetricsTracker.class),
+                        eq(true)
                 );
 
         GroupPartitionId groupPartId = groupPartId(0, 0);
 
         CheckpointPagesWriter pagesWriter = new CheckpointPagesWriter(
                 new CheckpointMetricsTracker(),
-                new IgniteConcurrentMultiPairQueue<>(Map.of(pageMemory, List.of(fullPageId(0, 0, 1)))),
+                dirtyPartitionQueue(pageMemory, fullPageId(0, 0, 1)),
                 new ConcurrentHashMap<>(),
                 doneFuture,
                 () -> {},
-                createThreadLocalBuffer(),
+                createThreadLocalBuffers(),
                 new CheckpointProgressImpl(0),
                 createDirtyPageWriter(null),
                 ioRegistry,
@@ -224,19 +250,18 @@ public class CheckpointPagesWriterTest {
         doAnswer(answer -> {
             checkpointWritePageCount.incrementAndGet();
 
-            return null;
+            return 0L;
         })
                 .when(pageMemory)
                 .checkpointWritePage(
                         any(FullPageId.class),
                         any(ByteBuffer.class),
                         any(PageStoreWriter.class),
-                        any(CheckpointMetricsTracker.class)
+                        any(CheckpointMetricsTracker.class),
+                        eq(true)
                 );
 
-        IgniteConcurrentMultiPairQueue<PersistentPageMemory, FullPageId> writePageIds = new IgniteConcurrentMultiPairQueue<>(
-                Map.of(pageMemory, List.of(fullPageId(0, 0, 1), fullPageId(0, 0, 2)))
-        );
+        Queue<CheckpointDirtyPagesView> dirtyPartitionQueue = dirtyPartitionQueue(pageMemory, fullPageId(0, 0, 1), fullPageId(0, 0, 2));
 
         GroupPartitionId groupPartId = groupPartId(0, 0);
 
@@ -244,11 +269,11 @@ public class CheckpointPagesWriterTest {
 
         CheckpointPagesWriter pagesWriter = new CheckpointPagesWriter(
                 new CheckpointMetricsTracker(),
-                writePageIds,
+                dirtyPartitionQueue,
                 updatedPartitions,
                 doneFuture,
                 () -> {},
-                createThreadLocalBuffer(),
+                createThreadLocalBuffers(),
                 new CheckpointProgressImpl(0),
                 createDirtyPageWriter(null),
                 ioRegistry,
@@ -260,7 +285,7 @@ public class CheckpointPagesWriterTest {
 
         assertDoesNotThrow(() -> doneFuture.get(1, TimeUnit.SECONDS));
 
-        assertThat(writePageIds.size(), equalTo(1));
+        assertThat(checkpointWritePageCount.get(), equalTo(1));
         assertThat(updatedPartitions.keySet(), contains(groupPartId));
     }
 
@@ -288,38 +313,51 @@ public class CheckpointPagesWriterTest {
 
             pageStoreWriter.writePage(fullPageId, buffer, tag);
 
-            return null;
+            // Fake pointer of the page left pinned.
+            return tag == TRY_AGAIN_TAG ? 0L : (long) pageCount.get();
         })
                 .when(pageMemory)
                 .checkpointWritePage(
                         any(FullPageId.class),
                         any(ByteBuffer.class),
                         any(PageStoreWriter.class),
-                        any(CheckpointMetricsTracker.class)
+                        any(CheckpointMetricsTracker.class),
+                        eq(true)
                 );
 
         return pageMemory;
     }
 
-    private static ThreadLocal<ByteBuffer> createThreadLocalBuffer() {
-        ThreadLocal<ByteBuffer> threadBuf = mock(ThreadLocal.class);
+    private static ThreadLocal<ByteBuffer[]> createThreadLocalBuffers() {
+        ThreadLocal<ByteBuffer[]> threadBufs = mock(ThreadLocal.class);
 
-        ByteBuffer buffer = allocateBuffer(PAGE_SIZE);
+        ByteBuffer[] buffers = new ByteBuffer[CheckpointPagesWriter.WRITE_BATCH_SIZE];
+
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = allocateBuffer(PAGE_SIZE);
+        }
+
+        when(threadBufs.get()).thenReturn(buffers);
+
+        return threadBufs;
+    }
 
-        when(threadBuf.get()).thenReturn(buffer.rewind());
+    private static Queue<CheckpointDirtyPagesView> dirtyPartitionQueue(PersistentPageMemory pageMemory, FullPageId... pageIds) {
+        Arrays.sort(pageIds, DIRTY_PAGE_COMPARATOR);
 
-        return threadBuf;
+        return new CheckpointDirtyPages(List.of(new DataRegionDirtyPages<>(pageMemory, pageIds))).toDirtyPartitionQueue();
     }
 
     /**
      * Returns mocked instance of {@link WriteDirtyPage}.
      *
-     * @param fullPageIdArgumentCaptor Collector of pages that will fall into {@link WriteDirtyPage#write}.
+     * @param fullPageIdArgumentCaptor Collector of pages that will fall into {@link WriteDirtyPage#write}, the pages written together
+     *      are collected one by one.
      */
     private static WriteDirtyPage createDirtyPageWriter(
             @Nullable ArgumentCaptor<FullPageId> fullPageIdArgumentCaptor
     ) throws Exception {
-        WriteDirtyPage writer = mock(WriteDirtyPage.class);
+        WriteDirtyPage writer = mock(WriteDirtyPage.class, CALLS_REAL_METHODS);
 
         if (fullPageIdArgumentCaptor != null) {
             doNothing().when(writer).write(any(PersistentPageMemory.class), fullPageIdArgumentCaptor.capture(), any(ByteBuffer.class));
@@ -370,7 +370,7 @@ public class CheckpointerTest {
 
         assertDoesNotThrow(checkpointer::doCheckpoint);
 
-        verify(dirtyPages, times(1)).toDirtyPageIdQueue();
+        verify(dirtyPages, times(1)).toDirtyPartitionQueue();
         verify(checkpointer, times(1)).startCheckpointProgress();
         verify(compactor, times(1)).triggerCompaction();
 
@@ -398,7 +398,7 @@ public class CheckpointerTest {
 
         assertDoesNotThrow(checkpointer::doCheckpoint);
 
-        verify(dirtyPages, never()).toDirtyPageIdQueue();
+        verify(dirtyPages, never()).toDirtyPartitionQueue();
         verify(checkpointer, times(1)).startCheckpointProgress();
         verify(compactor, never()).triggerCompaction();
 
@@ -29,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
@@ -119,6 +120,36 @@ public class CompactorTest {
         verify(deltaFilePageStoreIo, times(1)).stop(eq(true));
     }
 
+    @Test
+    void testMergeDeltaFileToMainFileWritesConsecutivePagesTogether() throws Throwable {
+        Compactor compactor = new Compactor(log, "test", null, threadsConfig(1), mock(FilePageStoreManager.class), PAGE_SIZE);
+
+        FilePageStore filePageStore = mock(FilePageStore.class);
+        DeltaFilePageStoreIo deltaFilePageStoreIo = mock(DeltaFilePageStoreIo.class);
+
+        when(filePageStore.removeDeltaFile(eq(deltaFilePageStoreIo))).thenReturn(true);
+
+        when(deltaFilePageStoreIo.pageIndexes()).thenReturn(new int[]{0, 1, 2, 5});
+
+        when(deltaFilePageStoreIo.readWithMergedToFilePageStoreCheck(anyLong(), anyLong(), any(ByteBuffer.class), anyBoolean()))
+                .then(answer -> {
+                    ByteBuffer buffer = answer.getArgument(2);
+
+                    // Page ID is the page index plus one, to be non-zero.
+                    PageIo.setPageId(bufferAddress(buffer), answer.<Long>getArgument(0) + 1);
+
+                    return true;
+                });
+
+        compactor.mergeDeltaFileToMainFile(filePageStore, deltaFilePageStoreIo);
+
+        verify(filePageStore, times(1)).write(aryEq(new long[]{1, 2, 3}), any(ByteBuffer[].class), anyBoolean());
+        verify(filePageStore, times(1)).write(eq(6L), any(ByteBuffer.class), anyBoolean());
+
+        verify(filePageStore, times(1)).sync();
+        verify(deltaFilePageStoreIo, times(1)).markMergedToFilePageStore();
+    }
+
     @Test
     void testDoCompaction() throws Throwable {
         FilePageStore filePageStore = mock(FilePageStore.class);
@@ -256,6 +256,39 @@ public abstract class AbstractFilePageStoreIoTest {
         }
     }
 
+    @Test
+    void testWriteConsecutivePages() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        try (AbstractFilePageStoreIo filePageStoreIo = createFilePageStoreIo(testFilePath)) {
+            filePageStoreIo.ensure();
+
+            long[] pageIds = new long[3];
+            ByteBuffer[] pageByteBuffers = new ByteBuffer[3];
+
+            for (int i = 0; i < pageIds.length; i++) {
+                int pageIdx = i;
+
+                pageIds[i] = createDataPageId(() -> pageIdx);
+                pageByteBuffers[i] = createPageByteBuffer(pageIds[i], PAGE_SIZE);
+
+                pageByteBuffers[i].position(PageIo.COMMON_HEADER_END).put(randomBytes(128)).rewind();
+            }
+
+            filePageStoreIo.write(pageIds, pageByteBuffers, true);
+
+            for (int i = 0; i < pageIds.length; i++) {
+                assertEquals(0, getCrc(pageByteBuffers[i]));
+
+                ByteBuffer readBuffer = ByteBuffer.allocate(PAGE_SIZE).order(pageByteBuffers[i].order());
+
+                filePageStoreIo.read(pageIds[i], filePageStoreIo.pageOffset(pageIds[i]), readBuffer, false);
+
+                assertEquals(pageByteBuffers[i].rewind(), readBuffer.rewind());
+            }
+        }
+    }
+
     @Test
     void testFilePath() throws Exception {
         Path testFilePath = workDir.resolve("test");
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.store;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.DEFLATE_PAGE_COMPRESSION;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.DISABLED_PAGE_COMPRESSION;
+import static org.apache.ignite.internal.pagememory.io.PageIo.COMMON_HEADER_END;
+import static org.apache.ignite.internal.pagememory.persistence.store.FilePageStore.VERSION_1;
+import static org.apache.ignite.internal.pagememory.persistence.store.TestPageStoreUtils.createDataPageId;
+import static org.apache.ignite.internal.pagememory.persistence.store.TestPageStoreUtils.createPageByteBuffer;
+import static org.apache.ignite.internal.pagememory.persistence.store.TestPageStoreUtils.randomBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.apache.ignite.internal.testframework.WorkDirectory;
+import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * For {@link PageCompression} testing.
+ */
+@ExtendWith(WorkDirectoryExtension.class)
+public class PageCompressionTest {
+    private static final int PAGE_SIZE = 16 * 1024;
+
+    @WorkDirectory
+    private Path workDir;
+
+    @Test
+    void testCreate() {
+        assertSame(PageCompression.DISABLED, PageCompression.create(DISABLED_PAGE_COMPRESSION, 1));
+
+        assertThrows(IllegalArgumentException.class, () -> PageCompression.create("UNKNOWN", 1));
+    }
+
+    @Test
+    void testCompressDecompress() throws Exception {
+        ByteBuffer page = compressiblePage(createDataPageId(() -> 0));
+
+        ByteBuffer compressed = PageCompression.create(DEFLATE_PAGE_COMPRESSION, 1).compress(page, PAGE_SIZE);
+
+        assertNotNull(compressed);
+        assertEquals(0, page.position());
+
+        assertEquals(0, compressed.position());
+        assertTrue(compressed.limit() <= PAGE_SIZE / 2, "compressedSize=" + compressed.limit());
+
+        ByteBuffer decompressed = ByteBuffer.allocate(PAGE_SIZE).order(page.order());
+
+        decompressed.put(compressed).rewind();
+
+        PageCompression.decompress(decompressed, PAGE_SIZE);
+
+        assertEquals(page.rewind(), decompressed.rewind());
+    }
+
+    @Test
+    void testIncompressiblePage() throws Exception {
+        ByteBuffer page = createPageByteBuffer(createDataPageId(() -> 0), PAGE_SIZE);
+
+        page.position(COMMON_HEADER_END).put(randomBytes(PAGE_SIZE - COMMON_HEADER_END)).rewind();
+
+        assertNull(PageCompression.create(DEFLATE_PAGE_COMPRESSION, 9).compress(page, PAGE_SIZE));
+        assertNull(PageCompression.DISABLED.compress(compressiblePage(createDataPageId(() -> 0)), PAGE_SIZE));
+    }
+
+    @Test
+    void testDecompressUncompressedPage() throws Exception {
+        ByteBuffer page = compressiblePage(createDataPageId(() -> 0));
+
+        // Page with a garbage in the compression fields of its header is left as is.
+        PageIo.setCompressionType(page, PageCompression.DEFLATE);
+        PageIo.setCompressedSize(page, (short) 128);
+
+        ByteBuffer copy = ByteBuffer.allocate(PAGE_SIZE).order(page.order()).put(page.rewind()).rewind();
+
+        PageCompression.decompress(page.rewind(), PAGE_SIZE);
+
+        assertEquals(copy, page.rewind());
+    }
+
+    @Test
+    void testWriteReadCompressedPages() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        try (FilePageStoreIo filePageStoreIo = createFilePageStoreIo(testFilePath)) {
+            filePageStoreIo.pageCompression(PageCompression.create(DEFLATE_PAGE_COMPRESSION, 1));
+
+            filePageStoreIo.ensure();
+
+            long pageId0 = createDataPageId(() -> 0);
+            long pageId1 = createDataPageId(() -> 1);
+
+            ByteBuffer page0 = compressiblePage(pageId0);
+            ByteBuffer page1 = compressiblePage(pageId1);
+
+            filePageStoreIo.write(pageId0, page0, true);
+            filePageStoreIo.write(pageId1, page1, true);
+
+            // Last page occupies only the beginning of its slot.
+            assertTrue(testFilePath.toFile().length() < 3 * PAGE_SIZE, "fileSize=" + testFilePath.toFile().length());
+
+            // Pages written before the compression was disabled are still readable.
+            filePageStoreIo.pageCompression(PageCompression.DISABLED);
+
+            assertEquals(page0.rewind(), read(filePageStoreIo, pageId0));
+            assertEquals(page1.rewind(), read(filePageStoreIo, pageId1));
+        }
+    }
+
+    private static ByteBuffer read(FilePageStoreIo filePageStoreIo, long pageId) throws Exception {
+        ByteBuffer pageBuf = ByteBuffer.allocate(PAGE_SIZE).order(nativeOrder());
+
+        filePageStoreIo.read(pageId, filePageStoreIo.pageOffset(pageId), pageBuf, false);
+
+        return pageBuf.rewind();
+    }
+
+    private static ByteBuffer compressiblePage(long pageId) {
+        ByteBuffer page = createPageByteBuffer(pageId, PAGE_SIZE);
+
+        byte[] data = new byte[PAGE_SIZE / 4];
+
+        Arrays.fill(data, (byte) 42);
+
+        page.position(COMMON_HEADER_END).put(randomBytes(128)).put(data);
+
+        return page.rewind();
+    }
+
+    private static FilePageStoreIo createFilePageStoreIo(Path filePath) {
+        return new FilePageStoreIo(new RandomAccessFileIoFactory(), filePath, new FilePageStoreHeader(VERSION_1, PAGE_SIZE));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.internal.pagememory.persistence.throttling.SpeedBasedPagesWriteThrottle.MAX_PARK_NANOS;
+import static org.apache.ignite.internal.pagememory.persistence.throttling.SpeedBasedPagesWriteThrottle.STARTING_BACKOFF_NANOS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link SpeedBasedPagesWriteThrottle} testing.
+ */
+public class SpeedBasedPagesWriteThrottleTest {
+    private final PersistentPageMemory pageMemory = mock(PersistentPageMemory.class);
+
+    private final CheckpointProgress progress = mock(CheckpointProgress.class);
+
+    private final AtomicInteger writtenPages = new AtomicInteger();
+
+    private final SpeedBasedPagesWriteThrottle throttle = new SpeedBasedPagesWriteThrottle("test", pageMemory, () -> progress);
+
+    @BeforeEach
+    void setUp() {
+        when(progress.inProgress()).thenReturn(true);
+        when(progress.writtenPagesCounter()).thenReturn(writtenPages);
+        when(progress.currentCheckpointPagesCount()).thenReturn(1000);
+
+        when(pageMemory.maxDirtyPages()).thenReturn(1000L);
+        when(pageMemory.maxCheckpointBufferPages()).thenReturn(300);
+    }
+
+    @Test
+    void testNoThrottlingOutsideCheckpoint() {
+        when(pageMemory.dirtyPagesCount()).thenReturn(999L);
+
+        writtenPages.set(500);
+
+        assertEquals(0, throttle.parkNanos(false, System.nanoTime()));
+
+        throttle.onBeginCheckpoint();
+        throttle.onFinishCheckpoint();
+
+        assertEquals(0, throttle.parkNanos(false, System.nanoTime()));
+    }
+
+    @Test
+    void testNoThrottlingBelowDirtyPagesRatio() {
+        throttle.onBeginCheckpoint();
+
+        writtenPages.set(100);
+
+        when(pageMemory.dirtyPagesCount()).thenReturn(400L);
+
+        assertEquals(0, throttle.parkNanos(false, System.nanoTime() + SECONDS.toNanos(1)));
+    }
+
+    @Test
+    void testNoThrottlingWithoutSpeedEstimate() {
+        throttle.onBeginCheckpoint();
+
+        when(pageMemory.dirtyPagesCount()).thenReturn(900L);
+
+        assertEquals(0, throttle.parkNanos(false, System.nanoTime() + SECONDS.toNanos(1)));
+    }
+
+    @Test
+    void testSpeedBasedThrottling() {
+        throttle.onBeginCheckpoint();
+
+        // 100 pages per second, 9 seconds to go: 100 pages left to the limit are to be spread over 9 seconds.
+        writtenPages.set(100);
+
+        when(pageMemory.dirtyPagesCount()).thenReturn(900L);
+
+        long now = System.nanoTime() + SECONDS.toNanos(1);
+
+        long intervalNanos = SECONDS.toNanos(9) / 100;
+
+        // The first writer takes the current slot, the following ones wait for theirs.
+        assertEquals(0, throttle.parkNanos(false, now));
+
+        long parkNanos = throttle.parkNanos(false, now);
+
+        assertTrue(parkNanos >= intervalNanos && parkNanos < MAX_PARK_NANOS, "parkNanos=" + parkNanos);
+
+        assertEquals(MAX_PARK_NANOS, throttle.parkNanos(false, now));
+    }
+
+    @Test
+    void testMaxParkTimeAtDirtyPagesLimit() {
+        throttle.onBeginCheckpoint();
+
+        writtenPages.set(100);
+
+        when(pageMemory.dirtyPagesCount()).thenReturn(1000L);
+
+        assertEquals(MAX_PARK_NANOS, throttle.parkNanos(false, System.nanoTime() + SECONDS.toNanos(1)));
+    }
+
+    @Test
+    void testCheckpointBufferBackoff() {
+        throttle.onBeginCheckpoint();
+
+        when(pageMemory.usedCheckpointBufferPages()).thenReturn(250);
+
+        long first = throttle.parkNanos(true, System.nanoTime());
+        long second = throttle.parkNanos(true, System.nanoTime());
+
+        assertEquals(STARTING_BACKOFF_NANOS, first);
+        assertTrue(second > first, "first=" + first + ", second=" + second);
+
+        // Pages not in the checkpoint don't occupy the checkpoint buffer.
+        assertEquals(0, throttle.parkNanos(false, System.nanoTime()));
+
+        when(pageMemory.usedCheckpointBufferPages()).thenReturn(100);
+
+        assertEquals(0, throttle.parkNanos(true, System.nanoTime()));
+
+        when(pageMemory.usedCheckpointBufferPages()).thenReturn(250);
+
+        assertEquals(STARTING_BACKOFF_NANOS, throttle.parkNanos(true, System.nanoTime()));
+    }
+
+    @Test
+    void testThrottleMetrics() {
+        throttle.onBeginCheckpoint();
+
+        when(pageMemory.usedCheckpointBufferPages()).thenReturn(250);
+
+        throttle.onMarkDirty(true);
+        throttle.onMarkDirty(true);
+
+        assertEquals(2, throttle.throttledCount());
+        assertTrue(throttle.throttleParkTimeNanos() > 0);
+
+        throttle.onFinishCheckpoint();
+
+        throttle.onMarkDirty(true);
+
+        assertEquals(2, throttle.throttledCount());
+    }
+}
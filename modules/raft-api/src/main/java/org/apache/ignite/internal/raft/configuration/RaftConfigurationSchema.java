@@ -21,6 +21,7 @@ import org.apache.ignite.configuration.annotation.ConfigValue;
 import org.apache.ignite.configuration.annotation.ConfigurationRoot;
 import org.apache.ignite.configuration.annotation.ConfigurationType;
 import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.Range;
 
 /**
  * Raft configuration schema.
@@ -59,4 +60,21 @@ public class RaftConfigurationSchema {
      */
     @Value(hasDefault = true)
     public long responseTimeout = 3_000;
+
+    /**
+     * Maximum number of write commands the Raft client sends to the leader in a single request. Commands issued while
+     * {@link #maxCommandBatchesInFlight} requests are being sent are combined into the next one, so a command is never delayed to wait
+     * for others. {@code 1} disables the batching.
+     */
+    @Range(min = 1)
+    @Value(hasDefault = true)
+    public int maxCommandBatchSize = 32;
+
+    /**
+     * Maximum number of requests with write commands the Raft client sends to the leader of a group without having received a response
+     * to them. A request stops counting on the first response, even if it's retried afterwards.
+     */
+    @Range(min = 1)
+    @Value(hasDefault = true)
+    public int maxCommandBatchesInFlight = 4;
 }
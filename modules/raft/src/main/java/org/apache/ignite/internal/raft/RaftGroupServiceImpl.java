@@ -44,13 +44,16 @@ import java.net.ConnectException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
@@ -67,8 +70,11 @@ import org.apache.ignite.network.NetworkMessage;
 import org.apache.ignite.raft.jraft.RaftMessagesFactory;
 import org.apache.ignite.raft.jraft.entity.PeerId;
 import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.rpc.ActionBatchRequest;
+import org.apache.ignite.raft.jraft.rpc.ActionBatchResponse;
 import org.apache.ignite.raft.jraft.rpc.ActionRequest;
 import org.apache.ignite.raft.jraft.rpc.ActionResponse;
+import org.apache.ignite.raft.jraft.rpc.Message;
 import org.apache.ignite.raft.jraft.rpc.RpcRequests;
 import org.apache.ignite.raft.jraft.rpc.RpcRequests.ErrorResponse;
 import org.apache.ignite.raft.jraft.rpc.RpcRequests.SMErrorResponse;
@@ -108,6 +114,12 @@ public class RaftGroupServiceImpl implements RaftGroupService {
     /** Busy lock. */
     private final IgniteSpinBusyLock busyLock = new IgniteSpinBusyLock();
 
+    /** Write commands waiting to be sent to the leader, see {@link #sendPendingCommands}. */
+    private final Queue<PendingCommand> pendingCommands = new ConcurrentLinkedQueue<>();
+
+    /** Number of the requests with the {@link #pendingCommands} which have not received a response yet. */
+    private final AtomicInteger commandBatchesInFlight = new AtomicInteger();
+
     /**
      * Constructor.
      *
@@ -444,14 +456,142 @@ public class RaftGroupServiceImpl implements RaftGroupService {
             return refreshLeader().thenCompose(res -> run(cmd));
         }
 
-        Function<Peer, ActionRequest> requestFactory = targetPeer -> factory.actionRequest()
+        CompletableFuture<ActionResponse> fut;
+
+        if (cmd instanceof WriteCommand && configuration.maxCommandBatchSize().value() > 1) {
+            fut = new CompletableFuture<>();
+
+            pendingCommands.add(new PendingCommand((WriteCommand) cmd, fut));
+
+            sendPendingCommands();
+        } else {
+            fut = sendWithRetry(leader, actionRequestFactory(cmd));
+        }
+
+        return fut.thenApply(resp -> (R) resp.result());
+    }
+
+    private Function<Peer, ActionRequest> actionRequestFactory(Command cmd) {
+        return targetPeer -> factory.actionRequest()
                 .command(cmd)
                 .groupId(groupId)
                 .readOnlySafe(true)
                 .build();
+    }
 
-        return this.<ActionResponse>sendWithRetry(leader, requestFactory)
-                .thenApply(resp -> (R) resp.result());
+    /**
+     * Sends the pending write commands to the leader. Up to {@link RaftConfiguration#maxCommandBatchesInFlight()} requests with the
+     * pending commands may be waiting for a response, the commands added to the queue meanwhile are combined and sent in a single request
+     * once a response to one of them is received. A command is never delayed if there is a free slot, so the batching only happens under
+     * concurrent load. A slot is freed on the first response to the request, so the retries of a request don't hold the other commands.
+     */
+    private void sendPendingCommands() {
+        int maxBatchSize = configuration.maxCommandBatchSize().value();
+
+        // Re-checking the queue after freeing a slot guarantees that a command added by a thread which failed to take a slot is sent.
+        while (!pendingCommands.isEmpty() && tryAcquireCommandBatchSlot()) {
+            List<PendingCommand> batch = new ArrayList<>();
+
+            PendingCommand cmd;
+
+            while (batch.size() < maxBatchSize && (cmd = pendingCommands.poll()) != null) {
+                batch.add(cmd);
+            }
+
+            if (batch.isEmpty()) {
+                commandBatchesInFlight.decrementAndGet();
+            } else {
+                sendBatch(batch, () -> {
+                    commandBatchesInFlight.decrementAndGet();
+
+                    sendPendingCommands();
+                });
+            }
+        }
+    }
+
+    private boolean tryAcquireCommandBatchSlot() {
+        int maxBatchesInFlight = configuration.maxCommandBatchesInFlight().value();
+
+        while (true) {
+            int batchesInFlight = commandBatchesInFlight.get();
+
+            if (batchesInFlight >= maxBatchesInFlight) {
+                return false;
+            }
+
+            if (commandBatchesInFlight.compareAndSet(batchesInFlight, batchesInFlight + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Sends a batch of write commands to the leader. Every command of the batch gets its own result, and the commands failed with a Raft
+     * error are retried separately.
+     *
+     * @param batch Batch of commands.
+     * @param onResponse Callback invoked once the first response to the request is received or the request fails, before any retries.
+     */
+    private void sendBatch(List<PendingCommand> batch, Runnable onResponse) {
+        Peer leader = this.leader;
+
+        Peer peer = leader != null ? leader : randomNode();
+
+        long stopTime = currentTimeMillis() + configuration.retryTimeout().value();
+
+        if (batch.size() == 1) {
+            PendingCommand cmd = batch.get(0);
+
+            sendWithRetry(peer, actionRequestFactory(cmd.command), stopTime, cmd.future, onResponse);
+
+            return;
+        }
+
+        List<WriteCommand> commands = batch.stream().map(cmd -> cmd.command).collect(toList());
+
+        Function<Peer, ActionBatchRequest> requestFactory = targetPeer -> factory.actionBatchRequest()
+                .groupId(groupId)
+                .commands(commands)
+                .build();
+
+        var batchFuture = new CompletableFuture<ActionBatchResponse>();
+
+        sendWithRetry(peer, requestFactory, stopTime, batchFuture, onResponse);
+
+        batchFuture.whenComplete((resp, err) -> {
+            if (err != null) {
+                batch.forEach(cmd -> cmd.future.completeExceptionally(err));
+
+                return;
+            }
+
+            List<Message> responses = resp.responses();
+
+            assert responses.size() == batch.size() : "Unexpected number of responses [expected=" + batch.size()
+                    + ", actual=" + responses.size() + ']';
+
+            for (int i = 0; i < batch.size(); i++) {
+                PendingCommand cmd = batch.get(i);
+                Message cmdResp = responses.get(i);
+
+                if (cmdResp instanceof ErrorResponse) {
+                    Function<Peer, ActionRequest> cmdRequestFactory = actionRequestFactory(cmd.command);
+
+                    // The batch has been processed by the leader, which is the right peer to retry the command on, unless the error
+                    // response tells otherwise.
+                    Peer target = this.leader != null ? this.leader : randomNode();
+
+                    handleErrorResponse(
+                            (ErrorResponse) cmdResp, target, cmdRequestFactory.apply(target), cmdRequestFactory, stopTime, cmd.future
+                    );
+                } else if (cmdResp instanceof SMErrorResponse) {
+                    handleSmErrorResponse((SMErrorResponse) cmdResp, cmd.future);
+                } else {
+                    cmd.future.complete((ActionResponse) cmdResp);
+                }
+            }
+        });
     }
 
     // TODO: IGNITE-18636 Shutdown raft services on components' stop.
@@ -486,10 +626,34 @@ public class RaftGroupServiceImpl implements RaftGroupService {
      */
     private <R extends NetworkMessage> void sendWithRetry(
             Peer peer, Function<Peer, ? extends NetworkMessage> requestFactory, long stopTime, CompletableFuture<R> fut
+    ) {
+        sendWithRetry(peer, requestFactory, stopTime, fut, null);
+    }
+
+    /**
+     * Retries a request until success or timeout.
+     *
+     * @param peer Initial target peer, request can be sent to a random peer if the target peer is unavailable.
+     * @param requestFactory Factory for creating requests to the target peer.
+     * @param stopTime Stop time.
+     * @param fut The future.
+     * @param onResponse Callback invoked once the response to this attempt is received or the attempt fails, before any retries.
+     * @param <R> Response type.
+     */
+    private <R extends NetworkMessage> void sendWithRetry(
+            Peer peer,
+            Function<Peer, ? extends NetworkMessage> requestFactory,
+            long stopTime,
+            CompletableFuture<R> fut,
+            @Nullable Runnable onResponse
     ) {
         if (!busyLock.enterBusy()) {
             fut.cancel(true);
 
+            if (onResponse != null) {
+                onResponse.run();
+            }
+
             return;
         }
 
@@ -497,6 +661,10 @@ public class RaftGroupServiceImpl implements RaftGroupService {
             if (currentTimeMillis() >= stopTime) {
                 fut.completeExceptionally(new TimeoutException());
 
+                if (onResponse != null) {
+                    onResponse.run();
+                }
+
                 return;
             }
 
@@ -513,16 +681,23 @@ public class RaftGroupServiceImpl implements RaftGroupService {
                                     err == null ? null : err.getMessage());
                         }
 
-                        if (err != null) {
-                            handleThrowable(err, peer, request, requestFactory, stopTime, fut);
-                        } else if (resp instanceof ErrorResponse) {
-                            handleErrorResponse((ErrorResponse) resp, peer, request, requestFactory, stopTime, fut);
-                        } else if (resp instanceof SMErrorResponse) {
-                            handleSmErrorResponse((SMErrorResponse) resp, fut);
-                        } else {
-                            leader = peer; // The OK response was received from a leader.
-
-                            fut.complete((R) resp);
+                        try {
+                            if (err != null) {
+                                handleThrowable(err, peer, request, requestFactory, stopTime, fut);
+                            } else if (resp instanceof ErrorResponse) {
+                                handleErrorResponse((ErrorResponse) resp, peer, request, requestFactory, stopTime, fut);
+                            } else if (resp instanceof SMErrorResponse) {
+                                handleSmErrorResponse((SMErrorResponse) resp, fut);
+                            } else {
+                                leader = peer; // The OK response was received from a leader.
+
+                                fut.complete((R) resp);
+                            }
+                        } finally {
+                            // Invoked after the handling, so that the leader is already updated from the response.
+                            if (onResponse != null) {
+                                onResponse.run();
+                            }
                         }
                     });
         } finally {
@@ -736,4 +911,18 @@ public class RaftGroupServiceImpl implements RaftGroupService {
 
         return CompletableFuture.completedFuture(node);
     }
+
+    /** Write command waiting to be sent to the leader. */
+    private static class PendingCommand {
+        /** Command. */
+        final WriteCommand command;
+
+        /** Future to complete with the response to the command. */
+        final CompletableFuture<ActionResponse> future;
+
+        PendingCommand(WriteCommand command, CompletableFuture<ActionResponse> future) {
+            this.command = command;
+            this.future = future;
+        }
+    }
 }
@@ -19,6 +19,8 @@ package org.apache.ignite.raft.jraft;
 
 import org.apache.ignite.network.annotations.MessageGroup;
 import org.apache.ignite.raft.jraft.entity.RaftOutter;
+import org.apache.ignite.raft.jraft.rpc.ActionBatchRequest;
+import org.apache.ignite.raft.jraft.rpc.ActionBatchResponse;
 import org.apache.ignite.raft.jraft.rpc.ActionRequest;
 import org.apache.ignite.raft.jraft.rpc.ActionResponse;
 import org.apache.ignite.raft.jraft.rpc.CliRequests;
@@ -186,5 +188,15 @@ public class RaftMessageGroup {
          * Message type for {@link ActionResponse}.
          */
         public static final short ACTION_RESPONSE = 4001;
+
+        /**
+         * Message type for {@link ActionBatchRequest}.
+         */
+        public static final short ACTION_BATCH_REQUEST = 4002;
+
+        /**
+         * Message type for {@link ActionBatchResponse}.
+         */
+        public static final short ACTION_BATCH_RESPONSE = 4003;
     }
 }
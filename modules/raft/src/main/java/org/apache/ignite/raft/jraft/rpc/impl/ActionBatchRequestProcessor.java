@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.raft.jraft.rpc.impl;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.raft.WriteCommand;
+import org.apache.ignite.raft.jraft.Node;
+import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.Status;
+import org.apache.ignite.raft.jraft.entity.PeerId;
+import org.apache.ignite.raft.jraft.entity.Task;
+import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.rpc.ActionBatchRequest;
+import org.apache.ignite.raft.jraft.rpc.Message;
+import org.apache.ignite.raft.jraft.rpc.RpcContext;
+import org.apache.ignite.raft.jraft.rpc.RpcProcessor;
+import org.apache.ignite.raft.jraft.util.Marshaller;
+
+/**
+ * Process a batch of write commands. The commands are applied to the node one after another, so that they are appended to the log in
+ * the same batch, and the response is sent when all of them are either committed or failed, with a separate result of every command.
+ */
+public class ActionBatchRequestProcessor implements RpcProcessor<ActionBatchRequest> {
+    private final Executor executor;
+
+    private final RaftMessagesFactory factory;
+
+    private final Marshaller commandsMarshaller;
+
+    public ActionBatchRequestProcessor(Executor executor, RaftMessagesFactory factory, Marshaller commandsMarshaller) {
+        this.executor = executor;
+        this.factory = factory;
+        this.commandsMarshaller = commandsMarshaller;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleRequest(RpcContext rpcCtx, ActionBatchRequest request) {
+        Node node = rpcCtx.getNodeManager().get(request.groupId(), new PeerId(rpcCtx.getLocalConsistentId()));
+
+        if (node == null) {
+            rpcCtx.sendResponse(factory.errorResponse().errorCode(RaftError.UNKNOWN.getNumber()).build());
+
+            return;
+        }
+
+        List<WriteCommand> commands = request.commands();
+
+        if (commands.isEmpty()) {
+            rpcCtx.sendResponse(factory.actionBatchResponse().responses(List.of()).build());
+
+            return;
+        }
+
+        Message[] responses = new Message[commands.size()];
+
+        var remaining = new AtomicInteger(commands.size());
+
+        for (int i = 0; i < commands.size(); i++) {
+            int idx = i;
+
+            WriteCommand command = commands.get(i);
+
+            node.apply(new Task(ByteBuffer.wrap(commandsMarshaller.marshall(command)),
+                new ActionRequestProcessor.CommandClosureImpl<>(command) {
+                    @Override
+                    public void result(Serializable res) {
+                        if (res instanceof Throwable) {
+                            onResponse(ActionRequestProcessor.smErrorResponse(factory, (Throwable)res, true));
+
+                            return;
+                        }
+
+                        onResponse(factory.actionResponse().result(res).build());
+                    }
+
+                    @Override
+                    public void run(Status status) {
+                        assert !status.isOk() : status;
+
+                        onResponse(ActionRequestProcessor.raftErrorResponse(factory, status, node));
+                    }
+
+                    private void onResponse(Message response) {
+                        responses[idx] = response;
+
+                        // The last completed command sends the responses to all of them.
+                        if (remaining.decrementAndGet() == 0)
+                            rpcCtx.sendResponse(factory.actionBatchResponse().responses(Arrays.asList(responses)).build());
+                    }
+                }));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public String interest() {
+        return ActionBatchRequest.class.getName();
+    }
+
+    /** {@inheritDoc} */
+    @Override public Executor executor() {
+        return executor;
+    }
+}
@@ -208,13 +208,25 @@ public class ActionRequestProcessor implements RpcProcessor<ActionRequest> {
      * See {@link SMCompactedThrowable}
      */
     private void sendSMError(RpcContext ctx, Throwable th, boolean compacted) {
+        ctx.sendResponse(smErrorResponse(factory, th, compacted));
+    }
+
+    /**
+     * Creates client's state machine error response with passed throwable.
+     *
+     * @param factory   Message factory.
+     * @param th        Throwable that must be passes to response.
+     * @param compacted {@code true} if throwable must be changed to compacted version of throwable.
+     * @return The response.
+     */
+    static Message smErrorResponse(RaftMessagesFactory factory, Throwable th, boolean compacted) {
         RpcRequests.SMErrorResponse resp = factory.sMErrorResponse()
             .error(compacted ? new SMCompactedThrowable(th) : new SMFullThrowable(th))
             .build();
 
-        ctx.sendResponse(resp);
-
         LOG.info("Error occurred on a user's state machine", th);
+
+        return resp;
     }
 
     /**
@@ -223,22 +235,30 @@ public class ActionRequestProcessor implements RpcProcessor<ActionRequest> {
      * @param node   Raft node.
      */
     private void sendRaftError(RpcContext ctx, Status status, Node node) {
-        RaftError raftError = status.getRaftError();
+        ctx.sendResponse(raftErrorResponse(factory, status, node));
+    }
 
-        Message response;
+    /**
+     * Creates raft error response with the status of an operation.
+     *
+     * @param factory Message factory.
+     * @param status  The status.
+     * @param node    Raft node.
+     * @return The response.
+     */
+    static Message raftErrorResponse(RaftMessagesFactory factory, Status status, Node node) {
+        RaftError raftError = status.getRaftError();
 
         if (raftError == RaftError.EPERM && node.getLeaderId() != null)
-            response = RaftRpcFactory.DEFAULT
+            return RaftRpcFactory.DEFAULT
                 .newResponse(node.getLeaderId().toString(), factory, RaftError.EPERM, status.getErrorMsg());
         else
-            response = RaftRpcFactory.DEFAULT
+            return RaftRpcFactory.DEFAULT
                 .newResponse(factory, raftError, status.getErrorMsg());
-
-        ctx.sendResponse(response);
     }
 
     /** The implementation. */
-    private abstract static class CommandClosureImpl<T extends Command> implements Closure, CommandClosure<T> {
+    abstract static class CommandClosureImpl<T extends Command> implements Closure, CommandClosure<T> {
         private final T command;
 
         /**
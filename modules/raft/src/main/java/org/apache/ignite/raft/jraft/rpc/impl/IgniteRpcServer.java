@@ -120,6 +120,7 @@ public class IgniteRpcServer implements RpcServer<Void> {
         // common client integration
         var commandsMarshaller = new ThreadLocalOptimizedMarshaller(service.localConfiguration().getSerializationRegistry());
         registerProcessor(new ActionRequestProcessor(rpcExecutor, raftMessagesFactory, commandsMarshaller));
+        registerProcessor(new ActionBatchRequestProcessor(rpcExecutor, raftMessagesFactory, commandsMarshaller));
         registerProcessor(new NotifyElectProcessor(raftMessagesFactory, serviceEventListener));
 
         var messageHandler = new RpcMessageHandler();
@@ -31,6 +31,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -48,6 +49,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
@@ -69,6 +71,7 @@ import org.apache.ignite.raft.jraft.RaftMessagesFactory;
 import org.apache.ignite.raft.jraft.Status;
 import org.apache.ignite.raft.jraft.entity.PeerId;
 import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.rpc.ActionBatchRequest;
 import org.apache.ignite.raft.jraft.rpc.ActionRequest;
 import org.apache.ignite.raft.jraft.rpc.CliRequests;
 import org.apache.ignite.raft.jraft.rpc.CliRequests.AddLearnersRequest;
@@ -84,6 +87,7 @@ import org.apache.ignite.raft.jraft.rpc.CliRequests.TransferLeaderRequest;
 import org.apache.ignite.raft.jraft.rpc.RaftRpcFactory;
 import org.apache.ignite.raft.jraft.rpc.RpcRequests.ErrorResponse;
 import org.apache.ignite.raft.jraft.rpc.impl.RaftException;
+import org.apache.ignite.raft.jraft.rpc.impl.SMCompactedThrowable;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -560,6 +564,107 @@ public class RaftGroupServiceTest extends BaseIgniteAbstractTest {
         assertThat(fut.thenApply(GetLeaderResponse::currentTerm), willBe(equalTo(CURRENT_TERM)));
     }
 
+    /**
+     * Tests that the write commands issued while a request is in flight are combined into a single request, and that every command
+     * of the batch gets its own result.
+     */
+    @Test
+    public void testBatchedWriteCommands() {
+        raftConfiguration.maxCommandBatchesInFlight().update(1).join();
+
+        mockLeaderRequest(false);
+
+        var firstResponse = new CompletableFuture<>();
+        var actionRequests = new AtomicInteger();
+
+        when(messagingService.invoke(any(), any(ActionRequest.class), anyLong()))
+                .then(invocation -> {
+                    // The response to the first command is not received until the other commands are issued.
+                    if (actionRequests.getAndIncrement() == 0) {
+                        return firstResponse;
+                    }
+
+                    return completedFuture(FACTORY.actionResponse().result(new TestResponse()).build());
+                });
+
+        var batchSize = new AtomicInteger();
+
+        when(messagingService.invoke(any(), any(ActionBatchRequest.class), anyLong()))
+                .then(invocation -> {
+                    ActionBatchRequest req = invocation.getArgument(1);
+
+                    batchSize.set(req.commands().size());
+
+                    return completedFuture(FACTORY.actionBatchResponse()
+                            .responses(List.of(
+                                    FACTORY.actionResponse().result(new TestResponse()).build(),
+                                    FACTORY.sMErrorResponse().error(new SMCompactedThrowable(new IllegalArgumentException("test"))).build(),
+                                    // The last command is retried separately.
+                                    FACTORY.errorResponse()
+                                            .errorCode(RaftError.EPERM.getNumber())
+                                            .leaderId(PeerId.fromPeer(leader).toString())
+                                            .build()
+                            ))
+                            .build());
+                });
+
+        RaftGroupService service = startRaftGroupService(NODES, true);
+
+        CompletableFuture<Object> fut1 = service.run(testWriteCommand());
+        CompletableFuture<Object> fut2 = service.run(testWriteCommand());
+        CompletableFuture<Object> fut3 = service.run(testWriteCommand());
+        CompletableFuture<Object> fut4 = service.run(testWriteCommand());
+
+        assertEquals(1, actionRequests.get());
+        assertEquals(0, batchSize.get());
+        assertFalse(fut2.isDone());
+
+        firstResponse.complete(FACTORY.actionResponse().result(new TestResponse()).build());
+
+        assertThat(fut1, willBe(instanceOf(TestResponse.class)));
+        assertThat(fut2, willBe(instanceOf(TestResponse.class)));
+        assertThat(fut3, willThrow(IllegalArgumentException.class));
+        assertThat(fut4, willBe(instanceOf(TestResponse.class)));
+
+        assertEquals(3, batchSize.get());
+        assertEquals(2, actionRequests.get());
+    }
+
+    /**
+     * Tests that a command retried because of the unknown leader doesn't hold the other write commands, even if only one request may be
+     * in flight.
+     */
+    @Test
+    public void testRetriedWriteCommandDoesNotStallOtherCommands() {
+        raftConfiguration.maxCommandBatchesInFlight().update(1).join();
+
+        mockLeaderRequest(false);
+
+        TestWriteCommand retriedCommand = testWriteCommand();
+
+        when(messagingService.invoke(any(), any(ActionRequest.class), anyLong()))
+                .then(invocation -> {
+                    ActionRequest req = invocation.getArgument(1);
+
+                    // The peers don't know the leader, so the command is retried until the timeout.
+                    if (req.command() == retriedCommand) {
+                        return completedFuture(FACTORY.errorResponse().errorCode(RaftError.EPERM.getNumber()).build());
+                    }
+
+                    return completedFuture(FACTORY.actionResponse().result(new TestResponse()).build());
+                });
+
+        RaftGroupService service = startRaftGroupService(NODES, true);
+
+        CompletableFuture<Object> retriedFut = service.run(retriedCommand);
+        CompletableFuture<Object> fut = service.run(testWriteCommand());
+
+        assertThat(fut, willBe(instanceOf(TestResponse.class)));
+        assertFalse(retriedFut.isDone());
+
+        assertThat(retriedFut, willThrow(TimeoutException.class));
+    }
+
     private RaftGroupService startRaftGroupService(List<Peer> peers, boolean getLeader) {
         PeersAndLearners memberConfiguration = PeersAndLearners.fromPeers(peers, Set.of());
 
@@ -25,7 +25,8 @@ import org.junit.jupiter.api.TestInfo;
 
 /** Tests for correlated queries. */
 public class ItCorrelatesTest extends AbstractBasicIntegrationTest {
-    private static final String DISABLED_JOIN_RULES = " /*+ DISABLE_RULE('MergeJoinConverter', 'NestedLoopJoinConverter') */ ";
+    private static final String DISABLED_JOIN_RULES =
+            " /*+ DISABLE_RULE('MergeJoinConverter', 'NestedLoopJoinConverter', 'HashJoinConverter') */ ";
 
     /**
      * Clear tables after each test.
@@ -50,7 +50,7 @@ public class ItHashSpoolIntegrationTest extends AbstractBasicIntegrationTest {
         sql("INSERT INTO t0(i1, i2) VALUES (null, 0), (1, null), (null, 2), (3, null), (1, 1)");
         sql("INSERT INTO t1(i1, i2) VALUES (null, 0), (null, 1), (2, null), (3, null), (1, 1)");
 
-        String sql = "SELECT /*+ DISABLE_RULE ('MergeJoinConverter', 'NestedLoopJoinConverter', "
+        String sql = "SELECT /*+ DISABLE_RULE ('MergeJoinConverter', 'NestedLoopJoinConverter', 'HashJoinConverter', "
                 + "'FilterSpoolMergeToSortedIndexSpoolRule')*/ t0.i1, t0.i2, t1.i1, t1.i2 "
                 + "FROM t0 JOIN t1 ON t0.i1=t1.i1 AND t0.i2=t1.i2";
 
@@ -167,6 +167,11 @@ public class IgniteImpl implements Ignite {
      */
     private static final Path PARTITIONS_STORE_PATH = Paths.get("db");
 
+    /**
+     * Path for the files SQL operators spill to once the query memory quota is exceeded.
+     */
+    private static final Path SQL_SPILL_PATH = Paths.get("sql-spill");
+
     /** Ignite node name. */
     private final String name;
 
@@ -478,7 +483,10 @@ public class IgniteImpl implements Ignite {
                 txManager,
                 distributionZoneManager,
                 () -> dataStorageModules.collectSchemasFields(modules.distributed().polymorphicSchemaExtensions()),
-                clock
+                clock,
+                metricManager,
+                workDir.resolve(SQL_SPILL_PATH),
+                metaStorageMgr
         );
 
         sql = new IgniteSqlImpl(qryEngine);
@@ -569,6 +577,8 @@ public class IgniteImpl implements Ignite {
         try {
             metricManager.registerSource(new JvmMetricSource());
 
+            metricManager.registerSource(distributedTblMgr.mvGc().metricSource());
+
             lifecycleManager.startComponent(longJvmPauseDetector);
 
             lifecycleManager.startComponent(vaultMgr);
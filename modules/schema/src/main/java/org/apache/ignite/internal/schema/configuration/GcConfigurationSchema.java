@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.schema.configuration;
+
+import org.apache.ignite.configuration.annotation.Config;
+import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.Range;
+
+/**
+ * Garbage collector (vacuum of the stale row versions) configuration schema.
+ */
+@Config
+public class GcConfigurationSchema {
+    /** Number of the threads vacuuming the partitions of a node. */
+    @Range(min = 1)
+    @Value(hasDefault = true)
+    public int threads = Runtime.getRuntime().availableProcessors();
+
+    /** Maximum number of the row versions removed from a partition in a single storage write. */
+    @Range(min = 1)
+    @Value(hasDefault = true)
+    public int batchSize = 100;
+
+    /** Maximum number of the row versions removed by a node per second, {@code 0} means no limit. */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public int rateLimit = 0;
+
+    /** Time (in milliseconds) during which the row versions stay readable after they became stale. */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public long dataAvailabilityTime = 600_000;
+
+    /**
+     * Whether the low watermark is periodically moved from the local clock. Disabled by default: such a low watermark is not agreed
+     * with the other nodes, and read-only transactions below it are not rejected, so they could read the vacuumed row versions.
+     */
+    @Value(hasDefault = true)
+    public boolean lowWatermarkUpdateEnabled = false;
+
+    /** Interval (in milliseconds) between the updates of the low watermark. */
+    @Range(min = 1)
+    @Value(hasDefault = true)
+    public long lowWatermarkUpdateFrequency = 60_000;
+}
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.schema.configuration;
 
+import org.apache.ignite.configuration.annotation.ConfigValue;
 import org.apache.ignite.configuration.annotation.ConfigurationRoot;
 import org.apache.ignite.configuration.annotation.ConfigurationType;
 import org.apache.ignite.configuration.annotation.NamedConfigValue;
@@ -49,4 +50,8 @@ public class TablesConfigurationSchema {
     @ExistingDataStorage
     @Value(hasDefault = true)
     public String defaultDataStorage = "aipersist";
+
+    /** Garbage collector configuration. */
+    @ConfigValue
+    public GcConfigurationSchema gcConfig;
 }
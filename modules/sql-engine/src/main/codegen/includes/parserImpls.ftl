@@ -569,6 +569,19 @@ SqlNode SqlAlterZone() :
     )
 }
 
+SqlNode SqlAnalyze() :
+{
+    final Span s;
+    final SqlIdentifier tableId;
+}
+{
+    <ANALYZE> { s = span(); }
+    [ <TABLE> ]
+    tableId = CompoundIdentifier() {
+        return new IgniteSqlAnalyze(s.end(this), tableId);
+    }
+}
+
 SqlNodeList AlterZoneOptions() :
 {
   List<SqlNode> list = new ArrayList<SqlNode>();
@@ -25,6 +25,7 @@ import static org.apache.ignite.lang.ErrorGroups.Sql.SESSION_EXPIRED_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Sql.SESSION_NOT_FOUND_ERR;
 import static org.apache.ignite.lang.IgniteStringFormatter.format;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -52,6 +53,8 @@ import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.manager.Event;
 import org.apache.ignite.internal.manager.EventListener;
+import org.apache.ignite.internal.metastorage.MetaStorageManager;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.schema.SchemaManager;
 import org.apache.ignite.internal.sql.engine.exec.ArrayRowHandler;
 import org.apache.ignite.internal.sql.engine.exec.ExchangeServiceImpl;
@@ -62,6 +65,8 @@ import org.apache.ignite.internal.sql.engine.exec.MailboxRegistryImpl;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutor;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutorImpl;
 import org.apache.ignite.internal.sql.engine.exec.ddl.DdlCommandHandler;
+import org.apache.ignite.internal.sql.engine.exec.exp.ExpressionCache;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
 import org.apache.ignite.internal.sql.engine.message.MessageServiceImpl;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareServiceImpl;
@@ -71,6 +76,7 @@ import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManagerImpl;
 import org.apache.ignite.internal.sql.engine.session.SessionId;
 import org.apache.ignite.internal.sql.engine.session.SessionInfo;
 import org.apache.ignite.internal.sql.engine.session.SessionManager;
+import org.apache.ignite.internal.sql.engine.statistic.StatisticsManager;
 import org.apache.ignite.internal.sql.engine.util.BaseQueryContext;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.LocalTxAttributesHolder;
@@ -149,6 +155,19 @@ public class SqlQueryProcessor implements QueryProcessor {
     /** Clock. */
     private final HybridClock clock;
 
+    /** Metric manager. */
+    private final MetricManager metricManager;
+
+    /** Directory of the files the operators spill to once the query memory quota is exceeded. */
+    private final Path spillDir;
+
+    private volatile SpillManager spillManager;
+
+    private volatile ExpressionCache expressionCache;
+
+    /** Meta storage manager. */
+    private final MetaStorageManager metaStorageMgr;
+
     /** Constructor. */
     public SqlQueryProcessor(
             Consumer<Function<Long, CompletableFuture<?>>> registry,
@@ -160,7 +179,10 @@ public class SqlQueryProcessor implements QueryProcessor {
             TxManager txManager,
             DistributionZoneManager distributionZoneManager,
             Supplier<Map<String, Map<String, Class<?>>>> dataStorageFieldsSupplier,
-            HybridClock clock
+            HybridClock clock,
+            MetricManager metricManager,
+            Path spillDir,
+            MetaStorageManager metaStorageMgr
     ) {
         this.registry = registry;
         this.clusterSrvc = clusterSrvc;
@@ -172,6 +194,9 @@ public class SqlQueryProcessor implements QueryProcessor {
         this.distributionZoneManager = distributionZoneManager;
         this.dataStorageFieldsSupplier = dataStorageFieldsSupplier;
         this.clock = clock;
+        this.metricManager = metricManager;
+        this.spillDir = spillDir;
+        this.metaStorageMgr = metaStorageMgr;
     }
 
     /** {@inheritDoc} */
@@ -184,6 +209,18 @@ public class SqlQueryProcessor implements QueryProcessor {
         taskExecutor = registerService(new QueryTaskExecutorImpl(nodeName));
         var mailboxRegistry = registerService(new MailboxRegistryImpl());
 
+        var spillManager = registerService(new SpillManager(spillDir));
+
+        metricManager.registerSource(spillManager.metricSource());
+
+        this.spillManager = spillManager;
+
+        var expressionCache = new ExpressionCache();
+
+        metricManager.registerSource(expressionCache.metricSource());
+
+        this.expressionCache = expressionCache;
+
         var prepareSvc = registerService(PrepareServiceImpl.create(
                 nodeName,
                 PLAN_CACHE_SIZE,
@@ -203,13 +240,27 @@ public class SqlQueryProcessor implements QueryProcessor {
                 msgSrvc
         ));
 
-        SqlSchemaManagerImpl sqlSchemaManager = new SqlSchemaManagerImpl(tableManager, schemaManager, registry, busyLock);
+        var statisticsManager = registerService(new StatisticsManager(nodeName, tableManager, metaStorageMgr));
+
+        SqlSchemaManagerImpl sqlSchemaManager = new SqlSchemaManagerImpl(
+                tableManager,
+                schemaManager,
+                registry,
+                busyLock,
+                statisticsManager
+        );
 
         sqlSchemaManager.registerListener(prepareSvc);
 
         this.prepareSvc = prepareSvc;
 
-        var ddlCommandHandler = new DdlCommandHandler(distributionZoneManager, tableManager, indexManager, dataStorageManager);
+        var ddlCommandHandler = new DdlCommandHandler(
+                distributionZoneManager,
+                tableManager,
+                indexManager,
+                dataStorageManager,
+                statisticsManager
+        );
 
         var executionSrvc = registerService(ExecutionServiceImpl.create(
                 clusterSrvc.topologyService(),
@@ -219,7 +270,9 @@ public class SqlQueryProcessor implements QueryProcessor {
                 taskExecutor,
                 ArrayRowHandler.INSTANCE,
                 mailboxRegistry,
-                exchangeService
+                exchangeService,
+                spillManager,
+                expressionCache
         ));
 
         clusterSrvc.topologyService().addEventHandler(executionSrvc);
@@ -289,6 +342,14 @@ public class SqlQueryProcessor implements QueryProcessor {
                 });
 
         IgniteUtils.closeAll(Stream.concat(closableComponents, closableListeners).collect(Collectors.toList()));
+
+        if (spillManager != null) {
+            metricManager.unregisterSource(spillManager.metricSource());
+        }
+
+        if (expressionCache != null) {
+            metricManager.unregisterSource(expressionCache.metricSource());
+        }
     }
 
     /** {@inheritDoc} */
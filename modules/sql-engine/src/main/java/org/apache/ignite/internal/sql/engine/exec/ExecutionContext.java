@@ -35,8 +35,11 @@ import org.apache.calcite.schema.SchemaPlus;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.schema.BinaryRowConverter;
+import org.apache.ignite.internal.sql.engine.exec.exp.ExpressionCache;
 import org.apache.ignite.internal.sql.engine.exec.exp.ExpressionFactory;
 import org.apache.ignite.internal.sql.engine.exec.exp.ExpressionFactoryImpl;
+import org.apache.ignite.internal.sql.engine.exec.spill.QueryMemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
 import org.apache.ignite.internal.sql.engine.metadata.ColocationGroup;
 import org.apache.ignite.internal.sql.engine.metadata.FragmentDescription;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
@@ -79,6 +82,10 @@ public class ExecutionContext<RowT> extends AbstractQueryContext implements Data
 
     private final ExpressionFactory<RowT> expressionFactory;
 
+    private final QueryMemoryTracker memoryTracker;
+
+    private final @Nullable SpillManager spillManager;
+
     private final AtomicBoolean cancelFlag = new AtomicBoolean();
 
     /**
@@ -99,7 +106,6 @@ public class ExecutionContext<RowT> extends AbstractQueryContext implements Data
      * @param handler Row handler.
      * @param params Parameters.
      */
-    @SuppressWarnings("AssignmentOrReturnOfFieldWithMutableType")
     public ExecutionContext(
             BaseQueryContext qctx,
             QueryTaskExecutor executor,
@@ -109,6 +115,65 @@ public class ExecutionContext<RowT> extends AbstractQueryContext implements Data
             FragmentDescription fragmentDesc,
             RowHandler<RowT> handler,
             Map<String, Object> params
+    ) {
+        this(qctx, executor, qryId, localNode, originatingNodeName, fragmentDesc, handler, params, QueryMemoryTracker.UNLIMITED,
+                null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param executor Task executor.
+     * @param qctx Base query context.
+     * @param qryId Query ID.
+     * @param fragmentDesc Partitions information.
+     * @param handler Row handler.
+     * @param params Parameters.
+     * @param memoryTracker Tracker of the memory consumed by the query on the local node.
+     * @param spillManager Spill manager, {@code null} if operators are not allowed to spill to disk.
+     */
+    public ExecutionContext(
+            BaseQueryContext qctx,
+            QueryTaskExecutor executor,
+            UUID qryId,
+            ClusterNode localNode,
+            String originatingNodeName,
+            FragmentDescription fragmentDesc,
+            RowHandler<RowT> handler,
+            Map<String, Object> params,
+            QueryMemoryTracker memoryTracker,
+            @Nullable SpillManager spillManager
+    ) {
+        this(qctx, executor, qryId, localNode, originatingNodeName, fragmentDesc, handler, params, memoryTracker, spillManager, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param executor Task executor.
+     * @param qctx Base query context.
+     * @param qryId Query ID.
+     * @param fragmentDesc Partitions information.
+     * @param handler Row handler.
+     * @param params Parameters.
+     * @param memoryTracker Tracker of the memory consumed by the query on the local node.
+     * @param spillManager Spill manager, {@code null} if operators are not allowed to spill to disk.
+     * @param expressionCache Node cache of the compiled expressions, {@code null} to use the cache shared by all the contexts
+     *     created without the node cache.
+     */
+    @SuppressWarnings("AssignmentOrReturnOfFieldWithMutableType")
+    public ExecutionContext(
+            BaseQueryContext qctx,
+            QueryTaskExecutor executor,
+            UUID qryId,
+            ClusterNode localNode,
+            String originatingNodeName,
+            FragmentDescription fragmentDesc,
+            RowHandler<RowT> handler,
+            Map<String, Object> params,
+            QueryMemoryTracker memoryTracker,
+            @Nullable SpillManager spillManager,
+            @Nullable ExpressionCache expressionCache
     ) {
         super(qctx);
 
@@ -120,12 +185,21 @@ public class ExecutionContext<RowT> extends AbstractQueryContext implements Data
         this.params = params;
         this.localNode = localNode;
         this.originatingNodeName = originatingNodeName;
-
-        expressionFactory = new ExpressionFactoryImpl<>(
-                this,
-                this.qctx.typeFactory(),
-                this.qctx.config().getParserConfig().conformance()
-        );
+        this.memoryTracker = memoryTracker;
+        this.spillManager = spillManager;
+
+        expressionFactory = expressionCache == null
+                ? new ExpressionFactoryImpl<>(
+                        this,
+                        this.qctx.typeFactory(),
+                        this.qctx.config().getParserConfig().conformance()
+                )
+                : new ExpressionFactoryImpl<>(
+                        this,
+                        this.qctx.typeFactory(),
+                        this.qctx.config().getParserConfig().conformance(),
+                        expressionCache
+                );
 
         long ts = System.currentTimeMillis();
         startTs = ts + TIME_ZONE.getOffset(ts);
@@ -195,6 +269,20 @@ public class ExecutionContext<RowT> extends AbstractQueryContext implements Data
         return expressionFactory;
     }
 
+    /**
+     * Get tracker of the memory consumed by the query on the local node.
+     */
+    public QueryMemoryTracker memoryTracker() {
+        return memoryTracker;
+    }
+
+    /**
+     * Get spill manager, {@code null} if operators are not allowed to spill to disk.
+     */
+    public @Nullable SpillManager spillManager() {
+        return spillManager;
+    }
+
     /**
      * Get originating node consistent ID.
      */
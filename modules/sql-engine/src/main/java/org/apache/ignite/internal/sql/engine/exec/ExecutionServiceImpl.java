@@ -21,11 +21,15 @@ import static org.apache.ignite.internal.sql.engine.externalize.RelJsonReader.fr
 import static org.apache.ignite.internal.sql.engine.util.Commons.FRAMEWORK_CONFIG;
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 import static org.apache.ignite.lang.ErrorGroups.Sql.DDL_EXEC_ERR;
+import static org.apache.ignite.lang.ErrorGroups.Sql.DUPLICATE_KEYS_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Sql.MESSAGE_SEND_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Sql.NODE_LEFT_ERR;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -40,16 +44,25 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import org.apache.calcite.rel.core.TableModify;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexUtil;
 import org.apache.calcite.tools.Frameworks;
 import org.apache.ignite.configuration.ConfigurationChangeException;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.sql.engine.AsyncCursor;
 import org.apache.ignite.internal.sql.engine.exec.ddl.DdlCommandHandler;
+import org.apache.ignite.internal.sql.engine.exec.exp.ExpressionCache;
+import org.apache.ignite.internal.sql.engine.exec.exp.ExpressionFactory;
 import org.apache.ignite.internal.sql.engine.exec.rel.AbstractNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.AsyncRootNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.Outbox;
+import org.apache.ignite.internal.sql.engine.exec.spill.QueryMemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
 import org.apache.ignite.internal.sql.engine.message.ErrorMessage;
 import org.apache.ignite.internal.sql.engine.message.MessageService;
 import org.apache.ignite.internal.sql.engine.message.QueryCloseMessage;
@@ -68,6 +81,8 @@ import org.apache.ignite.internal.sql.engine.prepare.ExplainPlan;
 import org.apache.ignite.internal.sql.engine.prepare.Fragment;
 import org.apache.ignite.internal.sql.engine.prepare.FragmentPlan;
 import org.apache.ignite.internal.sql.engine.prepare.IgniteRelShuttle;
+import org.apache.ignite.internal.sql.engine.prepare.KeyValueGetPlan;
+import org.apache.ignite.internal.sql.engine.prepare.KeyValueModifyPlan;
 import org.apache.ignite.internal.sql.engine.prepare.MappingQueryContext;
 import org.apache.ignite.internal.sql.engine.prepare.MultiStepPlan;
 import org.apache.ignite.internal.sql.engine.prepare.QueryPlan;
@@ -78,6 +93,7 @@ import org.apache.ignite.internal.sql.engine.rel.SourceAwareIgniteRel;
 import org.apache.ignite.internal.sql.engine.schema.InternalIgniteTable;
 import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManager;
 import org.apache.ignite.internal.sql.engine.trait.TraitUtils;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.util.BaseQueryContext;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.HashFunctionFactoryImpl;
@@ -129,6 +145,10 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
 
     private final ImplementorFactory<RowT> implementorFactory;
 
+    private final @Nullable SpillManager spillManager;
+
+    private final @Nullable ExpressionCache expressionCache;
+
     private final Map<UUID, DistributedQueryManager> queryManagerMap = new ConcurrentHashMap<>();
 
     /**
@@ -142,6 +162,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
      * @param handler Row handler.
      * @param mailboxRegistry Mailbox registry.
      * @param exchangeSrvc Exchange service.
+     * @param spillManager Manager of the files the operators spill to once the query memory quota is exceeded.
+     * @param expressionCache Node cache of the compiled expressions.
      * @param <RowT> Type of the sql row.
      * @return An execution service.
      */
@@ -153,7 +175,9 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             QueryTaskExecutor taskExecutor,
             RowHandler<RowT> handler,
             MailboxRegistry mailboxRegistry,
-            ExchangeService exchangeSrvc
+            ExchangeService exchangeSrvc,
+            SpillManager spillManager,
+            ExpressionCache expressionCache
     ) {
         return new ExecutionServiceImpl<>(
                 msgSrvc,
@@ -169,7 +193,9 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                         new HashFunctionFactoryImpl<>(sqlSchemaManager, handler),
                         mailboxRegistry,
                         exchangeSrvc
-                )
+                ),
+                spillManager,
+                expressionCache
         );
     }
 
@@ -196,6 +222,67 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             RowHandler<RowT> handler,
             ExchangeService exchangeSrvc,
             ImplementorFactory<RowT> implementorFactory
+    ) {
+        this(msgSrvc, topSrvc, mappingSrvc, sqlSchemaManager, ddlCmdHnd, taskExecutor, handler, exchangeSrvc, implementorFactory, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param msgSrvc Message service.
+     * @param topSrvc Topology service.
+     * @param mappingSrvc Nodes mapping calculation service.
+     * @param sqlSchemaManager Schema manager.
+     * @param ddlCmdHnd Handler of the DDL commands.
+     * @param taskExecutor Task executor.
+     * @param handler Row handler.
+     * @param exchangeSrvc Exchange service.
+     * @param implementorFactory Relational node implementor factory.
+     * @param spillManager Spill manager, {@code null} if operators are not allowed to spill to disk.
+     */
+    public ExecutionServiceImpl(
+            MessageService msgSrvc,
+            TopologyService topSrvc,
+            MappingService mappingSrvc,
+            SqlSchemaManager sqlSchemaManager,
+            DdlCommandHandler ddlCmdHnd,
+            QueryTaskExecutor taskExecutor,
+            RowHandler<RowT> handler,
+            ExchangeService exchangeSrvc,
+            ImplementorFactory<RowT> implementorFactory,
+            @Nullable SpillManager spillManager
+    ) {
+        this(msgSrvc, topSrvc, mappingSrvc, sqlSchemaManager, ddlCmdHnd, taskExecutor, handler, exchangeSrvc, implementorFactory,
+                spillManager, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param msgSrvc Message service.
+     * @param topSrvc Topology service.
+     * @param mappingSrvc Nodes mapping calculation service.
+     * @param sqlSchemaManager Schema manager.
+     * @param ddlCmdHnd Handler of the DDL commands.
+     * @param taskExecutor Task executor.
+     * @param handler Row handler.
+     * @param exchangeSrvc Exchange service.
+     * @param implementorFactory Relational node implementor factory.
+     * @param spillManager Spill manager, {@code null} if operators are not allowed to spill to disk.
+     * @param expressionCache Node cache of the compiled expressions, {@code null} to use the cache shared by all the nodes.
+     */
+    public ExecutionServiceImpl(
+            MessageService msgSrvc,
+            TopologyService topSrvc,
+            MappingService mappingSrvc,
+            SqlSchemaManager sqlSchemaManager,
+            DdlCommandHandler ddlCmdHnd,
+            QueryTaskExecutor taskExecutor,
+            RowHandler<RowT> handler,
+            ExchangeService exchangeSrvc,
+            ImplementorFactory<RowT> implementorFactory,
+            @Nullable SpillManager spillManager,
+            @Nullable ExpressionCache expressionCache
     ) {
         this.localNode = topSrvc.localMember();
         this.handler = handler;
@@ -207,6 +294,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
         this.exchangeSrvc = exchangeSrvc;
         this.ddlCmdHnd = ddlCmdHnd;
         this.implementorFactory = implementorFactory;
+        this.spillManager = spillManager;
+        this.expressionCache = expressionCache;
     }
 
     /** {@inheritDoc} */
@@ -262,6 +351,12 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             case DML:
                 // TODO a barrier between previous operation and this one
             case QUERY:
+                if (plan instanceof KeyValueGetPlan) {
+                    return executeKeyValueGet(ctx, (KeyValueGetPlan) plan);
+                } else if (plan instanceof KeyValueModifyPlan) {
+                    return executeKeyValueModify(ctx, (KeyValueModifyPlan) plan);
+                }
+
                 return executeQuery(
                         ctx,
                         (MultiStepPlan) plan
@@ -316,6 +411,123 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
         return (e instanceof RuntimeException) ? (RuntimeException) e : new SqlException(DDL_EXEC_ERR, e);
     }
 
+    private AsyncCursor<List<Object>> executeKeyValueGet(BaseQueryContext ctx, KeyValueGetPlan plan) {
+        CompletableFuture<Iterator<List<Object>>> res;
+
+        try {
+            ExecutionContext<RowT> ectx = createLocalContext(ctx);
+            RowHandler<RowT> hnd = ectx.rowHandler();
+            ExpressionFactory<RowT> expressionFactory = ectx.expressionFactory();
+            IgniteTypeFactory typeFactory = ectx.getTypeFactory();
+            InternalIgniteTable table = plan.table();
+
+            RowT keyValues = expressionFactory.rowSource(plan.keyExpressions()).get();
+            RowT keyRow = hnd.factory(typeFactory, table.getRowType(typeFactory)).create();
+
+            for (int i = 0; i < plan.keyColumns().size(); i++) {
+                Object val = hnd.get(i, keyValues);
+
+                // Primary key columns are not nullable, the condition can't be met.
+                if (val == null) {
+                    return new AsyncWrapper<>(Collections.emptyIterator());
+                }
+
+                hnd.set(plan.keyColumns().getInt(i), keyRow, val);
+            }
+
+            BinaryRowEx key = table.toModifyRow(ectx, keyRow, TableModify.Operation.DELETE, null).getRow();
+
+            RelDataType rowType = table.getRowType(typeFactory, plan.requiredColumns());
+            RowHandler.RowFactory<RowT> rowFactory = hnd.factory(typeFactory, rowType);
+            BitSet requiredColumns = plan.requiredColumns() == null ? null : plan.requiredColumns().toBitSet();
+
+            Predicate<RowT> filter = plan.condition() == null ? null : expressionFactory.predicate(plan.condition(), rowType);
+            Function<RowT, RowT> prj = plan.projects() == null ? null : expressionFactory.project(plan.projects(), rowType);
+            Function<RowT, RowT> internalTypeConverter = TypeUtils.resultTypeConverter(ectx,
+                    plan.projects() == null ? rowType : RexUtil.createStructType(typeFactory, plan.projects()));
+
+            res = table.table().get(key, ctx.transaction()).thenApply(binRow -> {
+                if (binRow == null) {
+                    return Collections.emptyIterator();
+                }
+
+                RowT row = table.toRow(ectx, binRow, rowFactory, requiredColumns);
+
+                if (filter != null && !filter.test(row)) {
+                    return Collections.emptyIterator();
+                }
+
+                if (prj != null) {
+                    row = prj.apply(row);
+                }
+
+                return List.of(toList(hnd, internalTypeConverter.apply(row))).iterator();
+            });
+        } catch (Throwable t) {
+            res = CompletableFuture.failedFuture(t);
+        }
+
+        return new AsyncWrapper<>(res, Runnable::run);
+    }
+
+    private AsyncCursor<List<Object>> executeKeyValueModify(BaseQueryContext ctx, KeyValueModifyPlan plan) {
+        CompletableFuture<Iterator<List<Object>>> res;
+
+        try {
+            ExecutionContext<RowT> ectx = createLocalContext(ctx);
+            ExpressionFactory<RowT> expressionFactory = ectx.expressionFactory();
+
+            RowT row = expressionFactory.values(plan.values(), plan.valuesType()).iterator().next();
+
+            if (plan.projects() != null) {
+                row = expressionFactory.project(plan.projects(), plan.valuesType()).apply(row);
+            }
+
+            BinaryRowEx binRow = plan.table().toModifyRow(ectx, row, TableModify.Operation.INSERT, null).getRow();
+
+            res = plan.table().table().insert(binRow, ctx.transaction()).thenApply(inserted -> {
+                if (!inserted) {
+                    throw new SqlException(DUPLICATE_KEYS_ERR, "PK unique constraint is violated");
+                }
+
+                return List.of(List.<Object>of(1L)).iterator();
+            });
+        } catch (Throwable t) {
+            res = CompletableFuture.failedFuture(t);
+        }
+
+        return new AsyncWrapper<>(res, Runnable::run);
+    }
+
+    /** Creates a context to evaluate the expressions of the plans executed on the local node only. */
+    private ExecutionContext<RowT> createLocalContext(BaseQueryContext ctx) {
+        return new ExecutionContext<>(
+                ctx,
+                taskExecutor,
+                ctx.queryId(),
+                localNode,
+                localNode.name(),
+                new FragmentDescription(0, false, null, null, Long2ObjectMaps.emptyMap()),
+                handler,
+                Commons.parametersMap(ctx.parameters()),
+                QueryMemoryTracker.UNLIMITED,
+                null,
+                expressionCache
+        );
+    }
+
+    private static <RowT> List<Object> toList(RowHandler<RowT> hnd, RowT row) {
+        int rowSize = hnd.columnCount(row);
+
+        List<Object> res = new ArrayList<>(rowSize);
+
+        for (int i = 0; i < rowSize; i++) {
+            res.add(hnd.get(i, row));
+        }
+
+        return res;
+    }
+
     private AsyncCursor<List<Object>> executeExplain(ExplainPlan plan) {
         List<List<Object>> res = List.of(List.of(plan.plan()));
 
@@ -413,6 +625,9 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
 
         private final Queue<AbstractNode<RowT>> localFragments = new LinkedBlockingQueue<>();
 
+        /** Memory consumed by all the local fragments of the query. */
+        private final QueryMemoryTracker memoryTracker = new QueryMemoryTracker(QueryMemoryTracker.QUERY_MEMORY_QUOTA);
+
         private final CompletableFuture<AsyncRootNode<RowT, List<Object>>> root;
 
         private volatile Long rootFragmentId = null;
@@ -562,7 +777,10 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                     initiatorNodeName,
                     desc,
                     handler,
-                    Commons.parametersMap(ctx.parameters())
+                    Commons.parametersMap(ctx.parameters()),
+                    memoryTracker,
+                    spillManager,
+                    expressionCache
             );
         }
 
@@ -596,7 +814,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
         private AsyncCursor<List<Object>> execute(MultiStepPlan plan) {
             taskExecutor.execute(() -> {
                 try {
-                    plan.init(new MappingQueryContext(localNode.name(), mappingSrvc));
+                    plan.init(new MappingQueryContext(localNode.name(), mappingSrvc, ctx.parameters()));
 
                     List<Fragment> fragments = plan.fragments();
 
@@ -689,9 +907,20 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
 
                     int partsCnt = grp.assignments().size();
 
-                    tx.assignCommitPartition(new TablePartitionId(tbl.id(), ThreadLocalRandom.current().nextInt(partsCnt)));
+                    int commitPart = ThreadLocalRandom.current().nextInt(partsCnt);
+
+                    // Prefer a partition the query works with.
+                    for (int i = 0; i < partsCnt && !grp.involved(commitPart); i++) {
+                        commitPart = (commitPart + 1) % partsCnt;
+                    }
+
+                    tx.assignCommitPartition(new TablePartitionId(tbl.id(), commitPart));
 
                     for (int p = 0; p < partsCnt; p++) {
+                        if (!grp.involved(p)) {
+                            continue;
+                        }
+
                         List<NodeWithTerm> assign = grp.assignments().get(p);
                         NodeWithTerm leaderWithTerm = assign.get(0);
 
@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.sql.engine.util.TypeUtils.combinedRowTy
 import static org.apache.ignite.internal.util.ArrayUtils.asList;
 import static org.apache.ignite.internal.util.CollectionUtils.first;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -32,19 +33,25 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
 import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.AggregateCall;
 import org.apache.calcite.rel.core.Intersect;
+import org.apache.calcite.rel.core.JoinInfo;
 import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.core.Minus;
 import org.apache.calcite.rel.core.Spool;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.rex.RexWindowBound;
 import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.batch.BatchPredicate;
 import org.apache.ignite.internal.sql.engine.exec.exp.ExpressionFactory;
 import org.apache.ignite.internal.sql.engine.exec.exp.RangeIterable;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorWrapper;
@@ -53,6 +60,7 @@ import org.apache.ignite.internal.sql.engine.exec.rel.AbstractSetOpNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.CorrelatedNestedLoopJoinNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.FilterNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.HashAggregateNode;
+import org.apache.ignite.internal.sql.engine.exec.rel.HashJoinNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox;
 import org.apache.ignite.internal.sql.engine.exec.rel.IndexScanNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.IndexSpoolNode;
@@ -71,12 +79,16 @@ import org.apache.ignite.internal.sql.engine.exec.rel.SortNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.TableScanNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.TableSpoolNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.UnionAllNode;
+import org.apache.ignite.internal.sql.engine.exec.rel.WindowNode;
+import org.apache.ignite.internal.sql.engine.exec.rel.WindowNode.FunctionType;
+import org.apache.ignite.internal.sql.engine.exec.rel.WindowNode.WindowFunction;
 import org.apache.ignite.internal.sql.engine.metadata.ColocationGroup;
 import org.apache.ignite.internal.sql.engine.prepare.bounds.SearchBounds;
 import org.apache.ignite.internal.sql.engine.rel.IgniteCorrelatedNestedLoopJoin;
 import org.apache.ignite.internal.sql.engine.rel.IgniteExchange;
 import org.apache.ignite.internal.sql.engine.rel.IgniteFilter;
 import org.apache.ignite.internal.sql.engine.rel.IgniteHashIndexSpool;
+import org.apache.ignite.internal.sql.engine.rel.IgniteHashJoin;
 import org.apache.ignite.internal.sql.engine.rel.IgniteIndexScan;
 import org.apache.ignite.internal.sql.engine.rel.IgniteLimit;
 import org.apache.ignite.internal.sql.engine.rel.IgniteMergeJoin;
@@ -95,6 +107,7 @@ import org.apache.ignite.internal.sql.engine.rel.IgniteTableSpool;
 import org.apache.ignite.internal.sql.engine.rel.IgniteTrimExchange;
 import org.apache.ignite.internal.sql.engine.rel.IgniteUnionAll;
 import org.apache.ignite.internal.sql.engine.rel.IgniteValues;
+import org.apache.ignite.internal.sql.engine.rel.IgniteWindow;
 import org.apache.ignite.internal.sql.engine.rel.agg.IgniteColocatedHashAggregate;
 import org.apache.ignite.internal.sql.engine.rel.agg.IgniteColocatedSortAggregate;
 import org.apache.ignite.internal.sql.engine.rel.agg.IgniteMapHashAggregate;
@@ -112,6 +125,8 @@ import org.apache.ignite.internal.sql.engine.trait.TraitUtils;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.HashFunctionFactory;
+import org.apache.ignite.lang.IgniteSystemProperties;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implements a query plan.
@@ -121,6 +136,11 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
     public static final String CNLJ_NOT_SUPPORTED_JOIN_ASSERTION_MSG =
             "only INNER and LEFT join supported by IgniteCorrelatedNestedLoop";
 
+    /** Name of the system property which enables evaluation of table scan filters on column batches. */
+    public static final String IGNITE_SQL_BATCH_SCAN_FILTER = "IGNITE_SQL_BATCH_SCAN_FILTER";
+
+    private static final boolean BATCH_SCAN_FILTER = IgniteSystemProperties.getBoolean(IGNITE_SQL_BATCH_SCAN_FILTER, true);
+
     private final ExecutionContext<RowT> ctx;
 
     private final HashFunctionFactory<RowT> hashFuncFactory;
@@ -315,6 +335,44 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         return node;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Node<RowT> visit(IgniteHashJoin rel) {
+        RelDataType leftType = rel.getLeft().getRowType();
+        RelDataType rightType = rel.getRight().getRowType();
+        JoinRelType joinType = rel.getJoinType();
+
+        JoinInfo joinInfo = rel.analyzeCondition();
+
+        ImmutableBitSet.Builder nullsAsEqualBuilder = ImmutableBitSet.builder();
+
+        int leftFieldsCnt = leftType.getFieldCount();
+
+        for (RexNode expr : RelOptUtil.conjunctions(rel.getCondition())) {
+            if (expr.getKind() != SqlKind.IS_NOT_DISTINCT_FROM) {
+                continue;
+            }
+
+            ImmutableBitSet refs = RelOptUtil.InputFinder.bits(expr);
+
+            for (int i = 0; i < joinInfo.pairs().size(); i++) {
+                if (refs.get(joinInfo.leftKeys.getInt(i)) && refs.get(joinInfo.rightKeys.getInt(i) + leftFieldsCnt)) {
+                    nullsAsEqualBuilder.set(i);
+                }
+            }
+        }
+
+        Node<RowT> node = HashJoinNode.create(ctx, leftType, rightType, joinType, joinInfo.leftKeys, joinInfo.rightKeys,
+                nullsAsEqualBuilder.build());
+
+        Node<RowT> leftInput = visit(rel.getLeft());
+        Node<RowT> rightInput = visit(rel.getRight());
+
+        node.register(asList(leftInput, rightInput));
+
+        return node;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Node<RowT> visit(IgniteIndexScan rel) {
@@ -392,6 +450,7 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         RelDataType rowType = tbl.getRowType(typeFactory, requiredColumns);
 
         Predicate<RowT> filters = condition == null ? null : expressionFactory.predicate(condition, rowType);
+        BatchPredicate batchFilter = condition == null || !BATCH_SCAN_FILTER ? null : expressionFactory.batchPredicate(condition, rowType);
         Function<RowT, RowT> prj = projects == null ? null : expressionFactory.project(projects, rowType);
 
         ColocationGroup group = ctx.group(rel.sourceId());
@@ -406,6 +465,7 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
                 tbl,
                 group.partitionsWithTerms(ctx.localNode().name()),
                 filters,
+                batchFilter,
                 prj,
                 requiredColumns == null ? null : requiredColumns.toBitSet()
         );
@@ -563,6 +623,87 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         return new ScanNode<>(ctx, new TableFunctionScan<>(dataSupplier, rowFactory));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Node<RowT> visit(IgniteWindow rel) {
+        RelDataType inputType = rel.getInput().getRowType();
+
+        List<WindowFunction> functions = new ArrayList<>(rel.aggregateCalls().size());
+        List<AggregateCall> aggCalls = new ArrayList<>();
+        RelDataTypeFactory.Builder valuesType = ctx.getTypeFactory().builder();
+
+        for (AggregateCall call : rel.aggregateCalls()) {
+            FunctionType type;
+
+            switch (call.getAggregation().getKind()) {
+                case ROW_NUMBER:
+                    type = FunctionType.ROW_NUMBER;
+                    break;
+                case RANK:
+                    type = FunctionType.RANK;
+                    break;
+                case DENSE_RANK:
+                    type = FunctionType.DENSE_RANK;
+                    break;
+                case LAG:
+                    type = FunctionType.LAG;
+                    break;
+                case LEAD:
+                    type = FunctionType.LEAD;
+                    break;
+                default:
+                    type = FunctionType.AGGREGATE;
+
+                    aggCalls.add(call);
+            }
+
+            functions.add(new WindowFunction(type, call.getArgList().stream().mapToInt(Integer::intValue).toArray()));
+
+            valuesType.add("F" + functions.size(), call.getType());
+        }
+
+        Supplier<List<AccumulatorWrapper<RowT>>> accFactory = aggCalls.isEmpty() ? null
+                : expressionFactory.accumulatorsFactory(AggregateType.WINDOW, aggCalls, inputType);
+
+        WindowNode.Frame frame = new WindowNode.Frame(rel.isRows(), offset(rel.lowerBound()), offset(rel.upperBound()));
+
+        Comparator<RowT> partCmp = rel.partitionKeys().isEmpty() ? null
+                : expressionFactory.comparator(IgniteWindow.windowCollation(rel.partitionKeys(), RelCollations.EMPTY));
+
+        RowFactory<RowT> rowFactory = ctx.rowHandler().factory(ctx.getTypeFactory(), valuesType.build());
+
+        WindowNode<RowT> node = new WindowNode<>(
+                ctx,
+                partCmp,
+                expressionFactory.comparator(rel.windowCollation()),
+                functions,
+                frame,
+                accFactory,
+                rowFactory
+        );
+
+        Node<RowT> input = visit(rel.getInput());
+
+        node.register(input);
+
+        return node;
+    }
+
+    /** Returns offset of the window bound relative to the current row or {@code null} if the bound is unbounded. */
+    private static @Nullable Long offset(RexWindowBound bound) {
+        if (bound.isUnbounded()) {
+            return null;
+        }
+
+        if (bound.isCurrentRow()) {
+            return 0L;
+        }
+
+        long offset = ((RexLiteral) bound.getOffset()).getValueAs(Long.class);
+
+        return bound.isPreceding() ? -offset : offset;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Node<RowT> visit(IgniteTableModify rel) {
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.batch;
+
+/**
+ * Filter which is evaluated on a whole {@link ColumnBatch} at once.
+ *
+ * <p>A batch predicate may be weaker than the filter it was created for, i.e. it never rejects a row the filter accepts, but it
+ * may accept rows the filter rejects. So the filter is still applied to the rows which survived the batch predicate.
+ */
+public interface BatchPredicate {
+    /**
+     * Creates a batch holding vectors of all the columns the predicate reads.
+     *
+     * @param capacity Maximum number of rows.
+     * @return New batch.
+     */
+    ColumnBatch newBatch(int capacity);
+
+    /**
+     * Narrows the selection of the batch to the rows satisfying the predicate.
+     *
+     * @param batch Batch.
+     */
+    void filter(ColumnBatch batch);
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.batch;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Batch of rows stored column by column.
+ *
+ * <p>Only the columns somebody is interested in are present in the batch, the rest of the slots are {@code null}. Rows which
+ * are still alive after filtering are tracked by the selection vector, so filters narrow the batch without moving any values.
+ */
+public class ColumnBatch {
+    private final ColumnVector[] columns;
+
+    private final int capacity;
+
+    /** Positions of the selected rows in ascending order. */
+    private final int[] sel;
+
+    private int size;
+
+    private int selected;
+
+    /**
+     * Constructor.
+     *
+     * @param columnsCnt Number of columns of the relational row.
+     * @param capacity Maximum number of rows.
+     */
+    public ColumnBatch(int columnsCnt, int capacity) {
+        this.columns = new ColumnVector[columnsCnt];
+        this.capacity = capacity;
+
+        sel = new int[capacity];
+    }
+
+    /** Returns maximum number of rows. */
+    public int capacity() {
+        return capacity;
+    }
+
+    /** Returns number of rows in the batch, including not selected ones. */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Resets the batch to hold the given number of rows and selects all of them.
+     * The null bitmaps are cleared, the values are expected to be overwritten by the caller.
+     *
+     * @param size Number of rows.
+     */
+    public void reset(int size) {
+        assert size <= capacity : "size=" + size + ", capacity=" + capacity;
+
+        this.size = size;
+
+        for (int i = 0; i < size; i++) {
+            sel[i] = i;
+        }
+
+        selected = size;
+
+        for (ColumnVector col : columns) {
+            if (col != null) {
+                col.clearNulls();
+            }
+        }
+    }
+
+    /** Returns number of columns of the relational row. */
+    public int columnsCount() {
+        return columns.length;
+    }
+
+    /**
+     * Returns the vector of the given column.
+     *
+     * @param idx Column index.
+     * @return Column vector or {@code null} if the column is not a part of the batch.
+     */
+    public @Nullable ColumnVector column(int idx) {
+        return columns[idx];
+    }
+
+    /**
+     * Adds the vector of the given column to the batch, unless it's already present.
+     *
+     * @param idx Column index.
+     * @param col Column vector.
+     * @return Vector of the column.
+     */
+    public ColumnVector addColumn(int idx, ColumnVector col) {
+        if (columns[idx] == null) {
+            columns[idx] = col;
+        }
+
+        return columns[idx];
+    }
+
+    /** Returns the selection vector, only first {@link #selectedCount()} positions are meaningful. */
+    public int[] selection() {
+        return sel;
+    }
+
+    /** Returns number of the selected rows. */
+    public int selectedCount() {
+        return selected;
+    }
+
+    /**
+     * Sets number of the selected rows after the selection vector was narrowed.
+     *
+     * @param selected Number of the selected rows.
+     */
+    public void selectedCount(int selected) {
+        assert selected <= this.selected;
+
+        this.selected = selected;
+    }
+}
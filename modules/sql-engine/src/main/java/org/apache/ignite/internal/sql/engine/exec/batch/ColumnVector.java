@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.batch;
+
+/**
+ * Values of a single column of a {@link ColumnBatch} stored in a primitive array, with a null bitmap.
+ */
+public abstract class ColumnVector {
+    /** Null bitmap, a set bit means the value at the corresponding position is {@code null}. */
+    private final long[] nulls;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity Maximum number of values.
+     */
+    protected ColumnVector(int capacity) {
+        nulls = new long[(capacity + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    /**
+     * Returns {@code true} if the value at the given position is {@code null}.
+     *
+     * @param idx Position.
+     */
+    public final boolean isNull(int idx) {
+        return (nulls[idx >>> 6] & (1L << idx)) != 0;
+    }
+
+    /**
+     * Marks the value at the given position as {@code null}.
+     *
+     * @param idx Position.
+     */
+    public final void setNull(int idx) {
+        nulls[idx >>> 6] |= 1L << idx;
+    }
+
+    /**
+     * Marks all the values as not {@code null}.
+     */
+    public final void clearNulls() {
+        for (int i = 0; i < nulls.length; i++) {
+            nulls[i] = 0;
+        }
+    }
+}
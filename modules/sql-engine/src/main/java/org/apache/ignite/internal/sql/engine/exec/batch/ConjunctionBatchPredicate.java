@@ -0,0 +1,392 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.batch;
+
+import java.util.List;
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * Batch predicate which is a conjunction of simple conditions on numeric columns, each condition is evaluated by a tight loop over
+ * the primitive values of the column without any boxing.
+ */
+public class ConjunctionBatchPredicate implements BatchPredicate {
+    /** Number of columns of the relational row. */
+    private final int columnsCnt;
+
+    private final List<ColumnCondition> conditions;
+
+    /**
+     * Constructor.
+     *
+     * @param columnsCnt Number of columns of the relational row.
+     * @param conditions Conditions.
+     */
+    public ConjunctionBatchPredicate(int columnsCnt, List<ColumnCondition> conditions) {
+        assert !conditions.isEmpty();
+
+        this.columnsCnt = columnsCnt;
+        this.conditions = List.copyOf(conditions);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ColumnBatch newBatch(int capacity) {
+        ColumnBatch batch = new ColumnBatch(columnsCnt, capacity);
+
+        for (ColumnCondition cond : conditions) {
+            ColumnVector col = batch.addColumn(cond.column, cond.newVector(capacity));
+
+            assert cond.accepts(col) : "Conflicting vector types [col=" + cond.column + ']';
+        }
+
+        return batch;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void filter(ColumnBatch batch) {
+        int[] sel = batch.selection();
+        int selected = batch.selectedCount();
+
+        for (int i = 0; i < conditions.size() && selected > 0; i++) {
+            ColumnCondition cond = conditions.get(i);
+
+            selected = cond.filter(batch.column(cond.column), sel, selected);
+        }
+
+        batch.selectedCount(selected);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(ConjunctionBatchPredicate.class, this);
+    }
+
+    /**
+     * Creates a condition comparing values of an integral column with a constant.
+     *
+     * @param col Column index.
+     * @param op Comparison operator, the column is the left operand.
+     * @param val Constant.
+     * @return Condition.
+     */
+    public static ColumnCondition compare(int col, CompareOp op, long val) {
+        return new LongComparison(col, op, val);
+    }
+
+    /**
+     * Creates a condition comparing values of a DOUBLE column with a constant.
+     *
+     * @param col Column index.
+     * @param op Comparison operator, the column is the left operand.
+     * @param val Constant.
+     * @return Condition.
+     */
+    public static ColumnCondition compare(int col, CompareOp op, double val) {
+        return new DoubleComparison(col, op, val);
+    }
+
+    /**
+     * Creates an IS NULL or IS NOT NULL condition.
+     *
+     * @param col Column index.
+     * @param integral Whether the column is integral or DOUBLE.
+     * @param isNull {@code true} for IS NULL, {@code false} for IS NOT NULL.
+     * @return Condition.
+     */
+    public static ColumnCondition nullCheck(int col, boolean integral, boolean isNull) {
+        return new NullCheck(col, integral, isNull);
+    }
+
+    /** Comparison operator. */
+    public enum CompareOp {
+        EQ, NE, LT, LE, GT, GE
+    }
+
+    /**
+     * Condition on a single column.
+     */
+    public abstract static class ColumnCondition {
+        /** Column index. */
+        final int column;
+
+        private ColumnCondition(int column) {
+            this.column = column;
+        }
+
+        /** Creates a vector to decode the column to. */
+        abstract ColumnVector newVector(int capacity);
+
+        /** Checks whether the condition is able to work with the given vector. */
+        abstract boolean accepts(ColumnVector vec);
+
+        /**
+         * Narrows the selection vector.
+         *
+         * @param vec Column vector.
+         * @param sel Selection vector.
+         * @param cnt Number of selected rows.
+         * @return Number of rows remained selected.
+         */
+        abstract int filter(ColumnVector vec, int[] sel, int cnt);
+    }
+
+    private static class LongComparison extends ColumnCondition {
+        private final CompareOp op;
+
+        private final long val;
+
+        private LongComparison(int column, CompareOp op, long val) {
+            super(column);
+
+            this.op = op;
+            this.val = val;
+        }
+
+        @Override
+        ColumnVector newVector(int capacity) {
+            return new LongVector(capacity);
+        }
+
+        @Override
+        boolean accepts(ColumnVector vec) {
+            return vec instanceof LongVector;
+        }
+
+        @Override
+        int filter(ColumnVector vec0, int[] sel, int cnt) {
+            LongVector vec = (LongVector) vec0;
+            int res = 0;
+
+            // The branch is taken once per batch, so every loop stays tight.
+            switch (op) {
+                case EQ:
+                    for (int i = 0; i < cnt; i++) {
+                        int pos = sel[i];
+
+                        if (!vec.isNull(pos) && vec.get(pos) == val) {
+                            sel[res++] = pos;
+                        }
+                    }
+
+                    break;
+
+                case NE:
+                    for (int i = 0; i < cnt; i++) {
+                        int pos = sel[i];
+
+                        if (!vec.isNull(pos) && vec.get(pos) != val) {
+                            sel[res++] = pos;
+                        }
+                    }
+
+                    break;
+
+                case LT:
+                    for (int i = 0; i < cnt; i++) {
+                        int pos = sel[i];
+
+                        if (!vec.isNull(pos) && vec.get(pos) < val) {
+                            sel[res++] = pos;
+                        }
+                    }
+
+                    break;
+
+                case LE:
+                    for (int i = 0; i < cnt; i++) {
+                        int pos = sel[i];
+
+                        if (!vec.isNull(pos) && vec.get(pos) <= val) {
+                            sel[res++] = pos;
+                        }
+                    }
+
+                    break;
+
+                case GT:
+                    for (int i = 0; i < cnt; i++) {
+                        int pos = sel[i];
+
+                        if (!vec.isNull(pos) && vec.get(pos) > val) {
+                            sel[res++] = pos;
+                        }
+                    }
+
+                    break;
+
+                case GE:
+                    for (int i = 0; i < cnt; i++) {
+                        int pos = sel[i];
+
+                        if (!vec.isNull(pos) && vec.get(pos) >= val) {
+                            sel[res++] = pos;
+                        }
+                    }
+
+                    break;
+
+                default:
+                    throw new AssertionError("Unexpected operator: " + op);
+            }
+
+            return res;
+        }
+    }
+
+    private static class DoubleComparison extends ColumnCondition {
+        private final CompareOp op;
+
+        private final double val;
+
+        private DoubleComparison(int column, CompareOp op, double val) {
+            super(column);
+
+            this.op = op;
+            this.val = val;
+        }
+
+        @Override
+        ColumnVector newVector(int capacity) {
+            return new DoubleVector(capacity);
+        }
+
+        @Override
+        boolean accepts(ColumnVector vec) {
+            return vec instanceof DoubleVector;
+        }
+
+        @Override
+        int filter(ColumnVector vec0, int[] sel, int cnt) {
+            DoubleVector vec = (DoubleVector) vec0;
+            int res = 0;
+
+            switch (op) {
+                case EQ:
+                    for (int i = 0; i < cnt; i++) {
+                        int pos = sel[i];
+
+                        if (!vec.isNull(pos) && vec.get(pos) == val) {
+                            sel[res++] = pos;
+                        }
+                    }
+
+                    break;
+
+                case NE:
+                    for (int i = 0; i < cnt; i++) {
+                        int pos = sel[i];
+
+                        if (!vec.isNull(pos) && vec.get(pos) != val) {
+                            sel[res++] = pos;
+                        }
+                    }
+
+                    break;
+
+                case LT:
+                    for (int i = 0; i < cnt; i++) {
+                        int pos = sel[i];
+
+                        if (!vec.isNull(pos) && vec.get(pos) < val) {
+                            sel[res++] = pos;
+                        }
+                    }
+
+                    break;
+
+                case LE:
+                    for (int i = 0; i < cnt; i++) {
+                        int pos = sel[i];
+
+                        if (!vec.isNull(pos) && vec.get(pos) <= val) {
+                            sel[res++] = pos;
+                        }
+                    }
+
+                    break;
+
+                case GT:
+                    for (int i = 0; i < cnt; i++) {
+                        int pos = sel[i];
+
+                        if (!vec.isNull(pos) && vec.get(pos) > val) {
+                            sel[res++] = pos;
+                        }
+                    }
+
+                    break;
+
+                case GE:
+                    for (int i = 0; i < cnt; i++) {
+                        int pos = sel[i];
+
+                        if (!vec.isNull(pos) && vec.get(pos) >= val) {
+                            sel[res++] = pos;
+                        }
+                    }
+
+                    break;
+
+                default:
+                    throw new AssertionError("Unexpected operator: " + op);
+            }
+
+            return res;
+        }
+    }
+
+    private static class NullCheck extends ColumnCondition {
+        private final boolean integral;
+
+        private final boolean isNull;
+
+        private NullCheck(int column, boolean integral, boolean isNull) {
+            super(column);
+
+            this.integral = integral;
+            this.isNull = isNull;
+        }
+
+        @Override
+        ColumnVector newVector(int capacity) {
+            return integral ? new LongVector(capacity) : new DoubleVector(capacity);
+        }
+
+        @Override
+        boolean accepts(ColumnVector vec) {
+            return true;
+        }
+
+        @Override
+        int filter(ColumnVector vec, int[] sel, int cnt) {
+            int res = 0;
+
+            for (int i = 0; i < cnt; i++) {
+                int pos = sel[i];
+
+                if (vec.isNull(pos) == isNull) {
+                    sel[res++] = pos;
+                }
+            }
+
+            return res;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.batch;
+
+/**
+ * Vector of DOUBLE values.
+ */
+public final class DoubleVector extends ColumnVector {
+    private final double[] vals;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity Maximum number of values.
+     */
+    public DoubleVector(int capacity) {
+        super(capacity);
+
+        vals = new double[capacity];
+    }
+
+    /** Returns the value at the given position, the result is undefined for {@code null} values. */
+    public double get(int idx) {
+        return vals[idx];
+    }
+
+    /** Sets the value at the given position. */
+    public void set(int idx, double val) {
+        vals[idx] = val;
+    }
+}
@@ -67,6 +67,7 @@ import org.apache.ignite.internal.sql.engine.prepare.ddl.AlterTableAddCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.AlterTableDropCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.AlterZoneRenameCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.AlterZoneSetCommand;
+import org.apache.ignite.internal.sql.engine.prepare.ddl.AnalyzeCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.ColumnDefinition;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.CreateIndexCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.CreateTableCommand;
@@ -78,6 +79,7 @@ import org.apache.ignite.internal.sql.engine.prepare.ddl.DropIndexCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.DropTableCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.DropZoneCommand;
 import org.apache.ignite.internal.sql.engine.schema.IgniteIndex.Collation;
+import org.apache.ignite.internal.sql.engine.statistic.StatisticsManager;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.storage.DataStorageManager;
 import org.apache.ignite.internal.table.distributed.TableManager;
@@ -101,6 +103,8 @@ public class DdlCommandHandler {
 
     private final DataStorageManager dataStorageManager;
 
+    private final StatisticsManager statisticsManager;
+
     /**
      * Constructor.
      */
@@ -108,12 +112,14 @@ public class DdlCommandHandler {
             DistributionZoneManager distributionZoneManager,
             TableManager tableManager,
             IndexManager indexManager,
-            DataStorageManager dataStorageManager
+            DataStorageManager dataStorageManager,
+            StatisticsManager statisticsManager
     ) {
         this.distributionZoneManager = distributionZoneManager;
         this.tableManager = tableManager;
         this.indexManager = indexManager;
         this.dataStorageManager = dataStorageManager;
+        this.statisticsManager = statisticsManager;
     }
 
     /** Handles ddl commands. */
@@ -140,6 +146,8 @@ public class DdlCommandHandler {
             return handleAlterZone((AlterZoneSetCommand) cmd);
         } else if (cmd instanceof DropZoneCommand) {
             return handleDropZone((DropZoneCommand) cmd);
+        } else if (cmd instanceof AnalyzeCommand) {
+            return handleAnalyze((AnalyzeCommand) cmd);
         } else {
             return failedFuture(new IgniteInternalCheckedException(UNSUPPORTED_DDL_OPERATION_ERR, "Unsupported DDL operation ["
                     + "cmdName=" + (cmd == null ? null : cmd.getClass().getSimpleName()) + "; "
@@ -267,6 +275,19 @@ public class DdlCommandHandler {
                 .handle(handleModificationResult(cmd.ifTableExists(), TableNotFoundException.class));
     }
 
+    /** Handles analyze command. */
+    private CompletableFuture<Boolean> handleAnalyze(AnalyzeCommand cmd) {
+        return tableManager.tableAsyncInternal(cmd.tableName())
+                .thenCompose(table -> {
+                    if (table == null) {
+                        throw new TableNotFoundException(cmd.schemaName(), cmd.tableName());
+                    }
+
+                    return statisticsManager.collect(table);
+                })
+                .thenApply(stats -> Boolean.TRUE);
+    }
+
     /** Handles add column command. */
     private CompletableFuture<Boolean> handleAlterAddColumn(AlterTableAddCommand cmd) {
         if (nullOrEmpty(cmd.columns())) {
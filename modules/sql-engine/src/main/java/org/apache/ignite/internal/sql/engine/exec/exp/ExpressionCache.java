@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.exp;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.ignite.lang.IgniteSystemProperties;
+
+/**
+ * Node-wide cache of the compiled expressions.
+ *
+ * <p>The cache is keyed by the digest of the expressions, which doesn't include values of the parameterized literals. Cached values
+ * are factories creating the evaluators bound to the given literal values, hence the queries which differ in the literals only share
+ * the compiled code. Compiled evaluators keep no state between invocations, so a single class is safely used by any number of
+ * concurrently executed fragments.
+ */
+public class ExpressionCache {
+    /** Name of the system property which defines the maximal number of the compiled expressions in the cache. */
+    public static final String IGNITE_SQL_EXPRESSION_CACHE_SIZE = "IGNITE_SQL_EXPRESSION_CACHE_SIZE";
+
+    private static final int DFLT_CACHE_SIZE = 1024;
+
+    private final Cache<String, Function<Object[], ? extends Scalar>> cache;
+
+    private final ExpressionCacheMetricSource metricSource;
+
+    /**
+     * Creates the cache of the size defined by the {@link #IGNITE_SQL_EXPRESSION_CACHE_SIZE} system property.
+     */
+    public ExpressionCache() {
+        this(IgniteSystemProperties.getInteger(IGNITE_SQL_EXPRESSION_CACHE_SIZE, DFLT_CACHE_SIZE));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param size Maximal number of the compiled expressions in the cache.
+     */
+    public ExpressionCache(int size) {
+        cache = Caffeine.newBuilder()
+                .maximumSize(size)
+                .build();
+
+        metricSource = new ExpressionCacheMetricSource(cache::estimatedSize);
+    }
+
+    /**
+     * Returns the metric source of the cache.
+     *
+     * @return Metric source.
+     */
+    public ExpressionCacheMetricSource metricSource() {
+        return metricSource;
+    }
+
+    /**
+     * Returns the cached factory of the evaluators or compiles the expressions if there is no such factory in the cache.
+     *
+     * @param digest Digest of the expressions.
+     * @param compiler Compiles the expressions.
+     * @return Factory creating the evaluators from the array of the literal values.
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Scalar> Function<Object[], T> get(String digest, Supplier<Function<Object[], T>> compiler) {
+        Function<Object[], ? extends Scalar> res = cache.getIfPresent(digest);
+
+        if (res != null) {
+            metricSource.onHit();
+
+            return (Function<Object[], T>) res;
+        }
+
+        return (Function<Object[], T>) cache.get(digest, k -> {
+            long start = System.nanoTime();
+
+            Function<Object[], T> factory = compiler.get();
+
+            metricSource.onMiss(System.nanoTime() - start);
+
+            return factory;
+        });
+    }
+
+    /**
+     * Returns the number of the compiled expressions in the cache.
+     *
+     * @return Estimated number of the cached expressions.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.exp;
+
+import java.util.function.LongSupplier;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+import org.apache.ignite.internal.sql.engine.exec.exp.ExpressionCacheMetricSource.Holder;
+
+/**
+ * Metric source of the cache of the compiled SQL expressions.
+ */
+public class ExpressionCacheMetricSource extends AbstractMetricSource<Holder> {
+    /** Source name. */
+    public static final String SOURCE_NAME = "sql.expression.cache";
+
+    /** Supplier of the current number of the cached expressions. */
+    private final LongSupplier size;
+
+    /**
+     * Constructor.
+     *
+     * @param size Supplier of the current number of the cached expressions.
+     */
+    public ExpressionCacheMetricSource(LongSupplier size) {
+        super(SOURCE_NAME);
+
+        this.size = size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void init(MetricSetBuilder bldr, Holder holder) {
+        holder.hits = bldr.longAdder("Hits", "Total number of the expressions found in the cache.");
+
+        holder.misses = bldr.longAdder("Misses", "Total number of the expressions compiled because they were not found in the cache.");
+
+        holder.compilationTime = bldr.longAdder("CompilationTime", "Total time spent compiling the expressions in microseconds.");
+
+        bldr.longGauge("Size", "Current number of the compiled expressions in the cache.", size);
+    }
+
+    /**
+     * Records that an expression was found in the cache.
+     */
+    void onHit() {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.hits.increment();
+        }
+    }
+
+    /**
+     * Records that an expression was compiled.
+     *
+     * @param nanos Compilation time in nanoseconds.
+     */
+    void onMiss(long nanos) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.misses.increment();
+            holder.compilationTime.add(nanos / 1_000);
+        }
+    }
+
+    /**
+     * Holder class.
+     */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private LongAdderMetric hits;
+
+        private LongAdderMetric misses;
+
+        private LongAdderMetric compilationTime;
+    }
+}
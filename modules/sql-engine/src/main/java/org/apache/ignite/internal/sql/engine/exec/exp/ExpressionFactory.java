@@ -30,6 +30,7 @@ import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.sql.engine.exec.batch.BatchPredicate;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType;
 import org.apache.ignite.internal.sql.engine.prepare.bounds.SearchBounds;
@@ -74,6 +75,16 @@ public interface ExpressionFactory<RowT> {
      */
     Predicate<RowT> predicate(RexNode filter, RelDataType rowType);
 
+    /**
+     * Creates a predicate evaluated on column batches. The predicate covers the conjuncts of the filter which can be evaluated on
+     * primitive column values, so the rows accepted by it still have to be checked with the {@link #predicate regular predicate}.
+     *
+     * @param filter Filter expression.
+     * @param rowType Input row type.
+     * @return Batch predicate or {@code null} if none of the filter conjuncts can be evaluated on column batches.
+     */
+    @Nullable BatchPredicate batchPredicate(RexNode filter, RelDataType rowType);
+
     /**
      * Creates a Filter predicate.
      *
@@ -18,21 +18,25 @@
 package org.apache.ignite.internal.sql.engine.exec.exp;
 
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
+import static org.apache.ignite.lang.ErrorGroups.Common.UNEXPECTED_ERR;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentMap;
+import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -52,21 +56,29 @@ import org.apache.calcite.rel.core.AggregateCall;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexCall;
 import org.apache.calcite.rex.RexCorrelVariable;
 import org.apache.calcite.rex.RexDynamicParam;
 import org.apache.calcite.rex.RexFieldAccess;
+import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.rex.RexProgram;
 import org.apache.calcite.rex.RexProgramBuilder;
 import org.apache.calcite.rex.RexShuttle;
 import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.sql.type.SqlTypeUtil;
 import org.apache.calcite.sql.validate.SqlConformance;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.batch.BatchPredicate;
+import org.apache.ignite.internal.sql.engine.exec.batch.ConjunctionBatchPredicate;
+import org.apache.ignite.internal.sql.engine.exec.batch.ConjunctionBatchPredicate.ColumnCondition;
+import org.apache.ignite.internal.sql.engine.exec.batch.ConjunctionBatchPredicate.CompareOp;
 import org.apache.ignite.internal.sql.engine.exec.exp.RexToLixTranslator.InputGetter;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorsFactory;
@@ -80,6 +92,7 @@ import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.IgniteMethod;
 import org.apache.ignite.internal.sql.engine.util.Primitives;
+import org.apache.ignite.lang.IgniteInternalException;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -87,12 +100,23 @@ import org.jetbrains.annotations.Nullable;
  * wrapper over it is returned.
  */
 public class ExpressionFactoryImpl<RowT> implements ExpressionFactory<RowT> {
-    private static final int CACHE_SIZE = 1024;
-
-    private static final ConcurrentMap<String, Scalar> SCALAR_CACHE = Caffeine.newBuilder()
-            .maximumSize(CACHE_SIZE)
-            .<String, Scalar>build()
-            .asMap();
+    /** Cache shared by the factories created without the node cache of the compiled expressions. */
+    private static final ExpressionCache SHARED_CACHE = new ExpressionCache();
+
+    /** Name of the generated class of the evaluators bound to the literal values. */
+    private static final String PARAMETERIZED_SCALAR_CLASS = "ParameterizedScalar";
+
+    /** Types of the literals which values are passed to the compiled code rather than inlined to it. */
+    private static final Set<SqlTypeName> PARAMETERIZED_LITERAL_TYPES = EnumSet.of(
+            SqlTypeName.TINYINT,
+            SqlTypeName.SMALLINT,
+            SqlTypeName.INTEGER,
+            SqlTypeName.BIGINT,
+            SqlTypeName.DECIMAL,
+            SqlTypeName.DOUBLE,
+            SqlTypeName.CHAR,
+            SqlTypeName.VARCHAR
+    );
 
     private final IgniteTypeFactory typeFactory;
 
@@ -106,12 +130,32 @@ public class ExpressionFactoryImpl<RowT> implements ExpressionFactory<RowT> {
 
     private final ExecutionContext<RowT> ctx;
 
+    private final ExpressionCache cache;
+
     /**
      * Constructor.
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
      */
     public ExpressionFactoryImpl(ExecutionContext<RowT> ctx, IgniteTypeFactory typeFactory, SqlConformance conformance) {
+        this(ctx, typeFactory, conformance, SHARED_CACHE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param typeFactory Type factory.
+     * @param conformance SQL conformance.
+     * @param cache Cache of the compiled expressions.
+     */
+    public ExpressionFactoryImpl(
+            ExecutionContext<RowT> ctx,
+            IgniteTypeFactory typeFactory,
+            SqlConformance conformance,
+            ExpressionCache cache
+    ) {
         this.ctx = ctx;
+        this.cache = cache;
         this.typeFactory = typeFactory;
         this.conformance = conformance;
 
@@ -239,6 +283,145 @@ public class ExpressionFactoryImpl<RowT> implements ExpressionFactory<RowT> {
         return new PredicateImpl(scalar(filter, rowType));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable BatchPredicate batchPredicate(RexNode filter, RelDataType rowType) {
+        List<ColumnCondition> conditions = new ArrayList<>();
+
+        for (RexNode conjunct : RelOptUtil.conjunctions(filter)) {
+            ColumnCondition cond = columnCondition(conjunct);
+
+            if (cond != null) {
+                conditions.add(cond);
+            }
+        }
+
+        return conditions.isEmpty() ? null : new ConjunctionBatchPredicate(rowType.getFieldCount(), conditions);
+    }
+
+    /**
+     * Converts a filter conjunct to a condition evaluated on a column vector. Only comparisons of integral or DOUBLE columns with
+     * numeric literals and null checks of such columns are supported.
+     *
+     * @param node Conjunct.
+     * @return Column condition or {@code null} if the conjunct isn't supported.
+     */
+    private static @Nullable ColumnCondition columnCondition(RexNode node) {
+        SqlKind kind = node.getKind();
+
+        switch (kind) {
+            case IS_NULL:
+            case IS_NOT_NULL: {
+                RexNode operand = ((RexCall) node).getOperands().get(0);
+
+                if (!(operand instanceof RexInputRef) || !isVectorizable(operand.getType())) {
+                    return null;
+                }
+
+                return ConjunctionBatchPredicate.nullCheck(
+                        ((RexInputRef) operand).getIndex(),
+                        SqlTypeName.INT_TYPES.contains(operand.getType().getSqlTypeName()),
+                        kind == SqlKind.IS_NULL
+                );
+            }
+
+            case EQUALS:
+            case NOT_EQUALS:
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL: {
+                RexNode left = ((RexCall) node).getOperands().get(0);
+                RexNode right = ((RexCall) node).getOperands().get(1);
+
+                if (left instanceof RexLiteral) {
+                    RexNode tmp = left;
+
+                    left = right;
+                    right = tmp;
+                    kind = kind.reverse();
+                }
+
+                left = stripWideningCast(left);
+
+                if (!(left instanceof RexInputRef) || !isVectorizable(left.getType())
+                        || !(right instanceof RexLiteral) || !SqlTypeUtil.isNumeric(right.getType())) {
+                    return null;
+                }
+
+                BigDecimal val = ((RexLiteral) right).getValueAs(BigDecimal.class);
+
+                if (val == null) {
+                    return null;
+                }
+
+                int col = ((RexInputRef) left).getIndex();
+                CompareOp op = compareOp(kind);
+
+                if (SqlTypeName.INT_TYPES.contains(left.getType().getSqlTypeName())) {
+                    // Comparison with a fractional or out of range constant requires a cast of the column, not supported.
+                    if (val.stripTrailingZeros().scale() > 0
+                            || val.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) < 0
+                            || val.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0) {
+                        return null;
+                    }
+
+                    return ConjunctionBatchPredicate.compare(col, op, val.longValue());
+                }
+
+                return ConjunctionBatchPredicate.compare(col, op, val.doubleValue());
+            }
+
+            default:
+                return null;
+        }
+    }
+
+    /** Checks whether values of the given type can be decoded to a column vector. */
+    private static boolean isVectorizable(RelDataType type) {
+        SqlTypeName typeName = type.getSqlTypeName();
+
+        return SqlTypeName.INT_TYPES.contains(typeName) || typeName == SqlTypeName.DOUBLE;
+    }
+
+    /** Removes a cast from a narrower integral type to a wider one, since such a cast never changes the value. */
+    private static RexNode stripWideningCast(RexNode node) {
+        if (node.getKind() != SqlKind.CAST) {
+            return node;
+        }
+
+        RexNode operand = ((RexCall) node).getOperands().get(0);
+
+        SqlTypeName from = operand.getType().getSqlTypeName();
+        SqlTypeName to = node.getType().getSqlTypeName();
+
+        if (SqlTypeName.INT_TYPES.contains(from) && SqlTypeName.INT_TYPES.contains(to)
+                && SqlTypeName.INT_TYPES.indexOf(from) <= SqlTypeName.INT_TYPES.indexOf(to)) {
+            return operand;
+        }
+
+        return node;
+    }
+
+    private static CompareOp compareOp(SqlKind kind) {
+        switch (kind) {
+            case EQUALS:
+                return CompareOp.EQ;
+            case NOT_EQUALS:
+                return CompareOp.NE;
+            case LESS_THAN:
+                return CompareOp.LT;
+            case LESS_THAN_OR_EQUAL:
+                return CompareOp.LE;
+            case GREATER_THAN:
+                return CompareOp.GT;
+            case GREATER_THAN_OR_EQUAL:
+                return CompareOp.GE;
+            default:
+                throw new AssertionError("Unexpected comparison: " + kind);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public BiPredicate<RowT, RowT> biPredicate(RexNode filter, RelDataType rowType) {
@@ -430,8 +613,12 @@ public class ExpressionFactoryImpl<RowT> implements ExpressionFactory<RowT> {
      * @return SingleScalar.
      */
     public SingleScalar scalar(List<RexNode> nodes, RelDataType type) {
-        return (SingleScalar) SCALAR_CACHE.computeIfAbsent(digest(nodes, type, false),
-                k -> compile(nodes, type, false));
+        Map<RexLiteral, Integer> literalParams = literalParams(nodes);
+
+        Function<Object[], SingleScalar> factory = cache.get(digest(nodes, type, false, literalParams),
+                () -> compile(nodes, type, false, literalParams));
+
+        return factory.apply(literalValues(literalParams));
     }
 
     /**
@@ -443,12 +630,74 @@ public class ExpressionFactoryImpl<RowT> implements ExpressionFactory<RowT> {
      */
     public BiScalar biScalar(RexNode node, RelDataType type) {
         List<RexNode> nodes = List.of(node);
+        Map<RexLiteral, Integer> literalParams = literalParams(nodes);
+
+        Function<Object[], BiScalar> factory = cache.get(digest(nodes, type, true, literalParams),
+                () -> compile(nodes, type, true, literalParams));
+
+        return factory.apply(literalValues(literalParams));
+    }
+
+    /**
+     * Collects the literals which values are passed to the compiled code, so the expressions differing in those literals only
+     * share the code.
+     *
+     * @return Indexes of the literals in the array of the literal values.
+     */
+    private static Map<RexLiteral, Integer> literalParams(List<RexNode> nodes) {
+        Map<RexLiteral, Integer> literalParams = new LinkedHashMap<>();
+
+        RexShuttle collector = new RexShuttle() {
+            @Override
+            public RexNode visitLiteral(RexLiteral literal) {
+                if (!literal.isNull()
+                        // Search arguments are expanded to the code which depends on the values.
+                        && literal.getTypeName() != SqlTypeName.SARG
+                        && PARAMETERIZED_LITERAL_TYPES.contains(literal.getType().getSqlTypeName())) {
+                    literalParams.putIfAbsent(literal, literalParams.size());
+                }
+
+                return literal;
+            }
+        };
+
+        for (RexNode node : nodes) {
+            if (node != null) {
+                node.accept(collector);
+            }
+        }
+
+        return literalParams;
+    }
+
+    private Object[] literalValues(Map<RexLiteral, Integer> literalParams) {
+        Object[] values = new Object[literalParams.size()];
 
-        return (BiScalar) SCALAR_CACHE.computeIfAbsent(digest(nodes, type, true),
-                k -> compile(nodes, type, true));
+        for (Map.Entry<RexLiteral, Integer> e : literalParams.entrySet()) {
+            RexLiteral literal = e.getKey();
+            Class<?> javaClass = (Class<?>) typeFactory.getJavaClass(literal.getType());
+
+            Object val = literal.getValueAs(Primitives.wrap(javaClass));
+
+            // Same as the inlined literal, see RexToLixTranslator#translateLiteral.
+            if (val instanceof BigDecimal) {
+                RelDataType type = literal.getType();
+
+                val = IgniteSqlFunctions.toBigDecimal((BigDecimal) val, type.getPrecision(), type.getScale());
+            }
+
+            values[e.getValue()] = val;
+        }
+
+        return values;
     }
 
-    private Scalar compile(List<RexNode> nodes, RelDataType type, boolean biInParams) {
+    private <T extends Scalar> Function<Object[], T> compile(
+            List<RexNode> nodes,
+            RelDataType type,
+            boolean biInParams,
+            Map<RexLiteral, Integer> literalParams
+    ) {
         if (type == null) {
             type = emptyType;
         }
@@ -486,6 +735,9 @@ public class ExpressionFactoryImpl<RowT> implements ExpressionFactory<RowT> {
         ParameterExpression out =
                 Expressions.parameter(Object.class, "out");
 
+        ParameterExpression literals =
+                Expressions.parameter(Object[].class, "literals");
+
         builder.add(
                 Expressions.declare(Modifier.FINAL, DataContext.ROOT, Expressions.convert_(ctx, DataContext.class)));
 
@@ -499,7 +751,7 @@ public class ExpressionFactoryImpl<RowT> implements ExpressionFactory<RowT> {
         Function1<String, InputGetter> correlates = new CorrelatesBuilder(builder, ctx, hnd).build(nodes);
 
         List<Expression> projects = RexToLixTranslator.translateProjects(program, typeFactory, rexBuilder, conformance,
-                builder, null, ctx, inputGetter, correlates);
+                builder, null, ctx, inputGetter, correlates, literalParams, literals);
 
         assert nodes.size() == projects.size();
 
@@ -525,17 +777,53 @@ public class ExpressionFactoryImpl<RowT> implements ExpressionFactory<RowT> {
                 Modifier.PUBLIC, void.class, methodName,
                 params, builder.toBlock());
 
-        Class<? extends Scalar> clazz = biInParams ? BiScalar.class : SingleScalar.class;
+        Class<T> clazz = (Class<T>) (biInParams ? BiScalar.class : SingleScalar.class);
 
         String body = Expressions.toString(List.of(decl), "\n", false);
-        return Commons.compile(clazz, body);
+
+        if (literalParams.isEmpty()) {
+            T scalar = Commons.compile(clazz, body);
+
+            return literalValues -> scalar;
+        }
+
+        // The literal values are bound to the instances of the compiled class.
+        body = "private final Object[] literals;\n"
+                + "public " + PARAMETERIZED_SCALAR_CLASS + "(Object[] literals) { this.literals = literals; }\n"
+                + body;
+
+        Constructor<? extends T> constructor;
+
+        try {
+            constructor = Commons.compileClass(clazz, PARAMETERIZED_SCALAR_CLASS, body).getConstructor(Object[].class);
+        } catch (NoSuchMethodException e) {
+            throw new IgniteInternalException(UNEXPECTED_ERR, e);
+        }
+
+        return literalValues -> {
+            try {
+                return constructor.newInstance((Object) literalValues);
+            } catch (ReflectiveOperationException e) {
+                throw new IgniteInternalException(UNEXPECTED_ERR, e);
+            }
+        };
     }
 
-    private String digest(List<RexNode> nodes, RelDataType type, boolean biParam) {
+    private String digest(List<RexNode> nodes, RelDataType type, boolean biParam, Map<RexLiteral, Integer> literalParams) {
         StringBuilder b = new StringBuilder();
 
         b.append('[');
 
+        // Values of the parameterized literals don't affect the code, only their positions and types do.
+        RexShuttle placeholders = new RexShuttle() {
+            @Override
+            public RexNode visitLiteral(RexLiteral literal) {
+                Integer idx = literalParams.get(literal);
+
+                return idx == null ? literal : new RexDynamicParam(literal.getType(), -1 - idx);
+            }
+        };
+
         for (int i = 0; i < nodes.size(); i++) {
             if (i > 0) {
                 b.append(';');
@@ -543,6 +831,10 @@ public class ExpressionFactoryImpl<RowT> implements ExpressionFactory<RowT> {
 
             RexNode node = nodes.get(i);
 
+            if (node != null && !literalParams.isEmpty()) {
+                node = node.accept(placeholders);
+            }
+
             b.append(node);
 
             if (node == null) {
@@ -1479,7 +1479,8 @@ public class RexImpTable {
             }
             if (SqlTypeUtil.equalSansNullability(translator.typeFactory,
                     call.getType(), arg.getType())
-                    && translator.deref(arg) instanceof RexLiteral) {
+                    && translator.deref(arg) instanceof RexLiteral
+                    && !translator.isParameterized((RexLiteral) translator.deref(arg))) {
                 return RexToLixTranslator.translateLiteral(
                         (RexLiteral) translator.deref(arg), call.getType(),
                         translator.typeFactory, NullAs.NULL);
@@ -98,6 +98,12 @@ public class RexToLixTranslator implements RexVisitor<RexToLixTranslator.Result>
 
     private final Function1<String, InputGetter> correlates;
 
+    /** Indexes of the literals which values are read from the {@link #literals} array rather than inlined to the code. */
+    private final Map<RexLiteral, Integer> literalParams;
+
+    /** Array of the literal values, {@code null} if all the literals are inlined. */
+    private final Expression literals;
+
     /**
      * Map from RexLiteral's variable name to its literal, which is often a ({@link ConstantExpression})).
      * It is used in the some {@code RexCall}'s implementors, such as {@code ExtractImplementor}.
@@ -137,7 +143,9 @@ public class RexToLixTranslator implements RexVisitor<RexToLixTranslator.Result>
             BlockBuilder list,
             RexBuilder builder,
             SqlConformance conformance,
-            Function1<String, InputGetter> correlates) {
+            Function1<String, InputGetter> correlates,
+            Map<RexLiteral, Integer> literalParams,
+            Expression literals) {
         this.program = program; // may be null
         this.typeFactory = Objects.requireNonNull(typeFactory);
         this.conformance = Objects.requireNonNull(conformance);
@@ -146,6 +154,8 @@ public class RexToLixTranslator implements RexVisitor<RexToLixTranslator.Result>
         this.list = Objects.requireNonNull(list);
         this.builder = Objects.requireNonNull(builder);
         this.correlates = correlates; // may be null
+        this.literalParams = Objects.requireNonNull(literalParams);
+        this.literals = literals; // may be null
     }
 
     /**
@@ -165,6 +175,31 @@ public class RexToLixTranslator implements RexVisitor<RexToLixTranslator.Result>
             JavaTypeFactory typeFactory, RexBuilder rexBuilder, SqlConformance conformance,
             BlockBuilder list, PhysType outputPhysType, Expression root,
             InputGetter inputGetter, Function1<String, InputGetter> correlates) {
+        return translateProjects(program, typeFactory, rexBuilder, conformance, list, outputPhysType, root, inputGetter,
+                correlates, Map.of(), null);
+    }
+
+    /**
+     * Translates a {@link RexProgram} to a sequence of expressions and declarations. Values of the given literals are read
+     * from an array, so the code doesn't depend on them and may be reused for the expressions which differ in those literals only.
+     *
+     * @param program        Program to be translated
+     * @param typeFactory    Type factory
+     * @param conformance    SQL conformance
+     * @param list           List of statements, populated with declarations
+     * @param outputPhysType Output type, or null
+     * @param root           Root expression
+     * @param inputGetter    Generates expressions for inputs
+     * @param correlates     Provider of references to the values of correlated variables
+     * @param literalParams  Indexes of the literal values in the array
+     * @param literals       Array of the literal values
+     * @return Sequence of expressions, optional condition
+     */
+    public static List<Expression> translateProjects(RexProgram program,
+            JavaTypeFactory typeFactory, RexBuilder rexBuilder, SqlConformance conformance,
+            BlockBuilder list, PhysType outputPhysType, Expression root,
+            InputGetter inputGetter, Function1<String, InputGetter> correlates,
+            Map<RexLiteral, Integer> literalParams, Expression literals) {
         List<Type> storageTypes = null;
         if (outputPhysType != null) {
             final RelDataType rowType = outputPhysType.getRowType();
@@ -174,7 +209,7 @@ public class RexToLixTranslator implements RexVisitor<RexToLixTranslator.Result>
             }
         }
         var rexToLixTranslator = new RexToLixTranslator(program, typeFactory, root, inputGetter,
-                list, rexBuilder, conformance, null)
+                list, rexBuilder, conformance, null, literalParams, literals)
                 .setCorrelates(correlates);
         return rexToLixTranslator
                 .translateList(program.getProjectList(), storageTypes);
@@ -893,7 +928,7 @@ public class RexToLixTranslator implements RexVisitor<RexToLixTranslator.Result>
         }
 
         return new RexToLixTranslator(program, typeFactory, root, inputGetter,
-                block, builder, conformance, correlates);
+                block, builder, conformance, correlates, literalParams, literals);
     }
 
     /**
@@ -907,7 +942,7 @@ public class RexToLixTranslator implements RexVisitor<RexToLixTranslator.Result>
         }
 
         return new RexToLixTranslator(program, typeFactory, root, inputGetter, list,
-                builder, conformance, correlates);
+                builder, conformance, correlates, literalParams, literals);
     }
 
     public Expression getRoot() {
@@ -1013,7 +1048,11 @@ public class RexToLixTranslator implements RexVisitor<RexToLixTranslator.Result>
 
         // Generate one line of code for the value of RexLiteral, e.g.,
         // "final int literal_value = 10;"
-        final Expression valueExpression = literal.isNull()
+        final Integer paramIdx = literalParams.get(literal);
+        final Expression valueExpression = paramIdx != null
+                // Parameterized literal, e.g. "final int literal_value = ((Integer) literals[0]).intValue();"
+                ? literalParam(literal, paramIdx)
+                : literal.isNull()
                 // Note: even for null literal, we can't loss its type information
                 ? getTypedNullLiteral(literal)
                 : translateLiteral(literal, literal.getType(),
@@ -1387,11 +1426,31 @@ public class RexToLixTranslator implements RexVisitor<RexToLixTranslator.Result>
         return list;
     }
 
+    private Expression literalParam(RexLiteral literal, int idx) {
+        Type javaClass = typeFactory.getJavaClass(literal.getType());
+        Primitive primitive = Primitive.of(javaClass);
+
+        Expression val = Expressions.convert_(Expressions.arrayIndex(literals, Expressions.constant(idx)),
+                primitive != null ? primitive.boxClass : javaClass);
+
+        return primitive != null ? Expressions.unbox(val, primitive) : val;
+    }
+
+    /** Returns {@code true} if the value of the literal is read from the array of literal values rather than inlined. */
+    boolean isParameterized(RexLiteral literal) {
+        return literalParams.containsKey(literal);
+    }
+
     Expression getLiteral(Expression literalVariable) {
         return literalMap.get(literalVariable);
     }
 
-    /** Returns the value of a literal. */
+    /**
+     * Returns the value of a literal. Returns {@code null} for the parameterized literals, as their values are not known at
+     * the code generation time, so the implementors must not make any code depend on them.
+     *
+     * @see #isParameterized
+     */
     Object getLiteralValue(Expression expr) {
         if (expr instanceof ParameterExpression) {
             final Expression constantExpr = literalMap.get(expr);
@@ -313,7 +313,7 @@ public class AccumulatorsFactory<RowT> implements Supplier<List<AccumulatorWrapp
         /** {@inheritDoc} */
         @Override
         public void apply(Accumulator accumulator) {
-            assert type == AggregateType.REDUCE;
+            assert type == AggregateType.REDUCE || type == AggregateType.WINDOW;
 
             this.accumulator.apply(accumulator);
         }
@@ -321,7 +321,7 @@ public class AccumulatorsFactory<RowT> implements Supplier<List<AccumulatorWrapp
         /** {@inheritDoc} */
         @Override
         public Accumulator accumulator() {
-            assert type == AggregateType.MAP;
+            assert type == AggregateType.MAP || type == AggregateType.WINDOW;
 
             return accumulator;
         }
@@ -29,5 +29,8 @@ public enum AggregateType {
     REDUCE,
 
     /** Single phase aggregate. */
-    SINGLE
+    SINGLE,
+
+    /** Aggregate over a window frame, accumulators are both fed with the rows and merged with each other. */
+    WINDOW
 }
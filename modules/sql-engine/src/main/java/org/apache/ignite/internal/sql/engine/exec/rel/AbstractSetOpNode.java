@@ -19,22 +19,46 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import it.unimi.dsi.fastutil.HashCommon;
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.sql.engine.exec.spill.MemoryReservation;
+import org.apache.ignite.internal.sql.engine.exec.spill.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillFile;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Abstract execution node for set operators (EXCEPT, INTERSECT).
+ *
+ * <p>Once the query memory quota is exceeded, the rows of the keys which are not in memory yet are spilled to disk, hash-partitioned
+ * by the key. Spilled partitions are processed one by one after the groups held in memory are emitted, and a partition which still
+ * doesn't fit in memory is partitioned again.
  */
 public abstract class AbstractSetOpNode<RowT> extends AbstractNode<RowT> {
+    /** Number of partitions the rows are spilled to. */
+    private static final int SPILL_PARTITIONS = 16;
+
+    /** Maximal number of partitioning passes, the groups are kept in memory regardless of the quota after that. */
+    private static final int MAX_SPILL_LEVEL = 4;
+
+    /** Estimated size of a group without its key. */
+    private static final int GROUP_OVERHEAD = 64;
+
     private final AggregateType type;
 
     private final Grouping<RowT> grouping;
@@ -115,6 +139,8 @@ public abstract class AbstractSetOpNode<RowT> extends AbstractNode<RowT> {
         if (curSrcIdx >= sources().size()) {
             waiting = -1;
 
+            grouping.finishInput(sources().size());
+
             flush();
         } else {
             sources().get(curSrcIdx).request(waiting);
@@ -128,6 +154,15 @@ public abstract class AbstractSetOpNode<RowT> extends AbstractNode<RowT> {
         waiting = 0;
         curSrcIdx = 0;
         grouping.groups.clear();
+        grouping.releaseSpilled();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        grouping.releaseSpilled();
     }
 
     /** {@inheritDoc} */
@@ -212,14 +247,52 @@ public abstract class AbstractSetOpNode<RowT> extends AbstractNode<RowT> {
         /** Processed rows count in current set. */
         protected int rowsCnt = 0;
 
+        private final ExecutionContext<RowT> ctx;
+
+        /** Whether the groups may be spilled to disk. */
+        private final boolean spillable;
+
+        /** Memory reserved for the groups. */
+        private final MemoryReservation memory;
+
+        /** Partitions receiving the rows of the keys which didn't fit in memory, {@code null} if there is no such keys. */
+        private @Nullable List<SpilledPartition<RowT>> activePartitions;
+
+        /** Spilled partitions waiting to be processed. */
+        private final Deque<SpilledPartition<RowT>> pending = new ArrayDeque<>();
+
+        /** Partitioning pass: {@code 0} for the input rows, {@code N} for the rows of a partition spilled by the pass {@code N - 1}. */
+        private int level;
+
+        /** Number of input sets. */
+        private int setsCnt;
+
         protected Grouping(ExecutionContext<RowT> ctx, RowFactory<RowT> rowFactory, AggregateType type, boolean all) {
             hnd = ctx.rowHandler();
             this.type = type;
             this.all = all;
             this.rowFactory = rowFactory;
+            this.ctx = ctx;
+
+            spillable = ctx.spillManager() != null;
+            memory = new MemoryReservation(ctx.memoryTracker());
         }
 
-        private void add(RowT row, int setIdx) {
+        private void add(RowT row, int setIdx) throws IOException {
+            if (activePartitions != null) {
+                GroupKey key = type == AggregateType.REDUCE ? (GroupKey) hnd.get(0, row) : key(row);
+
+                if (!groups.containsKey(key)) {
+                    spill(key, row, setIdx);
+
+                    rowsCnt++;
+
+                    return;
+                }
+            }
+
+            int grpCnt = groups.size();
+
             if (type == AggregateType.REDUCE) {
                 assert setIdx == 0 : "Unexpected set index: " + setIdx;
 
@@ -231,6 +304,10 @@ public abstract class AbstractSetOpNode<RowT> extends AbstractNode<RowT> {
             }
 
             rowsCnt++;
+
+            if (spillable && groups.size() > grpCnt) {
+                onGroupCreated(row);
+            }
         }
 
         /**
@@ -240,7 +317,34 @@ public abstract class AbstractSetOpNode<RowT> extends AbstractNode<RowT> {
          * @param cnt Number of rows.
          * @return Actually sent rows number.
          */
-        private List<RowT> getRows(int cnt) {
+        private List<RowT> getRows(int cnt) throws IOException {
+            if (groups.isEmpty() && !pending.isEmpty()) {
+                loadPartition();
+            }
+
+            List<RowT> res = getRows0(cnt);
+
+            // Fill the batch from the spilled partitions.
+            while (res.size() < cnt && groups.isEmpty() && !pending.isEmpty()) {
+                loadPartition();
+
+                List<RowT> rows = getRows0(cnt - res.size());
+
+                if (res.isEmpty()) {
+                    res = rows;
+                } else {
+                    res.addAll(rows);
+                }
+            }
+
+            if (groups.isEmpty()) {
+                memory.releaseAll();
+            }
+
+            return res;
+        }
+
+        private List<RowT> getRows0(int cnt) {
             if (nullOrEmpty(groups)) {
                 return Collections.emptyList();
             } else if (type == AggregateType.MAP) {
@@ -360,8 +464,126 @@ public abstract class AbstractSetOpNode<RowT> extends AbstractNode<RowT> {
 
         protected abstract void decrementAvailableRows(int[] cntrs, int amount);
 
+        /** Takes the new group into account and starts spilling the rows of the new keys if the memory quota is exceeded. */
+        private void onGroupCreated(RowT row) {
+            long size = GROUP_OVERHEAD + RowSizeEstimator.estimate(hnd, row);
+
+            if (!memory.tryReserve(size)) {
+                // The group is already created, so take it into account anyway.
+                memory.reserve(size);
+
+                if (level < MAX_SPILL_LEVEL) {
+                    activePartitions = new ArrayList<>(Collections.nCopies(SPILL_PARTITIONS, null));
+                }
+            }
+        }
+
+        private void spill(GroupKey key, RowT row, int setIdx) throws IOException {
+            int idx = (HashCommon.murmurHash3(key.hashCode() + level) & Integer.MAX_VALUE) % SPILL_PARTITIONS;
+
+            SpilledPartition<RowT> part = activePartitions.get(idx);
+
+            if (part == null) {
+                part = new SpilledPartition<>(ctx.spillManager().createFile(ctx), level);
+
+                activePartitions.set(idx, part);
+            }
+
+            part.write(row, setIdx);
+        }
+
+        private void finishInput(int setsCnt) {
+            this.setsCnt = setsCnt;
+
+            finishSpill();
+        }
+
+        /** Moves the partitions filled by the current pass to the queue of partitions waiting to be processed. */
+        private void finishSpill() {
+            if (activePartitions == null) {
+                return;
+            }
+
+            for (SpilledPartition<RowT> part : activePartitions) {
+                if (part != null) {
+                    pending.push(part);
+                }
+            }
+
+            activePartitions = null;
+        }
+
+        /** Processes the next spilled partition replaying its rows set by set. */
+        private void loadPartition() throws IOException {
+            SpilledPartition<RowT> part = pending.pop();
+
+            memory.releaseAll();
+
+            level = part.level + 1;
+
+            try (SpillFile<RowT> file = part.file) {
+                SpillFile<RowT>.Reader reader = file.reader();
+
+                for (int setIdx = 0; setIdx < setsCnt; setIdx++) {
+                    for (int i = 0, cnt = part.rowsCount(setIdx); i < cnt; i++) {
+                        add(reader.next(), setIdx);
+                    }
+
+                    endOfSet(setIdx);
+                }
+            }
+
+            finishSpill();
+        }
+
+        private void releaseSpilled() {
+            if (activePartitions != null) {
+                activePartitions.stream().filter(Objects::nonNull).forEach(p -> Commons.closeQuiet(p.file));
+
+                activePartitions = null;
+            }
+
+            while (!pending.isEmpty()) {
+                Commons.closeQuiet(pending.pop().file);
+            }
+
+            level = 0;
+
+            memory.releaseAll();
+        }
+
         private boolean isEmpty() {
-            return groups.isEmpty();
+            return groups.isEmpty() && activePartitions == null && pending.isEmpty();
+        }
+    }
+
+    /** Partition spilled to disk. */
+    private static class SpilledPartition<RowT> {
+        private final SpillFile<RowT> file;
+
+        /** Partitioning pass the partition was spilled by. */
+        private final int level;
+
+        /** Number of rows of every input set, the rows are written set by set. */
+        private int[] rowsPerSet = new int[1];
+
+        private SpilledPartition(SpillFile<RowT> file, int level) {
+            this.file = file;
+            this.level = level;
+        }
+
+        private void write(RowT row, int setIdx) throws IOException {
+            file.write(row);
+
+            if (setIdx >= rowsPerSet.length) {
+                rowsPerSet = Arrays.copyOf(rowsPerSet, setIdx + 1);
+            }
+
+            rowsPerSet[setIdx]++;
+        }
+
+        private int rowsCount(int setIdx) {
+            return setIdx < rowsPerSet.length ? rowsPerSet[setIdx] : 0;
         }
     }
 }
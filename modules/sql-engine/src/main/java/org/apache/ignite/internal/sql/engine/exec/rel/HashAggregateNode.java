@@ -22,9 +22,12 @@ import static org.apache.ignite.internal.sql.engine.util.Commons.negate;
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 import static org.apache.ignite.lang.ErrorGroups.Sql.TOO_MANY_GROUPING_EXPRESSIONS_ERR;
 
+import it.unimi.dsi.fastutil.HashCommon;
+import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -38,14 +41,34 @@ import org.apache.ignite.internal.sql.engine.exec.exp.agg.Accumulator;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.sql.engine.exec.spill.MemoryReservation;
+import org.apache.ignite.internal.sql.engine.exec.spill.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillFile;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.lang.IgniteInternalException;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * HashAggregateNode.
  * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
+ *
+ * <p>Once the query memory quota is exceeded, the rows of the groups which are not in memory yet are spilled to disk, hash-partitioned
+ * by the group key. Spilled partitions are aggregated one by one after the groups held in memory are emitted, and a partition which
+ * still doesn't fit in memory is partitioned again.
  */
 public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+    /** Number of partitions the rows are spilled to. */
+    private static final int SPILL_PARTITIONS = 16;
+
+    /** Maximal number of partitioning passes, the groups are kept in memory regardless of the quota after that. */
+    private static final int MAX_SPILL_LEVEL = 4;
+
+    /** Estimated size of a group without its key and accumulators. */
+    private static final int GROUP_OVERHEAD = 64;
+
+    /** Estimated size of an accumulator. */
+    private static final int ACCUMULATOR_SIZE = 64;
+
     private final AggregateType type;
 
     /** May be {@code null} when there are not accumulators (DISTINCT aggregate node). */
@@ -63,6 +86,9 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
     private boolean inLoop;
 
+    /** Whether the groups may be spilled to disk. */
+    private final boolean spillable;
+
     /**
      * Constructor.
      *
@@ -77,6 +103,8 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         this.accFactory = accFactory;
         this.rowFactory = rowFactory;
 
+        spillable = ctx.spillManager() != null;
+
         ImmutableBitSet.Builder b = ImmutableBitSet.builder();
 
         if (grpSets.size() > Byte.MAX_VALUE) {
@@ -142,6 +170,10 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
         waiting = -1;
 
+        for (Grouping grouping : groupings) {
+            grouping.finishSpill();
+        }
+
         flush();
     }
 
@@ -153,6 +185,14 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         groupings.forEach(Grouping::reset);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        groupings.forEach(Grouping::releaseSpilled);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected Downstream<RowT> requestDownstream(int idx) {
@@ -231,11 +271,24 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
         private final RowHandler<RowT> handler;
 
+        /** Memory reserved for the groups. */
+        private final MemoryReservation memory;
+
+        /** Partitions receiving the rows of the groups which didn't fit in memory, {@code null} if there is no such groups. */
+        private @Nullable List<SpillFile<RowT>> activePartitions;
+
+        /** Spilled partitions waiting to be aggregated. */
+        private final Deque<SpilledPartition<RowT>> pending = new ArrayDeque<>();
+
+        /** Partitioning pass: {@code 0} for the input rows, {@code N} for the rows of a partition spilled by the pass {@code N - 1}. */
+        private int level;
+
         private Grouping(byte grpId, ImmutableBitSet grpFields) {
             this.grpId = grpId;
             this.grpFields = grpFields;
 
             handler = context().rowHandler();
+            memory = new MemoryReservation(context().memoryTracker());
 
             init();
         }
@@ -244,17 +297,25 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
             // Initializes aggregates for case when no any rows will be added into the aggregate to have 0 as result.
             // Doesn't do it for MAP type due to we don't want send from MAP node zero results because it looks redundant.
             if (grpFields.isEmpty() && (type == AggregateType.REDUCE || type == AggregateType.SINGLE)) {
-                groups.put(GroupKey.EMPTY_GRP_KEY, create());
+                List<AccumulatorWrapper<RowT>> wrappers = create();
+
+                groups.put(GroupKey.EMPTY_GRP_KEY, wrappers);
+
+                if (spillable) {
+                    memory.reserve(groupSize(GroupKey.EMPTY_GRP_KEY, wrappers));
+                }
             }
         }
 
         private void reset() {
             groups.clear();
 
+            releaseSpilled();
+
             init();
         }
 
-        private void add(RowT row) {
+        private void add(RowT row) throws IOException {
             if (type == AggregateType.REDUCE) {
                 addOnReducer(row);
             } else {
@@ -269,17 +330,29 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
          * @param cnt Number of rows.
          * @return Actually sent rows number.
          */
-        private List<RowT> getRows(int cnt) {
+        private List<RowT> getRows(int cnt) throws IOException {
+            if (groups.isEmpty() && !pending.isEmpty()) {
+                loadPartition();
+            }
+
+            List<RowT> res;
+
             if (nullOrEmpty(groups)) {
-                return Collections.emptyList();
+                res = Collections.emptyList();
             } else if (type == AggregateType.MAP) {
-                return getOnMapper(cnt);
+                res = getOnMapper(cnt);
             } else {
-                return getOnReducer(cnt);
+                res = getOnReducer(cnt);
             }
+
+            if (groups.isEmpty()) {
+                memory.releaseAll();
+            }
+
+            return res;
         }
 
-        private void addOnMapper(RowT row) {
+        private void addOnMapper(RowT row) throws IOException {
             GroupKey.Builder b = GroupKey.builder(grpFields.cardinality());
 
             for (Integer field : grpFields) {
@@ -288,14 +361,24 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
             GroupKey grpKey = b.build();
 
-            List<AccumulatorWrapper<RowT>> wrappers = groups.computeIfAbsent(grpKey, k -> create());
+            List<AccumulatorWrapper<RowT>> wrappers = groups.get(grpKey);
+
+            if (wrappers == null) {
+                if (activePartitions != null) {
+                    spill(grpKey, row);
+
+                    return;
+                }
+
+                wrappers = createGroup(grpKey);
+            }
 
             for (AccumulatorWrapper<RowT> wrapper : wrappers) {
                 wrapper.add(row);
             }
         }
 
-        private void addOnReducer(RowT row) {
+        private void addOnReducer(RowT row) throws IOException {
             byte targetGrpId = (byte) handler.get(0, row);
 
             if (targetGrpId != grpId) {
@@ -304,7 +387,17 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
             GroupKey grpKey = (GroupKey) handler.get(1, row);
 
-            List<AccumulatorWrapper<RowT>> wrappers = groups.computeIfAbsent(grpKey, k -> create());
+            List<AccumulatorWrapper<RowT>> wrappers = groups.get(grpKey);
+
+            if (wrappers == null) {
+                if (activePartitions != null) {
+                    spill(grpKey, row);
+
+                    return;
+                }
+
+                wrappers = createGroup(grpKey);
+            }
             List<Accumulator> accums = hasAccumulators() ? (List<Accumulator>) handler.get(2, row) : Collections.emptyList();
 
             for (int i = 0; i < wrappers.size(); i++) {
@@ -332,6 +425,9 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
                 res.add(row);
 
                 it.remove();
+
+                // The memory of the emitted groups is available to the downstream operators right away.
+                memory.release(groupSize(grpKey, entry.getValue()));
             }
 
             return res;
@@ -364,6 +460,8 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
                 res.add(rowFactory.create(fields));
                 it.remove();
+
+                memory.release(groupSize(grpKey, wrappers));
             }
 
             return res;
@@ -377,8 +475,112 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
             return accFactory.get();
         }
 
+        /** Creates a new group in memory and starts spilling the rows of the groups created after if the memory quota is exceeded. */
+        private List<AccumulatorWrapper<RowT>> createGroup(GroupKey grpKey) {
+            List<AccumulatorWrapper<RowT>> wrappers = create();
+
+            groups.put(grpKey, wrappers);
+
+            if (spillable) {
+                long size = groupSize(grpKey, wrappers);
+
+                if (!memory.tryReserve(size)) {
+                    // The group is already created, so take it into account anyway.
+                    memory.reserve(size);
+
+                    if (level < MAX_SPILL_LEVEL) {
+                        activePartitions = new ArrayList<>(Collections.nCopies(SPILL_PARTITIONS, null));
+                    }
+                }
+            }
+
+            return wrappers;
+        }
+
+        /** Returns the estimated heap size of the group in bytes. */
+        private long groupSize(GroupKey grpKey, List<AccumulatorWrapper<RowT>> wrappers) {
+            return GROUP_OVERHEAD + RowSizeEstimator.estimate(grpKey) + (long) ACCUMULATOR_SIZE * wrappers.size();
+        }
+
+        private void spill(GroupKey grpKey, RowT row) throws IOException {
+            int part = (HashCommon.murmurHash3(grpKey.hashCode() + level) & Integer.MAX_VALUE) % SPILL_PARTITIONS;
+
+            SpillFile<RowT> file = activePartitions.get(part);
+
+            if (file == null) {
+                file = context().spillManager().createFile(context());
+
+                activePartitions.set(part, file);
+            }
+
+            file.write(row);
+        }
+
+        /** Moves the partitions filled by the current pass to the queue of partitions waiting to be aggregated. */
+        private void finishSpill() {
+            if (activePartitions == null) {
+                return;
+            }
+
+            for (SpillFile<RowT> file : activePartitions) {
+                if (file != null) {
+                    pending.push(new SpilledPartition<>(file, level));
+                }
+            }
+
+            activePartitions = null;
+        }
+
+        /** Aggregates the next spilled partition. */
+        private void loadPartition() throws IOException {
+            SpilledPartition<RowT> part = pending.pop();
+
+            memory.releaseAll();
+
+            level = part.level + 1;
+
+            try (SpillFile<RowT> file = part.file) {
+                SpillFile<RowT>.Reader reader = file.reader();
+
+                while (reader.hasNext()) {
+                    add(reader.next());
+                }
+            }
+
+            finishSpill();
+        }
+
+        private void releaseSpilled() {
+            if (activePartitions != null) {
+                activePartitions.forEach(Commons::closeQuiet);
+
+                activePartitions = null;
+            }
+
+            while (!pending.isEmpty()) {
+                Commons.closeQuiet(pending.pop().file);
+            }
+
+            level = 0;
+
+            memory.releaseAll();
+        }
+
         private boolean isEmpty() {
-            return groups.isEmpty();
+            return groups.isEmpty() && pending.isEmpty();
+        }
+    }
+
+    /** Partition spilled to disk. */
+    private static class SpilledPartition<RowT> {
+        private final SpillFile<RowT> file;
+
+        /** Partitioning pass the partition was spilled by. */
+        private final int level;
+
+        private SpilledPartition(SpillFile<RowT> file, int level) {
+            this.file = file;
+            this.level = level;
         }
     }
 }
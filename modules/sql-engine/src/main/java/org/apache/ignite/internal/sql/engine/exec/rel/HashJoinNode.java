@@ -0,0 +1,774 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupKey;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Hash join node.
+ *
+ * <p>The right input is used as a build side: all its rows are materialized into an on-heap hash table keyed by
+ * the right join keys. Then the left input is streamed through the node and every left row probes the hash table
+ * by the left join keys. Thus the node preserves the order of the left input for all join types except the rows
+ * which are emitted for the unmatched right rows of RIGHT and FULL joins (those are emitted after the left input
+ * is exhausted).
+ *
+ * <p>Only equi-join conditions are supported. Keys containing NULL never match unless the corresponding condition
+ * is {@code IS NOT DISTINCT FROM}.
+ */
+public abstract class HashJoinNode<RowT> extends AbstractNode<RowT> {
+    /** Special value to highlights that all row were received and we are not waiting any more. */
+    protected static final int NOT_WAITING = -1;
+
+    protected final RowHandler<RowT> handler;
+
+    /** Join keys of the left (probe) input. */
+    private final ImmutableIntList leftKeys;
+
+    /** Join keys of the right (build) input. */
+    private final ImmutableIntList rightKeys;
+
+    /** Positions of the key pairs for which NULL is considered equal to NULL. */
+    private final ImmutableBitSet nullsAsEqual;
+
+    /** Build side hash table. */
+    protected final Map<GroupKey, RightRowsBucket<RowT>> hashStore = new HashMap<>();
+
+    /** Rows of the build side with NULL keys. Such rows never match, but still must be emitted by RIGHT and FULL joins. */
+    protected final List<RowT> rightNullKeyRows = new ArrayList<>();
+
+    protected int requested;
+
+    protected int waitingLeft;
+
+    protected int waitingRight;
+
+    protected final Deque<RowT> leftInBuf = new ArrayDeque<>(inBufSize);
+
+    protected boolean inLoop;
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param leftKeys Join keys of the left input.
+     * @param rightKeys Join keys of the right input.
+     * @param nullsAsEqual Positions of the key pairs for which NULL is considered equal to NULL.
+     */
+    private HashJoinNode(
+            ExecutionContext<RowT> ctx,
+            ImmutableIntList leftKeys,
+            ImmutableIntList rightKeys,
+            ImmutableBitSet nullsAsEqual
+    ) {
+        super(ctx);
+
+        assert !nullOrEmpty(leftKeys) && leftKeys.size() == rightKeys.size();
+
+        this.leftKeys = leftKeys;
+        this.rightKeys = rightKeys;
+        this.nullsAsEqual = nullsAsEqual;
+
+        handler = ctx.rowHandler();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void request(int rowsCnt) throws Exception {
+        assert !nullOrEmpty(sources()) && sources().size() == 2;
+        assert rowsCnt > 0 && requested == 0;
+
+        checkState();
+
+        requested = rowsCnt;
+
+        if (!inLoop) {
+            context().execute(this::doJoin, this::onError);
+        }
+    }
+
+    private void doJoin() throws Exception {
+        checkState();
+
+        join();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void rewindInternal() {
+        requested = 0;
+        waitingLeft = 0;
+        waitingRight = 0;
+
+        hashStore.clear();
+        rightNullKeyRows.clear();
+        leftInBuf.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Downstream<RowT> requestDownstream(int idx) {
+        if (idx == 0) {
+            return new Downstream<RowT>() {
+                /** {@inheritDoc} */
+                @Override
+                public void push(RowT row) throws Exception {
+                    pushLeft(row);
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void end() throws Exception {
+                    endLeft();
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void onError(Throwable e) {
+                    HashJoinNode.this.onError(e);
+                }
+            };
+        } else if (idx == 1) {
+            return new Downstream<RowT>() {
+                /** {@inheritDoc} */
+                @Override
+                public void push(RowT row) throws Exception {
+                    pushRight(row);
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void end() throws Exception {
+                    endRight();
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void onError(Throwable e) {
+                    HashJoinNode.this.onError(e);
+                }
+            };
+        }
+
+        throw new IndexOutOfBoundsException();
+    }
+
+    private void pushLeft(RowT row) throws Exception {
+        assert downstream() != null;
+        assert waitingLeft > 0;
+
+        checkState();
+
+        waitingLeft--;
+
+        leftInBuf.add(row);
+
+        join();
+    }
+
+    private void pushRight(RowT row) throws Exception {
+        assert downstream() != null;
+        assert waitingRight > 0;
+
+        checkState();
+
+        waitingRight--;
+
+        GroupKey key = key(row, rightKeys);
+
+        if (key == null) {
+            rightNullKeyRows.add(row);
+        } else {
+            hashStore.computeIfAbsent(key, k -> new RightRowsBucket<>()).rows.add(row);
+        }
+
+        if (waitingRight == 0) {
+            rightSource().request(waitingRight = inBufSize);
+        }
+    }
+
+    private void endLeft() throws Exception {
+        assert downstream() != null;
+        assert waitingLeft > 0;
+
+        checkState();
+
+        waitingLeft = NOT_WAITING;
+
+        join();
+    }
+
+    private void endRight() throws Exception {
+        assert downstream() != null;
+        assert waitingRight > 0;
+
+        checkState();
+
+        waitingRight = NOT_WAITING;
+
+        join();
+    }
+
+    protected Node<RowT> leftSource() {
+        return sources().get(0);
+    }
+
+    protected Node<RowT> rightSource() {
+        return sources().get(1);
+    }
+
+    /**
+     * Looks up the build side rows matching the given left row.
+     *
+     * @param left Left row.
+     * @return Bucket of the matching rows or {@code null} if there is no match.
+     */
+    protected @Nullable RightRowsBucket<RowT> lookup(RowT left) {
+        GroupKey key = key(left, leftKeys);
+
+        return key == null ? null : hashStore.get(key);
+    }
+
+    /**
+     * Returns an iterator over the build side rows that were not matched by any left row. Rows with NULL keys are
+     * included as well, since they can't match anything.
+     */
+    protected Iterator<RowT> unmatchedRightRows() {
+        List<RowT> res = new ArrayList<>(rightNullKeyRows);
+
+        for (RightRowsBucket<RowT> bucket : hashStore.values()) {
+            if (!bucket.touched) {
+                res.addAll(bucket.rows);
+            }
+        }
+
+        return res.iterator();
+    }
+
+    /** Requests more rows from the inputs if needed. */
+    protected void requestMoreIfNeeded() throws Exception {
+        if (waitingRight == 0) {
+            rightSource().request(waitingRight = inBufSize);
+        }
+
+        if (waitingLeft == 0 && leftInBuf.isEmpty()) {
+            leftSource().request(waitingLeft = inBufSize);
+        }
+    }
+
+    /** Returns {@code true} if both inputs are exhausted and all received left rows are processed. */
+    protected boolean inputsDrained(@Nullable RowT left) {
+        return waitingLeft == NOT_WAITING && waitingRight == NOT_WAITING && left == null && leftInBuf.isEmpty();
+    }
+
+    /**
+     * Builds a key from the given row.
+     *
+     * @return Key or {@code null} if the key contains NULL which can't match anything.
+     */
+    private @Nullable GroupKey key(RowT row, ImmutableIntList keys) {
+        GroupKey.Builder b = GroupKey.builder(keys.size());
+
+        for (int i = 0; i < keys.size(); i++) {
+            Object val = handler.get(keys.getInt(i), row);
+
+            if (val == null && !nullsAsEqual.get(i)) {
+                return null;
+            }
+
+            b.add(val);
+        }
+
+        return b.build();
+    }
+
+    protected abstract void join() throws Exception;
+
+    /**
+     * Creates a hash join node.
+     *
+     * @param ctx Execution context.
+     * @param leftRowType Row type of the left input.
+     * @param rightRowType Row type of the right input.
+     * @param joinType Join type.
+     * @param leftKeys Join keys of the left input.
+     * @param rightKeys Join keys of the right input.
+     * @param nullsAsEqual Positions of the key pairs for which NULL is considered equal to NULL.
+     * @return Hash join node.
+     */
+    @NotNull
+    public static <RowT> HashJoinNode<RowT> create(ExecutionContext<RowT> ctx, RelDataType leftRowType,
+            RelDataType rightRowType, JoinRelType joinType, ImmutableIntList leftKeys, ImmutableIntList rightKeys,
+            ImmutableBitSet nullsAsEqual) {
+        switch (joinType) {
+            case INNER:
+                return new InnerJoin<>(ctx, leftKeys, rightKeys, nullsAsEqual);
+
+            case LEFT: {
+                RowHandler.RowFactory<RowT> rightRowFactory = ctx.rowHandler().factory(ctx.getTypeFactory(), rightRowType);
+
+                return new LeftJoin<>(ctx, leftKeys, rightKeys, nullsAsEqual, rightRowFactory);
+            }
+
+            case RIGHT: {
+                RowHandler.RowFactory<RowT> leftRowFactory = ctx.rowHandler().factory(ctx.getTypeFactory(), leftRowType);
+
+                return new RightJoin<>(ctx, leftKeys, rightKeys, nullsAsEqual, leftRowFactory);
+            }
+
+            case FULL: {
+                RowHandler.RowFactory<RowT> leftRowFactory = ctx.rowHandler().factory(ctx.getTypeFactory(), leftRowType);
+                RowHandler.RowFactory<RowT> rightRowFactory = ctx.rowHandler().factory(ctx.getTypeFactory(), rightRowType);
+
+                return new FullOuterJoin<>(ctx, leftKeys, rightKeys, nullsAsEqual, leftRowFactory, rightRowFactory);
+            }
+
+            case SEMI:
+                return new SemiJoin<>(ctx, leftKeys, rightKeys, nullsAsEqual);
+
+            case ANTI:
+                return new AntiJoin<>(ctx, leftKeys, rightKeys, nullsAsEqual);
+
+            default:
+                throw new IllegalStateException("Join type \"" + joinType + "\" is not supported yet");
+        }
+    }
+
+    /** Rows of the build side sharing the same key. */
+    protected static class RightRowsBucket<RowT> {
+        /** Rows. */
+        private final List<RowT> rows = new ArrayList<>();
+
+        /** Whether any left row has matched the bucket. */
+        private boolean touched;
+    }
+
+    private static class InnerJoin<RowT> extends HashJoinNode<RowT> {
+        private RowT left;
+
+        private Iterator<RowT> rightIt = Collections.emptyIterator();
+
+        private InnerJoin(ExecutionContext<RowT> ctx, ImmutableIntList leftKeys, ImmutableIntList rightKeys,
+                ImmutableBitSet nullsAsEqual) {
+            super(ctx, leftKeys, rightKeys, nullsAsEqual);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void rewindInternal() {
+            left = null;
+            rightIt = Collections.emptyIterator();
+
+            super.rewindInternal();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void join() throws Exception {
+            if (waitingRight == NOT_WAITING) {
+                inLoop = true;
+                try {
+                    while (requested > 0 && (left != null || !leftInBuf.isEmpty())) {
+                        checkState();
+
+                        if (left == null) {
+                            left = leftInBuf.remove();
+
+                            RightRowsBucket<RowT> bucket = lookup(left);
+
+                            rightIt = bucket == null ? Collections.emptyIterator() : bucket.rows.iterator();
+                        }
+
+                        while (requested > 0 && rightIt.hasNext()) {
+                            checkState();
+
+                            requested--;
+                            downstream().push(handler.concat(left, rightIt.next()));
+                        }
+
+                        if (!rightIt.hasNext()) {
+                            left = null;
+                        }
+                    }
+                } finally {
+                    inLoop = false;
+                }
+            }
+
+            requestMoreIfNeeded();
+
+            if (requested > 0 && inputsDrained(left)) {
+                requested = 0;
+                downstream().end();
+            }
+        }
+    }
+
+    private static class LeftJoin<RowT> extends HashJoinNode<RowT> {
+        /** Right row factory. */
+        private final RowHandler.RowFactory<RowT> rightRowFactory;
+
+        private RowT left;
+
+        private Iterator<RowT> rightIt = Collections.emptyIterator();
+
+        private LeftJoin(ExecutionContext<RowT> ctx, ImmutableIntList leftKeys, ImmutableIntList rightKeys,
+                ImmutableBitSet nullsAsEqual, RowHandler.RowFactory<RowT> rightRowFactory) {
+            super(ctx, leftKeys, rightKeys, nullsAsEqual);
+
+            this.rightRowFactory = rightRowFactory;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void rewindInternal() {
+            left = null;
+            rightIt = Collections.emptyIterator();
+
+            super.rewindInternal();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void join() throws Exception {
+            if (waitingRight == NOT_WAITING) {
+                inLoop = true;
+                try {
+                    while (requested > 0 && (left != null || !leftInBuf.isEmpty())) {
+                        checkState();
+
+                        if (left == null) {
+                            left = leftInBuf.remove();
+
+                            RightRowsBucket<RowT> bucket = lookup(left);
+
+                            if (bucket == null) {
+                                requested--;
+                                downstream().push(handler.concat(left, rightRowFactory.create()));
+
+                                left = null;
+
+                                continue;
+                            }
+
+                            rightIt = bucket.rows.iterator();
+                        }
+
+                        while (requested > 0 && rightIt.hasNext()) {
+                            checkState();
+
+                            requested--;
+                            downstream().push(handler.concat(left, rightIt.next()));
+                        }
+
+                        if (!rightIt.hasNext()) {
+                            left = null;
+                        }
+                    }
+                } finally {
+                    inLoop = false;
+                }
+            }
+
+            requestMoreIfNeeded();
+
+            if (requested > 0 && inputsDrained(left)) {
+                requested = 0;
+                downstream().end();
+            }
+        }
+    }
+
+    private static class RightJoin<RowT> extends HashJoinNode<RowT> {
+        /** Left row factory. */
+        private final RowHandler.RowFactory<RowT> leftRowFactory;
+
+        private RowT left;
+
+        private Iterator<RowT> rightIt = Collections.emptyIterator();
+
+        /** Unmatched rows of the build side, initialized once the left input is exhausted. */
+        private Iterator<RowT> rightNotMatchedIt;
+
+        private RightJoin(ExecutionContext<RowT> ctx, ImmutableIntList leftKeys, ImmutableIntList rightKeys,
+                ImmutableBitSet nullsAsEqual, RowHandler.RowFactory<RowT> leftRowFactory) {
+            super(ctx, leftKeys, rightKeys, nullsAsEqual);
+
+            this.leftRowFactory = leftRowFactory;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void rewindInternal() {
+            left = null;
+            rightIt = Collections.emptyIterator();
+            rightNotMatchedIt = null;
+
+            super.rewindInternal();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void join() throws Exception {
+            if (waitingRight == NOT_WAITING) {
+                inLoop = true;
+                try {
+                    while (requested > 0 && (left != null || !leftInBuf.isEmpty())) {
+                        checkState();
+
+                        if (left == null) {
+                            left = leftInBuf.remove();
+
+                            RightRowsBucket<RowT> bucket = lookup(left);
+
+                            if (bucket == null) {
+                                rightIt = Collections.emptyIterator();
+                            } else {
+                                bucket.touched = true;
+
+                                rightIt = bucket.rows.iterator();
+                            }
+                        }
+
+                        while (requested > 0 && rightIt.hasNext()) {
+                            checkState();
+
+                            requested--;
+                            downstream().push(handler.concat(left, rightIt.next()));
+                        }
+
+                        if (!rightIt.hasNext()) {
+                            left = null;
+                        }
+                    }
+
+                    if (inputsDrained(left)) {
+                        if (rightNotMatchedIt == null) {
+                            rightNotMatchedIt = unmatchedRightRows();
+                        }
+
+                        while (requested > 0 && rightNotMatchedIt.hasNext()) {
+                            checkState();
+
+                            requested--;
+                            downstream().push(handler.concat(leftRowFactory.create(), rightNotMatchedIt.next()));
+                        }
+                    }
+                } finally {
+                    inLoop = false;
+                }
+            }
+
+            requestMoreIfNeeded();
+
+            if (requested > 0 && inputsDrained(left) && rightNotMatchedIt != null && !rightNotMatchedIt.hasNext()) {
+                requested = 0;
+                downstream().end();
+            }
+        }
+    }
+
+    private static class FullOuterJoin<RowT> extends HashJoinNode<RowT> {
+        /** Left row factory. */
+        private final RowHandler.RowFactory<RowT> leftRowFactory;
+
+        /** Right row factory. */
+        private final RowHandler.RowFactory<RowT> rightRowFactory;
+
+        private RowT left;
+
+        private Iterator<RowT> rightIt = Collections.emptyIterator();
+
+        /** Unmatched rows of the build side, initialized once the left input is exhausted. */
+        private Iterator<RowT> rightNotMatchedIt;
+
+        private FullOuterJoin(ExecutionContext<RowT> ctx, ImmutableIntList leftKeys, ImmutableIntList rightKeys,
+                ImmutableBitSet nullsAsEqual, RowHandler.RowFactory<RowT> leftRowFactory,
+                RowHandler.RowFactory<RowT> rightRowFactory) {
+            super(ctx, leftKeys, rightKeys, nullsAsEqual);
+
+            this.leftRowFactory = leftRowFactory;
+            this.rightRowFactory = rightRowFactory;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void rewindInternal() {
+            left = null;
+            rightIt = Collections.emptyIterator();
+            rightNotMatchedIt = null;
+
+            super.rewindInternal();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void join() throws Exception {
+            if (waitingRight == NOT_WAITING) {
+                inLoop = true;
+                try {
+                    while (requested > 0 && (left != null || !leftInBuf.isEmpty())) {
+                        checkState();
+
+                        if (left == null) {
+                            left = leftInBuf.remove();
+
+                            RightRowsBucket<RowT> bucket = lookup(left);
+
+                            if (bucket == null) {
+                                requested--;
+                                downstream().push(handler.concat(left, rightRowFactory.create()));
+
+                                left = null;
+
+                                continue;
+                            }
+
+                            bucket.touched = true;
+
+                            rightIt = bucket.rows.iterator();
+                        }
+
+                        while (requested > 0 && rightIt.hasNext()) {
+                            checkState();
+
+                            requested--;
+                            downstream().push(handler.concat(left, rightIt.next()));
+                        }
+
+                        if (!rightIt.hasNext()) {
+                            left = null;
+                        }
+                    }
+
+                    if (inputsDrained(left)) {
+                        if (rightNotMatchedIt == null) {
+                            rightNotMatchedIt = unmatchedRightRows();
+                        }
+
+                        while (requested > 0 && rightNotMatchedIt.hasNext()) {
+                            checkState();
+
+                            requested--;
+                            downstream().push(handler.concat(leftRowFactory.create(), rightNotMatchedIt.next()));
+                        }
+                    }
+                } finally {
+                    inLoop = false;
+                }
+            }
+
+            requestMoreIfNeeded();
+
+            if (requested > 0 && inputsDrained(left) && rightNotMatchedIt != null && !rightNotMatchedIt.hasNext()) {
+                requested = 0;
+                downstream().end();
+            }
+        }
+    }
+
+    private static class SemiJoin<RowT> extends HashJoinNode<RowT> {
+        private SemiJoin(ExecutionContext<RowT> ctx, ImmutableIntList leftKeys, ImmutableIntList rightKeys,
+                ImmutableBitSet nullsAsEqual) {
+            super(ctx, leftKeys, rightKeys, nullsAsEqual);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void join() throws Exception {
+            if (waitingRight == NOT_WAITING) {
+                inLoop = true;
+                try {
+                    while (requested > 0 && !leftInBuf.isEmpty()) {
+                        checkState();
+
+                        RowT left = leftInBuf.remove();
+
+                        if (lookup(left) != null) {
+                            requested--;
+                            downstream().push(left);
+                        }
+                    }
+                } finally {
+                    inLoop = false;
+                }
+            }
+
+            requestMoreIfNeeded();
+
+            if (requested > 0 && inputsDrained(null)) {
+                requested = 0;
+                downstream().end();
+            }
+        }
+    }
+
+    private static class AntiJoin<RowT> extends HashJoinNode<RowT> {
+        private AntiJoin(ExecutionContext<RowT> ctx, ImmutableIntList leftKeys, ImmutableIntList rightKeys,
+                ImmutableBitSet nullsAsEqual) {
+            super(ctx, leftKeys, rightKeys, nullsAsEqual);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void join() throws Exception {
+            if (waitingRight == NOT_WAITING) {
+                inLoop = true;
+                try {
+                    while (requested > 0 && !leftInBuf.isEmpty()) {
+                        checkState();
+
+                        RowT left = leftInBuf.remove();
+
+                        if (lookup(left) == null) {
+                            requested--;
+                            downstream().push(left);
+                        }
+                    }
+                } finally {
+                    inLoop = false;
+                }
+            }
+
+            requestMoreIfNeeded();
+
+            if (requested > 0 && inputsDrained(null)) {
+                requested = 0;
+                downstream().end();
+            }
+        }
+    }
+}
@@ -535,6 +535,9 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
         /**
          * Requests another several batches from remote source if a count of in-flight batches
          * is less or equal than half of {@link #IO_BATCH_CNT}.
+         *
+         * <p>Requested batches are the credits of the remote outbox. Batches are limited by size, hence the credits bound
+         * the amount of memory the rows received from the source may occupy.
          */
         void requestNextBatchIfNeeded() throws IgniteInternalCheckedException {
             int inFlightCount = lastRequested - lastEnqueued;
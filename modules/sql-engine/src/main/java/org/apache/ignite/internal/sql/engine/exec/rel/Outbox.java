@@ -30,17 +30,35 @@ import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.sql.engine.exec.ExchangeService;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.MailboxRegistry;
+import org.apache.ignite.internal.sql.engine.exec.spill.RowSizeEstimator;
 import org.apache.ignite.internal.sql.engine.trait.Destination;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.apache.ignite.lang.IgniteSystemProperties;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * A part of exchange which sends batches to a remote downstream.
+ *
+ * <p>Batches are limited by the estimated size of the rows rather than by the number of rows, so wide rows don't produce huge
+ * messages and narrow rows don't produce lots of tiny ones. Downstream requests a number of batches at a time, so the amount of
+ * data in flight to every inbox is bounded by the number of requested batches multiplied by the batch size.
  */
 public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, SingleNode<RowT>, Downstream<RowT> {
+    /** Name of the system property which defines the target size of a batch in bytes. */
+    public static final String IGNITE_SQL_EXCHANGE_BATCH_BYTES = "IGNITE_SQL_EXCHANGE_BATCH_BYTES";
+
     private static final IgniteLogger LOG = Loggers.forClass(Outbox.class);
 
+    private static final int DFLT_BATCH_BYTES = 128 * 1024;
+
+    /** Target size of a batch in bytes, a batch is sent once the estimated size of its rows reaches the target. */
+    static final long BATCH_BYTES = Math.max(1, IgniteSystemProperties.getInteger(IGNITE_SQL_EXCHANGE_BATCH_BYTES,
+            DFLT_BATCH_BYTES));
+
+    /** Maximal number of rows in a batch, limits the batches of very narrow rows. */
+    static final int MAX_BATCH_ROWS = 16 * IO_BATCH_SIZE;
+
     private final long exchangeId;
     private final long targetFragmentId;
     private final ExchangeService exchange;
@@ -255,9 +273,10 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
             assert !nullOrEmpty(buffers);
 
             RowT row = inBuf.remove();
+            long size = RowSizeEstimator.estimate(context().rowHandler(), row);
 
             for (RemoteDownstream<RowT> dest : buffers) {
-                dest.add(row);
+                dest.add(row, size);
             }
         }
 
@@ -341,7 +360,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
             /** Batch is ready to accept at leas one row. */
             FILLING,
 
-            /** Batch is full, thus is ready to be sent. */
+            /** Batch reached either the size or the rows limit, thus is ready to be sent. */
             FULL,
 
             /** No more rows are expected to be added to downstream. The next batch will be sent, probably, partially filled. */
@@ -360,11 +379,17 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         private @Nullable List<RowT> curr;
         private int pendingCount;
 
+        /** Estimated size of the rows of the current batch. */
+        private long currBytes;
+
+        /** Average size of the rows sent so far, used to preallocate the batches. */
+        private long avgRowSize;
+
         private RemoteDownstream(String nodeName, BatchSender<RowT> sender) {
             this.nodeName = nodeName;
             this.sender = sender;
 
-            curr = new ArrayList<>(IO_BATCH_SIZE);
+            curr = newBatch();
         }
 
         /**
@@ -376,7 +401,8 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
             state = State.FILLING;
             lastSentBatchId += pendingCount;
             pendingCount = 0;
-            curr = new ArrayList<>(IO_BATCH_SIZE);
+            currBytes = 0;
+            curr = newBatch();
         }
 
         /** A handler of a requests from downstream. */
@@ -400,14 +426,16 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
          * Adds a row to current batch.
          *
          * @param row Row to add.
+         * @param size Estimated size of the row in bytes.
          */
-        void add(RowT row) throws Exception {
+        void add(RowT row, long size) throws Exception {
             assert ready() : state;
             assert curr != null;
 
             curr.add(row);
+            currBytes += size;
 
-            if (curr.size() == IO_BATCH_SIZE) {
+            if (currBytes >= BATCH_BYTES || curr.size() >= MAX_BATCH_ROWS) {
                 state = State.FULL;
 
                 if (pendingCount > 0) {
@@ -424,19 +452,35 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
 
             boolean lastBatch = state == State.LAST_BATCH;
 
+            if (!curr.isEmpty()) {
+                long batchAvg = Math.max(1, currBytes / curr.size());
+
+                avgRowSize = avgRowSize == 0 ? batchAvg : (3 * avgRowSize + batchAvg) / 4;
+            }
+
             sender.send(nodeName, ++lastSentBatchId, lastBatch, curr);
 
             pendingCount--;
+            currBytes = 0;
 
             if (lastBatch) {
                 state = State.END;
                 curr = null;
             } else {
                 state = State.FILLING;
-                curr = new ArrayList<>(IO_BATCH_SIZE);
+                curr = newBatch();
             }
         }
 
+        /** Creates a list for the rows of the next batch sized after the rows sent so far. */
+        private List<RowT> newBatch() {
+            if (avgRowSize == 0) {
+                return new ArrayList<>(IO_BATCH_SIZE);
+            }
+
+            return new ArrayList<>((int) Math.min(MAX_BATCH_ROWS, BATCH_BYTES / avgRowSize + 1));
+        }
+
         /** Completes this downstream by sending all collected so far rows. */
         void end() throws Exception {
             assert state == State.FILLING || state == State.FULL : state;
@@ -451,6 +495,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         /** Closes this downstream and clears all acquired resources. */
         void close() {
             curr = null;
+            currBytes = 0;
             state = State.END;
         }
     }
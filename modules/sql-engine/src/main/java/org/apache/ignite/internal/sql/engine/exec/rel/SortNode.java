@@ -19,19 +19,38 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.spill.MemoryReservation;
+import org.apache.ignite.internal.sql.engine.exec.spill.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillFile;
+import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.util.BoundedPriorityQueue;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Sort node.
+ *
+ * <p>Unless the sort is limited, the rows are buffered on heap until the query memory quota is exceeded. After that the buffered rows
+ * are spilled to disk as a sorted run, and the final result is produced by merging all the spilled runs with the rows left in memory.
+ * Since the quota is shared by all the operators of the query, a run is not spilled until it reaches the minimal size, even if the quota
+ * is held by the other operators.
  */
 public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+    /** Maximal number of runs merged at once. */
+    private static final int MAX_MERGE_FAN_IN = 64;
+
+    /** Minimal size of a spilled run in bytes, unless it's more than a {@link #MIN_RUN_QUOTA_SHARE}th of the query memory quota. */
+    private static final long MIN_RUN_BYTES = 1024 * 1024;
+
+    /** Share of the query memory quota which is enough for a spilled run. */
+    private static final int MIN_RUN_QUOTA_SHARE = 4;
+
     /** How many rows are requested by downstream. */
     private int requested;
 
@@ -49,6 +68,24 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
     /** Reverse-ordered rows in case of limited sort. */
     private List<RowT> reversed;
 
+    /** Rows comparator. */
+    private final Comparator<RowT> comp;
+
+    /** Memory reserved for the buffered rows. */
+    private final MemoryReservation memory;
+
+    /** Whether the buffered rows may be spilled to disk. */
+    private final boolean spillable;
+
+    /** Minimal size of a spilled run in bytes. */
+    private final long minRunBytes;
+
+    /** Sorted runs spilled to disk. */
+    private @Nullable List<SpillFile<RowT>> runs;
+
+    /** Merger of the spilled runs and the buffered rows, {@code null} until the input is drained. */
+    private @Nullable PriorityQueue<RunCursor> merge;
+
     /**
      * Constructor.
      *
@@ -67,6 +104,17 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         limit = fetch == null ? -1 : fetch.get() + (offset == null ? 0 : offset.get());
 
+        this.comp = comp == null ? (Comparator<RowT>) Comparator.naturalOrder() : comp;
+
+        memory = new MemoryReservation(ctx.memoryTracker());
+
+        // Limited sort keeps no more than 'limit' rows in memory, so there is nothing to spill.
+        spillable = limit < 1 && ctx.spillManager() != null;
+
+        long quota = ctx.memoryTracker().quota();
+
+        minRunBytes = quota > 0 ? Math.min(MIN_RUN_BYTES, quota / MIN_RUN_QUOTA_SHARE) : MIN_RUN_BYTES;
+
         if (limit < 1) {
             rows = new PriorityQueue<>(comp);
         } else {
@@ -93,6 +141,16 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
         if (reversed != null) {
             reversed.clear();
         }
+
+        releaseResources();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        releaseResources();
     }
 
     /** {@inheritDoc} */
@@ -136,6 +194,19 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         rows.add(row);
 
+        if (spillable) {
+            long size = RowSizeEstimator.estimate(context().rowHandler(), row);
+
+            if (!memory.tryReserve(size)) {
+                // The row is already buffered, so take it into account anyway.
+                memory.reserve(size);
+
+                if (memory.reserved() >= minRunBytes) {
+                    spillRun();
+                }
+            }
+        }
+
         if (waiting == 0) {
             source().request(waiting = inBufSize);
         }
@@ -165,6 +236,10 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         inLoop = true;
         try {
+            if (runs != null && merge == null) {
+                startMerge();
+            }
+
             // Prepare final order (reversed).
             if (limit > 0 && !rows.isEmpty()) {
                 if (reversed == null) {
@@ -185,12 +260,12 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
                 processed = 0;
             }
 
-            while (requested > 0 && !(reversed == null ? rows.isEmpty() : reversed.isEmpty())) {
+            while (requested > 0 && hasMoreRows()) {
                 checkState();
 
                 requested--;
 
-                downstream().push(reversed == null ? rows.poll() : reversed.remove(reversed.size() - 1));
+                downstream().push(nextRow());
 
                 if (++processed >= inBufSize && requested > 0) {
                     // allow others to do their job
@@ -200,7 +275,9 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
                 }
             }
 
-            if (reversed == null ? rows.isEmpty() : reversed.isEmpty()) {
+            if (!hasMoreRows()) {
+                releaseResources();
+
                 if (requested > 0) {
                     downstream().end();
                 }
@@ -211,4 +288,139 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
             inLoop = false;
         }
     }
+
+    private boolean hasMoreRows() {
+        if (merge != null) {
+            return !merge.isEmpty();
+        }
+
+        return reversed == null ? !rows.isEmpty() : !reversed.isEmpty();
+    }
+
+    private RowT nextRow() throws IOException {
+        if (merge != null) {
+            return pollMerged(merge);
+        }
+
+        return reversed == null ? rows.poll() : reversed.remove(reversed.size() - 1);
+    }
+
+    /** Writes all the buffered rows to disk as a sorted run and releases the memory they occupied. */
+    private void spillRun() throws IOException {
+        SpillFile<RowT> run = context().spillManager().createFile(context());
+
+        if (runs == null) {
+            runs = new ArrayList<>();
+        }
+
+        runs.add(run);
+
+        while (!rows.isEmpty()) {
+            run.write(rows.poll());
+        }
+
+        memory.releaseAll();
+    }
+
+    private void startMerge() throws IOException {
+        assert runs != null;
+
+        // Merge the oldest runs into a single one until the number of runs is small enough to be merged at once.
+        while (runs.size() >= MAX_MERGE_FAN_IN) {
+            List<SpillFile<RowT>> batch = new ArrayList<>(runs.subList(0, MAX_MERGE_FAN_IN));
+
+            runs.subList(0, MAX_MERGE_FAN_IN).clear();
+
+            SpillFile<RowT> merged = context().spillManager().createFile(context());
+
+            runs.add(merged);
+
+            PriorityQueue<RunCursor> batchMerge = new PriorityQueue<>(batch.size(), this::compareCursors);
+
+            for (SpillFile<RowT> run : batch) {
+                addCursor(batchMerge, new RunCursor(run.reader()));
+            }
+
+            while (!batchMerge.isEmpty()) {
+                merged.write(pollMerged(batchMerge));
+            }
+
+            batch.forEach(Commons::closeQuiet);
+        }
+
+        merge = new PriorityQueue<>(runs.size() + 1, this::compareCursors);
+
+        for (SpillFile<RowT> run : runs) {
+            addCursor(merge, new RunCursor(run.reader()));
+        }
+
+        // Rows left in memory form the last run.
+        addCursor(merge, new RunCursor(null));
+    }
+
+    private void addCursor(PriorityQueue<RunCursor> merge, RunCursor cursor) throws IOException {
+        if (cursor.advance()) {
+            merge.add(cursor);
+        }
+    }
+
+    private RowT pollMerged(PriorityQueue<RunCursor> merge) throws IOException {
+        RunCursor cursor = merge.poll();
+
+        RowT row = cursor.row;
+
+        addCursor(merge, cursor);
+
+        return row;
+    }
+
+    private int compareCursors(RunCursor c1, RunCursor c2) {
+        return comp.compare(c1.row, c2.row);
+    }
+
+    private void releaseResources() {
+        if (runs != null) {
+            runs.forEach(Commons::closeQuiet);
+
+            runs = null;
+        }
+
+        merge = null;
+
+        memory.releaseAll();
+    }
+
+    /**
+     * Cursor over a sorted run: either a spilled one or the rows buffered in memory.
+     */
+    private class RunCursor {
+        /** Reader of the spilled run, {@code null} for the rows buffered in memory. */
+        private final SpillFile<RowT>.Reader reader;
+
+        /** Current row. */
+        private RowT row;
+
+        private RunCursor(SpillFile<RowT>.Reader reader) {
+            this.reader = reader;
+        }
+
+        /** Moves the cursor to the next row, returns {@code false} if the run is exhausted. */
+        private boolean advance() throws IOException {
+            if (reader == null) {
+                row = rows.poll();
+
+                return row != null;
+            }
+
+            if (!reader.hasNext()) {
+                row = null;
+
+                return false;
+            }
+
+            row = reader.next();
+
+            return true;
+        }
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
 import java.util.Queue;
@@ -25,11 +26,14 @@ import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.batch.BatchPredicate;
+import org.apache.ignite.internal.sql.engine.exec.batch.ColumnBatch;
 import org.apache.ignite.internal.sql.engine.schema.InternalIgniteTable;
 import org.jetbrains.annotations.Nullable;
 
@@ -45,6 +49,13 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
 
     private final @Nullable Predicate<RowT> filters;
 
+    /** Optional filter evaluated on column batches before the rows are materialized. */
+    private final @Nullable BatchPredicate batchFilter;
+
+    private final InternalIgniteTable schemaTable;
+
+    private final @Nullable BitSet requiredColumns;
+
     private final @Nullable Function<RowT, RowT> rowTransformer;
 
     private final Function<BinaryRow, RowT> tableRowConverter;
@@ -77,15 +88,43 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
             @Nullable Predicate<RowT> filters,
             @Nullable Function<RowT, RowT> rowTransformer,
             @Nullable BitSet requiredColumns
+    ) {
+        this(ctx, rowFactory, schemaTable, filters, null, rowTransformer, requiredColumns);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param rowFactory Row factory.
+     * @param schemaTable The table this node should scan.
+     * @param filters Optional filter to filter out rows.
+     * @param batchFilter Optional filter evaluated on column batches, must be implied by {@code filters}.
+     * @param rowTransformer Optional projection function.
+     * @param requiredColumns Optional set of column of interest.
+     */
+    public StorageScanNode(
+            ExecutionContext<RowT> ctx,
+            RowHandler.RowFactory<RowT> rowFactory,
+            InternalIgniteTable schemaTable,
+            @Nullable Predicate<RowT> filters,
+            @Nullable BatchPredicate batchFilter,
+            @Nullable Function<RowT, RowT> rowTransformer,
+            @Nullable BitSet requiredColumns
     ) {
         super(ctx);
 
+        assert batchFilter == null || filters != null;
+
         assert ctx.transaction() != null : "Transaction not initialized.";
 
         tableRowConverter = row -> schemaTable.toRow(context(), row, rowFactory, requiredColumns);
 
         this.filters = filters;
+        this.batchFilter = batchFilter;
         this.rowTransformer = rowTransformer;
+        this.schemaTable = schemaTable;
+        this.requiredColumns = requiredColumns;
     }
 
     /** {@inheritDoc} */
@@ -145,6 +184,10 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
      * @return Proxy publisher with conversion from {@code BinaryRow} to {@code RowT}.
      */
     protected Publisher<RowT> convertPublisher(Publisher<BinaryRow> pub) {
+        if (batchFilter != null) {
+            return downstream -> pub.subscribe(new BatchFilteringSubscriber(downstream, batchFilter));
+        }
+
         Publisher<RowT> convPub = downstream -> {
             // BinaryRow -> RowT converter.
             Subscriber<BinaryRow> subs = new Subscriber<>() {
@@ -304,4 +347,105 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
             }, StorageScanNode.this::onError);
         }
     }
+
+    /**
+     * Subscriber which collects tuples into column batches, filters the batches and converts only the accepted tuples to rows.
+     *
+     * <p>The downstream gets exactly as many rows as it requested: tuples rejected by the filter are re-requested from the upstream.
+     */
+    private class BatchFilteringSubscriber implements Subscriber<BinaryRow>, Subscription {
+        private final Subscriber<? super RowT> downstream;
+
+        private final BatchPredicate filter;
+
+        private final ColumnBatch batch;
+
+        private final List<BinaryRow> pending;
+
+        /** Number of tuples requested from the upstream and not received yet. */
+        private final AtomicLong outstanding = new AtomicLong();
+
+        private volatile Subscription upstream;
+
+        private BatchFilteringSubscriber(Subscriber<? super RowT> downstream, BatchPredicate filter) {
+            this.downstream = downstream;
+            this.filter = filter;
+
+            batch = filter.newBatch(inBufSize);
+            pending = new ArrayList<>(inBufSize);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+
+            downstream.onSubscribe(this);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onNext(BinaryRow item) {
+            pending.add(item);
+
+            // Flush as soon as the requested tuples are all here, otherwise the downstream may wait forever.
+            if (outstanding.decrementAndGet() == 0 || pending.size() == batch.capacity()) {
+                flush();
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onError(Throwable throwable) {
+            pending.clear();
+
+            downstream.onError(throwable);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onComplete() {
+            flush();
+
+            downstream.onComplete();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void request(long n) {
+            outstanding.addAndGet(n);
+
+            upstream.request(n);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            schemaTable.toColumns(pending, batch, requiredColumns);
+
+            filter.filter(batch);
+
+            int[] sel = batch.selection();
+            int selected = batch.selectedCount();
+            int rejected = pending.size() - selected;
+
+            for (int i = 0; i < selected; i++) {
+                downstream.onNext(convert(pending.get(sel[i])));
+            }
+
+            pending.clear();
+
+            if (rejected > 0) {
+                request(rejected);
+            }
+        }
+    }
 }
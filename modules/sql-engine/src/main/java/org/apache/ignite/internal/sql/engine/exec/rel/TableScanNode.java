@@ -26,6 +26,7 @@ import java.util.function.Predicate;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.batch.BatchPredicate;
 import org.apache.ignite.internal.sql.engine.metadata.PartitionWithTerm;
 import org.apache.ignite.internal.sql.engine.schema.InternalIgniteTable;
 import org.apache.ignite.internal.sql.engine.util.LocalTxAttributesHolder;
@@ -67,7 +68,32 @@ public class TableScanNode<RowT> extends StorageScanNode<RowT> {
             @Nullable Function<RowT, RowT> rowTransformer,
             @Nullable BitSet requiredColumns
     ) {
-        super(ctx, rowFactory, schemaTable, filters, rowTransformer, requiredColumns);
+        this(ctx, rowFactory, schemaTable, partsWithTerms, filters, null, rowTransformer, requiredColumns);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param rowFactory Row factory.
+     * @param schemaTable The table this node should scan.
+     * @param partsWithTerms List of pairs containing the partition number to scan with the corresponding primary replica term.
+     * @param filters Optional filter to filter out rows.
+     * @param batchFilter Optional filter evaluated on column batches, must be implied by {@code filters}.
+     * @param rowTransformer Optional projection function.
+     * @param requiredColumns Optional set of column of interest.
+     */
+    public TableScanNode(
+            ExecutionContext<RowT> ctx,
+            RowHandler.RowFactory<RowT> rowFactory,
+            InternalIgniteTable schemaTable,
+            Collection<PartitionWithTerm> partsWithTerms,
+            @Nullable Predicate<RowT> filters,
+            @Nullable BatchPredicate batchFilter,
+            @Nullable Function<RowT, RowT> rowTransformer,
+            @Nullable BitSet requiredColumns
+    ) {
+        super(ctx, rowFactory, schemaTable, filters, batchFilter, rowTransformer, requiredColumns);
 
         assert partsWithTerms != null && !partsWithTerms.isEmpty();
 
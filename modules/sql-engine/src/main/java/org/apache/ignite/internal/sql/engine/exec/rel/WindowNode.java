@@ -0,0 +1,540 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
+import static org.apache.ignite.lang.ErrorGroups.Sql.QUERY_MEMORY_QUOTA_EXCEEDED_ERR;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorWrapper;
+import org.apache.ignite.internal.sql.engine.exec.spill.MemoryReservation;
+import org.apache.ignite.internal.sql.engine.exec.spill.RowSizeEstimator;
+import org.apache.ignite.lang.IgniteInternalException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Execution node computing window functions over the input sorted by the partition keys followed by the order keys.
+ *
+ * <p>The rows of a partition are buffered until the partition end, then the functions are computed in a single pass over the
+ * partition. Ranking functions and {@code LAG}/{@code LEAD} are computed from the row positions. Aggregates are maintained
+ * incrementally while the frame slides over the partition: the rows entering the frame are added to a running aggregate and the rows
+ * leaving the frame are dropped by switching to the pre-aggregated suffixes of the frame, so every row is aggregated a constant
+ * number of times whatever the frame size is.
+ *
+ * <p>The buffered partition is accounted against the query memory quota. The query fails if a single partition doesn't fit the quota.
+ */
+public class WindowNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+    /** Compares the partition keys, {@code null} if the whole input is a single partition. */
+    private final @Nullable Comparator<RowT> partCmp;
+
+    /** Compares the partition and order keys, {@code null} if all the rows are peers. */
+    private final @Nullable Comparator<RowT> peerCmp;
+
+    private final List<WindowFunction> functions;
+
+    private final Frame frame;
+
+    /** Creates accumulators of the {@link FunctionType#AGGREGATE} functions in order of the functions. */
+    private final @Nullable Supplier<List<AccumulatorWrapper<RowT>>> accFactory;
+
+    /** Creates rows of the function values. */
+    private final RowFactory<RowT> rowFactory;
+
+    private final Deque<RowT> outBuf = new ArrayDeque<>(inBufSize);
+
+    /** Rows of the current partition. */
+    private final List<RowT> partition = new ArrayList<>();
+
+    /** Memory reserved for the rows of the current partition. */
+    private final MemoryReservation memory;
+
+    private int requested;
+
+    private int waiting;
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param partCmp Comparator of the partition keys or {@code null} if the whole input is a single partition.
+     * @param peerCmp Comparator of the partition and order keys or {@code null} if all the rows are peers.
+     * @param functions Window functions.
+     * @param frame Frame of the aggregates.
+     * @param accFactory Accumulators of the aggregates or {@code null} if there are no aggregates.
+     * @param rowFactory Factory of the rows of the function values.
+     */
+    public WindowNode(
+            ExecutionContext<RowT> ctx,
+            @Nullable Comparator<RowT> partCmp,
+            @Nullable Comparator<RowT> peerCmp,
+            List<WindowFunction> functions,
+            Frame frame,
+            @Nullable Supplier<List<AccumulatorWrapper<RowT>>> accFactory,
+            RowFactory<RowT> rowFactory
+    ) {
+        super(ctx);
+
+        this.partCmp = partCmp;
+        this.peerCmp = peerCmp;
+        this.functions = functions;
+        this.frame = frame;
+        this.accFactory = accFactory;
+        this.rowFactory = rowFactory;
+
+        memory = new MemoryReservation(ctx.memoryTracker());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void request(int rowsCnt) throws Exception {
+        assert !nullOrEmpty(sources()) && sources().size() == 1;
+        assert rowsCnt > 0 && requested == 0;
+
+        checkState();
+
+        requested = rowsCnt;
+
+        if (!outBuf.isEmpty()) {
+            doPush();
+        }
+
+        if (waiting == 0) {
+            waiting = inBufSize;
+
+            source().request(inBufSize);
+        } else if (waiting < 0 && requested > 0) {
+            downstream().end();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void push(RowT row) throws Exception {
+        assert downstream() != null;
+        assert waiting > 0;
+
+        checkState();
+
+        waiting--;
+
+        if (!partition.isEmpty() && partCmp != null && partCmp.compare(partition.get(partition.size() - 1), row) != 0) {
+            processPartition();
+
+            doPush();
+        }
+
+        // The functions need random access to the rows of the partition, so the partition can't be spilled.
+        if (!memory.tryReserve(RowSizeEstimator.estimate(context().rowHandler(), row))) {
+            throw new IgniteInternalException(QUERY_MEMORY_QUOTA_EXCEEDED_ERR, "Query memory quota exceeded by window partition "
+                    + "[quota=" + context().memoryTracker().quota() + ", partitionRows=" + partition.size() + ']');
+        }
+
+        partition.add(row);
+
+        if (waiting == 0 && requested > 0) {
+            waiting = inBufSize;
+
+            context().execute(() -> source().request(inBufSize), this::onError);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void end() throws Exception {
+        assert downstream() != null;
+        assert waiting > 0;
+
+        checkState();
+
+        waiting = -1;
+
+        processPartition();
+
+        doPush();
+
+        if (requested > 0) {
+            downstream().end();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void rewindInternal() {
+        requested = 0;
+        waiting = 0;
+        partition.clear();
+        outBuf.clear();
+
+        memory.releaseAll();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        memory.releaseAll();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Downstream<RowT> requestDownstream(int idx) {
+        if (idx != 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return this;
+    }
+
+    private void doPush() throws Exception {
+        while (requested > 0 && !outBuf.isEmpty()) {
+            requested--;
+
+            downstream().push(outBuf.poll());
+        }
+    }
+
+    /** Computes the functions over the buffered partition and moves the result rows to the output buffer. */
+    private void processPartition() {
+        int size = partition.size();
+
+        if (size == 0) {
+            return;
+        }
+
+        RowHandler<RowT> hnd = context().rowHandler();
+
+        // Bounds of the peer groups: the first and the last row of the group of the current row.
+        int[] peerStart = new int[size];
+        int[] peerEnd = new int[size];
+        long[] denseRank = new long[size];
+
+        for (int i = 0, start = 0, grp = 1; i < size; i++) {
+            if (i > 0 && peerCmp != null && peerCmp.compare(partition.get(i - 1), partition.get(i)) != 0) {
+                for (int j = start; j < i; j++) {
+                    peerEnd[j] = i - 1;
+                }
+
+                start = i;
+                grp++;
+            }
+
+            peerStart[i] = start;
+            denseRank[i] = grp;
+        }
+
+        for (int j = peerStart[size - 1]; j < size; j++) {
+            peerEnd[j] = size - 1;
+        }
+
+        SlidingAggregate agg = accFactory != null ? new SlidingAggregate() : null;
+
+        for (int i = 0; i < size; i++) {
+            RowT row = partition.get(i);
+            Object[] vals = new Object[functions.size()];
+
+            List<Object> aggVals = null;
+
+            if (agg != null) {
+                agg.moveTo(frameStart(i, size, peerStart), frameEnd(i, size, peerEnd));
+
+                aggVals = agg.values();
+            }
+
+            for (int f = 0, a = 0; f < functions.size(); f++) {
+                WindowFunction fun = functions.get(f);
+
+                switch (fun.type) {
+                    case ROW_NUMBER:
+                        vals[f] = (long) i + 1;
+
+                        break;
+
+                    case RANK:
+                        vals[f] = (long) peerStart[i] + 1;
+
+                        break;
+
+                    case DENSE_RANK:
+                        vals[f] = denseRank[i];
+
+                        break;
+
+                    case LAG:
+                    case LEAD:
+                        vals[f] = offsetValue(hnd, fun, i);
+
+                        break;
+
+                    case AGGREGATE:
+                        vals[f] = aggVals.get(a++);
+
+                        break;
+
+                    default:
+                        throw new AssertionError("Unexpected function: " + fun.type);
+                }
+            }
+
+            outBuf.add(hnd.concat(row, rowFactory.create(vals)));
+        }
+
+        partition.clear();
+
+        memory.releaseAll();
+    }
+
+    /** Returns the value of the {@code LAG} or {@code LEAD} function for the row at the given position. */
+    private @Nullable Object offsetValue(RowHandler<RowT> hnd, WindowFunction fun, int i) {
+        RowT row = partition.get(i);
+
+        long offset = 1;
+
+        if (fun.args.length > 1) {
+            Object val = hnd.get(fun.args[1], row);
+
+            if (val == null) {
+                return null;
+            }
+
+            offset = ((Number) val).longValue();
+        }
+
+        long pos = fun.type == FunctionType.LAG ? i - offset : i + offset;
+
+        if (pos >= 0 && pos < partition.size()) {
+            return hnd.get(fun.args[0], partition.get((int) pos));
+        }
+
+        return fun.args.length > 2 ? hnd.get(fun.args[2], row) : null;
+    }
+
+    /** Returns position of the first row of the frame of the row at the given position. */
+    private int frameStart(int i, int size, int[] peerStart) {
+        if (frame.lower == null) {
+            return 0;
+        }
+
+        if (!frame.rows) {
+            return peerStart[i];
+        }
+
+        return (int) Math.min(Math.max(i + frame.lower, 0), size);
+    }
+
+    /** Returns position next to the last row of the frame of the row at the given position. */
+    private int frameEnd(int i, int size, int[] peerEnd) {
+        if (frame.upper == null) {
+            return size;
+        }
+
+        if (!frame.rows) {
+            return peerEnd[i] + 1;
+        }
+
+        return (int) Math.min(Math.max(i + frame.upper + 1, 0), size);
+    }
+
+    /**
+     * Aggregate of the rows of a frame sliding over the partition.
+     *
+     * <p>The frame is split in two parts: the front part is covered by the suffix aggregates computed once the front part is
+     * formed, the back part is covered by the running aggregate. Once all the rows of the front part leave the frame, the back part
+     * becomes the front one and its suffix aggregates are computed. Accumulators don't support removal of the rows, hence the
+     * frame value is computed by merging the suffix aggregate of the first row of the frame with the running aggregate.
+     */
+    private class SlidingAggregate {
+        /** Suffix aggregates of the front part by row positions. */
+        private final List<List<AccumulatorWrapper<RowT>>> suffixes = new ArrayList<>(partition.size());
+
+        /** Running aggregate of the back part. */
+        private List<AccumulatorWrapper<RowT>> back = accFactory.get();
+
+        /** First row of the frame. */
+        private int start;
+
+        /** First row of the back part. */
+        private int mid;
+
+        /** Row next to the last row of the frame. */
+        private int end;
+
+        private SlidingAggregate() {
+            for (int i = 0; i < partition.size(); i++) {
+                suffixes.add(null);
+            }
+        }
+
+        /** Moves the frame to the given bounds, both bounds never move backwards. */
+        private void moveTo(int newStart, int newEnd) {
+            newEnd = Math.max(newStart, newEnd);
+
+            assert newStart >= start && newEnd >= end;
+
+            if (newStart >= end) {
+                // The new frame doesn't intersect the current one.
+                for (int i = start; i < mid; i++) {
+                    suffixes.set(i, null);
+                }
+
+                if (mid < end || start < mid) {
+                    back = accFactory.get();
+                }
+
+                start = mid = end = newStart;
+            }
+
+            while (end < newEnd) {
+                add(back, partition.get(end++));
+            }
+
+            while (start < newStart) {
+                if (start == mid) {
+                    flip();
+                }
+
+                suffixes.set(start++, null);
+            }
+        }
+
+        /** Computes the suffix aggregates of the back part and makes it the front one. */
+        private void flip() {
+            List<AccumulatorWrapper<RowT>> next = null;
+
+            for (int i = end - 1; i >= mid; i--) {
+                List<AccumulatorWrapper<RowT>> suffix = accFactory.get();
+
+                if (next != null) {
+                    merge(suffix, next);
+                }
+
+                add(suffix, partition.get(i));
+
+                suffixes.set(i, suffix);
+
+                next = suffix;
+            }
+
+            mid = end;
+            back = accFactory.get();
+        }
+
+        /** Returns values of the aggregates over the current frame. */
+        private List<Object> values() {
+            List<AccumulatorWrapper<RowT>> res = back;
+
+            if (start < mid) {
+                res = accFactory.get();
+
+                merge(res, suffixes.get(start));
+                merge(res, back);
+            }
+
+            List<Object> vals = new ArrayList<>(res.size());
+
+            for (AccumulatorWrapper<RowT> wrapper : res) {
+                vals.add(wrapper.end());
+            }
+
+            return vals;
+        }
+
+        private void add(List<AccumulatorWrapper<RowT>> accs, RowT row) {
+            for (AccumulatorWrapper<RowT> acc : accs) {
+                acc.add(row);
+            }
+        }
+
+        private void merge(List<AccumulatorWrapper<RowT>> target, List<AccumulatorWrapper<RowT>> source) {
+            for (int i = 0; i < target.size(); i++) {
+                target.get(i).apply(source.get(i).accumulator());
+            }
+        }
+    }
+
+    /**
+     * Type of a window function.
+     */
+    public enum FunctionType {
+        ROW_NUMBER,
+        RANK,
+        DENSE_RANK,
+        LAG,
+        LEAD,
+
+        /** Aggregate over the frame. */
+        AGGREGATE
+    }
+
+    /**
+     * Window function.
+     */
+    public static class WindowFunction {
+        private final FunctionType type;
+
+        private final int[] args;
+
+        /**
+         * Constructor.
+         *
+         * @param type Function type.
+         * @param args Input columns of the arguments.
+         */
+        public WindowFunction(FunctionType type, int[] args) {
+            this.type = type;
+            this.args = args;
+        }
+    }
+
+    /**
+     * Frame of the aggregates.
+     *
+     * <p>Bounds are offsets relative to the current row, negative ones precede the current row, {@code null} means the unbounded
+     * frame. Offsets of a {@code RANGE} frame are either {@code null} or zero, which means the peers of the current row.
+     */
+    public static class Frame {
+        private final boolean rows;
+
+        private final @Nullable Long lower;
+
+        private final @Nullable Long upper;
+
+        /**
+         * Constructor.
+         *
+         * @param rows Whether the frame is defined by the number of rows.
+         * @param lower Offset of the lower bound or {@code null} if the frame is unbounded preceding.
+         * @param upper Offset of the upper bound or {@code null} if the frame is unbounded following.
+         */
+        public Frame(boolean rows, @Nullable Long lower, @Nullable Long upper) {
+            assert rows || (lower == null || lower == 0) && (upper == null || upper == 0);
+
+            this.rows = rows;
+            this.lower = lower;
+            this.upper = upper;
+        }
+    }
+}
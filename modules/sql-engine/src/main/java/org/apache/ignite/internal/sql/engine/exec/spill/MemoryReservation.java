@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+/**
+ * Memory reserved by a single operator against the {@link QueryMemoryTracker query quota}.
+ *
+ * <p>Not thread-safe: an operator is always executed by a single thread.
+ */
+public class MemoryReservation {
+    private final QueryMemoryTracker tracker;
+
+    private long reserved;
+
+    /**
+     * Constructor.
+     *
+     * @param tracker Query memory tracker.
+     */
+    public MemoryReservation(QueryMemoryTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    /**
+     * Tries to reserve the given amount of memory.
+     *
+     * @param bytes Amount of memory in bytes.
+     * @return {@code True} if the memory was reserved, {@code false} if the query quota is exceeded.
+     */
+    public boolean tryReserve(long bytes) {
+        if (!tracker.tryReserve(bytes)) {
+            return false;
+        }
+
+        reserved += bytes;
+
+        return true;
+    }
+
+    /**
+     * Reserves the given amount of memory regardless of the query quota.
+     *
+     * @param bytes Amount of memory in bytes.
+     */
+    public void reserve(long bytes) {
+        tracker.reserve(bytes);
+
+        reserved += bytes;
+    }
+
+    /**
+     * Releases the given amount of memory, no more than is reserved by the operator.
+     *
+     * @param bytes Amount of memory in bytes.
+     */
+    public void release(long bytes) {
+        long released = Math.min(bytes, reserved);
+
+        if (released > 0) {
+            tracker.release(released);
+
+            reserved -= released;
+        }
+    }
+
+    /** Releases all the memory reserved by the operator. */
+    public void releaseAll() {
+        if (reserved > 0) {
+            tracker.release(reserved);
+
+            reserved = 0;
+        }
+    }
+
+    /** Returns the amount of memory in bytes reserved by the operator. */
+    public long reserved() {
+        return reserved;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import static org.apache.ignite.lang.IgniteSystemProperties.getLong;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the heap memory held by the stateful operators of a single query on the local node.
+ *
+ * <p>The tracker is shared by all the fragments of the query which are executed on the node, thus it has to be thread-safe.
+ * Operators which are not able to reserve the memory are expected to spill their state to disk.
+ */
+public class QueryMemoryTracker {
+    /** Name of the system property which defines per-query memory quota in bytes. Non-positive value disables the quota. */
+    public static final String IGNITE_SQL_QUERY_MEMORY_QUOTA = "IGNITE_SQL_QUERY_MEMORY_QUOTA";
+
+    /** Default per-query memory quota. */
+    public static final long DFLT_QUERY_MEMORY_QUOTA = 256L * 1024 * 1024;
+
+    /** Per-query memory quota. */
+    public static final long QUERY_MEMORY_QUOTA = getLong(IGNITE_SQL_QUERY_MEMORY_QUOTA, DFLT_QUERY_MEMORY_QUOTA);
+
+    /** Tracker without any quota. */
+    public static final QueryMemoryTracker UNLIMITED = new QueryMemoryTracker(0);
+
+    private final long quota;
+
+    private final AtomicLong reserved = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param quota Memory quota in bytes. Non-positive value means the quota is not limited.
+     */
+    public QueryMemoryTracker(long quota) {
+        this.quota = quota;
+    }
+
+    /**
+     * Tries to reserve the given amount of memory.
+     *
+     * @param bytes Amount of memory in bytes.
+     * @return {@code True} if the memory was reserved, {@code false} if the reservation would exceed the quota.
+     */
+    public boolean tryReserve(long bytes) {
+        assert bytes >= 0 : bytes;
+
+        if (quota <= 0) {
+            return true;
+        }
+
+        while (true) {
+            long cur = reserved.get();
+
+            if (cur + bytes > quota) {
+                return false;
+            }
+
+            if (reserved.compareAndSet(cur, cur + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reserves the given amount of memory regardless of the quota.
+     *
+     * @param bytes Amount of memory in bytes.
+     */
+    public void reserve(long bytes) {
+        assert bytes >= 0 : bytes;
+
+        if (quota > 0) {
+            reserved.addAndGet(bytes);
+        }
+    }
+
+    /**
+     * Releases previously reserved memory.
+     *
+     * @param bytes Amount of memory in bytes.
+     */
+    public void release(long bytes) {
+        assert bytes >= 0 : bytes;
+
+        if (quota > 0) {
+            long res = reserved.addAndGet(-bytes);
+
+            assert res >= 0 : res;
+        }
+    }
+
+    /** Returns the amount of the reserved memory in bytes. */
+    public long reserved() {
+        return reserved.get();
+    }
+
+    /** Returns the memory quota in bytes, non-positive value means the quota is not limited. */
+    public long quota() {
+        return quota;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import org.apache.calcite.avatica.util.ByteString;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupKey;
+
+/**
+ * Rough estimation of the heap size occupied by rows. The estimation is cheap rather than precise,
+ * it's only used to decide when an operator has to spill its state to disk.
+ */
+public final class RowSizeEstimator {
+    /** Object header plus a reference to it. */
+    private static final int OBJ_OVERHEAD = 16 + 8;
+
+    /** Size of an object of unknown type. */
+    private static final int DFLT_OBJ_SIZE = 64;
+
+    private RowSizeEstimator() {
+        // No-op.
+    }
+
+    /**
+     * Estimates the heap size of the row.
+     *
+     * @param hnd Row handler.
+     * @param row Row.
+     * @return Estimated size in bytes.
+     */
+    public static <RowT> long estimate(RowHandler<RowT> hnd, RowT row) {
+        int cnt = hnd.columnCount(row);
+
+        long size = OBJ_OVERHEAD + 8L * cnt;
+
+        for (int i = 0; i < cnt; i++) {
+            size += estimate(hnd.get(i, row));
+        }
+
+        return size;
+    }
+
+    /**
+     * Estimates the heap size of the field value, not including the reference to it.
+     *
+     * @param val Field value.
+     * @return Estimated size in bytes.
+     */
+    public static long estimate(Object val) {
+        if (val == null) {
+            return 0;
+        } else if (val instanceof Number || val instanceof Boolean || val instanceof Character) {
+            return val instanceof BigDecimal ? OBJ_OVERHEAD + 32 : OBJ_OVERHEAD;
+        } else if (val instanceof String) {
+            return OBJ_OVERHEAD + 24 + ((String) val).length();
+        } else if (val instanceof byte[]) {
+            return OBJ_OVERHEAD + ((byte[]) val).length;
+        } else if (val instanceof ByteString) {
+            return 2 * OBJ_OVERHEAD + ((ByteString) val).length();
+        } else if (val instanceof int[]) {
+            return OBJ_OVERHEAD + 4L * ((int[]) val).length;
+        } else if (val instanceof GroupKey) {
+            GroupKey key = (GroupKey) val;
+
+            long size = 2 * OBJ_OVERHEAD + 8L * key.fieldsCount();
+
+            for (int i = 0; i < key.fieldsCount(); i++) {
+                size += estimate(key.field(i));
+            }
+
+            return size;
+        } else if (val instanceof Collection) {
+            return OBJ_OVERHEAD + (long) DFLT_OBJ_SIZE * ((Collection<?>) val).size();
+        }
+
+        return DFLT_OBJ_SIZE;
+    }
+}
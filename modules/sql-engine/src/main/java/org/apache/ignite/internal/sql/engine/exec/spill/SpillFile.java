@@ -0,0 +1,438 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import org.apache.calcite.avatica.util.ByteString;
+import org.apache.ignite.internal.fileio.FileIo;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+
+/**
+ * Temporary file the rows are spilled to.
+ *
+ * <p>The rows are appended to the file first, then the file is read sequentially by one or several {@link Reader readers}.
+ * Appending rows after a reader was created is not allowed. The file is removed from disk on {@link #close()}.
+ */
+public class SpillFile<RowT> implements AutoCloseable {
+    /** Size of the write and read buffers. */
+    private static final int BUF_SIZE = 64 * 1024;
+
+    private static final byte NULL = 0;
+
+    private static final byte BOOLEAN = 1;
+
+    private static final byte BYTE = 2;
+
+    private static final byte SHORT = 3;
+
+    private static final byte INT = 4;
+
+    private static final byte LONG = 5;
+
+    private static final byte FLOAT = 6;
+
+    private static final byte DOUBLE = 7;
+
+    private static final byte STRING = 8;
+
+    private static final byte BYTES = 9;
+
+    private static final byte BYTE_STRING = 10;
+
+    private static final byte DECIMAL = 11;
+
+    /** Any other serializable object. */
+    private static final byte OBJECT = 127;
+
+    private final SpillManager mgr;
+
+    private final Path path;
+
+    private final FileIo io;
+
+    private final RowHandler<RowT> hnd;
+
+    private final ByteBuffer writeBuf = ByteBuffer.allocate(BUF_SIZE);
+
+    private final RecordOutput rec = new RecordOutput();
+
+    private final DataOutputStream recOut = new DataOutputStream(rec);
+
+    /** Size of the file including not yet flushed bytes. */
+    private long size;
+
+    /** Number of bytes flushed to disk. */
+    private long flushedSize;
+
+    private long rowsCnt;
+
+    private boolean writeFinished;
+
+    private boolean closed;
+
+    SpillFile(SpillManager mgr, Path path, FileIo io, RowHandler<RowT> hnd) {
+        this.mgr = mgr;
+        this.path = path;
+        this.io = io;
+        this.hnd = hnd;
+    }
+
+    /**
+     * Appends the row to the file.
+     *
+     * @param row Row.
+     * @throws IOException If failed.
+     */
+    public void write(RowT row) throws IOException {
+        assert !writeFinished : "Spill file is already being read: " + path;
+
+        rec.reset();
+
+        int cnt = hnd.columnCount(row);
+
+        recOut.writeInt(cnt);
+
+        for (int i = 0; i < cnt; i++) {
+            writeField(hnd.get(i, row));
+        }
+
+        recOut.flush();
+
+        if (writeBuf.remaining() < Integer.BYTES) {
+            flushBuffer();
+        }
+
+        writeBuf.putInt(rec.size());
+
+        byte[] bytes = rec.array();
+        int off = 0;
+
+        while (off < rec.size()) {
+            if (!writeBuf.hasRemaining()) {
+                flushBuffer();
+            }
+
+            int len = Math.min(writeBuf.remaining(), rec.size() - off);
+
+            writeBuf.put(bytes, off, len);
+
+            off += len;
+        }
+
+        size += Integer.BYTES + rec.size();
+        rowsCnt++;
+    }
+
+    /**
+     * Finishes writing and creates a reader which reads the file from the very beginning.
+     *
+     * @return Reader.
+     * @throws IOException If failed.
+     */
+    public Reader reader() throws IOException {
+        if (!writeFinished) {
+            flushBuffer();
+
+            writeFinished = true;
+        }
+
+        return new Reader();
+    }
+
+    /** Returns number of rows written to the file. */
+    public long rowsCount() {
+        return rowsCnt;
+    }
+
+    /** Returns the file size in bytes. */
+    public long size() {
+        return size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        try {
+            io.close();
+        } finally {
+            Files.deleteIfExists(path);
+
+            mgr.onFileRemoved(flushedSize);
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (writeBuf.position() == 0) {
+            return;
+        }
+
+        int len = writeBuf.position();
+
+        writeBuf.flip();
+
+        io.writeFully(writeBuf, flushedSize);
+
+        writeBuf.clear();
+
+        flushedSize += len;
+
+        mgr.onBytesWritten(len);
+    }
+
+    private void writeField(Object val) throws IOException {
+        if (val == null) {
+            recOut.writeByte(NULL);
+        } else if (val instanceof Boolean) {
+            recOut.writeByte(BOOLEAN);
+            recOut.writeBoolean((Boolean) val);
+        } else if (val instanceof Byte) {
+            recOut.writeByte(BYTE);
+            recOut.writeByte((Byte) val);
+        } else if (val instanceof Short) {
+            recOut.writeByte(SHORT);
+            recOut.writeShort((Short) val);
+        } else if (val instanceof Integer) {
+            recOut.writeByte(INT);
+            recOut.writeInt((Integer) val);
+        } else if (val instanceof Long) {
+            recOut.writeByte(LONG);
+            recOut.writeLong((Long) val);
+        } else if (val instanceof Float) {
+            recOut.writeByte(FLOAT);
+            recOut.writeFloat((Float) val);
+        } else if (val instanceof Double) {
+            recOut.writeByte(DOUBLE);
+            recOut.writeDouble((Double) val);
+        } else if (val instanceof String) {
+            recOut.writeByte(STRING);
+            writeBytes(((String) val).getBytes(StandardCharsets.UTF_8));
+        } else if (val instanceof byte[]) {
+            recOut.writeByte(BYTES);
+            writeBytes((byte[]) val);
+        } else if (val instanceof ByteString) {
+            recOut.writeByte(BYTE_STRING);
+            writeBytes(((ByteString) val).getBytes());
+        } else if (val instanceof BigDecimal) {
+            recOut.writeByte(DECIMAL);
+            recOut.writeInt(((BigDecimal) val).scale());
+            writeBytes(((BigDecimal) val).unscaledValue().toByteArray());
+        } else {
+            recOut.writeByte(OBJECT);
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+            try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                oos.writeObject(val);
+            }
+
+            writeBytes(bos.toByteArray());
+        }
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        recOut.writeInt(bytes.length);
+        recOut.write(bytes);
+    }
+
+    /**
+     * Sequential reader of the spill file.
+     */
+    public class Reader {
+        private final ByteBuffer readBuf = ByteBuffer.allocate(BUF_SIZE).limit(0);
+
+        /** Position in file of the first byte after the read buffer. */
+        private long filePos;
+
+        private long rowsRead;
+
+        private byte[] recBytes = new byte[256];
+
+        /** Row factory for the last seen row length. */
+        private RowFactory<RowT> factory;
+
+        private int factoryRowLen = -1;
+
+        private Reader() {
+            // No-op.
+        }
+
+        /** Returns {@code true} if there are more rows to read. */
+        public boolean hasNext() {
+            return rowsRead < rowsCnt;
+        }
+
+        /**
+         * Reads the next row.
+         *
+         * @return Row.
+         * @throws IOException If failed.
+         */
+        public RowT next() throws IOException {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            readFully(recBytes, Integer.BYTES);
+
+            int len = ByteBuffer.wrap(recBytes, 0, Integer.BYTES).getInt();
+
+            if (recBytes.length < len) {
+                recBytes = new byte[Math.max(len, recBytes.length * 2)];
+            }
+
+            readFully(recBytes, len);
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(recBytes, 0, len));
+
+            int cnt = in.readInt();
+
+            Object[] fields = new Object[cnt];
+
+            for (int i = 0; i < cnt; i++) {
+                fields[i] = readField(in);
+            }
+
+            rowsRead++;
+
+            return factory(cnt).create(fields);
+        }
+
+        private RowFactory<RowT> factory(int cnt) {
+            if (factoryRowLen != cnt) {
+                Type[] types = new Type[cnt];
+
+                Arrays.fill(types, Object.class);
+
+                factory = hnd.factory(types);
+                factoryRowLen = cnt;
+            }
+
+            return factory;
+        }
+
+        private void readFully(byte[] dst, int len) throws IOException {
+            int off = 0;
+
+            while (off < len) {
+                if (!readBuf.hasRemaining()) {
+                    readBuf.clear();
+
+                    int read = io.read(readBuf, filePos);
+
+                    if (read <= 0) {
+                        throw new EOFException("Unexpected end of spill file: " + path);
+                    }
+
+                    filePos += read;
+
+                    readBuf.flip();
+                }
+
+                int chunk = Math.min(readBuf.remaining(), len - off);
+
+                readBuf.get(dst, off, chunk);
+
+                off += chunk;
+            }
+        }
+
+        private Object readField(DataInputStream in) throws IOException {
+            byte tag = in.readByte();
+
+            switch (tag) {
+                case NULL:
+                    return null;
+                case BOOLEAN:
+                    return in.readBoolean();
+                case BYTE:
+                    return in.readByte();
+                case SHORT:
+                    return in.readShort();
+                case INT:
+                    return in.readInt();
+                case LONG:
+                    return in.readLong();
+                case FLOAT:
+                    return in.readFloat();
+                case DOUBLE:
+                    return in.readDouble();
+                case STRING:
+                    return new String(readBytes(in), StandardCharsets.UTF_8);
+                case BYTES:
+                    return readBytes(in);
+                case BYTE_STRING:
+                    return new ByteString(readBytes(in));
+                case DECIMAL: {
+                    int scale = in.readInt();
+
+                    return new BigDecimal(new BigInteger(readBytes(in)), scale);
+                }
+                case OBJECT:
+                    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+                        return ois.readObject();
+                    } catch (ClassNotFoundException e) {
+                        throw new IOException("Failed to read spilled value: " + path, e);
+                    }
+                default:
+                    throw new IOException("Unexpected value type [tag=" + tag + ", file=" + path + ']');
+            }
+        }
+
+        private byte[] readBytes(DataInputStream in) throws IOException {
+            byte[] bytes = new byte[in.readInt()];
+
+            in.readFully(bytes);
+
+            return bytes;
+        }
+    }
+
+    /** Output stream with access to the underlying array to avoid copying of every record. */
+    private static class RecordOutput extends ByteArrayOutputStream {
+        private RecordOutput() {
+            super(256);
+        }
+
+        private byte[] array() {
+            return buf;
+        }
+    }
+}
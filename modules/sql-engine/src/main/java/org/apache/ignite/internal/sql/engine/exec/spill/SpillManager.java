@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import static org.apache.ignite.lang.ErrorGroups.Common.UNEXPECTED_ERR;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.fileio.FileIoFactory;
+import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.lang.IgniteInternalException;
+
+/**
+ * Node-wide manager of the files the SQL operators spill their state to once the query memory quota is exceeded.
+ *
+ * <p>All the files are created in a dedicated directory, which is cleared on start and removed on stop.
+ */
+public class SpillManager implements LifecycleAware {
+    /** File extension of the spill files. */
+    private static final String SPILL_FILE_EXT = ".spill";
+
+    private final Path dir;
+
+    private final FileIoFactory ioFactory;
+
+    private final AtomicLong fileIdGen = new AtomicLong();
+
+    /** Current size of all spill files. */
+    private final AtomicLong diskUsage = new AtomicLong();
+
+    private final SpillMetricSource metricSrc = new SpillMetricSource(diskUsage::get);
+
+    /**
+     * Constructor.
+     *
+     * @param dir Directory to create spill files in.
+     */
+    public SpillManager(Path dir) {
+        this(dir, new RandomAccessFileIoFactory());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param dir Directory to create spill files in.
+     * @param ioFactory File I/O factory.
+     */
+    public SpillManager(Path dir, FileIoFactory ioFactory) {
+        this.dir = dir;
+        this.ioFactory = ioFactory;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        // Files left after the previous run are useless.
+        IgniteUtils.deleteIfExists(dir);
+
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new IgniteInternalException(UNEXPECTED_ERR, "Failed to create SQL spill directory [dir=" + dir + ']', e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() {
+        IgniteUtils.deleteIfExists(dir);
+    }
+
+    /**
+     * Creates a new spill file for the operator of the given fragment. The file is removed on {@link SpillFile#close()}.
+     *
+     * @param ctx Execution context of the fragment.
+     * @return Spill file.
+     * @throws IOException If failed to create the file.
+     */
+    public <RowT> SpillFile<RowT> createFile(ExecutionContext<RowT> ctx) throws IOException {
+        Path path = dir.resolve(ctx.queryId() + "_" + ctx.fragmentId() + "_" + fileIdGen.incrementAndGet() + SPILL_FILE_EXT);
+
+        SpillFile<RowT> file = new SpillFile<>(this, path, ioFactory.create(path), ctx.rowHandler());
+
+        metricSrc.onFileCreated();
+
+        return file;
+    }
+
+    /** Returns the spill metric source. */
+    public SpillMetricSource metricSource() {
+        return metricSrc;
+    }
+
+    /** Returns the directory of the spill files. */
+    public Path directory() {
+        return dir;
+    }
+
+    /** Returns the current size of the spill files in bytes. */
+    public long diskUsage() {
+        return diskUsage.get();
+    }
+
+    void onBytesWritten(long bytes) {
+        diskUsage.addAndGet(bytes);
+
+        metricSrc.onBytesWritten(bytes);
+    }
+
+    void onFileRemoved(long size) {
+        diskUsage.addAndGet(-size);
+    }
+}
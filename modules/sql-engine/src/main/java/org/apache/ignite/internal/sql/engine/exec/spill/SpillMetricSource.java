@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import java.util.function.LongSupplier;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillMetricSource.Holder;
+
+/**
+ * Metric source of the SQL operators spilling to disk.
+ */
+public class SpillMetricSource extends AbstractMetricSource<Holder> {
+    /** Source name. */
+    public static final String SOURCE_NAME = "sql.spill";
+
+    /** Supplier of the current size of the spill files. */
+    private final LongSupplier diskUsage;
+
+    /**
+     * Constructor.
+     *
+     * @param diskUsage Supplier of the current size of the spill files in bytes.
+     */
+    public SpillMetricSource(LongSupplier diskUsage) {
+        super(SOURCE_NAME);
+
+        this.diskUsage = diskUsage;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void init(MetricSetBuilder bldr, Holder holder) {
+        holder.spilledBytes = bldr.longAdder("SpilledBytes", "Total number of bytes spilled to disk by SQL operators.");
+
+        holder.spillFiles = bldr.longAdder("SpillFilesCount", "Total number of spill files created by SQL operators.");
+
+        bldr.longGauge("SpillDiskUsage", "Current size of the spill files on disk in bytes.", diskUsage);
+    }
+
+    /**
+     * Records that a spill file was created.
+     */
+    void onFileCreated() {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.spillFiles.increment();
+        }
+    }
+
+    /**
+     * Records that the given amount of bytes was written to a spill file.
+     *
+     * @param bytes Number of bytes.
+     */
+    void onBytesWritten(long bytes) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.spilledBytes.add(bytes);
+        }
+    }
+
+    /**
+     * Holder class.
+     */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private LongAdderMetric spilledBytes;
+
+        private LongAdderMetric spillFiles;
+    }
+}
@@ -23,6 +23,7 @@ import static org.apache.ignite.internal.util.IgniteUtils.firstNotNull;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -34,6 +35,7 @@ import java.util.stream.Collectors;
 import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * ColocationGroup.
@@ -46,12 +48,15 @@ public class ColocationGroup implements Serializable {
 
     private final List<List<NodeWithTerm>> assignments;
 
+    /** Partitions left after the partition pruning, {@code null} if all the partitions are involved in query execution. */
+    private final @Nullable BitSet partitions;
+
     /**
      * ForNodes.
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
      */
     public static ColocationGroup forNodes(List<String> nodeNames) {
-        return new ColocationGroup(null, nodeNames, null);
+        return new ColocationGroup(null, nodeNames, null, null);
     }
 
     /**
@@ -59,7 +64,7 @@ public class ColocationGroup implements Serializable {
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
      */
     public static ColocationGroup forAssignments(List<List<NodeWithTerm>> assignments) {
-        return new ColocationGroup(null, null, assignments);
+        return new ColocationGroup(null, null, assignments, null);
     }
 
     /**
@@ -67,17 +72,23 @@ public class ColocationGroup implements Serializable {
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
      */
     public static ColocationGroup forSourceId(long sourceId) {
-        return new ColocationGroup(Collections.singletonList(sourceId), null, null);
+        return new ColocationGroup(Collections.singletonList(sourceId), null, null, null);
     }
 
     /**
      * Constructor.
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
      */
-    private ColocationGroup(List<Long> sourceIds, List<String> nodeNames, List<List<NodeWithTerm>> assignments) {
+    private ColocationGroup(
+            List<Long> sourceIds,
+            List<String> nodeNames,
+            List<List<NodeWithTerm>> assignments,
+            @Nullable BitSet partitions
+    ) {
         this.sourceIds = sourceIds;
         this.nodeNames = nodeNames;
         this.assignments = assignments;
+        this.partitions = partitions;
     }
 
     /**
@@ -113,6 +124,56 @@ public class ColocationGroup implements Serializable {
         return this; // TODO https://issues.apache.org/jira/browse/IGNITE-12455
     }
 
+    /**
+     * Restricts the partitions involved in query execution. Assignments of the pruned partitions are kept, but the nodes owning
+     * only pruned partitions are not involved in query execution.
+     *
+     * @param parts Partitions to keep.
+     * @return Resulting nodes mapping.
+     */
+    public ColocationGroup prune(BitSet parts) {
+        assert assignments != null;
+
+        BitSet parts0 = (BitSet) parts.clone();
+
+        if (partitions != null) {
+            parts0.and(partitions);
+        }
+
+        return new ColocationGroup(sourceIds, nodeNames, assignments, parts0);
+    }
+
+    /**
+     * Cancels the partition pruning. This is needed when the fragment receives rows from other fragments, which may belong to any
+     * partition.
+     *
+     * @return Nodes mapping involving all the partitions.
+     * @throws ColocationMappingException If some of the pruned partitions are not mapped to any node.
+     */
+    public ColocationGroup withAllPartitions() throws ColocationMappingException {
+        if (partitions == null) {
+            return this;
+        }
+
+        for (int p = 0; p < assignments.size(); p++) {
+            if (assignments.get(p).isEmpty()) {
+                throw new ColocationMappingException("Failed to map fragment to location. Partition mapping is empty [part=" + p + "]");
+            }
+        }
+
+        return new ColocationGroup(sourceIds, nodeNames, assignments, null);
+    }
+
+    /**
+     * Checks whether the partition is involved in query execution.
+     *
+     * @param part Partition.
+     * @return {@code false} if the partition is pruned.
+     */
+    public boolean involved(int part) {
+        return partitions == null || partitions.get(part);
+    }
+
     /**
      * Belongs.
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
@@ -153,6 +214,18 @@ public class ColocationGroup implements Serializable {
         Set<String> nodeNamesSet = nodeNames == null ? null : new HashSet<>(nodeNames);
         Predicate<String> nodeNamesFilter = nodeNames == null ? v -> true : nodeNamesSet::contains;
 
+        BitSet partitions;
+
+        if (this.assignments == null || other.assignments == null) {
+            partitions = this.assignments != null ? this.partitions : other.partitions;
+        } else if (this.partitions == null || other.partitions == null) {
+            partitions = null;
+        } else {
+            // Each source scans the partitions involved for any of the colocated sources.
+            partitions = (BitSet) this.partitions.clone();
+            partitions.or(other.partitions);
+        }
+
         if (this.assignments == null || other.assignments == null) {
             assignments = firstNotNull(this.assignments, other.assignments);
 
@@ -162,7 +235,7 @@ public class ColocationGroup implements Serializable {
                 for (int i = 0; i < assignments.size(); i++) {
                     List<NodeWithTerm> assignment = filterByNodeNames(assignments.get(i), nodeNamesFilter);
 
-                    if (assignment.isEmpty()) {
+                    if (assignment.isEmpty() && involved(partitions, i)) {
                         throw new ColocationMappingException("Failed to map fragment to location. "
                                 + "Partition mapping is empty [part=" + i + "]");
                     }
@@ -183,7 +256,7 @@ public class ColocationGroup implements Serializable {
 
                 List<NodeWithTerm> assignment = intersect(assignment0, assignment1, nodeNamesFilter, p);
 
-                if (assignment.isEmpty()) {
+                if (assignment.isEmpty() && involved(partitions, p)) {
                     throw new ColocationMappingException("Failed to map fragment to location. Partition mapping is empty [part=" + p + "]");
                 }
 
@@ -191,7 +264,11 @@ public class ColocationGroup implements Serializable {
             }
         }
 
-        return new ColocationGroup(sourceIds, nodeNames, assignments);
+        return new ColocationGroup(sourceIds, nodeNames, assignments, partitions);
+    }
+
+    private static boolean involved(@Nullable BitSet partitions, int part) {
+        return partitions == null || partitions.get(part);
     }
 
     private List<NodeWithTerm> intersect(
@@ -276,15 +353,15 @@ public class ColocationGroup implements Serializable {
         if (assignments != null) {
             List<List<NodeWithTerm>> assignments = new ArrayList<>(this.assignments.size());
             Set<String> nodes = new HashSet<>();
-            for (List<NodeWithTerm> assignment : this.assignments) {
-                NodeWithTerm first = first(assignment);
-                if (first != null) {
+            for (int p = 0; p < this.assignments.size(); p++) {
+                NodeWithTerm first = first(this.assignments.get(p));
+                if (first != null && involved(p)) {
                     nodes.add(first.name());
                 }
                 assignments.add(first != null ? Collections.singletonList(first) : Collections.emptyList());
             }
 
-            return new ColocationGroup(sourceIds, new ArrayList<>(nodes), assignments);
+            return new ColocationGroup(sourceIds, new ArrayList<>(nodes), assignments, partitions);
         }
 
         return mapToNodes(nodeNames);
@@ -300,7 +377,7 @@ public class ColocationGroup implements Serializable {
 
     @NotNull
     private ColocationGroup forNodes0(List<String> nodeNames) {
-        return new ColocationGroup(sourceIds, nodeNames, assignments);
+        return new ColocationGroup(sourceIds, nodeNames, assignments, partitions);
     }
 
     /**
@@ -313,6 +390,10 @@ public class ColocationGroup implements Serializable {
         List<PartitionWithTerm> partsWithTerms = new ArrayList<>();
 
         for (int p = 0; p < assignments.size(); p++) {
+            if (!involved(p)) {
+                continue;
+            }
+
             List<NodeWithTerm> assignment = assignments.get(p);
 
             NodeWithTerm nodeWithTerm = first(assignment);
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.metadata;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexLocalRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.sql.engine.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.sql.engine.schema.InternalIgniteTable;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
+import org.apache.ignite.internal.sql.engine.statistic.Histogram;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Estimations of the table scans based on the collected column statistics.
+ */
+final class ColumnStatisticsUtils {
+    private ColumnStatisticsUtils() {
+        // No-op.
+    }
+
+    /**
+     * Estimates selectivity of the condition on the scan. Conjuncts which can't be estimated with the column statistics are guessed.
+     *
+     * @param scan Table scan.
+     * @param cond Condition, refers to the scanned columns by {@link RexLocalRef} and to the scan output by {@link RexInputRef}.
+     * @return Selectivity.
+     */
+    static double selectivity(ProjectableFilterableTableScan scan, @Nullable RexNode cond) {
+        if (cond == null) {
+            return RelMdUtil.guessSelectivity(null);
+        }
+
+        double sel = 1.0;
+        boolean estimated = false;
+
+        for (RexNode conj : RelOptUtil.conjunctions(cond)) {
+            Double est = estimate(scan, conj);
+
+            if (est != null) {
+                estimated = true;
+                sel *= est;
+            } else {
+                sel *= RelMdUtil.guessSelectivity(conj);
+            }
+        }
+
+        if (!estimated) {
+            return sel;
+        }
+
+        // Expect at least one row, zero row count makes the cost of all the plans above the scan equal.
+        return Math.max(sel, 1.0 / Math.max(scan.getTable().getRowCount(), 1.0));
+    }
+
+    /**
+     * Estimates the number of distinct values of the scan output columns.
+     *
+     * @param scan Table scan.
+     * @param groupKey Output columns.
+     * @return Number of distinct values of the unfiltered table or {@code null} if there are no statistics for some of the columns.
+     */
+    static @Nullable Double distinctRowCount(ProjectableFilterableTableScan scan, ImmutableBitSet groupKey) {
+        InternalIgniteTable tbl = scan.getTable().unwrap(InternalIgniteTable.class);
+
+        if (tbl == null) {
+            return null;
+        }
+
+        double ndv = 1.0;
+
+        for (int field : groupKey) {
+            int col = outputColumn(scan, field);
+            ColumnStatistics stats = col < 0 ? null : tbl.columnStatistics(col);
+
+            if (stats == null) {
+                return null;
+            }
+
+            // Null is a distinct value as well.
+            ndv *= stats.ndv() + (stats.nullCount() > 0 ? 1 : 0);
+        }
+
+        return Math.min(ndv, scan.getTable().getRowCount());
+    }
+
+    /** Estimates selectivity of a single conjunct, returns {@code null} if there are no suitable statistics. */
+    private static @Nullable Double estimate(ProjectableFilterableTableScan scan, RexNode conj) {
+        if (!(conj instanceof RexCall)) {
+            return null;
+        }
+
+        List<RexNode> operands = ((RexCall) conj).getOperands();
+        SqlKind kind = conj.getKind();
+
+        switch (kind) {
+            case IS_NULL:
+            case IS_NOT_NULL: {
+                ColumnStatistics stats = statistics(scan, operands.get(0));
+
+                if (stats == null) {
+                    return null;
+                }
+
+                double nullFraction = nullFraction(scan, stats);
+
+                return kind == SqlKind.IS_NULL ? nullFraction : 1.0 - nullFraction;
+            }
+
+            case EQUALS:
+            case NOT_EQUALS:
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL: {
+                RexNode ref = operands.get(0);
+                RexNode lit = operands.get(1);
+
+                if (ref instanceof RexLiteral) {
+                    RexNode tmp = ref;
+                    ref = lit;
+                    lit = tmp;
+                    kind = kind.reverse();
+                }
+
+                if (!(lit instanceof RexLiteral) || ((RexLiteral) lit).isNull()) {
+                    return null;
+                }
+
+                ColumnStatistics stats = statistics(scan, ref);
+
+                if (stats == null) {
+                    return null;
+                }
+
+                double nonNull = 1.0 - nullFraction(scan, stats);
+
+                if (kind == SqlKind.EQUALS || kind == SqlKind.NOT_EQUALS) {
+                    double eq = stats.ndv() == 0 ? 0.0 : 1.0 / stats.ndv();
+
+                    return nonNull * (kind == SqlKind.EQUALS ? eq : 1.0 - eq);
+                }
+
+                Histogram hist = stats.histogram();
+                Double val = numericValue((RexLiteral) lit);
+
+                if (hist == null || val == null) {
+                    return null;
+                }
+
+                switch (kind) {
+                    case LESS_THAN:
+                        return nonNull * hist.lessThan(val, false);
+                    case LESS_THAN_OR_EQUAL:
+                        return nonNull * hist.lessThan(val, true);
+                    case GREATER_THAN:
+                        return nonNull * hist.greaterThan(val, false);
+                    default:
+                        return nonNull * hist.greaterThan(val, true);
+                }
+            }
+
+            default:
+                return null;
+        }
+    }
+
+    private static double nullFraction(ProjectableFilterableTableScan scan, ColumnStatistics stats) {
+        return Math.min(1.0, stats.nullCount() / Math.max(scan.getTable().getRowCount(), 1.0));
+    }
+
+    private static @Nullable Double numericValue(RexLiteral lit) {
+        if (!SqlTypeUtil.isNumeric(lit.getType())) {
+            return null;
+        }
+
+        BigDecimal val = lit.getValueAs(BigDecimal.class);
+
+        return val == null ? null : val.doubleValue();
+    }
+
+    /** Returns statistics of the column the expression refers to. */
+    private static @Nullable ColumnStatistics statistics(ProjectableFilterableTableScan scan, RexNode node) {
+        // Casts between numeric types don't change the order of the values.
+        while (node.getKind() == SqlKind.CAST
+                && SqlTypeUtil.isNumeric(node.getType())
+                && SqlTypeUtil.isNumeric(((RexCall) node).getOperands().get(0).getType())) {
+            node = ((RexCall) node).getOperands().get(0);
+        }
+
+        int col;
+
+        if (node instanceof RexLocalRef) {
+            col = scannedColumn(scan, ((RexLocalRef) node).getIndex());
+        } else if (node instanceof RexInputRef) {
+            col = outputColumn(scan, ((RexInputRef) node).getIndex());
+        } else {
+            return null;
+        }
+
+        InternalIgniteTable tbl = scan.getTable().unwrap(InternalIgniteTable.class);
+
+        return col < 0 || tbl == null ? null : tbl.columnStatistics(col);
+    }
+
+    /** Maps a field of the scan output to the table column, returns {@code -1} for the computed fields. */
+    private static int outputColumn(ProjectableFilterableTableScan scan, int field) {
+        if (scan.projects() == null) {
+            return scannedColumn(scan, field);
+        }
+
+        RexNode proj = scan.projects().get(field);
+
+        return proj instanceof RexLocalRef ? scannedColumn(scan, ((RexLocalRef) proj).getIndex()) : -1;
+    }
+
+    /** Maps a field of the scanned row to the table column. */
+    private static int scannedColumn(ProjectableFilterableTableScan scan, int field) {
+        ImmutableBitSet requiredColumns = scan.requiredColumns();
+
+        return requiredColumns == null ? field : requiredColumns.asList().get(field);
+    }
+}
@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.util.CollectionUtils.first;
 import static org.apache.ignite.internal.util.IgniteUtils.firstNotNull;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Supplier;
@@ -108,6 +109,22 @@ public class FragmentMapping implements Serializable {
         return new FragmentMapping(first(colocationGroups).prune(rel));
     }
 
+    /**
+     * Cancels the partition pruning of all the colocation groups.
+     *
+     * @return Nodes mapping involving all the partitions.
+     * @throws ColocationMappingException If some of the pruned partitions are not mapped to any node.
+     */
+    public FragmentMapping withAllPartitions() throws ColocationMappingException {
+        List<ColocationGroup> groups = new ArrayList<>(colocationGroups.size());
+
+        for (ColocationGroup group : colocationGroups) {
+            groups.add(group.withAllPartitions());
+        }
+
+        return new FragmentMapping(groups);
+    }
+
     /**
      * Combine.
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
@@ -18,13 +18,17 @@
 package org.apache.ignite.internal.sql.engine.metadata;
 
 import org.apache.calcite.plan.volcano.RelSubset;
+import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMdDistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.metadata.RelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.BuiltInMethod;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.sql.engine.rel.ProjectableFilterableTableScan;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * IgniteMdDistinctRowCount.
@@ -48,10 +52,85 @@ public class IgniteMdDistinctRowCount extends RelMdDistinctRowCount {
             return 1d;
         }
 
+        Double ndv = fromStatistics(rel, mq, groupKey, predicate);
+
+        if (ndv != null) {
+            return ndv;
+        }
+
         double rowCount = mq.getRowCount(rel);
 
         rowCount *= 1.0 - Math.pow(.5, groupKey.cardinality());
 
         return rowCount;
     }
+
+    /**
+     * Estimates the number of distinct values of the table scan columns with the collected column statistics.
+     */
+    public Double getDistinctRowCount(
+            ProjectableFilterableTableScan rel,
+            RelMetadataQuery mq,
+            ImmutableBitSet groupKey,
+            RexNode predicate
+    ) {
+        if (groupKey.cardinality() == 0) {
+            return 1d;
+        }
+
+        Double ndv = fromStatistics(rel, mq, groupKey, predicate);
+
+        return ndv != null ? ndv : super.getDistinctRowCount((RelNode) rel, mq, groupKey, predicate);
+    }
+
+    /**
+     * Estimates the number of distinct values with the collected column statistics.
+     *
+     * @param rel Relational node, either a table scan or a subset containing one.
+     * @param mq Metadata query.
+     * @param groupKey Columns.
+     * @param predicate Filter applied to the rows.
+     * @return Number of distinct values or {@code null} if there are no statistics for the columns.
+     */
+    public static @Nullable Double fromStatistics(
+            RelNode rel,
+            RelMetadataQuery mq,
+            ImmutableBitSet groupKey,
+            @Nullable RexNode predicate
+    ) {
+        if (rel instanceof RelSubset) {
+            for (RelNode node : ((RelSubset) rel).getRels()) {
+                if (node instanceof ProjectableFilterableTableScan) {
+                    Double ndv = fromStatistics(node, mq, groupKey, predicate);
+
+                    if (ndv != null) {
+                        return ndv;
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        if (!(rel instanceof ProjectableFilterableTableScan)) {
+            return null;
+        }
+
+        ProjectableFilterableTableScan scan = (ProjectableFilterableTableScan) rel;
+
+        Double ndv = ColumnStatisticsUtils.distinctRowCount(scan, groupKey);
+
+        if (ndv == null) {
+            return null;
+        }
+
+        double rowCount = mq.getRowCount(scan);
+
+        if (predicate != null) {
+            rowCount *= mq.getSelectivity(scan, predicate);
+        }
+
+        // Only a part of the distinct values remains once the rows are filtered.
+        return RelMdUtil.numDistinctVals(ndv, rowCount);
+    }
 }
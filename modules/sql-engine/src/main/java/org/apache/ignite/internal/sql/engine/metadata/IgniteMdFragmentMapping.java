@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.sql.engine.metadata;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import org.apache.calcite.plan.RelOptCost;
 import org.apache.calcite.plan.volcano.RelSubset;
@@ -198,6 +199,8 @@ public class IgniteMdFragmentMapping implements MetadataHandler<FragmentMappingM
 
     /**
      * See {@link IgniteMdFragmentMapping#fragmentMapping(RelNode, RelMetadataQuery, MappingQueryContext)}.
+     *
+     * <p>Prunes involved partitions (hence nodes, involved in query execution) on the basis of the scan condition.
      */
     public FragmentMapping fragmentMapping(IgniteIndexScan rel, RelMetadataQuery mq, MappingQueryContext ctx) {
         return getFragmentMapping(rel.sourceId(), rel, ctx);
@@ -205,6 +208,8 @@ public class IgniteMdFragmentMapping implements MetadataHandler<FragmentMappingM
 
     /**
      * See {@link IgniteMdFragmentMapping#fragmentMapping(RelNode, RelMetadataQuery, MappingQueryContext)}.
+     *
+     * <p>Prunes involved partitions (hence nodes, involved in query execution) on the basis of the scan condition.
      */
     public FragmentMapping fragmentMapping(IgniteTableScan rel, RelMetadataQuery mq, MappingQueryContext ctx) {
         return getFragmentMapping(rel.sourceId(), rel, ctx);
@@ -247,6 +252,12 @@ public class IgniteMdFragmentMapping implements MetadataHandler<FragmentMappingM
             group = ColocationGroup.forAssignments(fakeAssignments);
         }
 
+        BitSet parts = PartitionPruner.prune(rel, group.assignments().size(), ctx);
+
+        if (parts != null) {
+            group = group.prune(parts);
+        }
+
         return FragmentMapping.create(sourceId, group);
     }
 }
@@ -136,12 +136,24 @@ public class IgniteMdRowCount extends RelMdRowCount {
         ImmutableIntList leftKeys = joinInfo.leftKeys;
         ImmutableIntList rightKeys = joinInfo.rightKeys;
 
-        double selectivity = mq.getSelectivity(rel, rel.getCondition());
-
         if (nullOrEmpty(leftKeys) || nullOrEmpty(rightKeys)) {
-            return left * right * selectivity;
+            return left * right * mq.getSelectivity(rel, rel.getCondition());
+        }
+
+        Double leftNdv = IgniteMdDistinctRowCount.fromStatistics(rel.getLeft(), mq, ImmutableBitSet.of(leftKeys), null);
+        Double rightNdv = IgniteMdDistinctRowCount.fromStatistics(rel.getRight(), mq, ImmutableBitSet.of(rightKeys), null);
+
+        if (leftNdv != null && rightNdv != null) {
+            // Every key value of the side with fewer distinct keys is assumed to have a match on the other side.
+            double rowsCount = left * right / Math.max(Math.max(leftNdv, rightNdv), 1.0);
+
+            rowsCount *= mq.getSelectivity(rel, joinInfo.getRemaining(rel.getCluster().getRexBuilder()));
+
+            return addOuterRows(rel.getJoinType(), rowsCount, left, right);
         }
 
+        double selectivity = mq.getSelectivity(rel, rel.getCondition());
+
         double leftDistinct = Util.first(
                 mq.getDistinctRowCount(rel.getLeft(), ImmutableBitSet.of(leftKeys), null), left);
         double rightDistinct = Util.first(
@@ -152,8 +164,10 @@ public class IgniteMdRowCount extends RelMdRowCount {
 
         double rowsCount = (Math.min(left, right) / (leftCardinality * rightCardinality)) * selectivity;
 
-        JoinRelType type = rel.getJoinType();
+        return addOuterRows(rel.getJoinType(), rowsCount, left, right);
+    }
 
+    private static double addOuterRows(JoinRelType type, double rowsCount, double left, double right) {
         if (type == JoinRelType.LEFT) {
             rowsCount += left;
         } else if (type == JoinRelType.RIGHT) {
@@ -62,7 +62,7 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
         List<SearchBounds> searchBounds = rel.searchBounds();
 
         if (nullOrEmpty(searchBounds)) {
-            return RelMdUtil.guessSelectivity(rel.condition());
+            return ColumnStatisticsUtils.selectivity(rel, rel.condition());
         }
 
         double idxSelectivity = 1.0;
@@ -79,7 +79,7 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
 
         RexNode remaining = RexUtil.composeConjunction(RexUtils.builder(rel), conjunctions, true);
 
-        return idxSelectivity * RelMdUtil.guessSelectivity(remaining);
+        return idxSelectivity * ColumnStatisticsUtils.selectivity(rel, remaining);
     }
 
     /**
@@ -88,16 +88,16 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
      */
     public Double getSelectivity(ProjectableFilterableTableScan rel, RelMetadataQuery mq, RexNode predicate) {
         if (predicate == null) {
-            return RelMdUtil.guessSelectivity(rel.condition());
+            return ColumnStatisticsUtils.selectivity(rel, rel.condition());
         }
 
         RexNode condition = rel.pushUpPredicate();
         if (condition == null) {
-            return RelMdUtil.guessSelectivity(predicate);
+            return ColumnStatisticsUtils.selectivity(rel, predicate);
         }
 
         RexNode diff = RelMdUtil.minusPreds(RexUtils.builder(rel), predicate, condition);
-        return RelMdUtil.guessSelectivity(diff);
+        return ColumnStatisticsUtils.selectivity(rel, diff);
     }
 
     /**
@@ -0,0 +1,368 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.metadata;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexLocalRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.calcite.util.Pair;
+import org.apache.ignite.internal.schema.NativeType;
+import org.apache.ignite.internal.sql.engine.prepare.MappingQueryContext;
+import org.apache.ignite.internal.sql.engine.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.sql.engine.schema.InternalIgniteTable;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
+import org.apache.ignite.internal.util.ColocationUtils;
+import org.apache.ignite.internal.util.HashCalculator;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Derives the partitions a table scan has to be executed on from the scan condition.
+ *
+ * <p>Partitions are derived from equality of the colocation columns to literals and dynamic parameters, {@code IN} lists,
+ * and conjunctions and disjunctions of those. Keys are mapped to partitions with the same colocation hash the storage uses,
+ * hence only affinity distributed tables are pruned. Any predicate the pruner doesn't understand means all the partitions.
+ */
+final class PartitionPruner {
+    /** Maximal number of the colocation keys to hash, the partitions aren't pruned if the condition allows more keys. */
+    private static final int MAX_KEYS = 1024;
+
+    private final ProjectableFilterableTableScan scan;
+
+    private final InternalIgniteTable table;
+
+    /** Table columns of the colocation key, in the colocation order. */
+    private final ImmutableIntList keys;
+
+    private final int partitions;
+
+    private final Object[] params;
+
+    private PartitionPruner(
+            ProjectableFilterableTableScan scan,
+            InternalIgniteTable table,
+            ImmutableIntList keys,
+            int partitions,
+            Object[] params
+    ) {
+        this.scan = scan;
+        this.table = table;
+        this.keys = keys;
+        this.partitions = partitions;
+        this.params = params;
+    }
+
+    /**
+     * Derives the partitions the scan has to be executed on.
+     *
+     * @param scan Table scan.
+     * @param partitions Number of the table partitions.
+     * @param ctx Mapping context.
+     * @return Partitions to scan or {@code null} if all the partitions have to be scanned.
+     */
+    static @Nullable BitSet prune(ProjectableFilterableTableScan scan, int partitions, MappingQueryContext ctx) {
+        RexNode cond = scan.condition();
+
+        if (cond == null || partitions == 0) {
+            return null;
+        }
+
+        InternalIgniteTable table = scan.getTable().unwrap(InternalIgniteTable.class);
+
+        if (table == null) {
+            return null;
+        }
+
+        IgniteDistribution distribution = table.distribution();
+
+        if (!distribution.function().affinity() || distribution.getKeys().isEmpty()) {
+            return null;
+        }
+
+        PartitionPruner pruner = new PartitionPruner(scan, table, distribution.getKeys(), partitions, ctx.parameters());
+
+        return pruner.partitions(RexUtil.expandSearch(scan.getCluster().getRexBuilder(), null, cond));
+    }
+
+    private @Nullable BitSet partitions(RexNode node) {
+        if (node.getKind() != SqlKind.OR) {
+            return conjunction(RelOptUtil.conjunctions(node));
+        }
+
+        BitSet res = new BitSet(partitions);
+
+        for (RexNode op : ((RexCall) node).getOperands()) {
+            BitSet parts = partitions(op);
+
+            if (parts == null) {
+                return null;
+            }
+
+            res.or(parts);
+        }
+
+        return res;
+    }
+
+    private @Nullable BitSet conjunction(List<RexNode> conjuncts) {
+        BitSet res = null;
+
+        // Allowed values of the colocation columns, indexed by the position in the colocation key.
+        List<Set<Object>> values = new ArrayList<>(keys.size());
+
+        for (int i = 0; i < keys.size(); i++) {
+            values.add(null);
+        }
+
+        for (RexNode conj : conjuncts) {
+            Pair<Integer, Set<Object>> keyValues = keyValues(conj);
+
+            if (keyValues != null) {
+                Set<Object> prev = values.get(keyValues.left);
+
+                if (prev == null) {
+                    values.set(keyValues.left, keyValues.right);
+                } else {
+                    prev.retainAll(keyValues.right);
+                }
+            } else if (conj.getKind() == SqlKind.OR) {
+                res = intersect(res, partitions(conj));
+            }
+        }
+
+        long cnt = 1;
+
+        for (Set<Object> vals : values) {
+            if (vals == null) {
+                return res;
+            }
+
+            cnt *= vals.size();
+
+            if (cnt > MAX_KEYS) {
+                return res;
+            }
+        }
+
+        BitSet parts = new BitSet(partitions);
+
+        hash(values, new Object[keys.size()], 0, parts);
+
+        return intersect(res, parts);
+    }
+
+    /** Computes partitions of all the combinations of the colocation columns values. */
+    private void hash(List<Set<Object>> values, Object[] key, int pos, BitSet res) {
+        if (pos == key.length) {
+            HashCalculator calc = new HashCalculator();
+
+            for (int i = 0; i < key.length; i++) {
+                ColocationUtils.append(calc, key[i], keyType(i));
+            }
+
+            res.set(IgniteUtils.safeAbs(calc.hash() % partitions));
+
+            return;
+        }
+
+        for (Object val : values.get(pos)) {
+            key[pos] = val;
+
+            hash(values, key, pos + 1, res);
+        }
+    }
+
+    /**
+     * Extracts values of a colocation column from {@code col = val} or a disjunction of such predicates on the same column.
+     *
+     * @return Position of the column in the colocation key and the column values or {@code null} if the predicate doesn't restrict
+     *     a single colocation column.
+     */
+    private @Nullable Pair<Integer, Set<Object>> keyValues(RexNode node) {
+        if (node.getKind() == SqlKind.OR) {
+            Pair<Integer, Set<Object>> res = null;
+
+            for (RexNode op : ((RexCall) node).getOperands()) {
+                Pair<Integer, Set<Object>> opValues = keyValues(op);
+
+                if (opValues == null || res != null && !res.left.equals(opValues.left)) {
+                    return null;
+                }
+
+                if (res == null) {
+                    res = opValues;
+                } else {
+                    res.right.addAll(opValues.right);
+                }
+            }
+
+            return res;
+        }
+
+        if (node.getKind() != SqlKind.EQUALS) {
+            return null;
+        }
+
+        List<RexNode> operands = ((RexCall) node).getOperands();
+
+        int pos = keyPosition(operands.get(0));
+        RexNode valNode = operands.get(1);
+
+        if (pos < 0) {
+            pos = keyPosition(operands.get(1));
+            valNode = operands.get(0);
+        }
+
+        if (pos < 0) {
+            return null;
+        }
+
+        Object val = value(valNode, keyType(pos));
+
+        if (val == null) {
+            return null;
+        }
+
+        Set<Object> vals = new HashSet<>();
+
+        vals.add(val);
+
+        return Pair.of(pos, vals);
+    }
+
+    /** Returns position of the referenced column in the colocation key or {@code -1} if it isn't a colocation column. */
+    private int keyPosition(RexNode node) {
+        if (!(node instanceof RexLocalRef)) {
+            return -1;
+        }
+
+        int field = ((RexLocalRef) node).getIndex();
+        ImmutableBitSet requiredColumns = scan.requiredColumns();
+
+        int col = requiredColumns == null ? field : requiredColumns.asList().get(field);
+
+        return keys.indexOf(col);
+    }
+
+    private NativeType keyType(int pos) {
+        return table.descriptor().columnDescriptor(keys.getInt(pos)).physicalType();
+    }
+
+    /** Returns the value of the expression in the storage representation or {@code null} if it can't be derived. */
+    private @Nullable Object value(RexNode node, NativeType type) {
+        // Cast to the integer type of the column, the conversion below fails if the cast changes the value.
+        if (node.getKind() == SqlKind.CAST && SqlTypeUtil.isIntType(node.getType())) {
+            node = ((RexCall) node).getOperands().get(0);
+        }
+
+        if (node instanceof RexDynamicParam) {
+            int idx = ((RexDynamicParam) node).getIndex();
+
+            return idx < params.length ? convert(params[idx], type) : null;
+        }
+
+        if (node instanceof RexLiteral) {
+            RexLiteral lit = (RexLiteral) node;
+
+            if (SqlTypeUtil.isExactNumeric(lit.getType())) {
+                return convert(lit.getValueAs(BigDecimal.class), type);
+            } else if (SqlTypeUtil.isCharacter(lit.getType())) {
+                return convert(lit.getValueAs(String.class), type);
+            }
+        }
+
+        return null;
+    }
+
+    private static @Nullable Object convert(@Nullable Object val, NativeType type) {
+        if (val == null) {
+            return null;
+        }
+
+        switch (type.spec()) {
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+                return convertIntegral(val, type);
+
+            case STRING:
+                return val instanceof String ? val : null;
+
+            case UUID:
+                return val instanceof UUID ? val : null;
+
+            default:
+                return null;
+        }
+    }
+
+    private static @Nullable Object convertIntegral(Object val, NativeType type) {
+        BigDecimal num;
+
+        if (val instanceof BigDecimal) {
+            num = (BigDecimal) val;
+        } else if (val instanceof Byte || val instanceof Short || val instanceof Integer || val instanceof Long) {
+            num = BigDecimal.valueOf(((Number) val).longValue());
+        } else {
+            return null;
+        }
+
+        try {
+            switch (type.spec()) {
+                case INT8:
+                    return num.byteValueExact();
+                case INT16:
+                    return num.shortValueExact();
+                case INT32:
+                    return num.intValueExact();
+                default:
+                    return num.longValueExact();
+            }
+        } catch (ArithmeticException ignored) {
+            return null;
+        }
+    }
+
+    private static @Nullable BitSet intersect(@Nullable BitSet res, @Nullable BitSet parts) {
+        if (res == null) {
+            return parts;
+        }
+
+        if (parts != null) {
+            res.and(parts);
+        }
+
+        return res;
+    }
+}
@@ -113,6 +113,11 @@ public class Fragment {
         try {
             FragmentMapping mapping = IgniteMdFragmentMapping.fragmentMappingForMetadataQuery(root, mq, ctx);
 
+            if (!remotes.isEmpty()) {
+                // Rows received from the other fragments may belong to any partition, so the partitions must not be pruned.
+                mapping = mapping.withAllPartitions();
+            }
+
             if (rootFragment()) {
                 mapping = FragmentMapping.create(ctx.locNodeName()).colocate(mapping);
             }
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.prepare;
+
+import java.util.List;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.sql.engine.schema.InternalIgniteTable;
+import org.apache.ignite.sql.ResultSetMetadata;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Plan of a query which reads a single row by the primary key.
+ *
+ * <p>The plan is executed with a single key lookup in the table, without splitting the query to fragments.
+ */
+public class KeyValueGetPlan implements QueryPlan {
+    private final InternalIgniteTable table;
+
+    private final ImmutableIntList keyColumns;
+
+    private final List<RexNode> keyExpressions;
+
+    private final @Nullable RexNode condition;
+
+    private final @Nullable List<RexNode> projects;
+
+    private final @Nullable ImmutableBitSet requiredColumns;
+
+    private final ResultSetMetadata meta;
+
+    /**
+     * Constructor.
+     *
+     * @param table Table to read the row from.
+     * @param keyColumns Indexes of the primary key columns.
+     * @param keyExpressions Expressions of the primary key column values, in the order of {@code keyColumns}.
+     * @param condition Condition the row has to match, refers to the columns of the scanned row.
+     * @param projects Projection of the scanned row.
+     * @param requiredColumns Columns of the scanned row.
+     * @param meta Fields metadata.
+     */
+    public KeyValueGetPlan(
+            InternalIgniteTable table,
+            ImmutableIntList keyColumns,
+            List<RexNode> keyExpressions,
+            @Nullable RexNode condition,
+            @Nullable List<RexNode> projects,
+            @Nullable ImmutableBitSet requiredColumns,
+            ResultSetMetadata meta
+    ) {
+        assert keyColumns.size() == keyExpressions.size();
+
+        this.table = table;
+        this.keyColumns = keyColumns;
+        this.keyExpressions = keyExpressions;
+        this.condition = condition;
+        this.projects = projects;
+        this.requiredColumns = requiredColumns;
+        this.meta = meta;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Type type() {
+        return Type.QUERY;
+    }
+
+    /** {@inheritDoc} */
+    @Override public ResultSetMetadata metadata() {
+        return meta;
+    }
+
+    /** {@inheritDoc} */
+    @Override public QueryPlan copy() {
+        return this;
+    }
+
+    /** Returns table to read the row from. */
+    public InternalIgniteTable table() {
+        return table;
+    }
+
+    /** Returns indexes of the primary key columns. */
+    public ImmutableIntList keyColumns() {
+        return keyColumns;
+    }
+
+    /** Returns expressions of the primary key column values. */
+    public List<RexNode> keyExpressions() {
+        return keyExpressions;
+    }
+
+    /** Returns condition the row has to match or {@code null} if there is no condition. */
+    public @Nullable RexNode condition() {
+        return condition;
+    }
+
+    /** Returns projection of the scanned row or {@code null} if the row is returned as is. */
+    public @Nullable List<RexNode> projects() {
+        return projects;
+    }
+
+    /** Returns columns of the scanned row or {@code null} if all the columns are scanned. */
+    public @Nullable ImmutableBitSet requiredColumns() {
+        return requiredColumns;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.prepare;
+
+import java.util.List;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.ignite.internal.sql.api.ColumnMetadataImpl;
+import org.apache.ignite.internal.sql.api.ResultSetMetadataImpl;
+import org.apache.ignite.internal.sql.engine.schema.InternalIgniteTable;
+import org.apache.ignite.sql.ColumnMetadata;
+import org.apache.ignite.sql.ColumnType;
+import org.apache.ignite.sql.ResultSetMetadata;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Plan of a statement which inserts a single row.
+ *
+ * <p>The plan is executed with a single insert into the table, without splitting the statement to fragments.
+ */
+public class KeyValueModifyPlan implements QueryPlan {
+    /** DML metadata holder. */
+    private static final ResultSetMetadata DML_METADATA = new ResultSetMetadataImpl(List.of(
+            new ColumnMetadataImpl("ROWCOUNT", ColumnType.INT64,
+                    ColumnMetadata.UNDEFINED_PRECISION, ColumnMetadata.UNDEFINED_SCALE, false, null)));
+
+    private final InternalIgniteTable table;
+
+    private final RelDataType valuesType;
+
+    private final List<RexLiteral> values;
+
+    private final @Nullable List<RexNode> projects;
+
+    /**
+     * Constructor.
+     *
+     * @param table Table to insert the row into.
+     * @param valuesType Type of the source tuple.
+     * @param values Source tuple.
+     * @param projects Projection of the source tuple to the inserted row or {@code null} if the tuple is inserted as is.
+     */
+    public KeyValueModifyPlan(
+            InternalIgniteTable table,
+            RelDataType valuesType,
+            List<RexLiteral> values,
+            @Nullable List<RexNode> projects
+    ) {
+        this.table = table;
+        this.valuesType = valuesType;
+        this.values = values;
+        this.projects = projects;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Type type() {
+        return Type.DML;
+    }
+
+    /** {@inheritDoc} */
+    @Override public ResultSetMetadata metadata() {
+        return DML_METADATA;
+    }
+
+    /** {@inheritDoc} */
+    @Override public QueryPlan copy() {
+        return this;
+    }
+
+    /** Returns table to insert the row into. */
+    public InternalIgniteTable table() {
+        return table;
+    }
+
+    /** Returns type of the source tuple. */
+    public RelDataType valuesType() {
+        return valuesType;
+    }
+
+    /** Returns source tuple. */
+    public List<RexLiteral> values() {
+        return values;
+    }
+
+    /** Returns projection of the source tuple to the inserted row or {@code null} if the tuple is inserted as is. */
+    public @Nullable List<RexNode> projects() {
+        return projects;
+    }
+}
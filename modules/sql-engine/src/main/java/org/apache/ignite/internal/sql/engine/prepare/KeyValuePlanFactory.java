@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.prepare;
+
+import java.util.Arrays;
+import java.util.List;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.TableModify;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexLocalRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.sql.engine.rel.IgniteExchange;
+import org.apache.ignite.internal.sql.engine.rel.IgniteIndexScan;
+import org.apache.ignite.internal.sql.engine.rel.IgniteProject;
+import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
+import org.apache.ignite.internal.sql.engine.rel.IgniteTableModify;
+import org.apache.ignite.internal.sql.engine.rel.IgniteTableScan;
+import org.apache.ignite.internal.sql.engine.rel.IgniteValues;
+import org.apache.ignite.internal.sql.engine.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.sql.engine.schema.InternalIgniteTable;
+import org.apache.ignite.internal.sql.engine.schema.TableDescriptor;
+import org.apache.ignite.sql.ResultSetMetadata;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Recognizes optimized plans which can be executed with a single key-value operation on the table.
+ *
+ * <p>Such plans are a scan of a partitioned table with all the primary key columns fixed by the condition and an insert
+ * of a single tuple of values.
+ */
+public final class KeyValuePlanFactory {
+    private KeyValuePlanFactory() {
+        // No-op.
+    }
+
+    /**
+     * Creates a plan which reads the row by the primary key.
+     *
+     * @param rel Optimized query plan.
+     * @param meta Fields metadata.
+     * @return Key lookup plan or {@code null} if the query doesn't read a single row by the primary key.
+     */
+    public static @Nullable KeyValueGetPlan getPlan(IgniteRel rel, ResultSetMetadata meta) {
+        RelNode node = rel instanceof IgniteExchange ? ((IgniteExchange) rel).getInput() : rel;
+
+        if (!(node instanceof IgniteTableScan) && !(node instanceof IgniteIndexScan)) {
+            return null;
+        }
+
+        ProjectableFilterableTableScan scan = (ProjectableFilterableTableScan) node;
+
+        RexNode cond = scan.condition();
+        InternalIgniteTable table = scan.getTable().unwrap(InternalIgniteTable.class);
+
+        if (cond == null || table == null || !table.distribution().function().affinity()) {
+            return null;
+        }
+
+        ImmutableIntList keyColumns = keyColumns(table.descriptor());
+
+        if (keyColumns.isEmpty()) {
+            return null;
+        }
+
+        ImmutableBitSet requiredColumns = scan.requiredColumns();
+        RexBuilder rexBuilder = scan.getCluster().getRexBuilder();
+
+        RexNode[] keyExpressions = new RexNode[keyColumns.size()];
+
+        for (RexNode conj : RelOptUtil.conjunctions(RexUtil.expandSearch(rexBuilder, null, cond))) {
+            if (conj.getKind() != SqlKind.EQUALS) {
+                continue;
+            }
+
+            List<RexNode> operands = ((RexCall) conj).getOperands();
+
+            for (int i = 0; i < 2; i++) {
+                RexNode ref = operands.get(i);
+                RexNode val = operands.get(1 - i);
+
+                if (!(ref instanceof RexLocalRef) || !isValue(val) || !sameType(rexBuilder, ref, val)) {
+                    continue;
+                }
+
+                int field = ((RexLocalRef) ref).getIndex();
+                int pos = keyColumns.indexOf(requiredColumns == null ? field : requiredColumns.asList().get(field));
+
+                if (pos >= 0 && keyExpressions[pos] == null) {
+                    keyExpressions[pos] = val;
+
+                    break;
+                }
+            }
+        }
+
+        if (Arrays.asList(keyExpressions).contains(null)) {
+            return null;
+        }
+
+        return new KeyValueGetPlan(table, keyColumns, List.of(keyExpressions), cond, scan.projects(), requiredColumns, meta);
+    }
+
+    /**
+     * Creates a plan which inserts a single row.
+     *
+     * @param rel Optimized statement plan.
+     * @return Insert plan or {@code null} if the statement doesn't insert a single tuple of values.
+     */
+    public static @Nullable KeyValueModifyPlan modifyPlan(IgniteRel rel) {
+        if (!(rel instanceof IgniteTableModify) || ((IgniteTableModify) rel).getOperation() != TableModify.Operation.INSERT) {
+            return null;
+        }
+
+        InternalIgniteTable table = rel.getTable().unwrap(InternalIgniteTable.class);
+
+        if (table == null || !table.distribution().function().affinity()) {
+            return null;
+        }
+
+        RelNode input = ((IgniteTableModify) rel).getInput();
+        List<RexNode> projects = null;
+
+        if (input instanceof IgniteProject) {
+            projects = ((IgniteProject) input).getProjects();
+            input = ((IgniteProject) input).getInput();
+        }
+
+        if (!(input instanceof IgniteValues) || ((IgniteValues) input).getTuples().size() != 1) {
+            return null;
+        }
+
+        IgniteValues values = (IgniteValues) input;
+
+        return new KeyValueModifyPlan(table, values.getRowType(), values.getTuples().get(0), projects);
+    }
+
+    /** Returns indexes of the primary key columns. */
+    private static ImmutableIntList keyColumns(TableDescriptor desc) {
+        int[] keys = new int[desc.columnsCount()];
+        int cnt = 0;
+
+        for (int i = 0; i < desc.columnsCount(); i++) {
+            if (desc.columnDescriptor(i).key()) {
+                keys[cnt++] = i;
+            }
+        }
+
+        return ImmutableIntList.of(Arrays.copyOf(keys, cnt));
+    }
+
+    /** Checks whether the value can be stored to the column as is, character values are compared regardless of the length. */
+    private static boolean sameType(RexBuilder rexBuilder, RexNode col, RexNode val) {
+        return SqlTypeUtil.equalSansNullability(rexBuilder.getTypeFactory(), col.getType(), val.getType())
+                || SqlTypeUtil.isCharacter(col.getType()) && SqlTypeUtil.isCharacter(val.getType());
+    }
+
+    /** Checks whether the expression is a literal or a dynamic parameter, possibly cast to another type. */
+    private static boolean isValue(RexNode node) {
+        if (node.getKind() == SqlKind.CAST) {
+            node = ((RexCall) node).getOperands().get(0);
+        }
+
+        return node instanceof RexLiteral || node instanceof RexDynamicParam;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.prepare;
+
+import java.math.BigDecimal;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.ignite.internal.sql.engine.rel.IgniteExchange;
+import org.apache.ignite.internal.sql.engine.rel.IgniteLimit;
+import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
+import org.apache.ignite.internal.sql.engine.rel.IgniteSort;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+import org.apache.ignite.internal.sql.engine.trait.TraitUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Pushes a local limit below the exchange gathering the rows for a limit.
+ *
+ * <p>Every source fragment then sends no more than {@code offset + fetch} rows, which is all the root fragment may need. Exchanges
+ * of the sorts having their own fetch are left as is, since the sort below the exchange is already a local top-N.
+ */
+public class LocalLimitShuttle extends IgniteRelShuttle {
+    /** {@inheritDoc} */
+    @Override
+    public IgniteRel visit(IgniteLimit rel) {
+        IgniteRel res = processNode(rel);
+
+        if (rel.fetch() == null || !(rel.getInput() instanceof IgniteExchange)) {
+            return res;
+        }
+
+        IgniteExchange exchange = (IgniteExchange) rel.getInput();
+        IgniteRel input = (IgniteRel) exchange.getInput();
+
+        if (TraitUtils.distribution(exchange) != IgniteDistributions.single()
+                || input instanceof IgniteLimit
+                || input instanceof IgniteSort && ((IgniteSort) input).fetch != null) {
+            return res;
+        }
+
+        RexNode fetch = localFetch(rel.getCluster().getRexBuilder(), rel.fetch(), rel.offset());
+
+        if (fetch != null) {
+            exchange.replaceInput(0, new IgniteLimit(input.getCluster(), input.getTraitSet(), input, null, fetch));
+        }
+
+        return res;
+    }
+
+    /** Returns the number of the rows the local limit has to pass or {@code null} if it can't be derived. */
+    private static @Nullable RexNode localFetch(RexBuilder builder, RexNode fetch, @Nullable RexNode offset) {
+        if (offset == null) {
+            return fetch;
+        }
+
+        if (fetch instanceof RexLiteral && offset instanceof RexLiteral) {
+            BigDecimal sum = ((RexLiteral) fetch).getValueAs(BigDecimal.class).add(((RexLiteral) offset).getValueAs(BigDecimal.class));
+
+            if (sum.compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) > 0) {
+                return null;
+            }
+
+            return builder.makeExactLiteral(sum, fetch.getType());
+        }
+
+        return builder.makeCall(SqlStdOperatorTable.PLUS, fetch, offset);
+    }
+}
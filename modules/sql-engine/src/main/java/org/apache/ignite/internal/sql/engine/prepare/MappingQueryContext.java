@@ -23,6 +23,7 @@ import org.apache.ignite.internal.sql.engine.metadata.IgniteMetadata;
 import org.apache.ignite.internal.sql.engine.metadata.MappingService;
 import org.apache.ignite.internal.sql.engine.metadata.RelMetadataQueryEx;
 import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.util.ArrayUtils;
 
 /**
  * Query mapping context.
@@ -31,6 +32,8 @@ public class MappingQueryContext {
     private final String locNodeName;
     private final MappingService mappingService;
 
+    private final Object[] parameters;
+
     private RelOptCluster cluster;
 
     /**
@@ -42,9 +45,25 @@ public class MappingQueryContext {
     public MappingQueryContext(
             String locNodeName,
             MappingService mappingService
+    ) {
+        this(locNodeName, mappingService, ArrayUtils.OBJECT_EMPTY_ARRAY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param locNodeName Local node consistent ID.
+     * @param mappingService Mapping service.
+     * @param parameters Query parameters, used to prune the partitions involved in the query execution.
+     */
+    public MappingQueryContext(
+            String locNodeName,
+            MappingService mappingService,
+            Object[] parameters
     ) {
         this.locNodeName = locNodeName;
         this.mappingService = mappingService;
+        this.parameters = parameters;
     }
 
     /** Creates a cluster. */
@@ -66,4 +85,8 @@ public class MappingQueryContext {
     public MappingService mappingService() {
         return mappingService;
     }
+
+    public Object[] parameters() {
+        return parameters;
+    }
 }
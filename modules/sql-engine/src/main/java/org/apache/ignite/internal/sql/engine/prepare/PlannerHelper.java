@@ -71,6 +71,8 @@ public class PlannerHelper {
             // Transformation chain
             rel = planner.transform(PlannerPhase.HEP_DECORRELATE, rel.getTraitSet(), rel);
 
+            rel = planner.transform(PlannerPhase.HEP_WINDOW, rel.getTraitSet(), rel);
+
             rel = planner.replaceCorrelatesCollisions(rel);
 
             rel = planner.trimUnusedFields(root.withRel(rel)).rel;
@@ -87,6 +89,8 @@ public class PlannerHelper {
 
             IgniteRel igniteRel = planner.transform(PlannerPhase.OPTIMIZATION, desired, rel);
 
+            igniteRel = new LocalLimitShuttle().visit(igniteRel);
+
             if (!root.isRefTrivial()) {
                 final List<RexNode> projects = new ArrayList<>();
                 final RexBuilder rexBuilder = igniteRel.getCluster().getRexBuilder();
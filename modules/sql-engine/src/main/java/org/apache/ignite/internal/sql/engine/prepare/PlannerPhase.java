@@ -52,6 +52,7 @@ import org.apache.ignite.internal.sql.engine.rule.FilterConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.FilterSpoolMergeToHashIndexSpoolRule;
 import org.apache.ignite.internal.sql.engine.rule.FilterSpoolMergeToSortedIndexSpoolRule;
 import org.apache.ignite.internal.sql.engine.rule.HashAggregateConverterRule;
+import org.apache.ignite.internal.sql.engine.rule.HashJoinConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.LogicalScanConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.MergeJoinConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.NestedLoopJoinConverterRule;
@@ -63,6 +64,7 @@ import org.apache.ignite.internal.sql.engine.rule.TableFunctionScanConverterRule
 import org.apache.ignite.internal.sql.engine.rule.TableModifyConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.UnionConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.ValuesConverterRule;
+import org.apache.ignite.internal.sql.engine.rule.WindowConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.logical.ExposeIndexRule;
 import org.apache.ignite.internal.sql.engine.rule.logical.FilterScanMergeRule;
 import org.apache.ignite.internal.sql.engine.rule.logical.LogicalOrToUnionRule;
@@ -85,6 +87,17 @@ public enum PlannerPhase {
         }
     },
 
+    HEP_WINDOW(
+            "Heuristic phase to convert window aggregates",
+            CoreRules.PROJECT_TO_LOGICAL_PROJECT_AND_WINDOW
+    ) {
+        /** {@inheritDoc} */
+        @Override
+        public Program getProgram(PlanningContext ctx) {
+            return hep(getRules(ctx));
+        }
+    },
+
     HEP_FILTER_PUSH_DOWN(
             "Heuristic phase to push down filters",
             FilterScanMergeRule.TABLE_SCAN_SKIP_CORRELATED,
@@ -204,6 +217,7 @@ public enum PlannerPhase {
             CorrelatedNestedLoopJoinRule.INSTANCE,
             CorrelateToNestedLoopRule.INSTANCE,
             NestedLoopJoinConverterRule.INSTANCE,
+            HashJoinConverterRule.INSTANCE,
 
             ValuesConverterRule.INSTANCE,
             LogicalScanConverterRule.INDEX_SCAN,
@@ -221,7 +235,8 @@ public enum PlannerPhase {
             TableModifyConverterRule.INSTANCE,
             UnionConverterRule.INSTANCE,
             SortConverterRule.INSTANCE,
-            TableFunctionScanConverterRule.INSTANCE
+            TableFunctionScanConverterRule.INSTANCE,
+            WindowConverterRule.INSTANCE
     ) {
         /** {@inheritDoc} */
         @Override
@@ -55,6 +55,7 @@ import org.apache.ignite.internal.sql.engine.util.TypeUtils;
 import org.apache.ignite.internal.storage.DataStorageManager;
 import org.apache.ignite.internal.thread.NamedThreadFactory;
 import org.apache.ignite.lang.IgniteInternalException;
+import org.apache.ignite.lang.IgniteSystemProperties;
 import org.apache.ignite.sql.ColumnMetadata;
 import org.apache.ignite.sql.ResultSetMetadata;
 import org.jetbrains.annotations.Nullable;
@@ -69,6 +70,11 @@ public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener
 
     private static final int THREAD_COUNT = 4;
 
+    /** Name of the system property which enables execution of primary key lookups and single row inserts as key-value operations. */
+    public static final String IGNITE_SQL_KEY_VALUE_PLANS = "IGNITE_SQL_KEY_VALUE_PLANS";
+
+    private static final boolean KEY_VALUE_PLANS = IgniteSystemProperties.getBoolean(IGNITE_SQL_KEY_VALUE_PLANS, true);
+
     private final DdlSqlToCommandConverter ddlConverter;
 
     private final ConcurrentMap<CacheKey, CompletableFuture<QueryPlan>> cache;
@@ -237,12 +243,22 @@ public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener
 
             IgniteRel igniteRel = optimize(validatedNode, planner);
 
+            ResultSetMetadata meta = resultSetMetadata(validated.dataType(), validated.origins());
+
+            if (KEY_VALUE_PLANS) {
+                KeyValueGetPlan plan = KeyValuePlanFactory.getPlan(igniteRel, meta);
+
+                if (plan != null) {
+                    return plan;
+                }
+            }
+
             // Split query plan to query fragments.
             List<Fragment> fragments = new Splitter().go(igniteRel);
 
             QueryTemplate template = new QueryTemplate(fragments);
 
-            return new MultiStepQueryPlan(template, resultSetMetadata(validated.dataType(), validated.origins()));
+            return new MultiStepQueryPlan(template, meta);
         }, planningPool));
 
         return planFut.thenApply(QueryPlan::copy);
@@ -260,6 +276,14 @@ public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener
             // Convert to Relational operators graph
             IgniteRel igniteRel = optimize(validatedNode, planner);
 
+            if (KEY_VALUE_PLANS) {
+                KeyValueModifyPlan plan = KeyValuePlanFactory.modifyPlan(igniteRel);
+
+                if (plan != null) {
+                    return plan;
+                }
+            }
+
             // Split query plan to query fragments.
             List<Fragment> fragments = new Splitter().go(igniteRel);
 
@@ -81,6 +81,7 @@ import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAlterTableAddColumn;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAlterTableDropColumn;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAlterZoneRenameTo;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAlterZoneSet;
+import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAnalyze;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlCreateIndex;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlCreateTable;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlCreateTableOption;
@@ -227,6 +228,10 @@ public class DdlSqlToCommandConverter {
             return convertDropZone((IgniteSqlDropZone) ddlNode, ctx);
         }
 
+        if (ddlNode instanceof IgniteSqlAnalyze) {
+            return convertAnalyze((IgniteSqlAnalyze) ddlNode, ctx);
+        }
+
         throw new SqlException(UNSUPPORTED_DDL_OPERATION_ERR, "Unsupported operation ["
                 + "sqlNodeKind=" + ddlNode.getKind() + "; "
                 + "querySql=\"" + ctx.query() + "\"]");
@@ -608,6 +613,21 @@ public class DdlSqlToCommandConverter {
         return dropZoneCmd;
     }
 
+    /**
+     * Converts a given Analyze AST to an Analyze command.
+     *
+     * @param analyzeNode Root node of the given AST.
+     * @param ctx Planning context.
+     */
+    private AnalyzeCommand convertAnalyze(IgniteSqlAnalyze analyzeNode, PlanningContext ctx) {
+        AnalyzeCommand analyzeCmd = new AnalyzeCommand();
+
+        analyzeCmd.schemaName(deriveSchemaName(analyzeNode.name(), ctx));
+        analyzeCmd.tableName(deriveObjectName(analyzeNode.name(), ctx, "tableName"));
+
+        return analyzeCmd;
+    }
+
     /** Derives a schema name from the compound identifier. */
     private String deriveSchemaName(SqlIdentifier id, PlanningContext ctx) {
         String schemaName;
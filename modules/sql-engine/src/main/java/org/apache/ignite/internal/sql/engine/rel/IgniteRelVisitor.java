@@ -64,6 +64,11 @@ public interface IgniteRelVisitor<T> {
      */
     T visit(IgniteMergeJoin rel);
 
+    /**
+     * See {@link IgniteRelVisitor#visit(IgniteRel)}.
+     */
+    T visit(IgniteHashJoin rel);
+
     /**
      * See {@link IgniteRelVisitor#visit(IgniteRel)}.
      */
@@ -164,6 +169,11 @@ public interface IgniteRelVisitor<T> {
      */
     T visit(IgniteTableFunctionScan rel);
 
+    /**
+     * See {@link IgniteRelVisitor#visit(IgniteRel)}.
+     */
+    T visit(IgniteWindow rel);
+
     /**
      * Visits a relational node and calculates a result on the basis of node meta information.
      *
@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.rel;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelInput;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexWindowBound;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.sql.engine.externalize.RelInputEx;
+import org.apache.ignite.internal.sql.engine.metadata.cost.IgniteCost;
+import org.apache.ignite.internal.sql.engine.metadata.cost.IgniteCostFactory;
+import org.apache.ignite.internal.sql.engine.trait.TraitUtils;
+
+/**
+ * Relational operator that computes window aggregates over its input.
+ *
+ * <p>The operator computes the aggregates of a single window, the input is expected to be sorted by the partition keys
+ * followed by the order keys of the window (see {@link #windowCollation()}). Output rows are the input rows in the same order
+ * with the values of the aggregates appended.
+ */
+public class IgniteWindow extends SingleRel implements IgniteRel {
+    /** Partition keys. */
+    private final ImmutableBitSet partitionKeys;
+
+    /** Order keys within a partition. */
+    private final RelCollation orderKeys;
+
+    /** Whether the frame is defined by the number of rows ({@code ROWS}) or by the values of the order keys ({@code RANGE}). */
+    private final boolean rows;
+
+    /** Lower bound of the frame. */
+    private final RexWindowBound lowerBound;
+
+    /** Upper bound of the frame. */
+    private final RexWindowBound upperBound;
+
+    /** Aggregates and window functions. */
+    private final List<AggregateCall> aggCalls;
+
+    /**
+     * Constructor.
+     *
+     * @param cluster Cluster.
+     * @param traits Trait set.
+     * @param input Input relational expression.
+     * @param partitionKeys Partition keys.
+     * @param orderKeys Order keys within a partition.
+     * @param rows Whether the frame is defined by the number of rows.
+     * @param lowerBound Lower bound of the frame, the offset is a literal if any.
+     * @param upperBound Upper bound of the frame, the offset is a literal if any.
+     * @param aggCalls Aggregates and window functions.
+     */
+    public IgniteWindow(
+            RelOptCluster cluster,
+            RelTraitSet traits,
+            RelNode input,
+            ImmutableBitSet partitionKeys,
+            RelCollation orderKeys,
+            boolean rows,
+            RexWindowBound lowerBound,
+            RexWindowBound upperBound,
+            List<AggregateCall> aggCalls
+    ) {
+        super(cluster, traits, input);
+
+        this.partitionKeys = partitionKeys;
+        this.orderKeys = orderKeys;
+        this.rows = rows;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.aggCalls = List.copyOf(aggCalls);
+    }
+
+    /**
+     * Constructor used for deserialization.
+     *
+     * @param input Serialized representation.
+     */
+    public IgniteWindow(RelInput input) {
+        super(
+                input.getCluster(),
+                input.getTraitSet().replace(IgniteConvention.INSTANCE),
+                input.getInputs().get(0)
+        );
+
+        partitionKeys = input.getBitSet("partition");
+        orderKeys = ((RelInputEx) input).getCollation("order");
+        rows = input.getBoolean("rows", false);
+        lowerBound = ((RelInputEx) input).getWindowBound("lower");
+        upperBound = ((RelInputEx) input).getWindowBound("upper");
+        aggCalls = List.copyOf(input.getAggregateCalls("aggs"));
+    }
+
+    /**
+     * Get partition keys.
+     */
+    public ImmutableBitSet partitionKeys() {
+        return partitionKeys;
+    }
+
+    /**
+     * Get order keys within a partition.
+     */
+    public RelCollation orderKeys() {
+        return orderKeys;
+    }
+
+    /**
+     * Get whether the frame is defined by the number of rows.
+     */
+    public boolean isRows() {
+        return rows;
+    }
+
+    /**
+     * Get lower bound of the frame.
+     */
+    public RexWindowBound lowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Get upper bound of the frame.
+     */
+    public RexWindowBound upperBound() {
+        return upperBound;
+    }
+
+    /**
+     * Get aggregates and window functions.
+     */
+    public List<AggregateCall> aggregateCalls() {
+        return aggCalls;
+    }
+
+    /**
+     * Returns the collation of the input rows the operator expects.
+     *
+     * @return Partition keys followed by the order keys.
+     */
+    public RelCollation windowCollation() {
+        return windowCollation(partitionKeys, orderKeys);
+    }
+
+    /**
+     * Returns the collation of the input rows a window operator expects.
+     *
+     * @param partitionKeys Partition keys.
+     * @param orderKeys Order keys within a partition.
+     * @return Partition keys followed by the order keys.
+     */
+    public static RelCollation windowCollation(ImmutableBitSet partitionKeys, RelCollation orderKeys) {
+        List<RelFieldCollation> fields = new ArrayList<>();
+
+        for (int key : partitionKeys) {
+            fields.add(TraitUtils.createFieldCollation(key));
+        }
+
+        for (RelFieldCollation field : orderKeys.getFieldCollations()) {
+            if (!partitionKeys.get(field.getFieldIndex())) {
+                fields.add(field);
+            }
+        }
+
+        return RelCollations.of(fields);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected RelDataType deriveRowType() {
+        RelDataTypeFactory.Builder builder = getCluster().getTypeFactory().builder();
+
+        builder.addAll(getInput().getRowType().getFieldList());
+
+        for (int i = 0; i < aggCalls.size(); i++) {
+            AggregateCall call = aggCalls.get(i);
+
+            builder.add(call.getName() != null ? call.getName() : "w$o" + i, call.getType());
+        }
+
+        return builder.build();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public IgniteWindow copy(RelTraitSet traitSet, List<RelNode> inputs) {
+        return new IgniteWindow(getCluster(), traitSet, sole(inputs), partitionKeys, orderKeys, rows, lowerBound, upperBound,
+                aggCalls);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public IgniteRel clone(RelOptCluster cluster, List<IgniteRel> inputs) {
+        return new IgniteWindow(cluster, getTraitSet(), sole(inputs), partitionKeys, orderKeys, rows, lowerBound, upperBound,
+                aggCalls);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T accept(IgniteRelVisitor<T> visitor) {
+        return visitor.visit(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RelWriter explainTerms(RelWriter pw) {
+        return super.explainTerms(pw)
+                .item("partition", partitionKeys)
+                .item("order", orderKeys)
+                .item("rows", rows)
+                .item("lower", lowerBound)
+                .item("upper", upperBound)
+                .item("aggs", aggCalls);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
+        double rowCnt = mq.getRowCount(getInput());
+
+        // The rows of a partition are kept in memory until the partition end.
+        Double partitions = partitionKeys.isEmpty() ? null : mq.getDistinctRowCount(getInput(), partitionKeys, null);
+        double memRows = partitions == null ? rowCnt : rowCnt / Math.max(partitions, 1.0);
+
+        double cpuCost = rowCnt * (IgniteCost.ROW_PASS_THROUGH_COST + aggCalls.size() * IgniteCost.ROW_COMPARISON_COST);
+        double memory = memRows * (getRowType().getFieldCount() * IgniteCost.AVERAGE_FIELD_SIZE
+                + aggCalls.size() * IgniteCost.AGG_CALL_MEM_COST);
+
+        IgniteCostFactory costFactory = (IgniteCostFactory) planner.getCostFactory();
+
+        return costFactory.makeCost(rowCnt, cpuCost, 0, memory, 0);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.rule;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.PhysicalNode;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.core.Window;
+import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.logical.LogicalWindow;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexWindowBound;
+import org.apache.calcite.rex.RexWindowBounds;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.ignite.internal.sql.engine.rel.IgniteConvention;
+import org.apache.ignite.internal.sql.engine.rel.IgniteProject;
+import org.apache.ignite.internal.sql.engine.rel.IgniteWindow;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Converts a logical window to a chain of {@link IgniteWindow} operators, one per group of the window.
+ *
+ * <p>The constants the window refers to (offsets of the frame bounds and arguments of the functions) are appended to the input
+ * by a projection, hence the window operators see them as regular input columns. The rule doesn't convert windows the execution
+ * doesn't support: {@code RANGE} frames with value offsets, distinct aggregates and unknown functions.
+ */
+public class WindowConverterRule extends AbstractIgniteConverterRule<LogicalWindow> {
+    public static final RelOptRule INSTANCE = new WindowConverterRule();
+
+    /** Functions the window operator is able to compute. */
+    private static final Set<SqlKind> SUPPORTED_FUNCTIONS = EnumSet.of(
+            SqlKind.ROW_NUMBER,
+            SqlKind.RANK,
+            SqlKind.DENSE_RANK,
+            SqlKind.LAG,
+            SqlKind.LEAD,
+            SqlKind.COUNT,
+            SqlKind.SUM,
+            SqlKind.SUM0,
+            SqlKind.AVG,
+            SqlKind.MIN,
+            SqlKind.MAX,
+            SqlKind.ANY_VALUE,
+            SqlKind.SINGLE_VALUE,
+            SqlKind.EVERY,
+            SqlKind.SOME
+    );
+
+    /**
+     * Constructor.
+     */
+    public WindowConverterRule() {
+        super(LogicalWindow.class, "WindowConverterRule");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected @Nullable PhysicalNode convert(RelOptPlanner planner, RelMetadataQuery mq, LogicalWindow rel) {
+        RelOptCluster cluster = rel.getCluster();
+        RelNode input = rel.getInput();
+        int inputFieldCnt = input.getRowType().getFieldCount();
+
+        if (!rel.constants.isEmpty()) {
+            List<RexNode> projects = new ArrayList<>(inputFieldCnt + rel.constants.size());
+
+            for (RelDataTypeField field : input.getRowType().getFieldList()) {
+                projects.add(new RexInputRef(field.getIndex(), field.getType()));
+            }
+
+            projects.addAll(rel.constants);
+
+            input = LogicalProject.create(input, List.of(), projects, (List<String>) null);
+        }
+
+        for (Window.Group group : rel.groups) {
+            RexWindowBound lowerBound = bound(group.lowerBound, rel.constants, inputFieldCnt, group.isRows);
+            RexWindowBound upperBound = bound(group.upperBound, rel.constants, inputFieldCnt, group.isRows);
+
+            if (lowerBound == null || upperBound == null) {
+                return null;
+            }
+
+            List<AggregateCall> aggCalls = group.getAggregateCalls(rel);
+
+            for (AggregateCall call : aggCalls) {
+                if (call.isDistinct() || call.filterArg >= 0 || !SUPPORTED_FUNCTIONS.contains(call.getAggregation().getKind())) {
+                    return null;
+                }
+            }
+
+            RelCollation collation = IgniteWindow.windowCollation(group.keys, group.orderKeys);
+
+            RelTraitSet traits = cluster.traitSetOf(IgniteConvention.INSTANCE)
+                    .replace(collation)
+                    .replace(IgniteDistributions.single());
+
+            input = new IgniteWindow(cluster, traits, convert(input, traits), group.keys, group.orderKeys, group.isRows,
+                    lowerBound, upperBound, aggCalls);
+        }
+
+        if (rel.constants.isEmpty()) {
+            return (PhysicalNode) input;
+        }
+
+        // Remove the constants from the output.
+        List<RexNode> projects = new ArrayList<>(rel.getRowType().getFieldCount());
+        List<RelDataTypeField> fields = input.getRowType().getFieldList();
+
+        for (int i = 0; i < fields.size(); i++) {
+            if (i < inputFieldCnt || i >= inputFieldCnt + rel.constants.size()) {
+                projects.add(new RexInputRef(i, fields.get(i).getType()));
+            }
+        }
+
+        return new IgniteProject(cluster, input.getTraitSet(), input, projects, rel.getRowType());
+    }
+
+    /**
+     * Replaces the reference to a constant offset of the bound with the literal.
+     *
+     * @return Bound with the literal offset or {@code null} if the bound isn't supported.
+     */
+    private static @Nullable RexWindowBound bound(RexWindowBound bound, List<RexLiteral> constants, int inputFieldCnt, boolean rows) {
+        if (bound.isUnbounded() || bound.isCurrentRow()) {
+            return bound;
+        }
+
+        if (!rows || !(bound.getOffset() instanceof RexInputRef)) {
+            return null;
+        }
+
+        int idx = ((RexInputRef) bound.getOffset()).getIndex() - inputFieldCnt;
+
+        if (idx < 0) {
+            return null;
+        }
+
+        RexLiteral offset = constants.get(idx);
+        BigDecimal val = offset.getValueAs(BigDecimal.class);
+
+        if (val == null || val.signum() < 0 || val.stripTrailingZeros().scale() > 0) {
+            return null;
+        }
+
+        return bound.isPreceding() ? RexWindowBounds.preceding(offset) : RexWindowBounds.following(offset);
+    }
+}
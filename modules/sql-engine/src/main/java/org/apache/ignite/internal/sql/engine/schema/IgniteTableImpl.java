@@ -52,6 +52,10 @@ import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.schema.row.RowAssembler;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.batch.ColumnBatch;
+import org.apache.ignite.internal.sql.engine.exec.batch.ColumnVector;
+import org.apache.ignite.internal.sql.engine.exec.batch.DoubleVector;
+import org.apache.ignite.internal.sql.engine.exec.batch.LongVector;
 import org.apache.ignite.internal.sql.engine.exec.exp.RexImpTable;
 import org.apache.ignite.internal.sql.engine.metadata.ColocationGroup;
 import org.apache.ignite.internal.sql.engine.metadata.NodeWithTerm;
@@ -60,6 +64,9 @@ import org.apache.ignite.internal.sql.engine.rel.logical.IgniteLogicalIndexScan;
 import org.apache.ignite.internal.sql.engine.rel.logical.IgniteLogicalTableScan;
 import org.apache.ignite.internal.sql.engine.schema.IgniteIndex.Type;
 import org.apache.ignite.internal.sql.engine.schema.ModifyRow.Operation;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
+import org.apache.ignite.internal.sql.engine.statistic.StatisticsManager;
+import org.apache.ignite.internal.sql.engine.statistic.TableStatistics;
 import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
 import org.apache.ignite.internal.sql.engine.trait.TraitUtils;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
@@ -81,6 +88,8 @@ public class IgniteTableImpl extends AbstractTable implements InternalIgniteTabl
 
     private final SchemaRegistry schemaRegistry;
 
+    private final StatisticsManager statisticsManager;
+
     public final SchemaDescriptor schemaDescriptor;
 
     private final Statistic statistic;
@@ -89,21 +98,28 @@ public class IgniteTableImpl extends AbstractTable implements InternalIgniteTabl
 
     private final List<ColumnDescriptor> columnsOrderedByPhysSchema;
 
+    /** Primary key columns. */
+    private final ImmutableBitSet keyColumns;
+
     /**
      * Constructor.
      *
      * @param desc  Table descriptor.
      * @param table Physical table this schema object created for.
+     * @param schemaRegistry Schema registry of the table.
+     * @param statisticsManager Statistics manager.
      */
     public IgniteTableImpl(
             TableDescriptor desc,
             InternalTable table,
-            SchemaRegistry schemaRegistry
+            SchemaRegistry schemaRegistry,
+            StatisticsManager statisticsManager
     ) {
         this.ver = schemaRegistry.lastSchemaVersion();
         this.desc = desc;
         this.table = table;
         this.schemaRegistry = schemaRegistry;
+        this.statisticsManager = statisticsManager;
         this.schemaDescriptor = schemaRegistry.schema();
 
         assert schemaDescriptor != null;
@@ -116,6 +132,16 @@ public class IgniteTableImpl extends AbstractTable implements InternalIgniteTabl
         tmp.sort(Comparator.comparingInt(ColumnDescriptor::physicalIndex));
 
         columnsOrderedByPhysSchema = tmp;
+
+        ImmutableBitSet.Builder keyCols = ImmutableBitSet.builder();
+
+        for (ColumnDescriptor colDesc : tmp) {
+            if (colDesc.key()) {
+                keyCols.set(colDesc.logicalIndex());
+            }
+        }
+
+        keyColumns = keyCols.build();
         statistic = new StatisticsImpl();
     }
 
@@ -124,9 +150,11 @@ public class IgniteTableImpl extends AbstractTable implements InternalIgniteTabl
         this.ver = t.ver;
         this.table = t.table;
         this.schemaRegistry = t.schemaRegistry;
+        this.statisticsManager = t.statisticsManager;
         this.schemaDescriptor = t.schemaDescriptor;
         this.statistic = t.statistic;
         this.columnsOrderedByPhysSchema = t.columnsOrderedByPhysSchema;
+        this.keyColumns = t.keyColumns;
         this.indexes.putAll(t.indexes);
     }
 
@@ -164,6 +192,13 @@ public class IgniteTableImpl extends AbstractTable implements InternalIgniteTabl
         return statistic;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable ColumnStatistics columnStatistics(int colIdx) {
+        TableStatistics stats = statisticsManager.statistics(table.tableId());
+
+        return stats == null ? null : stats.column(desc.columnDescriptor(colIdx).name());
+    }
 
     /** {@inheritDoc} */
     @Override
@@ -294,6 +329,68 @@ public class IgniteTableImpl extends AbstractTable implements InternalIgniteTabl
         return res;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void toColumns(List<BinaryRow> rows, ColumnBatch batch, @Nullable BitSet requiredColumns) {
+        batch.reset(rows.size());
+
+        int colsCnt = batch.columnsCount();
+
+        assert colsCnt == (requiredColumns == null ? desc.columnsCount() : requiredColumns.cardinality());
+
+        ColumnDescriptor[] colDescs = new ColumnDescriptor[colsCnt];
+
+        for (int i = 0, j = requiredColumns == null ? 0 : requiredColumns.nextSetBit(0); i < colsCnt; i++) {
+            if (batch.column(i) != null) {
+                colDescs[i] = desc.columnDescriptor(j);
+            }
+
+            j = requiredColumns == null ? j + 1 : requiredColumns.nextSetBit(j + 1);
+        }
+
+        for (int r = 0; r < rows.size(); r++) {
+            Row row = schemaRegistry.resolve(rows.get(r), schemaDescriptor);
+
+            for (int i = 0; i < colsCnt; i++) {
+                ColumnDescriptor colDesc = colDescs[i];
+
+                if (colDesc == null) {
+                    continue;
+                }
+
+                ColumnVector vec = batch.column(i);
+                int idx = colDesc.physicalIndex();
+
+                if (row.hasNullValue(idx)) {
+                    vec.setNull(r);
+
+                    continue;
+                }
+
+                switch (colDesc.physicalType().spec()) {
+                    case INT8:
+                        ((LongVector) vec).set(r, row.byteValue(idx));
+                        break;
+                    case INT16:
+                        ((LongVector) vec).set(r, row.shortValue(idx));
+                        break;
+                    case INT32:
+                        ((LongVector) vec).set(r, row.intValue(idx));
+                        break;
+                    case INT64:
+                        ((LongVector) vec).set(r, row.longValue(idx));
+                        break;
+                    case DOUBLE:
+                        ((DoubleVector) vec).set(r, row.doubleValue(idx));
+                        break;
+                    default:
+                        throw new AssertionError("Column can't be decoded to a vector [col=" + colDesc.name()
+                                + ", type=" + colDesc.physicalType() + ']');
+                }
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public <RowT> ModifyRow toModifyRow(
@@ -448,41 +545,51 @@ public class IgniteTableImpl extends AbstractTable implements InternalIgniteTabl
 
         AtomicInteger statReqCnt = new AtomicInteger();
 
-        private volatile long localRowCnt;
+        private volatile long estimatedRowCnt;
 
         /** {@inheritDoc} */
         @Override
         public Double getRowCount() {
+            TableStatistics stats = statisticsManager.statistics(table.tableId());
+
+            if (stats != null) {
+                // Forbid zero result, to prevent zero cost for table and index scans.
+                return Math.max(1.0, (double) stats.rowCount());
+            }
+
             if (statReqCnt.getAndIncrement() % STATS_CLI_UPDATE_THRESHOLD == 0) {
                 int parts = table.storage().configuration().partitions().value();
 
                 long size = 0L;
+                int localParts = 0;
 
                 for (int p = 0; p < parts; ++p) {
                     @Nullable MvPartitionStorage part = table.storage().getMvPartition(p);
 
                     if (part != null) {
-                        size += part.rowsCount();
+                        size += part.statistics().rowsCount();
+                        localParts++;
                     }
                 }
 
-                localRowCnt = size;
+                // Extrapolate to the partitions stored on the other nodes.
+                estimatedRowCnt = localParts == 0 ? 0 : size * parts / localParts;
             }
 
-            // Forbid zero result, to prevent zero cost for table and index scans.
-            return Math.max(10_000.0, (double) localRowCnt);
+            // There are no statistics yet, so don't let the table look too small to be scanned.
+            return Math.max(10_000.0, (double) estimatedRowCnt);
         }
 
         /** {@inheritDoc} */
         @Override
         public boolean isKey(ImmutableBitSet cols) {
-            return false; // TODO
+            return !keyColumns.isEmpty() && cols.contains(keyColumns);
         }
 
         /** {@inheritDoc} */
         @Override
         public List<ImmutableBitSet> getKeys() {
-            return null; // TODO
+            return keyColumns.isEmpty() ? List.of() : List.of(keyColumns);
         }
 
         /** {@inheritDoc} */
@@ -29,10 +29,12 @@ import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.batch.ColumnBatch;
 import org.apache.ignite.internal.sql.engine.metadata.ColocationGroup;
 import org.apache.ignite.internal.sql.engine.prepare.MappingQueryContext;
 import org.apache.ignite.internal.sql.engine.rel.logical.IgniteLogicalIndexScan;
 import org.apache.ignite.internal.sql.engine.rel.logical.IgniteLogicalTableScan;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
 import org.apache.ignite.internal.table.InternalTable;
 import org.jetbrains.annotations.Nullable;
 
@@ -85,6 +87,16 @@ public interface InternalIgniteTable extends IgniteTable {
     /** Returns the internal table. */
     InternalTable table();
 
+    /**
+     * Returns statistics of the column.
+     *
+     * @param colIdx Column index.
+     * @return Column statistics or {@code null} if the statistics weren't collected yet.
+     */
+    default @Nullable ColumnStatistics columnStatistics(int colIdx) {
+        return null;
+    }
+
     /**
      * Converts a tuple to relational node row.
      *
@@ -100,6 +112,19 @@ public interface InternalIgniteTable extends IgniteTable {
             @Nullable BitSet requiredColumns
     );
 
+    /**
+     * Decodes the columns the batch has vectors for from the tuples, without materializing relational rows.
+     *
+     * @param rows            Tuples to decode.
+     * @param batch           Batch to fill, it's reset to hold all the given tuples.
+     * @param requiredColumns Participating columns.
+     */
+    void toColumns(
+            List<BinaryRow> rows,
+            ColumnBatch batch,
+            @Nullable BitSet requiredColumns
+    );
+
     /**
      * Converts a relational node row to internal tuple.
      *
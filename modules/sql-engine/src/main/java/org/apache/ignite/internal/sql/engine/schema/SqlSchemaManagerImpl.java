@@ -49,6 +49,7 @@ import org.apache.ignite.internal.schema.DefaultValueProvider.Type;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaManager;
 import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.sql.engine.statistic.StatisticsManager;
 import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
 import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
 import org.apache.ignite.internal.table.TableImpl;
@@ -81,6 +82,8 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
     /** Busy lock for stop synchronisation. */
     private final IgniteSpinBusyLock busyLock;
 
+    private final StatisticsManager statisticsManager;
+
     /**
      * Constructor.
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
@@ -89,7 +92,8 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
             TableManager tableManager,
             SchemaManager schemaManager,
             Consumer<Function<Long, CompletableFuture<?>>> registry,
-            IgniteSpinBusyLock busyLock
+            IgniteSpinBusyLock busyLock,
+            StatisticsManager statisticsManager
     ) {
         this.tableManager = tableManager;
         this.schemaManager = schemaManager;
@@ -97,6 +101,7 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
         tablesVv = new VersionedValue<>(registry, HashMap::new);
         indicesVv = new VersionedValue<>(registry, HashMap::new);
         this.busyLock = busyLock;
+        this.statisticsManager = statisticsManager;
 
         calciteSchemaVv = new VersionedValue<>(null, () -> {
             SchemaPlus newCalciteSchema = Frameworks.createRootSchema(false);
@@ -372,7 +377,8 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
         return new IgniteTableImpl(
                 new TableDescriptorImpl(colDescriptors, distribution),
                 table.internalTable(),
-                schemaRegistry
+                schemaRegistry,
+                statisticsManager
         );
     }
 
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.io.Serializable;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Statistics of a single table column. All the numbers are estimated for the whole table.
+ */
+public class ColumnStatistics implements Serializable {
+    private static final long serialVersionUID = 0L;
+
+    /** Number of distinct non-null values. */
+    private final long ndv;
+
+    /** Number of null values. */
+    private final long nullCnt;
+
+    /** Lowest value, {@code null} if the column has no comparable non-null values. */
+    private final @Nullable Object min;
+
+    /** Highest value, {@code null} if the column has no comparable non-null values. */
+    private final @Nullable Object max;
+
+    /** Histogram of the values, {@code null} for non-numeric columns. */
+    private final @Nullable Histogram histogram;
+
+    /**
+     * Constructor.
+     *
+     * @param ndv Number of distinct non-null values.
+     * @param nullCnt Number of null values.
+     * @param min Lowest value.
+     * @param max Highest value.
+     * @param histogram Histogram of the values.
+     */
+    public ColumnStatistics(long ndv, long nullCnt, @Nullable Object min, @Nullable Object max, @Nullable Histogram histogram) {
+        this.ndv = ndv;
+        this.nullCnt = nullCnt;
+        this.min = min;
+        this.max = max;
+        this.histogram = histogram;
+    }
+
+    /** Returns the number of distinct non-null values. */
+    public long ndv() {
+        return ndv;
+    }
+
+    /** Returns the number of null values. */
+    public long nullCount() {
+        return nullCnt;
+    }
+
+    /** Returns the lowest value. */
+    public @Nullable Object min() {
+        return min;
+    }
+
+    /** Returns the highest value. */
+    public @Nullable Object max() {
+        return max;
+    }
+
+    /** Returns the histogram of the values. */
+    public @Nullable Histogram histogram() {
+        return histogram;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(ColumnStatistics.class, this);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Equi-depth histogram of the non-null values of a numeric column.
+ *
+ * <p>Every bucket holds the same share of the values, so the histogram is precise for skewed distributions where an equi-width one
+ * would put almost all of the values to a single bucket. Values are assumed to be distributed uniformly within a bucket.
+ */
+public class Histogram implements Serializable {
+    private static final long serialVersionUID = 0L;
+
+    /** Bucket bounds: bucket {@code i} holds the values between {@code bounds[i]} and {@code bounds[i + 1]}. */
+    private final double[] bounds;
+
+    /**
+     * Constructor.
+     *
+     * @param bounds Bucket bounds in ascending order, there is one bound more than buckets.
+     */
+    public Histogram(double[] bounds) {
+        assert bounds.length > 1 : bounds.length;
+
+        this.bounds = bounds;
+    }
+
+    /**
+     * Builds a histogram.
+     *
+     * @param sorted Sorted values.
+     * @param cnt Number of values.
+     * @param buckets Maximal number of buckets.
+     * @return Histogram or {@code null} if there are no values.
+     */
+    public static @Nullable Histogram build(double[] sorted, int cnt, int buckets) {
+        if (cnt == 0) {
+            return null;
+        }
+
+        buckets = Math.max(1, Math.min(buckets, cnt));
+
+        double[] bounds = new double[buckets + 1];
+
+        for (int i = 0; i < buckets; i++) {
+            bounds[i] = sorted[(int) ((long) i * cnt / buckets)];
+        }
+
+        bounds[buckets] = sorted[cnt - 1];
+
+        return new Histogram(bounds);
+    }
+
+    /** Returns the number of buckets. */
+    public int buckets() {
+        return bounds.length - 1;
+    }
+
+    /** Returns the lowest value. */
+    public double min() {
+        return bounds[0];
+    }
+
+    /** Returns the highest value. */
+    public double max() {
+        return bounds[bounds.length - 1];
+    }
+
+    /**
+     * Estimates the fraction of the values which are less than (or equal to) the given one.
+     *
+     * @param val Value.
+     * @param inclusive Whether the values equal to the given one have to be counted.
+     * @return Fraction of the values in the {@code [0, 1]} range.
+     */
+    public double lessThan(double val, boolean inclusive) {
+        // Index of the first bound which is greater than (or equal to) the value.
+        int idx = inclusive ? upperBound(val) : lowerBound(val);
+
+        if (idx == 0) {
+            return 0.0;
+        }
+
+        if (idx == bounds.length) {
+            return 1.0;
+        }
+
+        int bucket = idx - 1;
+
+        double lo = bounds[bucket];
+        double hi = bounds[idx];
+
+        // The bound search guarantees lo <= val <= hi and lo < hi.
+        return (bucket + (val - lo) / (hi - lo)) / buckets();
+    }
+
+    /**
+     * Estimates the fraction of the values which are greater than (or equal to) the given one.
+     *
+     * @param val Value.
+     * @param inclusive Whether the values equal to the given one have to be counted.
+     * @return Fraction of the values in the {@code [0, 1]} range.
+     */
+    public double greaterThan(double val, boolean inclusive) {
+        return 1.0 - lessThan(val, !inclusive);
+    }
+
+    /** Returns index of the first bound which is not less than the value. */
+    private int lowerBound(double val) {
+        int lo = 0;
+        int hi = bounds.length;
+
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+
+            if (bounds[mid] < val) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        return lo;
+    }
+
+    /** Returns index of the first bound which is greater than the value. */
+    private int upperBound(double val) {
+        int lo = 0;
+        int hi = bounds.length;
+
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+
+            if (bounds[mid] <= val) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        return lo;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(Histogram.class, this, "bounds", Arrays.toString(bounds));
+    }
+}
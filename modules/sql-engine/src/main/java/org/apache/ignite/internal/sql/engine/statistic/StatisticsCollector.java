@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Collects statistics of the table columns on a uniform sample of the table rows.
+ *
+ * <p>The sample is built with the reservoir sampling, so the rows are passed in a single pass without knowing their number in
+ * advance. The number of distinct values is extrapolated from the sample with the Haas-Stokes "Duj1" estimator.
+ */
+public class StatisticsCollector {
+    /** Maximal number of histogram buckets. */
+    public static final int HISTOGRAM_BUCKETS = 64;
+
+    private final List<String> columns;
+
+    private final int sampleSize;
+
+    private final Random rnd;
+
+    /** Sampled rows. */
+    private final Object[][] sample;
+
+    /** Number of rows passed to the collector. */
+    private long seen;
+
+    /**
+     * Constructor.
+     *
+     * @param columns Column names, in the order of the values of the passed rows.
+     * @param sampleSize Maximal number of sampled rows.
+     * @param rnd Random generator.
+     */
+    public StatisticsCollector(List<String> columns, int sampleSize, Random rnd) {
+        assert sampleSize > 0 : sampleSize;
+
+        this.columns = columns;
+        this.sampleSize = sampleSize;
+        this.rnd = rnd;
+
+        sample = new Object[sampleSize][];
+    }
+
+    /**
+     * Adds a row to the sample.
+     *
+     * @param row Row values, in the order of the columns.
+     */
+    public void add(Object[] row) {
+        assert row.length == columns.size();
+
+        long pos = seen++;
+
+        if (pos < sampleSize) {
+            sample[(int) pos] = row;
+        } else {
+            long idx = (long) (rnd.nextDouble() * (pos + 1));
+
+            if (idx < sampleSize) {
+                sample[(int) idx] = row;
+            }
+        }
+    }
+
+    /** Returns the number of rows passed to the collector. */
+    public long seen() {
+        return seen;
+    }
+
+    /**
+     * Builds the statistics.
+     *
+     * @param rowCnt Estimated number of the table rows, the sample is extrapolated to.
+     * @param partitions Number of the partitions the rows were collected from.
+     * @param collectTime Collection time.
+     * @return Table statistics.
+     */
+    public TableStatistics build(long rowCnt, int partitions, long collectTime) {
+        int n = (int) Math.min(seen, sampleSize);
+
+        rowCnt = Math.max(rowCnt, n);
+
+        Map<String, ColumnStatistics> colStats = new HashMap<>();
+
+        for (int col = 0; col < columns.size(); col++) {
+            colStats.put(columns.get(col), buildColumn(col, n, rowCnt));
+        }
+
+        return new TableStatistics(rowCnt, partitions, collectTime, colStats);
+    }
+
+    private ColumnStatistics buildColumn(int col, int n, long rowCnt) {
+        Map<Object, Integer> freqs = new HashMap<>();
+
+        double[] nums = new double[n];
+        int numCnt = 0;
+        boolean numeric = true;
+
+        Comparable<Object> min = null;
+        Comparable<Object> max = null;
+
+        int nulls = 0;
+
+        for (int i = 0; i < n; i++) {
+            Object val = sample[i][col];
+
+            if (val == null) {
+                nulls++;
+
+                continue;
+            }
+
+            freqs.merge(val instanceof byte[] ? ByteBuffer.wrap((byte[]) val) : val, 1, Integer::sum);
+
+            if (val instanceof Comparable) {
+                @SuppressWarnings("unchecked")
+                Comparable<Object> cmp = (Comparable<Object>) val;
+
+                if (min == null || cmp.compareTo(min) < 0) {
+                    min = cmp;
+                }
+
+                if (max == null || cmp.compareTo(max) > 0) {
+                    max = cmp;
+                }
+            }
+
+            if (val instanceof Number) {
+                nums[numCnt++] = ((Number) val).doubleValue();
+            } else {
+                numeric = false;
+            }
+        }
+
+        int nonNulls = n - nulls;
+
+        long nullCnt = n == 0 ? 0 : Math.round((double) nulls * rowCnt / n);
+
+        Histogram hist = null;
+
+        if (numeric && numCnt > 0) {
+            Arrays.sort(nums, 0, numCnt);
+
+            hist = Histogram.build(nums, numCnt, HISTOGRAM_BUCKETS);
+        }
+
+        return new ColumnStatistics(ndv(freqs, nonNulls, rowCnt - nullCnt), nullCnt, min, max, hist);
+    }
+
+    /**
+     * Estimates the number of distinct values with the Duj1 estimator: {@code n * d / (n - f1 + f1 * n / N)}, where {@code n} is the
+     * sample size, {@code d} is the number of distinct values in the sample, {@code f1} is the number of values which occur in
+     * the sample exactly once, and {@code N} is the number of rows.
+     */
+    private static long ndv(Map<Object, Integer> freqs, int n, long total) {
+        int d = freqs.size();
+
+        if (n == 0 || total <= n) {
+            return d;
+        }
+
+        int f1 = 0;
+
+        for (int freq : freqs.values()) {
+            if (freq == 1) {
+                f1++;
+            }
+        }
+
+        double est = (double) n * d / (n - f1 + (double) f1 * n / total);
+
+        return Math.max(d, Math.min(total, Math.round(est)));
+    }
+}
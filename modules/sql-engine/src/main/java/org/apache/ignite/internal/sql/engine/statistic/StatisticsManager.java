@@ -0,0 +1,465 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.apache.ignite.internal.metastorage.dsl.Conditions.exists;
+import static org.apache.ignite.internal.metastorage.dsl.Operations.noop;
+import static org.apache.ignite.internal.metastorage.dsl.Operations.remove;
+import static org.apache.ignite.lang.IgniteSystemProperties.getInteger;
+import static org.apache.ignite.lang.IgniteSystemProperties.getLong;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metastorage.Entry;
+import org.apache.ignite.internal.metastorage.EntryEvent;
+import org.apache.ignite.internal.metastorage.MetaStorageManager;
+import org.apache.ignite.internal.metastorage.WatchEvent;
+import org.apache.ignite.internal.metastorage.WatchListener;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.PartitionTimestampCursor;
+import org.apache.ignite.internal.storage.ReadResult;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.table.InternalTable;
+import org.apache.ignite.internal.table.TableImpl;
+import org.apache.ignite.internal.table.distributed.TableManager;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.apache.ignite.internal.util.ByteUtils;
+import org.apache.ignite.internal.util.IgniteSpinBusyLock;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.lang.ByteArray;
+import org.apache.ignite.lang.NodeStoppingException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects and keeps statistics of the tables used by the cost-based optimizer.
+ *
+ * <p>Every node samples the table partitions it stores, either on the {@code ANALYZE} command or periodically in background once
+ * the number of rows has changed noticeably, and publishes the result to the meta storage under its own key. The statistics of all
+ * the nodes are watched and {@link TableStatistics#merge merged}, so every node plans queries with the same statistics.
+ *
+ * <p>Rows are sampled by seeking to random row ids, which are random UUIDs, so the number of rows read does not depend on the size
+ * of the table. Only the partitions with fewer rows than the sample size in total are scanned fully.
+ */
+public class StatisticsManager implements LifecycleAware {
+    private static final IgniteLogger LOG = Loggers.forClass(StatisticsManager.class);
+
+    /** Name of the system property which defines the background statistics refresh interval in milliseconds, 0 disables it. */
+    public static final String IGNITE_SQL_STATISTICS_REFRESH_INTERVAL = "IGNITE_SQL_STATISTICS_REFRESH_INTERVAL";
+
+    /** Name of the system property which defines the number of rows sampled on every node. */
+    public static final String IGNITE_SQL_STATISTICS_SAMPLE_SIZE = "IGNITE_SQL_STATISTICS_SAMPLE_SIZE";
+
+    /** Default background statistics refresh interval. */
+    public static final long DFLT_STATISTICS_REFRESH_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+
+    /** Default number of rows sampled on every node. */
+    public static final int DFLT_STATISTICS_SAMPLE_SIZE = 30_000;
+
+    /** Relative change of the number of rows which makes the statistics stale. */
+    private static final double STALE_ROWS_RATIO = 0.1;
+
+    /** Meta storage key prefix of the statistics, full key is {@code <prefix><table id>.<node name>}. */
+    private static final String STATISTICS_PREFIX = "sql.statistics.";
+
+    /** Length of the string representation of {@link UUID}. */
+    private static final int UUID_LENGTH = 36;
+
+    private final long refreshInterval = getLong(IGNITE_SQL_STATISTICS_REFRESH_INTERVAL, DFLT_STATISTICS_REFRESH_INTERVAL);
+
+    private final int sampleSize = getInteger(IGNITE_SQL_STATISTICS_SAMPLE_SIZE, DFLT_STATISTICS_SAMPLE_SIZE);
+
+    private final String nodeName;
+
+    private final TableManager tableManager;
+
+    private final MetaStorageManager metaStorageMgr;
+
+    private final IgniteSpinBusyLock busyLock = new IgniteSpinBusyLock();
+
+    /** Statistics collected by the nodes, by the table id and the node name. */
+    private final Map<UUID, Map<String, TableStatistics>> nodeStats = new ConcurrentHashMap<>();
+
+    /** Merged statistics by the table id. */
+    private final Map<UUID, TableStatistics> stats = new ConcurrentHashMap<>();
+
+    private final WatchListener watchLsnr = new WatchListener() {
+        @Override
+        public void onUpdate(WatchEvent evt) {
+            for (EntryEvent entryEvt : evt.entryEvents()) {
+                onEntry(entryEvt.newEntry());
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            LOG.warn("Unable to process SQL statistics update", e);
+        }
+    };
+
+    private volatile ScheduledExecutorService executor;
+
+    /**
+     * Constructor.
+     *
+     * @param nodeName Local node name.
+     * @param tableManager Table manager.
+     * @param metaStorageMgr Meta storage manager.
+     */
+    public StatisticsManager(String nodeName, TableManager tableManager, MetaStorageManager metaStorageMgr) {
+        this.nodeName = nodeName;
+        this.tableManager = tableManager;
+        this.metaStorageMgr = metaStorageMgr;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(
+                new NamedThreadFactory(NamedThreadFactory.threadPrefix(nodeName, "sql-statistics"), LOG));
+
+        ByteArray prefix = ByteArray.fromString(STATISTICS_PREFIX);
+
+        metaStorageMgr.registerPrefixWatch(prefix, watchLsnr);
+
+        metaStorageMgr.prefix(prefix).subscribe(new Subscriber<>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                // Request unlimited demand.
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Entry item) {
+                onEntry(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                LOG.warn("Unable to load SQL statistics", throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                // No-op.
+            }
+        });
+
+        if (refreshInterval > 0) {
+            executor.scheduleWithFixedDelay(this::refresh, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() {
+        busyLock.block();
+
+        metaStorageMgr.unregisterWatch(watchLsnr);
+
+        IgniteUtils.shutdownAndAwaitTermination(executor, 10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Returns statistics of the table.
+     *
+     * @param tableId Table id.
+     * @return Statistics or {@code null} if they were not collected yet.
+     */
+    public @Nullable TableStatistics statistics(UUID tableId) {
+        return stats.get(tableId);
+    }
+
+    /**
+     * Samples the local partitions of the table and publishes the result.
+     *
+     * @param table Table.
+     * @return Future which completes with the table statistics merged with the ones collected by the other nodes.
+     */
+    public CompletableFuture<TableStatistics> collect(TableImpl table) {
+        if (!busyLock.enterBusy()) {
+            return failedFuture(new NodeStoppingException());
+        }
+
+        try {
+            UUID tableId = table.tableId();
+
+            return CompletableFuture.supplyAsync(() -> collectLocal(table), executor)
+                    .thenCompose(tblStats -> {
+                        if (tblStats == null) {
+                            return completedFuture(stats.get(tableId));
+                        }
+
+                        // Don't wait for the watch to make the statistics available on the local node.
+                        onStatistics(tableId, nodeName, tblStats);
+
+                        ByteArray key = statisticsKey(tableId, nodeName);
+                        byte[] val = ByteUtils.toBytes(tblStats);
+
+                        return metaStorageMgr.put(key, val)
+                                .thenApply(ignored -> stats.get(tableId));
+                    });
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    /** Collects statistics of the stale tables and drops statistics of the dropped ones. */
+    private void refresh() {
+        if (!busyLock.enterBusy()) {
+            return;
+        }
+
+        try {
+            Map<UUID, TableImpl> tables = tableManager.latestTables();
+
+            for (TableImpl table : tables.values()) {
+                if (isStale(table)) {
+                    collect(table).whenComplete((res, err) -> {
+                        if (err != null) {
+                            LOG.warn("Unable to collect SQL statistics [table={}]", err, table.name());
+                        }
+                    });
+                }
+            }
+
+            for (Map.Entry<UUID, Map<String, TableStatistics>> e : nodeStats.entrySet()) {
+                if (!tables.containsKey(e.getKey()) && e.getValue().containsKey(nodeName)) {
+                    ByteArray key = statisticsKey(e.getKey(), nodeName);
+
+                    metaStorageMgr.invoke(exists(key), remove(key), noop());
+                }
+            }
+        } catch (Throwable e) {
+            LOG.warn("Unable to refresh SQL statistics", e);
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    /** Checks whether the local statistics of the table are missing or the number of local rows has changed noticeably since. */
+    private boolean isStale(TableImpl table) {
+        InternalTable tbl = table.internalTable();
+
+        long localRows = 0;
+        int localParts = 0;
+
+        for (int p = 0; p < tbl.partitions(); p++) {
+            MvPartitionStorage part = tbl.storage().getMvPartition(p);
+
+            if (part != null) {
+                localRows += part.statistics().rowsCount();
+                localParts++;
+            }
+        }
+
+        if (localParts == 0) {
+            return false;
+        }
+
+        Map<String, TableStatistics> tblStats = nodeStats.get(table.tableId());
+        TableStatistics localStats = tblStats == null ? null : tblStats.get(nodeName);
+
+        if (localStats == null) {
+            return true;
+        }
+
+        double rowCnt = (double) localRows * tbl.partitions() / localParts;
+
+        return Math.abs(rowCnt - localStats.rowCount()) > STALE_ROWS_RATIO * Math.max(localStats.rowCount(), 1);
+    }
+
+    /** Samples the rows of the local partitions of the table. */
+    private @Nullable TableStatistics collectLocal(TableImpl table) {
+        InternalTable tbl = table.internalTable();
+        SchemaRegistry registry = table.schemaView();
+        SchemaDescriptor schema = registry.schema();
+
+        List<String> columns = new ArrayList<>(schema.length());
+
+        for (int i = 0; i < schema.length(); i++) {
+            columns.add(schema.column(i).name());
+        }
+
+        int parts = tbl.partitions();
+
+        List<Integer> localParts = new ArrayList<>();
+        long[] partRows = new long[parts];
+        long localRows = 0;
+
+        for (int p = 0; p < parts; p++) {
+            MvPartitionStorage part = tbl.storage().getMvPartition(p);
+
+            if (part != null) {
+                localParts.add(p);
+                partRows[p] = part.statistics().rowsCount();
+                localRows += partRows[p];
+            }
+        }
+
+        if (localParts.isEmpty()) {
+            return null;
+        }
+
+        Random rnd = ThreadLocalRandom.current();
+
+        StatisticsCollector collector = new StatisticsCollector(columns, sampleSize, rnd);
+
+        Consumer<BinaryRow> rowConsumer = binRow -> {
+            Row row = registry.resolve(binRow, schema);
+            Object[] vals = new Object[columns.size()];
+
+            for (int i = 0; i < vals.length; i++) {
+                vals[i] = row.value(i);
+            }
+
+            collector.add(vals);
+        };
+
+        for (int p : localParts) {
+            MvPartitionStorage part = tbl.storage().getMvPartition(p);
+
+            if (part == null) {
+                continue;
+            }
+
+            // Sample the partitions proportionally to their sizes, to keep the sample of the node uniform.
+            int samples = localRows <= sampleSize
+                    ? sampleSize
+                    : (int) Math.max(1, Math.round((double) sampleSize * partRows[p] / localRows));
+
+            sample(part, p, partRows[p], samples, rnd, rowConsumer);
+        }
+
+        long rowCnt = Math.max(localRows, collector.seen()) * parts / localParts.size();
+
+        return collector.build(rowCnt, localParts.size(), System.currentTimeMillis());
+    }
+
+    /**
+     * Passes a sample of the latest versions of the partition rows to the consumer, reading at most {@code samples} rows. The partition
+     * is scanned if it has no more rows than the requested number of samples, otherwise every sample is the row closest to a random row
+     * id, so the same row may be sampled more than once.
+     *
+     * @param part Partition storage.
+     * @param partId Partition id.
+     * @param partRows Number of rows in the partition.
+     * @param samples Number of rows to sample.
+     * @param rnd Random generator.
+     * @param consumer Consumer of the sampled rows.
+     */
+    static void sample(MvPartitionStorage part, int partId, long partRows, int samples, Random rnd, Consumer<BinaryRow> consumer) {
+        if (partRows <= samples) {
+            int read = 0;
+
+            try (PartitionTimestampCursor cursor = part.scan(HybridTimestamp.MAX_VALUE)) {
+                while (read < samples && cursor.hasNext()) {
+                    BinaryRow binRow = cursor.next().binaryRow();
+
+                    read++;
+
+                    if (binRow != null) {
+                        consumer.accept(binRow);
+                    }
+                }
+            }
+
+            return;
+        }
+
+        for (int i = 0; i < samples; i++) {
+            RowId rowId = part.closestRowId(new RowId(partId, rnd.nextLong(), rnd.nextLong()));
+
+            if (rowId == null) {
+                // Wrap around to the first row of the partition.
+                rowId = part.closestRowId(RowId.lowestRowId(partId));
+
+                if (rowId == null) {
+                    return;
+                }
+            }
+
+            ReadResult res = part.read(rowId, HybridTimestamp.MAX_VALUE);
+
+            if (res.binaryRow() != null) {
+                consumer.accept(res.binaryRow());
+            }
+        }
+    }
+
+    private void onEntry(Entry entry) {
+        String key = new String(entry.key(), StandardCharsets.UTF_8);
+
+        UUID tableId = UUID.fromString(key.substring(STATISTICS_PREFIX.length(), STATISTICS_PREFIX.length() + UUID_LENGTH));
+        String node = key.substring(STATISTICS_PREFIX.length() + UUID_LENGTH + 1);
+
+        byte[] val = entry.value();
+
+        onStatistics(tableId, node, val == null || entry.tombstone() ? null : ByteUtils.fromBytes(val));
+    }
+
+    private void onStatistics(UUID tableId, String node, @Nullable TableStatistics tblStats) {
+        nodeStats.compute(tableId, (id, byNode) -> {
+            if (byNode == null) {
+                byNode = new ConcurrentHashMap<>();
+            }
+
+            if (tblStats == null) {
+                byNode.remove(node);
+            } else {
+                byNode.put(node, tblStats);
+            }
+
+            if (byNode.isEmpty()) {
+                stats.remove(id);
+
+                return null;
+            }
+
+            stats.put(id, TableStatistics.merge(byNode.values()));
+
+            return byNode;
+        });
+    }
+
+    private static ByteArray statisticsKey(UUID tableId, String nodeName) {
+        return ByteArray.fromString(STATISTICS_PREFIX + tableId + '.' + nodeName);
+    }
+}
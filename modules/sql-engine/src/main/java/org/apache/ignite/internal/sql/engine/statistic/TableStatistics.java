@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Statistics of a table.
+ *
+ * <p>Every node samples the partitions it stores and extrapolates the result to the whole table, the optimizer uses the
+ * {@link #merge merged} statistics of all the nodes.
+ */
+public class TableStatistics implements Serializable {
+    private static final long serialVersionUID = 0L;
+
+    /** Number of rows. */
+    private final long rowCnt;
+
+    /** Number of partitions the statistics were collected on. */
+    private final int partitions;
+
+    /** Collection time. */
+    private final long collectTime;
+
+    /** Statistics of the columns by the column name. */
+    private final Map<String, ColumnStatistics> columns;
+
+    /**
+     * Constructor.
+     *
+     * @param rowCnt Number of rows.
+     * @param partitions Number of partitions the statistics were collected on.
+     * @param collectTime Collection time.
+     * @param columns Statistics of the columns by the column name.
+     */
+    public TableStatistics(long rowCnt, int partitions, long collectTime, Map<String, ColumnStatistics> columns) {
+        this.rowCnt = rowCnt;
+        this.partitions = partitions;
+        this.collectTime = collectTime;
+        this.columns = columns;
+    }
+
+    /** Returns the number of rows. */
+    public long rowCount() {
+        return rowCnt;
+    }
+
+    /** Returns the number of partitions the statistics were collected on. */
+    public int partitions() {
+        return partitions;
+    }
+
+    /** Returns the collection time. */
+    public long collectTime() {
+        return collectTime;
+    }
+
+    /**
+     * Returns statistics of the column.
+     *
+     * @param name Column name.
+     * @return Column statistics or {@code null} if the column is unknown.
+     */
+    public @Nullable ColumnStatistics column(String name) {
+        return columns.get(name);
+    }
+
+    /**
+     * Merges the statistics collected on different nodes. Counters are averaged weighted by the number of sampled partitions,
+     * the number of distinct values and the value range are widened, and the histogram is taken from the biggest sample.
+     *
+     * @param stats Statistics collected on different nodes.
+     * @return Merged statistics.
+     */
+    public static TableStatistics merge(Collection<TableStatistics> stats) {
+        assert !stats.isEmpty();
+
+        if (stats.size() == 1) {
+            return stats.iterator().next();
+        }
+
+        int parts = 0;
+        double rowCnt = 0;
+        long collectTime = 0;
+
+        for (TableStatistics s : stats) {
+            parts += s.partitions;
+            rowCnt += (double) s.rowCnt * s.partitions;
+            collectTime = Math.max(collectTime, s.collectTime);
+        }
+
+        Map<String, ColumnStatistics> columns = new HashMap<>();
+        Map<String, Integer> histogramParts = new HashMap<>();
+        Map<String, Double> nullCnts = new HashMap<>();
+
+        for (TableStatistics s : stats) {
+            for (Map.Entry<String, ColumnStatistics> e : s.columns.entrySet()) {
+                String name = e.getKey();
+                ColumnStatistics col = e.getValue();
+
+                nullCnts.merge(name, (double) col.nullCount() * s.partitions, Double::sum);
+
+                ColumnStatistics prev = columns.get(name);
+
+                if (prev == null) {
+                    columns.put(name, col);
+                    histogramParts.put(name, col.histogram() == null ? 0 : s.partitions);
+
+                    continue;
+                }
+
+                Histogram hist = prev.histogram();
+
+                if (col.histogram() != null && s.partitions > histogramParts.get(name)) {
+                    hist = col.histogram();
+                    histogramParts.put(name, s.partitions);
+                }
+
+                columns.put(name, new ColumnStatistics(
+                        Math.max(prev.ndv(), col.ndv()),
+                        0,
+                        min(prev.min(), col.min()),
+                        max(prev.max(), col.max()),
+                        hist
+                ));
+            }
+        }
+
+        int parts0 = Math.max(parts, 1);
+
+        columns.replaceAll((name, col) -> new ColumnStatistics(
+                col.ndv(),
+                Math.round(nullCnts.get(name) / parts0),
+                col.min(),
+                col.max(),
+                col.histogram()
+        ));
+
+        return new TableStatistics(Math.round(rowCnt / parts0), parts, collectTime, columns);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static @Nullable Object min(@Nullable Object a, @Nullable Object b) {
+        if (a == null || b == null || a.getClass() != b.getClass()) {
+            return a == null ? b : a;
+        }
+
+        return ((Comparable) a).compareTo(b) <= 0 ? a : b;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static @Nullable Object max(@Nullable Object a, @Nullable Object b) {
+        if (a == null || b == null || a.getClass() != b.getClass()) {
+            return a == null ? b : a;
+        }
+
+        return ((Comparable) a).compareTo(b) >= 0 ? a : b;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(TableStatistics.class, this);
+    }
+}
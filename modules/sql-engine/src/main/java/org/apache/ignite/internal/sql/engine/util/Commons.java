@@ -379,36 +379,61 @@ public final class Commons {
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
      */
     public static <T> T compile(Class<T> interfaceType, String body) {
+        try {
+            return (T) classBodyEvaluator(interfaceType, body).createInstance(new StringReader(body));
+        } catch (Exception e) {
+            throw new SqlException(EXPRESSION_COMPILATION_ERR, e);
+        }
+    }
+
+    /**
+     * Compiles a class implementing the given interface, the instances of the class are created by the caller.
+     *
+     * @param interfaceType Interface the class implements.
+     * @param className Name of the class, the body refers to it in the constructors.
+     * @param body Class body.
+     * @return Compiled class.
+     */
+    public static <T> Class<? extends T> compileClass(Class<T> interfaceType, String className, String body) {
+        try {
+            IClassBodyEvaluator cbe = classBodyEvaluator(interfaceType, body);
+
+            cbe.setClassName(className);
+            cbe.cook(new StringReader(body));
+
+            return (Class<? extends T>) cbe.getClazz();
+        } catch (Exception e) {
+            throw new SqlException(EXPRESSION_COMPILATION_ERR, e);
+        }
+    }
+
+    private static IClassBodyEvaluator classBodyEvaluator(Class<?> interfaceType, String body) {
         final boolean debug = CalciteSystemProperty.DEBUG.value();
 
         if (debug) {
             Util.debugCode(System.out, body);
         }
 
-        try {
-            final ICompilerFactory compilerFactory;
-
-            try {
-                compilerFactory = CompilerFactoryFactory.getDefaultCompilerFactory();
-            } catch (Exception e) {
-                throw new IllegalStateException(
-                        "Unable to instantiate java compiler", e);
-            }
+        final ICompilerFactory compilerFactory;
 
-            IClassBodyEvaluator cbe = compilerFactory.newClassBodyEvaluator();
+        try {
+            compilerFactory = CompilerFactoryFactory.getDefaultCompilerFactory();
+        } catch (Exception e) {
+            throw new IllegalStateException(
+                    "Unable to instantiate java compiler", e);
+        }
 
-            cbe.setImplementedInterfaces(new Class[]{interfaceType});
-            cbe.setParentClassLoader(ExpressionFactoryImpl.class.getClassLoader());
+        IClassBodyEvaluator cbe = compilerFactory.newClassBodyEvaluator();
 
-            if (debug) {
-                // Add line numbers to the generated janino class
-                cbe.setDebuggingInformation(true, true, true);
-            }
+        cbe.setImplementedInterfaces(new Class[]{interfaceType});
+        cbe.setParentClassLoader(ExpressionFactoryImpl.class.getClassLoader());
 
-            return (T) cbe.createInstance(new StringReader(body));
-        } catch (Exception e) {
-            throw new SqlException(EXPRESSION_COMPILATION_ERR, e);
+        if (debug) {
+            // Add line numbers to the generated janino class
+            cbe.setDebuggingInformation(true, true, true);
         }
+
+        return cbe;
     }
 
     /**
@@ -35,6 +35,7 @@ import static org.mockito.Mockito.when;
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +52,8 @@ import org.apache.ignite.internal.index.IndexManager;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.manager.EventListener;
+import org.apache.ignite.internal.metastorage.MetaStorageManager;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.NativeTypes;
@@ -69,6 +72,8 @@ import org.apache.ignite.internal.table.distributed.TableManager;
 import org.apache.ignite.internal.table.event.TableEvent;
 import org.apache.ignite.internal.table.event.TableEventParameters;
 import org.apache.ignite.internal.testframework.IgniteTestUtils;
+import org.apache.ignite.internal.testframework.WorkDirectory;
+import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.impl.HeapLockManager;
@@ -90,7 +95,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 /**
  * Stop Calcite module test.
  */
-@ExtendWith(MockitoExtension.class)
+@ExtendWith({MockitoExtension.class, WorkDirectoryExtension.class})
 public class StopCalciteModuleTest {
     /** The logger. */
     private static final IgniteLogger LOG = Loggers.forClass(StopCalciteModuleTest.class);
@@ -99,6 +104,9 @@ public class StopCalciteModuleTest {
 
     private static final String NODE_NAME = "mock-node-name";
 
+    @WorkDirectory
+    private Path workDir;
+
     @Mock
     private ClusterService clusterSrvc;
 
@@ -126,6 +134,9 @@ public class StopCalciteModuleTest {
     @Mock
     private TopologyService topologySrvc;
 
+    @Mock
+    private MetaStorageManager metaStorageManager;
+
     @Mock
     private InternalTable tbl;
 
@@ -219,9 +230,18 @@ public class StopCalciteModuleTest {
                 txManager,
                 distributionZoneManager,
                 Map::of,
-                clock
+                clock,
+                new MetricManager(),
+                workDir,
+                metaStorageManager
         );
 
+        when(metaStorageManager.prefix(any())).thenReturn(subscriber -> {
+            subscriber.onSubscribe(mock(Flow.Subscription.class));
+
+            subscriber.onComplete();
+        });
+
         when(tbl.tableId()).thenReturn(UUID.randomUUID());
         when(tbl.primaryReplicas()).thenReturn(List.of(new PrimaryReplica(localNode, -1L)));
 
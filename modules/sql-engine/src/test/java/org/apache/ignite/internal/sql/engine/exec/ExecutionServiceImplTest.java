@@ -17,9 +17,11 @@
 
 package org.apache.ignite.internal.sql.engine.exec;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.ignite.internal.sql.engine.util.Commons.FRAMEWORK_CONFIG;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.await;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
+import static org.apache.ignite.lang.ErrorGroups.Sql.DUPLICATE_KEYS_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Sql.OPERATION_INTERRUPTED_ERR;
 import static org.apache.ignite.lang.IgniteStringFormatter.format;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -31,10 +33,13 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
@@ -45,16 +50,21 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
+import org.apache.calcite.rel.core.TableModify;
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.sql.SqlNodeList;
 import org.apache.calcite.tools.Frameworks;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.schema.NativeType;
 import org.apache.ignite.internal.schema.NativeTypes;
 import org.apache.ignite.internal.sql.engine.AsyncCursor.BatchedResult;
 import org.apache.ignite.internal.sql.engine.QueryCancel;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionServiceImplTest.TestCluster.TestNode;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.ddl.DdlCommandHandler;
 import org.apache.ignite.internal.sql.engine.exec.rel.Node;
 import org.apache.ignite.internal.sql.engine.exec.rel.ScanNode;
@@ -66,6 +76,8 @@ import org.apache.ignite.internal.sql.engine.message.QueryStartRequest;
 import org.apache.ignite.internal.sql.engine.message.SqlQueryMessagesFactory;
 import org.apache.ignite.internal.sql.engine.metadata.ColocationGroup;
 import org.apache.ignite.internal.sql.engine.metadata.RemoteException;
+import org.apache.ignite.internal.sql.engine.prepare.KeyValueGetPlan;
+import org.apache.ignite.internal.sql.engine.prepare.KeyValueModifyPlan;
 import org.apache.ignite.internal.sql.engine.prepare.MappingQueryContext;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareServiceImpl;
@@ -75,6 +87,7 @@ import org.apache.ignite.internal.sql.engine.schema.ColumnDescriptor;
 import org.apache.ignite.internal.sql.engine.schema.ColumnDescriptorImpl;
 import org.apache.ignite.internal.sql.engine.schema.DefaultValueStrategy;
 import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.apache.ignite.internal.sql.engine.schema.ModifyRow;
 import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManager;
 import org.apache.ignite.internal.sql.engine.schema.TableDescriptorImpl;
 import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
@@ -84,7 +97,9 @@ import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.HashFunctionFactory;
 import org.apache.ignite.internal.sql.engine.util.HashFunctionFactoryImpl;
 import org.apache.ignite.internal.sql.engine.util.LocalTxAttributesHolder;
+import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.testframework.IgniteTestUtils.RunnableX;
+import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.util.ArrayUtils;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.apache.ignite.lang.IgniteInternalException;
@@ -92,6 +107,7 @@ import org.apache.ignite.network.ClusterNode;
 import org.apache.ignite.network.NetworkAddress;
 import org.apache.ignite.network.NetworkMessage;
 import org.apache.ignite.network.TopologyService;
+import org.apache.ignite.sql.SqlException;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -117,7 +133,21 @@ public class ExecutionServiceImplTest {
     private final TestTable table = createTable("TEST_TBL", 1_000_000, IgniteDistributions.random(),
             "ID", NativeTypes.INT32, "VAL", NativeTypes.INT32);
 
-    private final IgniteSchema schema = new IgniteSchema("PUBLIC", Map.of(table.name(), table), null);
+    /** Rows of the key-value table by the primary key. */
+    private final Map<Object, Object[]> keyValueData = new ConcurrentHashMap<>();
+
+    /** Values of the binary rows passed to and returned by the key-value table. */
+    private final Map<BinaryRow, Object[]> binaryRows = new ConcurrentHashMap<>();
+
+    private final InternalTable keyValueInternalTable = mock(InternalTable.class);
+
+    private final TestTable keyValueTable = createKeyValueTable();
+
+    private final IgniteSchema schema = new IgniteSchema(
+            "PUBLIC",
+            Map.of(table.name(), table, keyValueTable.name(), keyValueTable),
+            null
+    );
 
     private TestCluster testCluster;
     private List<ExecutionServiceImpl<?>> executionServices;
@@ -366,6 +396,115 @@ public class ExecutionServiceImplTest {
                         .mapToInt(i -> i).sum() == 0, TIMEOUT_IN_MS));
     }
 
+    /**
+     * Reads a row by the primary key, with the rest of the condition evaluated on the fetched row.
+     */
+    @Test
+    public void testKeyValueGet() {
+        keyValueData.put(1, new Object[]{1, 10});
+
+        var execService = executionServices.get(0);
+
+        assertEquals(List.of(List.of(1, 10)), executeKeyValueGet(execService, "SELECT * FROM kv_tbl WHERE id = 1"));
+        assertEquals(List.of(List.of(10)), executeKeyValueGet(execService, "SELECT val FROM kv_tbl WHERE id = ?", 1));
+        assertEquals(List.of(), executeKeyValueGet(execService, "SELECT * FROM kv_tbl WHERE id = 2"));
+
+        // Post-fetch filter.
+        assertEquals(List.of(List.of(1, 10)), executeKeyValueGet(execService, "SELECT * FROM kv_tbl WHERE id = 1 AND val > 5"));
+        assertEquals(List.of(), executeKeyValueGet(execService, "SELECT * FROM kv_tbl WHERE id = 1 AND val > 10"));
+    }
+
+    /**
+     * A null key can't match any row, so the table is not accessed.
+     */
+    @Test
+    public void testKeyValueGetNullKey() {
+        keyValueData.put(1, new Object[]{1, 10});
+
+        assertEquals(List.of(), executeKeyValueGet(executionServices.get(0), "SELECT * FROM kv_tbl WHERE id = ?", (Object) null));
+
+        assertTrue(binaryRows.isEmpty());
+    }
+
+    /**
+     * The row is read in the transaction of the query, both read-only and read-write.
+     */
+    @Test
+    public void testKeyValueGetTransaction() {
+        keyValueData.put(1, new Object[]{1, 10});
+
+        var execService = executionServices.get(0);
+
+        for (InternalTransaction tx : List.of(
+                new LocalTxAttributesHolder(UUID.randomUUID(), null),
+                new LocalTxAttributesHolder(null, new HybridTimestamp(1, 0))
+        )) {
+            var ctx = createContext(tx, 1);
+            var plan = prepare("SELECT * FROM kv_tbl WHERE id = ?", ctx);
+
+            assertInstanceOf(KeyValueGetPlan.class, plan);
+
+            BatchedResult<List<Object>> res = await(execService.executePlan(plan, ctx).requestNextAsync(10));
+
+            assertNotNull(res);
+            assertEquals(List.of(List.of(1, 10)), res.items());
+
+            verify(keyValueInternalTable).get(any(), same(tx));
+        }
+    }
+
+    /**
+     * Inserts a row, and fails to insert another row with the same key.
+     */
+    @Test
+    public void testKeyValueInsert() {
+        var execService = executionServices.get(0);
+        var tx = new LocalTxAttributesHolder(UUID.randomUUID(), null);
+
+        var ctx = createContext(tx);
+        var plan = prepare("INSERT INTO kv_tbl VALUES (1, 10)", ctx);
+
+        assertInstanceOf(KeyValueModifyPlan.class, plan);
+
+        BatchedResult<List<Object>> res = await(execService.executePlan(plan, ctx).requestNextAsync(10));
+
+        assertNotNull(res);
+        assertEquals(List.of(List.of(1L)), res.items());
+        assertEquals(List.of(1, 10), List.of(keyValueData.get(1)));
+
+        verify(keyValueInternalTable).insert(any(), same(tx));
+
+        var ctx2 = createContext(tx);
+        var plan2 = prepare("INSERT INTO kv_tbl VALUES (1, 20)", ctx2);
+
+        var batchFut = execService.executePlan(plan2, ctx2).requestNextAsync(10);
+
+        await(batchFut.exceptionally(ex -> {
+            assertInstanceOf(CompletionException.class, ex);
+            assertInstanceOf(SqlException.class, ex.getCause());
+            assertEquals(DUPLICATE_KEYS_ERR, ((SqlException) ex.getCause()).code());
+
+            return null;
+        }));
+
+        assertTrue(batchFut.toCompletableFuture().isCompletedExceptionally());
+        assertEquals(List.of(1, 10), List.of(keyValueData.get(1)));
+    }
+
+    private List<List<Object>> executeKeyValueGet(ExecutionServiceImpl<?> execService, String sql, Object... params) {
+        var ctx = createContext(new LocalTxAttributesHolder(UUID.randomUUID(), null), params);
+        var plan = prepare(sql, ctx);
+
+        assertInstanceOf(KeyValueGetPlan.class, plan);
+
+        BatchedResult<List<Object>> res = await(execService.executePlan(plan, ctx).requestNextAsync(10));
+
+        assertNotNull(res);
+        assertFalse(res.hasMore());
+
+        return res.items();
+    }
+
     /** Creates an execution service instance for the node with given consistent id. */
     public ExecutionServiceImpl<Object[]> create(String nodeName) {
         if (!nodeNames.contains(nodeName)) {
@@ -413,6 +552,10 @@ public class ExecutionServiceImplTest {
     }
 
     private BaseQueryContext createContext() {
+        return createContext(new LocalTxAttributesHolder(UUID.randomUUID(), null));
+    }
+
+    private BaseQueryContext createContext(InternalTransaction tx, Object... params) {
         return BaseQueryContext.builder()
                 .cancel(new QueryCancel())
                 .frameworkConfig(
@@ -420,7 +563,8 @@ public class ExecutionServiceImplTest {
                                 .defaultSchema(wrap(schema))
                                 .build()
                 )
-                .transaction(new LocalTxAttributesHolder(UUID.randomUUID(), null))
+                .transaction(tx)
+                .parameters(params)
                 .logger(LOG)
                 .build();
     }
@@ -614,6 +758,69 @@ public class ExecutionServiceImplTest {
         }
     }
 
+    /**
+     * Creates a table with the {@code ID} primary key column and the {@code VAL} column, which keeps the rows in
+     * {@link #keyValueData}.
+     */
+    private TestTable createKeyValueTable() {
+        when(keyValueInternalTable.get(any(), any())).then(invocation -> {
+            Object[] key = binaryRows.get(invocation.<BinaryRow>getArgument(0));
+            Object[] row = keyValueData.get(key[0]);
+
+            return completedFuture(row == null ? null : toBinaryRow(row));
+        });
+
+        when(keyValueInternalTable.insert(any(), any())).then(invocation -> {
+            Object[] row = binaryRows.get(invocation.<BinaryRow>getArgument(0));
+
+            return completedFuture(keyValueData.putIfAbsent(row[0], row) == null);
+        });
+
+        List<ColumnDescriptor> columns = List.of(
+                new ColumnDescriptorImpl("ID", true, false, 0, 0, NativeTypes.INT32, DefaultValueStrategy.DEFAULT_NULL, null),
+                new ColumnDescriptorImpl("VAL", false, true, 1, 1, NativeTypes.INT32, DefaultValueStrategy.DEFAULT_NULL, null)
+        );
+
+        IgniteDistribution distr = IgniteDistributions.affinity(0, UUID.randomUUID(), 0);
+
+        return new TestTable(new TableDescriptorImpl(columns, distr), "KV_TBL", ColocationGroup.forNodes(nodeNames), 1_000_000) {
+            @Override
+            public InternalTable table() {
+                return keyValueInternalTable;
+            }
+
+            @Override
+            public <RowT> RowT toRow(ExecutionContext<RowT> ectx, BinaryRow row, RowFactory<RowT> factory,
+                    @Nullable BitSet requiredColumns) {
+                Object[] vals = binaryRows.get(row);
+
+                return factory.create(requiredColumns == null ? vals : requiredColumns.stream().mapToObj(i -> vals[i]).toArray());
+            }
+
+            @Override
+            public <RowT> ModifyRow toModifyRow(ExecutionContext<RowT> ectx, RowT row, TableModify.Operation op,
+                    @Nullable List<String> arg) {
+                RowHandler<RowT> hnd = ectx.rowHandler();
+
+                Object[] vals = new Object[hnd.columnCount(row)];
+
+                for (int i = 0; i < vals.length; i++) {
+                    vals[i] = hnd.get(i, row);
+                }
+
+                return new ModifyRow(toBinaryRow(vals), ModifyRow.Operation.INSERT_ROW);
+            }
+        };
+    }
+
+    private BinaryRowEx toBinaryRow(Object[] vals) {
+        BinaryRowEx row = mock(BinaryRowEx.class);
+
+        binaryRows.put(row, vals);
+
+        return row;
+    }
+
     /**
      * Creates test table with given params.
      *
@@ -56,6 +56,7 @@ import org.apache.ignite.internal.hlc.HybridClock;
 import org.apache.ignite.internal.index.IndexManager;
 import org.apache.ignite.internal.metastorage.MetaStorageManager;
 import org.apache.ignite.internal.metastorage.dsl.Operation;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.raft.Peer;
 import org.apache.ignite.internal.raft.RaftManager;
 import org.apache.ignite.internal.raft.service.RaftGroupService;
@@ -258,7 +259,10 @@ public class MockedStructuresTest extends IgniteAbstractTest {
                                 TestDataStorageConfigurationSchema.class
                         )
                 ),
-                clock
+                clock,
+                new MetricManager(),
+                workDir.resolve("sql-spill"),
+                msm
         );
 
         queryProc.start();
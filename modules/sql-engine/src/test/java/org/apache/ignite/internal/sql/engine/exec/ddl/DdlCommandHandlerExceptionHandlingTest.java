@@ -45,6 +45,7 @@ import org.apache.ignite.internal.schema.configuration.TableConfiguration;
 import org.apache.ignite.internal.schema.configuration.TableView;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.CreateZoneCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.DropZoneCommand;
+import org.apache.ignite.internal.sql.engine.statistic.StatisticsManager;
 import org.apache.ignite.internal.storage.DataStorageManager;
 import org.apache.ignite.internal.table.distributed.TableManager;
 import org.apache.ignite.internal.testframework.IgniteAbstractTest;
@@ -72,6 +73,9 @@ public class DdlCommandHandlerExceptionHandlingTest extends IgniteAbstractTest {
     @Mock
     private DataStorageManager dataStorageManager;
 
+    @Mock
+    private StatisticsManager statisticsManager;
+
     private DdlCommandHandler commandHandler;
 
     private static final String ZONE_NAME = "zone1";
@@ -112,7 +116,13 @@ public class DdlCommandHandlerExceptionHandlingTest extends IgniteAbstractTest {
                 "node"
         );
 
-        commandHandler = new DdlCommandHandler(distributionZoneManager, tableManager, indexManager, dataStorageManager);
+        commandHandler = new DdlCommandHandler(
+                distributionZoneManager,
+                tableManager,
+                indexManager,
+                dataStorageManager,
+                statisticsManager
+        );
     }
 
     @AfterEach
@@ -18,17 +18,36 @@
 package org.apache.ignite.internal.sql.engine.exec.exp;
 
 import static org.apache.ignite.internal.sql.engine.util.BaseQueryContext.CALCITE_CONNECTION_CONFIG;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeField;
 import org.apache.calcite.rel.type.RelDataTypeFieldImpl;
 import org.apache.calcite.rel.type.RelDataTypeSystem;
 import org.apache.calcite.rel.type.RelRecordType;
+import org.apache.calcite.rex.RexBuilder;
 import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
 import org.apache.calcite.sql.type.SqlTypeName;
 import org.apache.calcite.sql.validate.SqlConformanceEnum;
+import org.apache.ignite.internal.sql.engine.exec.ArrayRowHandler;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.batch.BatchPredicate;
+import org.apache.ignite.internal.sql.engine.exec.batch.ColumnBatch;
+import org.apache.ignite.internal.sql.engine.exec.batch.DoubleVector;
+import org.apache.ignite.internal.sql.engine.exec.batch.LongVector;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeSystem;
 import org.junit.jupiter.api.BeforeEach;
@@ -74,4 +93,163 @@ public class ExpressionFactoryImplTest {
 
         assertNotSame(scalar1, scalar2);
     }
+
+    @Test
+    public void testLiteralsParameterization() {
+        ExpressionCache cache = new ExpressionCache(16);
+
+        ExpressionFactoryImpl<Object[]> factory = new ExpressionFactoryImpl<>(null, typeFactory, SqlConformanceEnum.DEFAULT, cache);
+
+        RelDataType intType = typeFactory.createSqlType(SqlTypeName.INTEGER);
+        RelRecordType type = new RelRecordType(List.of(new RelDataTypeFieldImpl("ID", 0, intType)));
+
+        RexBuilder rexBuilder = new RexBuilder(typeFactory);
+        RexNode ref = rexBuilder.makeInputRef(intType, 0);
+
+        SingleScalar plusOne = factory.scalar(List.of(
+                rexBuilder.makeCall(SqlStdOperatorTable.PLUS, ref, rexBuilder.makeExactLiteral(BigDecimal.ONE, intType))), type);
+
+        SingleScalar plusTwo = factory.scalar(List.of(
+                rexBuilder.makeCall(SqlStdOperatorTable.PLUS, ref, rexBuilder.makeExactLiteral(BigDecimal.valueOf(2), intType))), type);
+
+        assertSame(plusOne.getClass(), plusTwo.getClass());
+        assertEquals(1, cache.size());
+
+        ExecutionContext<Object[]> ctx = mock(ExecutionContext.class);
+
+        when(ctx.rowHandler()).thenReturn(ArrayRowHandler.INSTANCE);
+
+        Object[] out = new Object[1];
+
+        plusOne.execute(ctx, new Object[]{10}, out);
+        assertEquals(11, out[0]);
+
+        plusTwo.execute(ctx, new Object[]{10}, out);
+        assertEquals(12, out[0]);
+    }
+
+    @Test
+    public void testLiteralSensitiveFunctionsParameterization() {
+        RelDataType varcharType = typeFactory.createTypeWithNullability(typeFactory.createSqlType(SqlTypeName.VARCHAR), true);
+        RelDataType intType = typeFactory.createTypeWithNullability(typeFactory.createSqlType(SqlTypeName.INTEGER), true);
+        RelRecordType type = new RelRecordType(List.of(new RelDataTypeFieldImpl("NAME", 0, varcharType)));
+
+        RexBuilder rexBuilder = new RexBuilder(typeFactory);
+        RexNode ref = rexBuilder.makeInputRef(varcharType, 0);
+
+        // NAME LIKE 'a%', NAME LIKE 'b%'
+        assertLiteralsParameterized(type, new Object[]{"abc"},
+                rexBuilder.makeCall(SqlStdOperatorTable.LIKE, ref, rexBuilder.makeLiteral("a%")), true,
+                rexBuilder.makeCall(SqlStdOperatorTable.LIKE, ref, rexBuilder.makeLiteral("b%")), false);
+
+        // SUBSTRING(NAME FROM 1 FOR 2), SUBSTRING(NAME FROM 2 FOR 1)
+        assertLiteralsParameterized(type, new Object[]{"abc"},
+                rexBuilder.makeCall(SqlStdOperatorTable.SUBSTRING, ref,
+                        rexBuilder.makeExactLiteral(BigDecimal.ONE), rexBuilder.makeExactLiteral(BigDecimal.valueOf(2))), "ab",
+                rexBuilder.makeCall(SqlStdOperatorTable.SUBSTRING, ref,
+                        rexBuilder.makeExactLiteral(BigDecimal.valueOf(2)), rexBuilder.makeExactLiteral(BigDecimal.ONE)), "b");
+
+        // CAST('12' AS INTEGER), CAST('34' AS INTEGER)
+        assertLiteralsParameterized(type, new Object[]{"abc"},
+                rexBuilder.makeAbstractCast(intType, rexBuilder.makeLiteral("12")), 12,
+                rexBuilder.makeAbstractCast(intType, rexBuilder.makeLiteral("34")), 34);
+
+        // CAST(1 AS INTEGER), CAST(2 AS INTEGER), the cast differs from the literal type by nullability only.
+        RelDataType notNullIntType = typeFactory.createSqlType(SqlTypeName.INTEGER);
+
+        assertLiteralsParameterized(type, new Object[]{"abc"},
+                rexBuilder.makeAbstractCast(intType, rexBuilder.makeExactLiteral(BigDecimal.ONE, notNullIntType)), 1,
+                rexBuilder.makeAbstractCast(intType, rexBuilder.makeExactLiteral(BigDecimal.valueOf(2), notNullIntType)), 2);
+
+        // 1.5 and 2.5 typed as DECIMAL(5, 2), the parameterized value is scaled the same way as the inlined one.
+        RelDataType decimalType = typeFactory.createSqlType(SqlTypeName.DECIMAL, 5, 2);
+
+        assertLiteralsParameterized(type, new Object[]{"abc"},
+                rexBuilder.makeExactLiteral(new BigDecimal("1.5"), decimalType), new BigDecimal("1.50"),
+                rexBuilder.makeExactLiteral(new BigDecimal("2.5"), decimalType), new BigDecimal("2.50"));
+    }
+
+    /**
+     * Checks that the given expressions, which differ in literals only, share the compiled code and are evaluated to the expected
+     * values.
+     */
+    private void assertLiteralsParameterized(
+            RelDataType type,
+            Object[] row,
+            RexNode first,
+            Object firstExpected,
+            RexNode second,
+            Object secondExpected
+    ) {
+        ExpressionCache cache = new ExpressionCache(16);
+
+        ExpressionFactoryImpl<Object[]> factory = new ExpressionFactoryImpl<>(null, typeFactory, SqlConformanceEnum.DEFAULT, cache);
+
+        SingleScalar firstScalar = factory.scalar(List.of(first), type);
+        SingleScalar secondScalar = factory.scalar(List.of(second), type);
+
+        assertSame(firstScalar.getClass(), secondScalar.getClass(), first + " vs " + second);
+        assertEquals(1, cache.size());
+
+        ExecutionContext<Object[]> ctx = mock(ExecutionContext.class);
+
+        when(ctx.rowHandler()).thenReturn(ArrayRowHandler.INSTANCE);
+
+        Object[] out = new Object[1];
+
+        firstScalar.execute(ctx, row, out);
+        assertEquals(firstExpected, out[0], first.toString());
+
+        secondScalar.execute(ctx, row, out);
+        assertEquals(secondExpected, out[0], second.toString());
+    }
+
+    @Test
+    public void testBatchPredicate() {
+        RelRecordType type = new RelRecordType(Arrays.asList(
+                new RelDataTypeFieldImpl("ID", 0, typeFactory.createSqlType(SqlTypeName.INTEGER)),
+                new RelDataTypeFieldImpl("VAL", 1, typeFactory.createSqlType(SqlTypeName.DOUBLE)),
+                new RelDataTypeFieldImpl("NAME", 2, typeFactory.createSqlType(SqlTypeName.VARCHAR))
+        ));
+
+        RexBuilder rexBuilder = new RexBuilder(typeFactory);
+
+        // ID > 2 AND 10.5 >= VAL AND NAME IS NOT NULL, the last conjunct can't be evaluated on vectors.
+        RexNode filter = rexBuilder.makeCall(SqlStdOperatorTable.AND,
+                rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN,
+                        rexBuilder.makeInputRef(type, 0), rexBuilder.makeExactLiteral(BigDecimal.valueOf(2))),
+                rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN_OR_EQUAL,
+                        rexBuilder.makeApproxLiteral(new BigDecimal("10.5")), rexBuilder.makeInputRef(type, 1)),
+                rexBuilder.makeCall(SqlStdOperatorTable.IS_NOT_NULL, rexBuilder.makeInputRef(type, 2)));
+
+        BatchPredicate pred = expFactory.batchPredicate(filter, type);
+
+        assertNotNull(pred);
+
+        ColumnBatch batch = pred.newBatch(8);
+
+        assertNull(batch.column(2));
+
+        batch.reset(6);
+
+        LongVector ids = (LongVector) batch.column(0);
+        DoubleVector vals = (DoubleVector) batch.column(1);
+
+        for (int i = 0; i < 6; i++) {
+            ids.set(i, i);
+            vals.set(i, 7 + i);
+        }
+
+        ids.setNull(4);
+
+        pred.filter(batch);
+
+        // Rows 0-2 are rejected by ID, row 4 has NULL ID, row 5 is rejected by VAL.
+        assertEquals(1, batch.selectedCount());
+        assertArrayEquals(new int[] {3}, Arrays.copyOf(batch.selection(), batch.selectedCount()));
+
+        RexNode unsupported = rexBuilder.makeCall(SqlStdOperatorTable.IS_NOT_NULL, rexBuilder.makeInputRef(type, 2));
+
+        assertNull(expFactory.batchPredicate(unsupported, type));
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.sql.engine.exec.ArrayRowHandler;
+import org.apache.ignite.internal.sql.engine.exec.ExchangeService;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.MailboxRegistry;
+import org.apache.ignite.internal.sql.engine.exec.spill.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.trait.AllNodes;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test Outbox batching.
+ */
+public class OutboxExecutionTest extends AbstractExecutionTest {
+    private static final String TARGET_NODE_NAME = "N1";
+
+    /** Tests a batch is sent once the estimated size of its rows reaches the limit. */
+    @Test
+    public void testBatchClosedOnByteLimit() throws Exception {
+        Object[] row = row(1, "x".repeat(1_000));
+        long rowSize = RowSizeEstimator.estimate(ArrayRowHandler.INSTANCE, row);
+        int rowsPerBatch = (int) ((Outbox.BATCH_BYTES + rowSize - 1) / rowSize);
+
+        assertTrue(rowsPerBatch > 1 && rowsPerBatch < Outbox.MAX_BATCH_ROWS, "rowsPerBatch=" + rowsPerBatch);
+
+        List<Object[]> data = new ArrayList<>();
+
+        for (int i = 0; i < 3 * rowsPerBatch + 5; i++) {
+            data.add(row);
+        }
+
+        assertEquals(List.of(rowsPerBatch, rowsPerBatch, rowsPerBatch, 5), sendBatches(data));
+    }
+
+    /** Tests a batch of narrow rows is sent once it reaches the maximal number of rows. */
+    @Test
+    public void testBatchClosedOnRowsLimit() throws Exception {
+        Object[] row = row();
+
+        assertTrue(Outbox.MAX_BATCH_ROWS * RowSizeEstimator.estimate(ArrayRowHandler.INSTANCE, row) < Outbox.BATCH_BYTES);
+
+        List<Object[]> data = new ArrayList<>();
+
+        for (int i = 0; i < 2 * Outbox.MAX_BATCH_ROWS + 1; i++) {
+            data.add(row);
+        }
+
+        assertEquals(List.of(Outbox.MAX_BATCH_ROWS, Outbox.MAX_BATCH_ROWS, 1), sendBatches(data));
+    }
+
+    /** Tests a row exceeding the size limit on its own is sent in a batch of a single row. */
+    @Test
+    public void testOversizedRow() throws Exception {
+        Object[] row = row(1, "x".repeat((int) Outbox.BATCH_BYTES));
+
+        assertEquals(List.of(1, 1, 1, 0), sendBatches(List.of(row, row, row)));
+    }
+
+    /** Sends all the rows through an outbox and returns sizes of the sent batches. */
+    private List<Integer> sendBatches(List<Object[]> data) throws Exception {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        List<Integer> batchSizes = new ArrayList<>();
+        CompletableFuture<Void> lastSent = new CompletableFuture<>();
+
+        ExchangeService exchange = mock(ExchangeService.class);
+
+        doAnswer(invocation -> {
+            List<?> rows = invocation.getArgument(6);
+
+            batchSizes.add(rows.size());
+
+            if (invocation.<Boolean>getArgument(5)) {
+                lastSent.complete(null);
+            }
+
+            return null;
+        }).when(exchange).sendBatch(any(), any(), anyLong(), anyLong(), anyInt(), anyBoolean(), any());
+
+        Outbox<Object[]> outbox = new Outbox<>(ctx, exchange, mock(MailboxRegistry.class), 0, 1,
+                new AllNodes<>(List.of(TARGET_NODE_NAME)));
+
+        outbox.register(new ScanNode<>(ctx, data));
+
+        await(ctx.submit(() -> outbox.onRequest(TARGET_NODE_NAME, 1_000), outbox::onError));
+
+        await(lastSent);
+
+        return batchSizes;
+    }
+}
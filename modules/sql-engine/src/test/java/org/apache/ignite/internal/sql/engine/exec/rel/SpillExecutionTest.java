@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static java.lang.StackWalker.Option.RETAIN_CLASS_REFERENCE;
+import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.MAP;
+import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.REDUCE;
+import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.SINGLE;
+import static org.apache.ignite.internal.util.ArrayUtils.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.spill.QueryMemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillFile;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the operators spilling to disk once the query memory quota is exceeded.
+ */
+public class SpillExecutionTest extends AbstractExecutionTest {
+    /** Quota which is exceeded after a few dozens of rows. */
+    private static final long QUOTA = 4 * 1024;
+
+    private static final int ROWS = 5_000;
+
+    private SpillManager spillManager;
+
+    private MetricSet metrics;
+
+    @BeforeEach
+    public void startSpillManager() {
+        spillManager = new SpillManager(workDir.resolve("spill"));
+
+        spillManager.start();
+
+        metrics = spillManager.metricSource().enable();
+    }
+
+    @AfterEach
+    public void stopSpillManager() {
+        spillManager.stop();
+    }
+
+    @Test
+    public void sort() {
+        ExecutionContext<Object[]> ctx = executionContext(new QueryMemoryTracker(QUOTA), spillManager);
+
+        List<Object[]> data = IntStream.range(0, ROWS).mapToObj(i -> row(i, "val_" + i)).collect(Collectors.toList());
+
+        Collections.shuffle(data, new Random(0));
+
+        SortNode<Object[]> sort = new SortNode<>(ctx, (r1, r2) -> Integer.compare((int) r1[0], (int) r2[0]));
+        sort.register(new ScanNode<>(ctx, data));
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(sort);
+
+        for (int i = 0; i < ROWS; i++) {
+            assertTrue(root.hasNext());
+
+            Object[] row = root.next();
+
+            assertEquals(i, row[0]);
+            assertEquals("val_" + i, row[1]);
+        }
+
+        assertTrue(!root.hasNext());
+
+        checkSpilled();
+    }
+
+    @Test
+    public void hashAggregate() {
+        ExecutionContext<Object[]> ctx = executionContext(new QueryMemoryTracker(QUOTA), spillManager);
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, int.class, int.class);
+
+        int groups = ROWS / 10;
+
+        List<Object[]> data = IntStream.range(0, ROWS).mapToObj(i -> row(i % groups, i)).collect(Collectors.toList());
+
+        AggregateCall call = AggregateCall.create(
+                SqlStdOperatorTable.COUNT,
+                false,
+                false,
+                false,
+                ImmutableIntList.of(),
+                -1,
+                null,
+                RelCollations.EMPTY,
+                tf.createJavaType(int.class),
+                null);
+
+        List<ImmutableBitSet> grpSets = List.of(ImmutableBitSet.of(0));
+
+        // Colocated aggregation.
+        HashAggregateNode<Object[]> single = new HashAggregateNode<>(ctx, SINGLE, grpSets,
+                ctx.expressionFactory().accumulatorsFactory(SINGLE, asList(call), rowType), rowFactory());
+        single.register(new ScanNode<>(ctx, data));
+
+        checkGroups(ctx, single, groups, 10);
+
+        // Map-reduce aggregation.
+        HashAggregateNode<Object[]> map = new HashAggregateNode<>(ctx, MAP, grpSets,
+                ctx.expressionFactory().accumulatorsFactory(MAP, asList(call), rowType), rowFactory());
+        map.register(new ScanNode<>(ctx, data));
+
+        HashAggregateNode<Object[]> reduce = new HashAggregateNode<>(ctx, REDUCE, grpSets,
+                ctx.expressionFactory().accumulatorsFactory(REDUCE, asList(call), null), rowFactory());
+        reduce.register(map);
+
+        checkGroups(ctx, reduce, groups, 10);
+
+        checkSpilled();
+    }
+
+    /**
+     * Tests that the sort above a spilled aggregation, which holds the quota until its groups are emitted, doesn't spill a run per row.
+     */
+    @Test
+    public void hashAggregateWithSort() throws Exception {
+        AtomicInteger sortFiles = new AtomicInteger();
+        AtomicInteger aggregateFiles = new AtomicInteger();
+
+        SpillManager countingSpillManager = new SpillManager(workDir.resolve("spill-agg-sort")) {
+            @Override
+            public <RowT> SpillFile<RowT> createFile(ExecutionContext<RowT> ctx) throws IOException {
+                Class<?> caller = StackWalker.getInstance(RETAIN_CLASS_REFERENCE)
+                        .walk(frames -> frames.skip(1).findFirst())
+                        .orElseThrow()
+                        .getDeclaringClass();
+
+                (caller == SortNode.class ? sortFiles : aggregateFiles).incrementAndGet();
+
+                return super.createFile(ctx);
+            }
+        };
+
+        countingSpillManager.start();
+
+        try {
+            ExecutionContext<Object[]> ctx = executionContext(new QueryMemoryTracker(QUOTA), countingSpillManager);
+            IgniteTypeFactory tf = ctx.getTypeFactory();
+            RelDataType rowType = TypeUtils.createRowType(tf, int.class, int.class);
+
+            int groups = ROWS / 10;
+
+            List<Object[]> data = IntStream.range(0, ROWS).mapToObj(i -> row(i % groups, i)).collect(Collectors.toList());
+
+            AggregateCall call = AggregateCall.create(
+                    SqlStdOperatorTable.COUNT,
+                    false,
+                    false,
+                    false,
+                    ImmutableIntList.of(),
+                    -1,
+                    null,
+                    RelCollations.EMPTY,
+                    tf.createJavaType(int.class),
+                    null);
+
+            // SELECT grp, COUNT(*) FROM t GROUP BY grp ORDER BY grp
+            HashAggregateNode<Object[]> aggregate = new HashAggregateNode<>(ctx, SINGLE, List.of(ImmutableBitSet.of(0)),
+                    ctx.expressionFactory().accumulatorsFactory(SINGLE, asList(call), rowType), rowFactory());
+            aggregate.register(new ScanNode<>(ctx, data));
+
+            SortNode<Object[]> sort = new SortNode<>(ctx, (r1, r2) -> Integer.compare((int) r1[0], (int) r2[0]));
+            sort.register(aggregate);
+
+            RootNode<Object[]> root = new RootNode<>(ctx);
+            root.register(sort);
+
+            for (int i = 0; i < groups; i++) {
+                assertTrue(root.hasNext());
+
+                Object[] row = root.next();
+
+                assertEquals(i, row[0]);
+                assertEquals(10, ((Number) row[1]).intValue());
+            }
+
+            assertTrue(!root.hasNext());
+
+            assertTrue(aggregateFiles.get() > 0, "Aggregate was not spilled");
+
+            // A run holds no less than a quarter of the quota, so there are a few dozens of runs at most, instead of a run per group.
+            assertTrue(sortFiles.get() <= groups / 10, "Too many sort runs: " + sortFiles.get());
+
+            assertEquals(0, countingSpillManager.diskUsage());
+        } finally {
+            countingSpillManager.stop();
+        }
+    }
+
+    @Test
+    public void setOperators() {
+        ExecutionContext<Object[]> ctx = executionContext(new QueryMemoryTracker(QUOTA), spillManager);
+
+        List<Object[]> all = IntStream.range(0, ROWS).mapToObj(i -> row(i)).collect(Collectors.toList());
+        List<Object[]> even = IntStream.range(0, ROWS).filter(i -> i % 2 == 0).mapToObj(i -> row(i)).collect(Collectors.toList());
+
+        List<Integer> expIntersect = IntStream.range(0, ROWS).filter(i -> i % 2 == 0).boxed().collect(Collectors.toList());
+        List<Integer> expMinus = IntStream.range(0, ROWS).filter(i -> i % 2 != 0).boxed().collect(Collectors.toList());
+
+        IntersectNode<Object[]> intersect = new IntersectNode<>(ctx, SINGLE, false, rowFactory(), 2);
+        intersect.register(List.of(new ScanNode<>(ctx, all), new ScanNode<>(ctx, even)));
+
+        assertEquals(expIntersect, collectFirstColumn(ctx, intersect));
+
+        MinusNode<Object[]> minus = new MinusNode<>(ctx, SINGLE, false, rowFactory());
+        minus.register(List.of(new ScanNode<>(ctx, all), new ScanNode<>(ctx, even)));
+
+        assertEquals(expMinus, collectFirstColumn(ctx, minus));
+
+        MinusNode<Object[]> minusMap = new MinusNode<>(ctx, MAP, false, rowFactory());
+        minusMap.register(List.of(new ScanNode<>(ctx, all), new ScanNode<>(ctx, even)));
+
+        MinusNode<Object[]> minusReduce = new MinusNode<>(ctx, REDUCE, false, rowFactory());
+        minusReduce.register(List.of(minusMap));
+
+        assertEquals(expMinus, collectFirstColumn(ctx, minusReduce));
+
+        checkSpilled();
+    }
+
+    private void checkGroups(ExecutionContext<Object[]> ctx, Node<Object[]> node, int groups, int groupSize) {
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(node);
+
+        int[] counts = new int[groups];
+
+        while (root.hasNext()) {
+            Object[] row = root.next();
+
+            counts[(int) row[0]] += ((Number) row[1]).intValue();
+        }
+
+        for (int i = 0; i < groups; i++) {
+            assertEquals(groupSize, counts[i], "Unexpected group size: " + i);
+        }
+    }
+
+    private List<Integer> collectFirstColumn(ExecutionContext<Object[]> ctx, Node<Object[]> node) {
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(node);
+
+        List<Integer> res = new ArrayList<>();
+
+        while (root.hasNext()) {
+            res.add((Integer) root.next()[0]);
+        }
+
+        Collections.sort(res);
+
+        return res;
+    }
+
+    private void checkSpilled() {
+        LongMetric spilledBytes = metrics.get("SpilledBytes");
+
+        assertTrue(spilledBytes.value() > 0, "Nothing was spilled");
+
+        // Spill files must be removed once the operators are done.
+        assertEquals(0, spillManager.diskUsage());
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.assertThrowsWithCause;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType;
+import org.apache.ignite.internal.sql.engine.exec.rel.WindowNode.Frame;
+import org.apache.ignite.internal.sql.engine.exec.rel.WindowNode.FunctionType;
+import org.apache.ignite.internal.sql.engine.exec.rel.WindowNode.WindowFunction;
+import org.apache.ignite.internal.sql.engine.exec.spill.QueryMemoryTracker;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.lang.IgniteInternalException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test WindowNode execution.
+ */
+public class WindowExecutionTest extends AbstractExecutionTest {
+    /** Tests ranking functions over the partitions. */
+    @Test
+    public void testRanking() {
+        ExecutionContext<Object[]> ctx = executionContext(true);
+
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, Arrays.asList(
+                row(0, 1),
+                row(0, 1),
+                row(0, 2),
+                row(1, 5),
+                row(1, 6)
+        ));
+
+        WindowNode<Object[]> window = new WindowNode<>(
+                ctx,
+                Comparator.comparing(r -> (Integer) r[0]),
+                Comparator.<Object[], Integer>comparing(r -> (Integer) r[0]).thenComparing(r -> (Integer) r[1]),
+                List.of(
+                        new WindowFunction(FunctionType.ROW_NUMBER, new int[0]),
+                        new WindowFunction(FunctionType.RANK, new int[0]),
+                        new WindowFunction(FunctionType.DENSE_RANK, new int[0])
+                ),
+                new Frame(false, null, 0L),
+                null,
+                rowFactory()
+        );
+
+        window.register(scan);
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(window);
+
+        assertArrayEquals(row(0, 1, 1L, 1L, 1L), root.next());
+        assertArrayEquals(row(0, 1, 2L, 1L, 1L), root.next());
+        assertArrayEquals(row(0, 2, 3L, 3L, 2L), root.next());
+        assertArrayEquals(row(1, 5, 1L, 1L, 1L), root.next());
+        assertArrayEquals(row(1, 6, 2L, 2L, 2L), root.next());
+
+        assertFalse(root.hasNext());
+    }
+
+    /** Tests LAG and LEAD functions with the default offset and with the given offset and default value. */
+    @Test
+    public void testLagLead() {
+        ExecutionContext<Object[]> ctx = executionContext(true);
+
+        // Columns: partition, value, offset, default value.
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, Arrays.asList(
+                row(0, 10, 2, -1),
+                row(0, 20, 2, -1),
+                row(0, 30, 2, -1),
+                row(1, 40, 2, -1)
+        ));
+
+        WindowNode<Object[]> window = new WindowNode<>(
+                ctx,
+                Comparator.comparing(r -> (Integer) r[0]),
+                null,
+                List.of(
+                        new WindowFunction(FunctionType.LAG, new int[] {1}),
+                        new WindowFunction(FunctionType.LEAD, new int[] {1, 2, 3})
+                ),
+                new Frame(true, null, null),
+                null,
+                rowFactory()
+        );
+
+        window.register(scan);
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(window);
+
+        assertArrayEquals(row(0, 10, 2, -1, null, 30), root.next());
+        assertArrayEquals(row(0, 20, 2, -1, 10, -1), root.next());
+        assertArrayEquals(row(0, 30, 2, -1, 20, -1), root.next());
+        assertArrayEquals(row(1, 40, 2, -1, null, -1), root.next());
+
+        assertFalse(root.hasNext());
+    }
+
+    /** Tests the partitions are accounted against the query memory quota. */
+    @Test
+    public void testMemoryQuota() throws Exception {
+        QueryMemoryTracker tracker = new QueryMemoryTracker(4 * 1024);
+
+        // Many small partitions, the memory is released once a partition is processed.
+        List<Object[]> data = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            data.add(row(i, i));
+        }
+
+        RootNode<Object[]> root = rowNumberOverPartitions(executionContext(tracker, null), data);
+
+        for (int i = 0; i < data.size(); i++) {
+            assertArrayEquals(row(i, i, 1L), root.next());
+        }
+
+        assertFalse(root.hasNext());
+        assertEquals(0, tracker.reserved());
+
+        // Single partition exceeding the quota.
+        data.clear();
+
+        for (int i = 0; i < 1_000; i++) {
+            data.add(row(0, i));
+        }
+
+        RootNode<Object[]> failing = rowNumberOverPartitions(executionContext(tracker, null), data);
+
+        assertThrowsWithCause(failing::hasNext, IgniteInternalException.class, "Query memory quota exceeded");
+
+        // The failed node is closed asynchronously.
+        assertTrue(waitForCondition(() -> tracker.reserved() == 0, 10_000));
+    }
+
+    private RootNode<Object[]> rowNumberOverPartitions(ExecutionContext<Object[]> ctx, List<Object[]> data) {
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, data);
+
+        WindowNode<Object[]> window = new WindowNode<>(
+                ctx,
+                Comparator.comparing(r -> (Integer) r[0]),
+                Comparator.<Object[], Integer>comparing(r -> (Integer) r[0]).thenComparing(r -> (Integer) r[1]),
+                List.of(new WindowFunction(FunctionType.ROW_NUMBER, new int[0])),
+                new Frame(false, null, 0L),
+                null,
+                rowFactory()
+        );
+
+        window.register(scan);
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(window);
+
+        return root;
+    }
+
+    /** Tests aggregates over the sliding frames are the same as the ones computed from scratch for every row. */
+    @Test
+    public void testSlidingFrames() {
+        checkSlidingFrame(true, -2L, 0L);
+        checkSlidingFrame(true, -1L, 1L);
+        checkSlidingFrame(true, 1L, 3L);
+        checkSlidingFrame(true, -3L, -1L);
+        checkSlidingFrame(true, null, 0L);
+        checkSlidingFrame(true, 0L, null);
+        checkSlidingFrame(true, null, null);
+        checkSlidingFrame(false, null, 0L);
+        checkSlidingFrame(false, 0L, null);
+        checkSlidingFrame(false, 0L, 0L);
+    }
+
+    private void checkSlidingFrame(boolean rows, Long lower, Long upper) {
+        ExecutionContext<Object[]> ctx = executionContext(true);
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, int.class, int.class);
+
+        // Partitions of different sizes, every third row has the same order key as the previous one.
+        List<Object[]> data = new ArrayList<>();
+
+        for (int part = 0, rowsCnt = 1; part < 4; part++, rowsCnt *= 7) {
+            for (int i = 0; i < rowsCnt; i++) {
+                data.add(row(part, i - i / 3));
+            }
+        }
+
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, data);
+
+        List<AggregateCall> calls = List.of(
+                aggCall(SqlStdOperatorTable.SUM, 1, tf.createJavaType(Integer.class)),
+                aggCall(SqlStdOperatorTable.COUNT, 1, tf.createJavaType(long.class)),
+                aggCall(SqlStdOperatorTable.MIN, 1, tf.createJavaType(Integer.class))
+        );
+
+        WindowNode<Object[]> window = new WindowNode<>(
+                ctx,
+                Comparator.comparing(r -> (Integer) r[0]),
+                Comparator.<Object[], Integer>comparing(r -> (Integer) r[0]).thenComparing(r -> (Integer) r[1]),
+                List.of(
+                        new WindowFunction(FunctionType.AGGREGATE, new int[] {1}),
+                        new WindowFunction(FunctionType.AGGREGATE, new int[] {1}),
+                        new WindowFunction(FunctionType.AGGREGATE, new int[] {1})
+                ),
+                new Frame(rows, lower, upper),
+                ctx.expressionFactory().accumulatorsFactory(AggregateType.WINDOW, calls, rowType),
+                rowFactory()
+        );
+
+        window.register(scan);
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(window);
+
+        for (int i = 0; i < data.size(); i++) {
+            int from = i;
+            int to = i;
+
+            if (rows) {
+                from = lower == null ? 0 : (int) (i + lower);
+                to = upper == null ? data.size() - 1 : (int) (i + upper);
+            } else {
+                while (from > 0 && peers(data, from - 1, i)) {
+                    from--;
+                }
+
+                while (to < data.size() - 1 && peers(data, to + 1, i)) {
+                    to++;
+                }
+
+                if (lower == null) {
+                    from = 0;
+                }
+
+                if (upper == null) {
+                    to = data.size() - 1;
+                }
+            }
+
+            Integer sum = null;
+            long cnt = 0;
+            Integer min = null;
+
+            for (int j = Math.max(from, 0); j <= to && j < data.size(); j++) {
+                if (!data.get(j)[0].equals(data.get(i)[0])) {
+                    continue;
+                }
+
+                int val = (Integer) data.get(j)[1];
+
+                sum = sum == null ? val : sum + val;
+                cnt++;
+                min = min == null ? val : Math.min(min, val);
+            }
+
+            assertTrue(root.hasNext());
+            assertArrayEquals(row(data.get(i)[0], data.get(i)[1], sum, cnt, min), root.next(),
+                    "rows=" + rows + ", lower=" + lower + ", upper=" + upper + ", row=" + i);
+        }
+
+        assertFalse(root.hasNext());
+    }
+
+    private static boolean peers(List<Object[]> data, int i, int j) {
+        return Arrays.equals(data.get(i), data.get(j));
+    }
+
+    private static AggregateCall aggCall(SqlAggFunction fun, int arg, RelDataType type) {
+        return AggregateCall.create(
+                fun,
+                false,
+                false,
+                false,
+                ImmutableIntList.of(arg),
+                -1,
+                null,
+                RelCollations.EMPTY,
+                type,
+                null);
+    }
+}
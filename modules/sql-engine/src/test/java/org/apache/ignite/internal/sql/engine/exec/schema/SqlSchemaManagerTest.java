@@ -59,6 +59,7 @@ import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTableImpl;
 import org.apache.ignite.internal.sql.engine.schema.InternalIgniteTable;
 import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManagerImpl;
+import org.apache.ignite.internal.sql.engine.statistic.StatisticsManager;
 import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.table.TableImpl;
 import org.apache.ignite.internal.table.distributed.TableManager;
@@ -104,6 +105,9 @@ public class SqlSchemaManagerTest {
     @Mock
     SchemaRegistryImpl schemaRegistry;
 
+    @Mock
+    private StatisticsManager statisticsManager;
+
     private SqlSchemaManagerImpl sqlSchemaManager;
 
     private TestRevisionRegister testRevisionRegister;
@@ -121,7 +125,8 @@ public class SqlSchemaManagerTest {
                 tableManager,
                 schemaManager,
                 testRevisionRegister,
-                busyLock
+                busyLock,
+                statisticsManager
         );
 
         testRevisionRegister.moveForward();
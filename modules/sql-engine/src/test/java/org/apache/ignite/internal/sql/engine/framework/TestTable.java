@@ -44,6 +44,7 @@ import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.batch.ColumnBatch;
 import org.apache.ignite.internal.sql.engine.metadata.ColocationGroup;
 import org.apache.ignite.internal.sql.engine.prepare.MappingQueryContext;
 import org.apache.ignite.internal.sql.engine.rel.logical.IgniteLogicalIndexScan;
@@ -292,6 +293,12 @@ public class TestTable implements InternalIgniteTable {
         throw new AssertionError();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void toColumns(List<BinaryRow> rows, ColumnBatch batch, @Nullable BitSet requiredColumns) {
+        throw new AssertionError();
+    }
+
     /** {@inheritDoc} */
     @Override
     public <RowT> ModifyRow toModifyRow(ExecutionContext<RowT> ectx, RowT row, Operation op, @Nullable List<String> arg) {
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.planner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+import java.util.List;
+import java.util.UUID;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.ignite.internal.sql.engine.prepare.KeyValueGetPlan;
+import org.apache.ignite.internal.sql.engine.prepare.KeyValuePlanFactory;
+import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
+import org.apache.ignite.internal.sql.engine.schema.ColumnDescriptor;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.apache.ignite.internal.sql.engine.schema.TableDescriptor;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests recognition of the queries which read a single row by the primary key.
+ */
+public class KeyValuePlanTest extends AbstractPlannerTest {
+    private IgniteSchema publicSchema;
+
+    @BeforeEach
+    public void setup() {
+        IgniteTypeFactory f = new IgniteTypeFactory(IgniteTypeSystem.INSTANCE);
+
+        TestTable tbl = new TestTable("TEST", new RelDataTypeFactory.Builder(f)
+                .add("ID1", f.createSqlType(SqlTypeName.INTEGER))
+                .add("ID2", f.createSqlType(SqlTypeName.VARCHAR))
+                .add("VAL", f.createSqlType(SqlTypeName.VARCHAR))
+                .build(), 1_000_000) {
+            private final TableDescriptor desc = keyDescriptor(super.descriptor(), 0, 1);
+
+            @Override
+            public TableDescriptor descriptor() {
+                return desc;
+            }
+
+            @Override
+            public IgniteDistribution distribution() {
+                return IgniteDistributions.affinity(0, UUID.randomUUID(), DEFAULT_ZONE_ID);
+            }
+        };
+
+        publicSchema = new IgniteSchema("PUBLIC");
+
+        publicSchema.addTable(tbl);
+    }
+
+    @Test
+    public void testKeyLookup() throws Exception {
+        KeyValueGetPlan plan = plan("SELECT * FROM TEST WHERE ID1 = 1 AND ID2 = 'a'", List.of());
+
+        assertNotNull(plan);
+        assertEquals(List.of(0, 1), plan.keyColumns());
+        assertInstanceOf(RexLiteral.class, plan.keyExpressions().get(0));
+        assertInstanceOf(RexLiteral.class, plan.keyExpressions().get(1));
+
+        plan = plan("SELECT VAL FROM TEST WHERE ID2 = ? AND ID1 = ?", List.of("a", 1));
+
+        assertNotNull(plan);
+        assertInstanceOf(RexDynamicParam.class, plan.keyExpressions().get(0));
+        assertNotNull(plan.projects());
+
+        assertNotNull(plan("SELECT VAL FROM TEST WHERE ID1 = 1 AND ID2 = 'a' AND VAL > 'b'", List.of()));
+    }
+
+    @Test
+    public void testNotKeyLookup() throws Exception {
+        assertNull(plan("SELECT * FROM TEST", List.of()));
+        assertNull(plan("SELECT * FROM TEST WHERE ID1 = 1", List.of()));
+        assertNull(plan("SELECT * FROM TEST WHERE ID1 = 1 AND VAL = 'a'", List.of()));
+        assertNull(plan("SELECT * FROM TEST WHERE ID1 > 1 AND ID2 = 'a'", List.of()));
+        assertNull(plan("SELECT * FROM TEST WHERE ID1 IN (1, 2) AND ID2 = 'a'", List.of()));
+        assertNull(plan("SELECT * FROM TEST WHERE (ID1 = 1 AND ID2 = 'a') OR VAL = 'b'", List.of()));
+        assertNull(plan("SELECT COUNT(*) FROM TEST WHERE ID1 = 1 AND ID2 = 'a'", List.of()));
+    }
+
+    private KeyValueGetPlan plan(String sql, List<Object> params) throws Exception {
+        IgniteRel phys = physicalPlan(sql, List.of(publicSchema), null, params);
+
+        return KeyValuePlanFactory.getPlan(phys, null);
+    }
+
+    /** Creates a descriptor with the given columns being the primary key. */
+    private static TableDescriptor keyDescriptor(TableDescriptor desc, int... keys) {
+        TableDescriptor res = spy(desc);
+
+        for (int key : keys) {
+            ColumnDescriptor col = spy(desc.columnDescriptor(key));
+
+            doReturn(true).when(col).key();
+            doReturn(col).when(res).columnDescriptor(key);
+        }
+
+        return res;
+    }
+}
@@ -114,8 +114,27 @@ public class LimitOffsetPlannerTest extends AbstractPlannerTest {
                 isInstanceOf(IgniteLimit.class)
                         .and(s -> doubleFromRex(s.fetch(), -1) == 5)
                         .and(s -> doubleFromRex(s.offset(), -1) == 10)
-                        .and(input(isInstanceOf(IgniteExchange.class)))
+                        .and(input(isInstanceOf(IgniteExchange.class)
+                                .and(input(isInstanceOf(IgniteLimit.class)
+                                        .and(l -> doubleFromRex(l.fetch(), -1) == 15.0)
+                                        .and(l -> l.offset() == null)
+                                        .and(input(isInstanceOf(IgniteTableScan.class)))))))
                         .and(hasChildThat(isInstanceOf(IgniteSort.class)).negate()));
+
+        // Same case but without offset, the local limit takes the fetch of the global one.
+        assertPlan("SELECT * FROM TEST LIMIT 5", publicSchema,
+                isInstanceOf(IgniteLimit.class)
+                        .and(input(isInstanceOf(IgniteExchange.class)
+                                .and(input(isInstanceOf(IgniteLimit.class)
+                                        .and(l -> doubleFromRex(l.fetch(), -1) == 5.0)
+                                        .and(l -> l.offset() == null))))));
+
+        // Local limit is not required if LIMIT is not set.
+        assertPlan("SELECT * FROM TEST OFFSET 10", publicSchema,
+                isInstanceOf(IgniteLimit.class)
+                        .and(input(isInstanceOf(IgniteExchange.class)
+                                .and(input(isInstanceOf(IgniteTableScan.class))))));
+
         // Check that Sort node is not eliminated by aggregation and Exchange node is not eliminated by distribution
         // required by parent nodes.
         assertPlan("SELECT * FROM TEST UNION (SELECT * FROM TEST ORDER BY ID LIMIT 10)", publicSchema,
@@ -174,7 +193,10 @@ public class LimitOffsetPlannerTest extends AbstractPlannerTest {
         assertPlan("SELECT * FROM TEST ORDER BY ID LIMIT 10 OFFSET 10", publicSchema,
                 isInstanceOf(IgniteLimit.class)
                     .and(input(isInstanceOf(IgniteExchange.class)
-                        .and(input(isInstanceOf(IgniteIndexScan.class)))))
+                        .and(input(isInstanceOf(IgniteLimit.class)
+                                .and(l -> doubleFromRex(l.fetch(), -1) == 20.0)
+                                .and(l -> l.offset() == null)
+                                .and(input(isInstanceOf(IgniteIndexScan.class)))))))
                     .and(hasChildThat(isInstanceOf(IgniteSort.class)).negate()));
 
         publicSchema = createSchemaWithTable(IgniteDistributions.random(), 0, 1);
@@ -183,7 +205,10 @@ public class LimitOffsetPlannerTest extends AbstractPlannerTest {
         assertPlan("SELECT * FROM TEST ORDER BY ID LIMIT 10 OFFSET 10", publicSchema,
                 isInstanceOf(IgniteLimit.class)
                     .and(input(isInstanceOf(IgniteExchange.class)
-                        .and(input(isInstanceOf(IgniteIndexScan.class)))))
+                        .and(input(isInstanceOf(IgniteLimit.class)
+                                .and(l -> doubleFromRex(l.fetch(), -1) == 20.0)
+                                .and(l -> l.offset() == null)
+                                .and(input(isInstanceOf(IgniteIndexScan.class)))))))
                     .and(hasChildThat(isInstanceOf(IgniteSort.class)).negate()));
 
         publicSchema = createSchemaWithTable(IgniteDistributions.single());
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.planner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Predicate;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.ignite.internal.schema.NativeTypes;
+import org.apache.ignite.internal.sql.engine.metadata.ColocationGroup;
+import org.apache.ignite.internal.sql.engine.metadata.NodeWithTerm;
+import org.apache.ignite.internal.sql.engine.metadata.PartitionWithTerm;
+import org.apache.ignite.internal.sql.engine.prepare.Fragment;
+import org.apache.ignite.internal.sql.engine.prepare.MappingQueryContext;
+import org.apache.ignite.internal.sql.engine.prepare.MultiStepPlan;
+import org.apache.ignite.internal.sql.engine.prepare.MultiStepQueryPlan;
+import org.apache.ignite.internal.sql.engine.prepare.QueryTemplate;
+import org.apache.ignite.internal.sql.engine.prepare.Splitter;
+import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
+import org.apache.ignite.internal.sql.engine.rel.IgniteTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeSystem;
+import org.apache.ignite.internal.util.ColocationUtils;
+import org.apache.ignite.internal.util.HashCalculator;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.network.ClusterNode;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests pruning of the partitions involved in the scan on the basis of the predicates on the colocation key.
+ */
+public class PartitionPruningPlannerTest extends AbstractPlannerTest {
+    private static final int PARTS = 16;
+
+    private static final List<String> NODES = List.of("node0", "node1", "node2", "node3");
+
+    private IgniteSchema publicSchema;
+
+    @BeforeEach
+    public void setup() {
+        IgniteTypeFactory f = new IgniteTypeFactory(IgniteTypeSystem.INSTANCE);
+
+        TestTable tbl = new TestTable("TEST", new RelDataTypeFactory.Builder(f)
+                .add("ID", f.createSqlType(SqlTypeName.INTEGER))
+                .add("VAL", f.createSqlType(SqlTypeName.VARCHAR))
+                .build(), 1_000_000) {
+            @Override
+            public ColocationGroup colocationGroup(MappingQueryContext ctx) {
+                List<List<NodeWithTerm>> assignments = new ArrayList<>(PARTS);
+
+                for (int p = 0; p < PARTS; p++) {
+                    assignments.add(List.of(new NodeWithTerm(NODES.get(p % NODES.size()), 1L)));
+                }
+
+                return ColocationGroup.forAssignments(assignments);
+            }
+
+            @Override
+            public IgniteDistribution distribution() {
+                return IgniteDistributions.affinity(0, UUID.randomUUID(), DEFAULT_ZONE_ID);
+            }
+        };
+
+        publicSchema = new IgniteSchema("PUBLIC");
+
+        publicSchema.addTable(tbl);
+    }
+
+    @Test
+    public void testEqualsLiteral() throws Exception {
+        checkPartitions("SELECT * FROM TEST WHERE ID = 5", List.of(), partitions(5));
+    }
+
+    @Test
+    public void testEqualsParameter() throws Exception {
+        checkPartitions("SELECT * FROM TEST WHERE ID = ?", List.of(7), partitions(7));
+        checkPartitions("SELECT * FROM TEST WHERE ID = ? AND VAL = 'a'", List.of(7), partitions(7));
+    }
+
+    @Test
+    public void testInList() throws Exception {
+        checkPartitions("SELECT * FROM TEST WHERE ID IN (1, 2, 3)", List.of(), partitions(1, 2, 3));
+        checkPartitions("SELECT * FROM TEST WHERE ID = ? OR ID = ?", List.of(10, 20), partitions(10, 20));
+        checkPartitions("SELECT * FROM TEST WHERE ID IN (1, 2, 3) AND ID IN (3, 4)", List.of(), partitions(3));
+    }
+
+    @Test
+    public void testNotPruned() throws Exception {
+        Set<Integer> all = new TreeSet<>();
+
+        for (int p = 0; p < PARTS; p++) {
+            all.add(p);
+        }
+
+        checkPartitions("SELECT * FROM TEST", List.of(), all);
+        checkPartitions("SELECT * FROM TEST WHERE VAL = 'a'", List.of(), all);
+        checkPartitions("SELECT * FROM TEST WHERE ID > 5", List.of(), all);
+        checkPartitions("SELECT * FROM TEST WHERE ID = 5 OR VAL = 'a'", List.of(), all);
+    }
+
+    private void checkPartitions(String sql, List<Object> params, Set<Integer> expected) throws Exception {
+        IgniteRel phys = physicalPlan(sql, List.of(publicSchema), null, params);
+
+        MultiStepPlan plan = new MultiStepQueryPlan(new QueryTemplate(new Splitter().go(phys)), null);
+
+        plan.init(new MappingQueryContext(NODES.get(0), this::executionNodes, params.toArray()));
+
+        Fragment fragment = plan.fragments().stream()
+                .filter(f -> findFirstNode(f.root(), byClass(IgniteTableScan.class)) != null)
+                .findFirst()
+                .orElseThrow();
+
+        IgniteTableScan scan = findFirstNode(fragment.root(), byClass(IgniteTableScan.class));
+
+        ColocationGroup group = fragment.mapping().findGroup(scan.sourceId());
+
+        Set<Integer> scanned = new TreeSet<>();
+        Set<String> nodes = new TreeSet<>();
+
+        for (String node : NODES) {
+            for (PartitionWithTerm part : group.partitionsWithTerms(node)) {
+                scanned.add(part.partId());
+
+                nodes.add(node);
+            }
+        }
+
+        assertEquals(expected, scanned, sql);
+        assertEquals(nodes, new TreeSet<>(fragment.mapping().nodeNames()), sql);
+    }
+
+    private List<String> executionNodes(boolean single, @Nullable Predicate<ClusterNode> filter) {
+        return single ? List.of(NODES.get(0)) : NODES;
+    }
+
+    private static Set<Integer> partitions(int... keys) {
+        Set<Integer> parts = new TreeSet<>();
+
+        for (int key : keys) {
+            HashCalculator calc = new HashCalculator();
+
+            ColocationUtils.append(calc, key, NativeTypes.INT32);
+
+            parts.add(IgniteUtils.safeAbs(calc.hash() % PARTS));
+        }
+
+        return parts;
+    }
+}
@@ -72,6 +72,7 @@ public class SortAggregatePlannerTest extends AbstractAggregatePlannerTest {
                 ArrayUtils.concat(
                         HASH_AGG_RULES,
                         "NestedLoopJoinConverter",
+                        "HashJoinConverter",
                         "CorrelatedNestedLoopJoin",
                         "CorrelateToNestedLoopRule"
                 )
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.planner;
+
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.sql.engine.rel.IgniteProject;
+import org.apache.ignite.internal.sql.engine.rel.IgniteSort;
+import org.apache.ignite.internal.sql.engine.rel.IgniteWindow;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+import org.apache.ignite.internal.sql.engine.trait.TraitUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Planner test for window functions.
+ */
+public class WindowPlannerTest extends AbstractPlannerTest {
+    @Test
+    public void testRanking() throws Exception {
+        IgniteSchema publicSchema = createSchema(
+                createTable("TEST", IgniteDistributions.single(), "ID", Integer.class, "GRP", Integer.class, "VAL", Integer.class));
+
+        assertPlan("SELECT ID, ROW_NUMBER() OVER (PARTITION BY GRP ORDER BY VAL) FROM TEST", publicSchema,
+                nodeOrAnyChild(isInstanceOf(IgniteWindow.class)
+                        .and(w -> w.partitionKeys().equals(ImmutableBitSet.of(1)))
+                        .and(w -> w.windowCollation().equals(RelCollations.of(
+                                TraitUtils.createFieldCollation(1), TraitUtils.createFieldCollation(2))))
+                        .and(input(isInstanceOf(IgniteSort.class)))));
+    }
+
+    @Test
+    public void testSlidingFrame() throws Exception {
+        IgniteSchema publicSchema = createSchema(
+                createTable("TEST", IgniteDistributions.random(), "ID", Integer.class, "VAL", Integer.class));
+
+        // Offsets of the frame are the constants of the window, they are projected to the input of the window operator.
+        assertPlan("SELECT ID, SUM(VAL) OVER (ORDER BY ID ROWS BETWEEN 2 PRECEDING AND 1 FOLLOWING) FROM TEST", publicSchema,
+                nodeOrAnyChild(isInstanceOf(IgniteProject.class)
+                        .and(input(isInstanceOf(IgniteWindow.class)
+                                .and(IgniteWindow::isRows)
+                                .and(w -> w.lowerBound().isPreceding() && w.upperBound().isFollowing())))));
+    }
+
+    @Test
+    public void testSeveralWindows() throws Exception {
+        IgniteSchema publicSchema = createSchema(
+                createTable("TEST", IgniteDistributions.single(), "ID", Integer.class, "GRP", Integer.class, "VAL", Integer.class));
+
+        assertPlan("SELECT RANK() OVER (ORDER BY VAL), LAG(VAL) OVER (PARTITION BY GRP ORDER BY ID) FROM TEST", publicSchema,
+                nodeOrAnyChild(isInstanceOf(IgniteWindow.class)
+                        .and(hasChildThat(isInstanceOf(IgniteWindow.class)))));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the column statistics collection.
+ */
+public class StatisticsCollectorTest {
+    private static final int ROWS = 100_000;
+
+    private static final int SAMPLE_SIZE = 10_000;
+
+    @Test
+    public void testUniqueColumn() {
+        TableStatistics stats = collect();
+
+        ColumnStatistics id = stats.column("ID");
+
+        assertNotNull(id);
+        assertEquals(ROWS, stats.rowCount());
+        assertEquals(0, id.nullCount());
+        assertEquals(0, id.min());
+        assertTrue((Integer) id.max() < ROWS);
+        assertTrue(id.ndv() > ROWS * 0.8, "ndv=" + id.ndv());
+    }
+
+    @Test
+    public void testLowCardinalityColumn() {
+        ColumnStatistics val = collect().column("VAL");
+
+        assertNotNull(val);
+        assertEquals(10, val.ndv());
+    }
+
+    @Test
+    public void testNullCount() {
+        ColumnStatistics nullable = collect().column("NULLABLE");
+
+        assertNotNull(nullable);
+        assertEquals(ROWS / 4, nullable.nullCount(), ROWS * 0.02);
+        assertEquals(1, nullable.ndv());
+    }
+
+    @Test
+    public void testHistogram() {
+        ColumnStatistics id = collect().column("ID");
+
+        assertNotNull(id);
+
+        Histogram hist = id.histogram();
+
+        assertNotNull(hist);
+        assertEquals(StatisticsCollector.HISTOGRAM_BUCKETS, hist.buckets());
+        assertEquals(0.25, hist.lessThan(ROWS / 4.0, false), 0.02);
+        assertEquals(0.75, hist.greaterThan(ROWS / 4.0, true), 0.02);
+        assertEquals(0.0, hist.lessThan(-1, true));
+        assertEquals(1.0, hist.lessThan(ROWS, true));
+    }
+
+    @Test
+    public void testNoHistogramForNonNumericColumn() {
+        ColumnStatistics str = collect().column("STR");
+
+        assertNotNull(str);
+        assertNull(str.histogram());
+    }
+
+    @Test
+    public void testMerge() {
+        TableStatistics s1 = new TableStatistics(1000, 1, 1, Map.of("C", new ColumnStatistics(10, 100, 0, 50, null)));
+        TableStatistics s2 = new TableStatistics(2000, 3, 2, Map.of("C", new ColumnStatistics(20, 200, 10, 80, null)));
+
+        TableStatistics merged = TableStatistics.merge(List.of(s1, s2));
+
+        assertEquals(1750, merged.rowCount());
+        assertEquals(4, merged.partitions());
+        assertEquals(2, merged.collectTime());
+
+        ColumnStatistics col = merged.column("C");
+
+        assertNotNull(col);
+        assertEquals(20, col.ndv());
+        assertEquals(175, col.nullCount());
+        assertEquals(0, col.min());
+        assertEquals(80, col.max());
+    }
+
+    private static TableStatistics collect() {
+        Random rnd = new Random(42);
+
+        StatisticsCollector collector = new StatisticsCollector(List.of("ID", "VAL", "NULLABLE", "STR"), SAMPLE_SIZE, rnd);
+
+        for (int i = 0; i < ROWS; i++) {
+            collector.add(new Object[] {i, i % 10, i % 4 == 0 ? null : 1, "str_" + (i % 7)});
+        }
+
+        assertEquals(ROWS, collector.seen());
+
+        return collector.build(collector.seen(), 1, 1);
+    }
+}
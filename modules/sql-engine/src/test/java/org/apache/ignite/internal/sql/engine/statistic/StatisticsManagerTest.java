@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.ByteBufferRow;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.impl.TestMvPartitionStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the sampling of the partition rows by the {@link StatisticsManager}.
+ */
+public class StatisticsManagerTest {
+    private static final int PART_ID = 0;
+
+    private static final int ROWS = 10_000;
+
+    private final TestMvPartitionStorage part = new TestMvPartitionStorage(PART_ID);
+
+    /** Index of the row in the order of insertion, by the row. */
+    private final Map<BinaryRow, Integer> rows = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ROWS; i++) {
+            BinaryRow row = new ByteBufferRow(new byte[] {(byte) i});
+
+            rows.put(row, i);
+
+            part.addWriteCommitted(new RowId(PART_ID), row, new HybridTimestamp(1, 0));
+        }
+    }
+
+    @Test
+    public void testSmallPartitionIsScanned() {
+        List<BinaryRow> sample = sample(ROWS, ROWS);
+
+        assertEquals(ROWS, sample.size());
+        assertEquals(ROWS, sample.stream().distinct().count());
+    }
+
+    @Test
+    public void testScanIsBoundedBySampleSize() {
+        // Outdated number of rows must not make the scan read more rows than requested.
+        assertEquals(100, sample(50, 100).size());
+    }
+
+    @Test
+    public void testLargePartitionIsSampled() {
+        int samples = 1_000;
+
+        List<BinaryRow> sample = sample(ROWS, samples);
+
+        assertEquals(samples, sample.size());
+
+        // The rows inserted first must not be preferred, as it would happen with a prefix of a scan.
+        long firstHalf = sample.stream().map(rows::get).filter(idx -> idx < ROWS / 2).count();
+
+        assertTrue(firstHalf > samples * 0.4 && firstHalf < samples * 0.6, "firstHalf=" + firstHalf);
+    }
+
+    private List<BinaryRow> sample(long partRows, int samples) {
+        List<BinaryRow> sample = new ArrayList<>();
+
+        StatisticsManager.sample(part, PART_ID, partRows, samples, new Random(42), row -> {
+            assertNotNull(rows.get(row));
+
+            sample.add(row);
+        });
+
+        return sample;
+    }
+}
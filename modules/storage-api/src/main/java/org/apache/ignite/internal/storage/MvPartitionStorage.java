@@ -17,6 +17,9 @@
 
 package org.apache.ignite.internal.storage;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.close.ManuallyCloseable;
@@ -155,6 +158,34 @@ public interface MvPartitionStorage extends ManuallyCloseable {
     @Nullable BinaryRow addWrite(RowId rowId, @Nullable BinaryRow row, UUID txId, UUID commitTableId, int commitPartitionId)
             throws TxIdMismatchException, StorageException;
 
+    /**
+     * Creates (or replaces) uncommitted versions of several rows, assigned to the given transaction id. The effect is the same as of
+     * {@link #addWrite(RowId, BinaryRow, UUID, UUID, int)} called for every row in the order of row ids, but the storage may process the
+     * rows in a single pass.
+     *
+     * @param rows Table rows to update, sorted by row id. {@code null} value means value removal.
+     * @param txId Transaction id.
+     * @param commitTableId Commit table id.
+     * @param commitPartitionId Commit partitionId.
+     * @return Previous uncommitted row versions of the rows that had them.
+     * @throws TxIdMismatchException If there's another pending update associated with different transaction id.
+     * @throws StorageException If failed to write data to the storage.
+     */
+    default Map<RowId, BinaryRow> addWriteAll(SortedMap<RowId, BinaryRow> rows, UUID txId, UUID commitTableId, int commitPartitionId)
+            throws TxIdMismatchException, StorageException {
+        Map<RowId, BinaryRow> previousRows = new HashMap<>();
+
+        for (Map.Entry<RowId, BinaryRow> entry : rows.entrySet()) {
+            BinaryRow previousRow = addWrite(entry.getKey(), entry.getValue(), txId, commitTableId, commitPartitionId);
+
+            if (previousRow != null) {
+                previousRows.put(entry.getKey(), previousRow);
+            }
+        }
+
+        return previousRows;
+    }
+
     /**
      * Aborts a pending update of the ongoing uncommitted transaction. Invoked during rollback.
      *
@@ -241,6 +272,15 @@ public interface MvPartitionStorage extends ManuallyCloseable {
     @Deprecated
     long rowsCount() throws StorageException;
 
+    /**
+     * Returns the statistics of the rows of the storage. The statistics are maintained on every modification of the rows, so the method
+     * doesn't scan the storage.
+     *
+     * @return Statistics of the rows.
+     * @throws StorageException If failed to obtain the statistics.
+     */
+    PartitionStatistics statistics() throws StorageException;
+
     /**
      * Closes the storage.
      *
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage;
+
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * Statistics of the rows of a partition storage, maintained by the storage on every modification of the rows.
+ */
+public class PartitionStatistics {
+    /** Count of the rows whose latest committed version is not a tombstone. */
+    private final long rowsCount;
+
+    /** Count of the stored row versions, including write intents and tombstones. */
+    private final long versionsCount;
+
+    /** Total size of the values of the stored row versions in bytes. */
+    private final long versionsSize;
+
+    /**
+     * Constructor.
+     *
+     * @param rowsCount Count of the rows whose latest committed version is not a tombstone.
+     * @param versionsCount Count of the stored row versions, including write intents and tombstones.
+     * @param versionsSize Total size of the values of the stored row versions in bytes.
+     */
+    public PartitionStatistics(long rowsCount, long versionsCount, long versionsSize) {
+        this.rowsCount = rowsCount;
+        this.versionsCount = versionsCount;
+        this.versionsSize = versionsSize;
+    }
+
+    /**
+     * Returns the count of the rows whose latest committed version is not a tombstone, i.e. the rows a read at the latest timestamp
+     * would return, not taking the write intents into account.
+     */
+    public long rowsCount() {
+        return rowsCount;
+    }
+
+    /**
+     * Returns the count of the stored row versions, including write intents and tombstones.
+     */
+    public long versionsCount() {
+        return versionsCount;
+    }
+
+    /**
+     * Returns the total size of the values of the stored row versions in bytes.
+     */
+    public long versionsSize() {
+        return versionsSize;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(PartitionStatistics.class, this);
+    }
+}
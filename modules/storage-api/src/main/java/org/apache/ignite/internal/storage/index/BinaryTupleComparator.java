@@ -66,12 +66,10 @@ public class BinaryTupleComparator implements Comparator<ByteBuffer> {
         assert columnsToCompare <= descriptor.columns().size();
 
         for (int i = 0; i < columnsToCompare; i++) {
-            SortedIndexColumnDescriptor columnDescriptor = descriptor.columns().get(i);
-
-            int compare = compareField(tuple1, tuple2, i);
+            int compare = compareColumn(tuple1, tuple2, i);
 
             if (compare != 0) {
-                return columnDescriptor.asc() ? compare : -compare;
+                return compare;
             }
         }
 
@@ -87,6 +85,20 @@ public class BinaryTupleComparator implements Comparator<ByteBuffer> {
         }
     }
 
+    /**
+     * Compares the values of a column of two tuples, taking the sort order of the column into account.
+     *
+     * @param tuple1 First tuple.
+     * @param tuple2 Second tuple.
+     * @param index Column index.
+     * @return Comparison result as in {@link Comparator#compare(Object, Object)}.
+     */
+    public int compareColumn(InternalTuple tuple1, InternalTuple tuple2, int index) {
+        int compare = compareField(tuple1, tuple2, index);
+
+        return descriptor.columns().get(index).asc() ? compare : -compare;
+    }
+
     /**
      * Compares individual fields of two tuples.
      */
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -87,6 +88,21 @@ public abstract class AbstractMvPartitionStorageGcTest extends BaseMvPartitionSt
         assertNull(storage.closestRowId(ROW_ID));
     }
 
+    @Test
+    void testStatisticsAfterPoll() {
+        addAndCommit(TABLE_ROW);
+        HybridTimestamp secondCommitTs = addAndCommit(null);
+
+        assertEquals(0, storage.statistics().rowsCount());
+        assertEquals(2, storage.statistics().versionsCount());
+
+        assertNotNull(pollForVacuum(secondCommitTs));
+
+        // Both the row and the tombstone above it are collected.
+        assertEquals(0, storage.statistics().versionsCount());
+        assertEquals(0, storage.statistics().versionsSize());
+    }
+
     @Test
     void testDoubleTombstone() {
         addAndCommit(TABLE_ROW);
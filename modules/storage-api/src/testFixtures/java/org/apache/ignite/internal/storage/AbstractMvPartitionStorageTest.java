@@ -40,7 +40,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.hlc.HybridClock;
@@ -112,6 +116,34 @@ public abstract class AbstractMvPartitionStorageTest extends BaseMvPartitionStor
         assertNull(read(rowId, HybridTimestamp.MAX_VALUE));
     }
 
+    /**
+     * Tests basic invariants of {@link MvPartitionStorage#addWriteAll(SortedMap, UUID, UUID, int)}.
+     */
+    @Test
+    public void testAddWriteAll() {
+        RowId rowId = insert(binaryRow, txId);
+        RowId rowId2 = new RowId(PARTITION_ID);
+
+        SortedMap<RowId, BinaryRow> rows = new TreeMap<>(Map.of(rowId, binaryRow2, rowId2, binaryRow3));
+
+        // Attempt to write from another transaction.
+        assertThrows(
+                TxIdMismatchException.class,
+                () -> storage.runConsistently(() -> storage.addWriteAll(rows, newTransactionId(), COMMIT_TABLE_ID, PARTITION_ID))
+        );
+
+        // Only the previous write intents of the transaction are returned.
+        Map<RowId, BinaryRow> previousRows = storage.runConsistently(
+                () -> storage.addWriteAll(rows, txId, COMMIT_TABLE_ID, PARTITION_ID)
+        );
+
+        assertEquals(Set.of(rowId), previousRows.keySet());
+        assertRowMatches(previousRows.get(rowId), binaryRow);
+
+        assertRowMatches(read(rowId, clock.now()), binaryRow2);
+        assertRowMatches(read(rowId2, clock.now()), binaryRow3);
+    }
+
     /**
      * Tests basic invariants of {@link MvPartitionStorage#abortWrite(RowId)}.
      */
@@ -202,6 +234,52 @@ public abstract class AbstractMvPartitionStorageTest extends BaseMvPartitionStor
         assertRowMatches(read(rowId, tsAfter), binaryRow);
     }
 
+    /**
+     * Tests that {@link MvPartitionStorage#statistics()} follows the modifications of the rows.
+     */
+    @Test
+    public void testStatistics() {
+        int rowSize = binaryRow.bytes().length;
+        int rowSize2 = binaryRow2.bytes().length;
+
+        assertStatistics(0, 0, 0);
+
+        // Write intents are row versions, but not rows yet.
+        RowId rowId = insert(binaryRow, txId);
+
+        assertStatistics(0, 1, rowSize);
+
+        commitWrite(rowId, clock.now());
+
+        assertStatistics(1, 1, rowSize);
+
+        RowId rowId2 = insert(binaryRow2, newTransactionId());
+
+        assertStatistics(1, 2, rowSize + rowSize2);
+
+        abortWrite(rowId2);
+
+        assertStatistics(1, 1, rowSize);
+
+        // Tombstones are row versions too.
+        addWrite(rowId, null, newTransactionId());
+        commitWrite(rowId, clock.now());
+
+        assertStatistics(0, 2, rowSize);
+
+        addWriteCommitted(rowId, binaryRow2, clock.now());
+
+        assertStatistics(1, 3, rowSize + rowSize2);
+    }
+
+    private void assertStatistics(long rowsCount, long versionsCount, long versionsSize) {
+        PartitionStatistics statistics = storage.statistics();
+
+        assertEquals(rowsCount, statistics.rowsCount(), "rowsCount");
+        assertEquals(versionsCount, statistics.versionsCount(), "versionsCount");
+        assertEquals(versionsSize, statistics.versionsSize(), "versionsSize");
+    }
+
     /**
      * Tests basic invariants of {@link MvPartitionStorage#scan(HybridTimestamp)}.
      */
@@ -32,6 +32,7 @@ import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.BinaryRowAndRowId;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.PartitionStatistics;
 import org.apache.ignite.internal.storage.PartitionTimestampCursor;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
@@ -544,6 +545,33 @@ public class TestMvPartitionStorage implements MvPartitionStorage {
         return map.size();
     }
 
+    @Override
+    public PartitionStatistics statistics() {
+        checkStorageClosedOrInProcessOfRebalance();
+
+        long rowsCount = 0;
+        long versionsCount = 0;
+        long versionsSize = 0;
+
+        for (VersionChain head : map.values()) {
+            VersionChain committed = head.isWriteIntent() ? head.next : head;
+
+            if (committed != null && committed.row != null) {
+                rowsCount++;
+            }
+
+            for (VersionChain cur = head; cur != null; cur = cur.next) {
+                versionsCount++;
+
+                if (cur.row != null) {
+                    versionsSize += cur.row.bytes().length;
+                }
+            }
+        }
+
+        return new PartitionStatistics(rowsCount, versionsCount, versionsSize);
+    }
+
     @Override
     public void close() {
         assert !rebalance;
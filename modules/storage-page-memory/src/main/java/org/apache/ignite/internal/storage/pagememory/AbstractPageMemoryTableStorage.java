@@ -24,6 +24,8 @@ import static org.apache.ignite.internal.util.IgniteUtils.inBusyLock;
 
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.pagememory.DataRegion;
@@ -38,6 +40,7 @@ import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.storage.index.HashIndexStorage;
 import org.apache.ignite.internal.storage.index.SortedIndexStorage;
+import org.apache.ignite.internal.storage.pagememory.index.IndexColumnsSizeStatistics;
 import org.apache.ignite.internal.storage.pagememory.mv.AbstractPageMemoryMvPartitionStorage;
 import org.apache.ignite.internal.storage.util.MvPartitionStorages;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
@@ -59,6 +62,9 @@ public abstract class AbstractPageMemoryTableStorage implements MvTableStorage {
     /** Prevents double stopping of the component. */
     private final AtomicBoolean stopGuard = new AtomicBoolean();
 
+    /** Statistics of the sizes of the index columns by index ID, shared by the partitions of the indexes. */
+    private final ConcurrentMap<UUID, IndexColumnsSizeStatistics> indexColumnsSizeStatistics = new ConcurrentHashMap<>();
+
     /**
      * Constructor.
      *
@@ -295,4 +301,13 @@ public abstract class AbstractPageMemoryTableStorage implements MvTableStorage {
     public String getTableName() {
         return tableCfg.name().value();
     }
+
+    /**
+     * Returns statistics of the sizes of the index columns, shared by the partitions of the index.
+     *
+     * @param indexId Index ID.
+     */
+    public IndexColumnsSizeStatistics indexColumnsSizeStatistics(UUID indexId) {
+        return indexColumnsSizeStatistics.computeIfAbsent(indexId, id -> new IndexColumnsSizeStatistics());
+    }
 }
@@ -30,6 +30,7 @@ import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
+import org.apache.ignite.internal.pagememory.persistence.store.PageCompression;
 import org.apache.ignite.internal.storage.StorageException;
 
 /**
@@ -67,6 +68,8 @@ class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory>
 
     private volatile AtomicLong pageListCacheLimit;
 
+    private volatile PageCompression pageCompression;
+
     /**
      * Constructor.
      *
@@ -109,6 +112,7 @@ class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory>
                 null,
                 (pageMemory0, fullPageId, buf) -> checkpointManager.writePageToDeltaFilePageStore(pageMemory0, fullPageId, buf, true),
                 checkpointManager.checkpointTimeoutLock(),
+                checkpointManager::lastCheckpointProgress,
                 pageSize
         );
 
@@ -116,6 +120,8 @@ class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory>
 
         pageListCacheLimit = new AtomicLong((long) (pageMemory.totalPages() * PAGE_LIST_CACHE_LIMIT_THRESHOLD));
 
+        pageCompression = PageCompression.create(dataRegionConfigView.pageCompression(), dataRegionConfigView.pageCompressionLevel());
+
         this.pageMemory = pageMemory;
     }
 
@@ -166,6 +172,15 @@ class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory>
         return pageListCacheLimit;
     }
 
+    /**
+     * Returns compression of the pages written to the file page stores.
+     */
+    public PageCompression pageCompression() {
+        checkDataRegionStarted();
+
+        return pageCompression;
+    }
+
     /**
      * Calculates the size of segments in bytes.
      *
@@ -29,6 +29,7 @@ import org.apache.ignite.configuration.notifications.ConfigurationNamedListListe
 import org.apache.ignite.configuration.notifications.ConfigurationNotificationEvent;
 import org.apache.ignite.internal.components.LongJvmPauseDetector;
 import org.apache.ignite.internal.fileio.AsyncFileIoFactory;
+import org.apache.ignite.internal.fileio.DirectFileIoFactory;
 import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
 import org.apache.ignite.internal.pagememory.PageMemory;
@@ -120,6 +121,10 @@ public class PersistentPageMemoryStorageEngine implements StorageEngine {
                     ? new AsyncFileIoFactory()
                     : new RandomAccessFileIoFactory();
 
+            if (engineConfig.checkpoint().useDirectIo().value()) {
+                fileIoFactory = new DirectFileIoFactory(fileIoFactory);
+            }
+
             filePageStoreManager = new FilePageStoreManager(
                     igniteInstanceName,
                     storagePath,
@@ -164,6 +164,8 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
                     groupPartitionId.getPartitionId()
             );
 
+            filePageStore.pageCompression(dataRegion.pageCompression());
+
             filePageStore.ensure();
 
             if (filePageStore.deltaFileCount() > 0) {
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index;
+
+import static org.apache.ignite.internal.storage.pagememory.index.InlineUtils.MAX_BINARY_TUPLE_INLINE_SIZE;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.ignite.internal.schema.BinaryTuple;
+
+/**
+ * Statistics of the sizes of the index columns {@link BinaryTuple}s inserted into an index, shared by the partitions of the index.
+ *
+ * <p>Used to work out the inline size of the new index trees from the actual keys instead of the heuristics of the column types: the
+ * inline size is chosen so that {@link #FULLY_INLINED_RATIO} of the keys are fully inlined, which avoids reading the data pages to compare
+ * them, without wasting the space of the tree pages on the inline size which most of the keys don't need.
+ */
+public class IndexColumnsSizeStatistics {
+    /** Size granularity of the histogram, in bytes. */
+    static final int BUCKET_SIZE = 8;
+
+    /** Minimum number of the inserted keys to recommend a size. */
+    static final int MIN_SAMPLE_COUNT = 1_000;
+
+    /** Share of the keys which should fit into the recommended size. */
+    static final double FULLY_INLINED_RATIO = 0.95;
+
+    /** Histogram of the sizes: number of the keys which sizes are in {@code ((i - 1) * BUCKET_SIZE, i * BUCKET_SIZE]}. */
+    private final AtomicLongArray buckets = new AtomicLongArray(MAX_BINARY_TUPLE_INLINE_SIZE / BUCKET_SIZE + 2);
+
+    /**
+     * Callback on a key insertion.
+     *
+     * @param indexColumnsSize Size of the index columns in bytes.
+     */
+    public void onInsert(int indexColumnsSize) {
+        int bucket = Math.min((indexColumnsSize + BUCKET_SIZE - 1) / BUCKET_SIZE, buckets.length() - 1);
+
+        buckets.incrementAndGet(bucket);
+    }
+
+    /**
+     * Returns the size of the index columns covering {@link #FULLY_INLINED_RATIO} of the inserted keys, in bytes, or {@code 0} if there
+     * are not enough keys to tell.
+     */
+    public int recommendedIndexColumnsSize() {
+        long total = 0;
+
+        for (int i = 0; i < buckets.length(); i++) {
+            total += buckets.get(i);
+        }
+
+        if (total < MIN_SAMPLE_COUNT) {
+            return 0;
+        }
+
+        long threshold = (long) Math.ceil(total * FULLY_INLINED_RATIO);
+
+        long covered = 0;
+
+        for (int i = 0; i < buckets.length(); i++) {
+            covered += buckets.get(i);
+
+            if (covered >= threshold) {
+                return Math.max(i * BUCKET_SIZE, 1);
+            }
+        }
+
+        // Keys have been inserted concurrently, all of them are covered by the last bucket.
+        return (buckets.length() - 1) * BUCKET_SIZE;
+    }
+}
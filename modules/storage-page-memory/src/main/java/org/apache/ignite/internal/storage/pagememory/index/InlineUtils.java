@@ -115,6 +115,35 @@ public class InlineUtils {
         return Math.min(inlineSize, MAX_BINARY_TUPLE_INLINE_SIZE);
     }
 
+    /**
+     * Calculates inline size for {@link BinaryTuple}, given its format and the actual sizes of the index columns.
+     *
+     * @param indexDescriptor Index descriptor.
+     * @param indexColumnsSizeHint Size of the index columns of most of the keys in bytes or {@code 0} if unknown, see {@link
+     *      IndexColumnsSizeStatistics#recommendedIndexColumnsSize()}.
+     * @return Inline size in bytes, no more than {@link #MAX_BINARY_TUPLE_INLINE_SIZE}.
+     */
+    static int binaryTupleInlineSize(IndexDescriptor indexDescriptor, int indexColumnsSizeHint) {
+        // Sizes of the fixed length columns are known exactly, the heuristics are only needed for the variable length ones.
+        if (indexColumnsSizeHint <= 0 || !hasVarlenColumns(indexDescriptor)) {
+            return binaryTupleInlineSize(indexDescriptor);
+        }
+
+        List<? extends ColumnDescriptor> columns = indexDescriptor.columns();
+
+        boolean hasNullColumns = columns.stream().anyMatch(ColumnDescriptor::nullable);
+
+        // The header, the null map and the offset table are always inlined, otherwise the values can't be located in the inlined part.
+        int minInlineSize = BinaryTupleCommon.HEADER_SIZE
+                + (hasNullColumns ? BinaryTupleCommon.nullMapSize(columns.size()) : 0)
+                + columns.size() * valueSizeToEntrySize(indexColumnsSizeHint);
+
+        // Fully inlined index columns also take the place of the link.
+        int inlineSize = Math.max(indexColumnsSizeHint - PARTITIONLESS_LINK_SIZE_BYTES, minInlineSize);
+
+        return Math.min(inlineSize, MAX_BINARY_TUPLE_INLINE_SIZE);
+    }
+
     /**
      * Calculates the inline size of {@link BinaryTuple} that will be stored in the {@link BplusInnerIo} and {@link BplusLeafIo} item.
      *
@@ -124,9 +153,26 @@ public class InlineUtils {
      * @return Inline size in bytes, no more than {@link #MAX_BINARY_TUPLE_INLINE_SIZE}.
      */
     public static int binaryTupleInlineSize(int pageSize, int itemHeaderSize, IndexDescriptor indexDescriptor) {
+        return binaryTupleInlineSize(pageSize, itemHeaderSize, indexDescriptor, 0);
+    }
+
+    /**
+     * Calculates the inline size of {@link BinaryTuple} that will be stored in the {@link BplusInnerIo} and {@link BplusLeafIo} item.
+     *
+     * @param pageSize Page size in bytes.
+     * @param itemHeaderSize Size of the item header that is stored in the {@link BplusInnerIo} and {@link BplusLeafIo}, in bytes.
+     * @param indexDescriptor Index descriptor.
+     * @param indexColumnsSizeHint Size of the index columns of most of the keys in bytes or {@code 0} if unknown, see {@link
+     *      IndexColumnsSizeStatistics#recommendedIndexColumnsSize()}.
+     * @return Inline size in bytes, no more than {@link #MAX_BINARY_TUPLE_INLINE_SIZE}.
+     */
+    public static int binaryTupleInlineSize(int pageSize, int itemHeaderSize, IndexDescriptor indexDescriptor, int indexColumnsSizeHint) {
         int maxInnerNodeItemSize = ((innerNodePayloadSize(pageSize) - CHILD_LINK_SIZE) / MIN_INNER_PAGE_ITEM_COUNT) - CHILD_LINK_SIZE;
 
-        int binaryTupleInlineSize = Math.min(maxInnerNodeItemSize - itemHeaderSize, binaryTupleInlineSize(indexDescriptor));
+        int binaryTupleInlineSize = Math.min(
+                maxInnerNodeItemSize - itemHeaderSize,
+                binaryTupleInlineSize(indexDescriptor, indexColumnsSizeHint)
+        );
 
         if (binaryTupleInlineSize >= MAX_BINARY_TUPLE_INLINE_SIZE) {
             return MAX_BINARY_TUPLE_INLINE_SIZE;
@@ -139,7 +185,7 @@ public class InlineUtils {
         // for each item (with link), and for a leafNode, (100 / 7) = 14 bytes for each item, so we can safely use the 7 extra bytes for the
         // innerNode and leafNode per item.
 
-        if (indexDescriptor.columns().stream().anyMatch(c -> !c.type().spec().fixedLength())) {
+        if (hasVarlenColumns(indexDescriptor)) {
             int itemSize = binaryTupleInlineSize + itemHeaderSize;
 
             int innerNodeItemSize =
@@ -157,6 +203,10 @@ public class InlineUtils {
         return Math.min(binaryTupleInlineSize, MAX_BINARY_TUPLE_INLINE_SIZE);
     }
 
+    private static boolean hasVarlenColumns(IndexDescriptor indexDescriptor) {
+        return indexDescriptor.columns().stream().anyMatch(c -> !c.type().spec().fixedLength());
+    }
+
     /**
      * Returns number of bytes that can be used to store items and links to child nodes in an inner node.
      *
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index.sorted;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.ignite.internal.binarytuple.BinaryTupleCommon.EQUALITY_FLAG;
+import static org.apache.ignite.internal.binarytuple.BinaryTupleCommon.HEADER_SIZE;
+import static org.apache.ignite.internal.binarytuple.BinaryTupleCommon.NULLMAP_FLAG;
+import static org.apache.ignite.internal.binarytuple.BinaryTupleCommon.PREFIX_FLAG;
+import static org.apache.ignite.internal.binarytuple.BinaryTupleCommon.VARSIZE_MASK;
+import static org.apache.ignite.internal.binarytuple.BinaryTupleCommon.nullMapSize;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import org.apache.ignite.internal.binarytuple.BinaryTupleParser.Sink;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.schema.BinaryTuplePrefix;
+import org.apache.ignite.internal.schema.BinaryTupleSchema;
+import org.apache.ignite.internal.schema.row.InternalTuple;
+import org.apache.ignite.internal.storage.index.BinaryTupleComparator;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor.SortedIndexColumnDescriptor;
+
+/**
+ * Comparator of the inlined part of the index columns {@link BinaryTuple} with a {@link BinaryTuple} or a {@link BinaryTuplePrefix}, in
+ * the order of {@link BinaryTupleComparator}.
+ *
+ * <p>Allows to compare the index columns that are not fully inlined without reading them from the data pages, if the inlined part is
+ * enough to tell the order: the columns which values are completely inlined are compared as usual, strings and byte arrays are compared
+ * by their inlined prefixes. Otherwise {@link #UNKNOWN} is returned and the complete tuples have to be compared.
+ */
+public class InlinedTupleComparator {
+    /** Comparison result if the inlined part of the tuple is not enough to tell the order. */
+    public static final int UNKNOWN = Integer.MIN_VALUE;
+
+    private final SortedIndexDescriptor descriptor;
+
+    private final BinaryTupleComparator binaryTupleComparator;
+
+    /**
+     * Constructor.
+     *
+     * @param descriptor Sorted index descriptor.
+     * @param binaryTupleComparator Comparator of the complete tuples.
+     */
+    public InlinedTupleComparator(SortedIndexDescriptor descriptor, BinaryTupleComparator binaryTupleComparator) {
+        this.descriptor = descriptor;
+        this.binaryTupleComparator = binaryTupleComparator;
+    }
+
+    /**
+     * Compares the inlined part of a tuple with another tuple.
+     *
+     * @param inlined Inlined part of a tuple, the limit of the buffer is the inline size.
+     * @param buffer Tuple or tuple prefix to compare with.
+     * @return Comparison result as in {@link BinaryTupleComparator#compare} or {@link #UNKNOWN}.
+     */
+    public int compare(ByteBuffer inlined, ByteBuffer buffer) {
+        assert inlined.order() == ByteOrder.LITTLE_ENDIAN;
+        assert buffer.order() == ByteOrder.LITTLE_ENDIAN;
+
+        BinaryTupleSchema schema = descriptor.binaryTupleSchema();
+
+        int inlineSize = inlined.limit();
+
+        // Values can't be located without the offset table.
+        if (inlineSize < HEADER_SIZE || valueBase(inlined, schema.elementCount()) > inlineSize) {
+            return UNKNOWN;
+        }
+
+        boolean isBufferPrefix = (buffer.get(0) & PREFIX_FLAG) != 0;
+
+        var tuple1 = new BinaryTuple(schema, inlined);
+        InternalTuple tuple2 = isBufferPrefix ? new BinaryTuplePrefix(schema, buffer) : new BinaryTuple(schema, buffer);
+
+        int columnsToCompare = Math.min(tuple1.count(), tuple2.count());
+
+        int[] bounds = new int[2];
+
+        Sink sink = (index, begin, end) -> {
+            bounds[0] = begin;
+            bounds[1] = end;
+        };
+
+        for (int i = 0; i < columnsToCompare; i++) {
+            tuple1.fetch(i, sink);
+
+            int compare = bounds[1] <= inlineSize
+                    ? binaryTupleComparator.compareColumn(tuple1, tuple2, i)
+                    : compareInlinedPrefix(tuple1, bounds[0], inlineSize, tuple2, i);
+
+            if (compare != 0) {
+                return compare;
+            }
+        }
+
+        // Same as in BinaryTupleComparator, the inlined tuple is never a prefix.
+        if (!isBufferPrefix) {
+            return 0;
+        }
+
+        return (buffer.get(0) & EQUALITY_FLAG) != 0 ? -1 : 1;
+    }
+
+    /**
+     * Compares a column value, of which only a prefix is inlined, with the value of another tuple.
+     *
+     * @param tuple1 Inlined part of a tuple.
+     * @param begin Start offset of the value in the inlined part.
+     * @param end End offset of the inlined part, the value is longer.
+     * @param tuple2 Tuple to compare with.
+     * @param index Column index.
+     * @return Comparison result or {@link #UNKNOWN}.
+     */
+    private int compareInlinedPrefix(BinaryTuple tuple1, int begin, int end, InternalTuple tuple2, int index) {
+        if (begin >= end) {
+            return UNKNOWN;
+        }
+
+        SortedIndexColumnDescriptor columnDescriptor = descriptor.columns().get(index);
+
+        int compare;
+
+        if (tuple2.hasNullValue(index)) {
+            // Nulls are greater than any value.
+            compare = -1;
+        } else {
+            switch (columnDescriptor.type().spec()) {
+                case BYTES:
+                    compare = compareBytesPrefix(tuple1.bytesValue(begin, end), tuple2.bytesValue(index));
+                    break;
+
+                case STRING:
+                    compare = compareStringPrefix(stringPrefix(tuple1.bytesValue(begin, end)), tuple2.stringValue(index));
+                    break;
+
+                default:
+                    return UNKNOWN;
+            }
+        }
+
+        if (compare == UNKNOWN) {
+            return UNKNOWN;
+        }
+
+        return columnDescriptor.asc() ? compare : -compare;
+    }
+
+    /**
+     * Compares a byte array, of which only the given prefix is known, with another byte array as {@link Arrays#compare(byte[], byte[])}.
+     */
+    private static int compareBytesPrefix(byte[] prefix, byte[] bytes) {
+        int mismatch = Arrays.mismatch(prefix, bytes);
+
+        if (mismatch == -1 || mismatch == bytes.length) {
+            // The value starts with all the bytes and is longer.
+            return 1;
+        }
+
+        if (mismatch == prefix.length) {
+            return UNKNOWN;
+        }
+
+        return Byte.compare(prefix[mismatch], bytes[mismatch]);
+    }
+
+    /**
+     * Compares a string, of which only the given prefix is known, with another string as {@link String#compareTo(String)}.
+     */
+    private static int compareStringPrefix(String prefix, String str) {
+        int len = Math.min(prefix.length(), str.length());
+
+        for (int i = 0; i < len; i++) {
+            char c1 = prefix.charAt(i);
+            char c2 = str.charAt(i);
+
+            if (c1 != c2) {
+                return c1 - c2;
+            }
+        }
+
+        // If the prefix is not shorter, the value starts with all the characters of the string and is longer.
+        return prefix.length() < str.length() ? UNKNOWN : 1;
+    }
+
+    /**
+     * Decodes the inlined prefix of a UTF-8 string, dropping the last character if it is not completely inlined.
+     */
+    private static String stringPrefix(byte[] bytes) {
+        int len = bytes.length;
+
+        int lastCharBegin = len - 1;
+
+        // Skip the continuation bytes of the last character.
+        while (lastCharBegin > 0 && (bytes[lastCharBegin] & 0xC0) == 0x80) {
+            lastCharBegin--;
+        }
+
+        if (lastCharBegin >= 0 && lastCharBegin + utf8CharLength(bytes[lastCharBegin]) > len) {
+            len = lastCharBegin;
+        }
+
+        return new String(bytes, 0, len, UTF_8);
+    }
+
+    /**
+     * Returns the length of a UTF-8 encoded character by its first byte.
+     */
+    private static int utf8CharLength(byte firstByte) {
+        if ((firstByte & 0x80) == 0) {
+            return 1;
+        } else if ((firstByte & 0xE0) == 0xC0) {
+            return 2;
+        } else if ((firstByte & 0xF0) == 0xE0) {
+            return 3;
+        } else {
+            return 4;
+        }
+    }
+
+    /**
+     * Returns the offset of the values of a tuple, following the header, the null map and the offset table.
+     */
+    private static int valueBase(ByteBuffer tuple, int numElements) {
+        byte flags = tuple.get(0);
+
+        int nullMapSize = (flags & NULLMAP_FLAG) != 0 ? nullMapSize(numElements) : 0;
+
+        return HEADER_SIZE + nullMapSize + (1 << (flags & VARSIZE_MASK)) * numElements;
+    }
+}
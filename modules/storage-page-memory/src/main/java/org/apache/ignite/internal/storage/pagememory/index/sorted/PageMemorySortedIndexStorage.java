@@ -133,6 +133,8 @@ public class PageMemorySortedIndexStorage implements SortedIndexStorage {
 
                 sortedIndexTree.invoke(sortedIndexRow, null, insert);
 
+                sortedIndexTree.indexColumnsSizeStatistics().onInsert(sortedIndexRow.indexColumns().valueSize());
+
                 return null;
             } catch (IgniteInternalCheckedException e) {
                 throw new StorageException("Failed to put value into index", e);
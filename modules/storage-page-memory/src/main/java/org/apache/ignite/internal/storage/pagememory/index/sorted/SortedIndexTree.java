@@ -29,6 +29,7 @@ import org.apache.ignite.internal.pagememory.util.PageLockListener;
 import org.apache.ignite.internal.schema.BinaryTuple;
 import org.apache.ignite.internal.storage.index.BinaryTupleComparator;
 import org.apache.ignite.internal.storage.index.SortedIndexDescriptor;
+import org.apache.ignite.internal.storage.pagememory.index.IndexColumnsSizeStatistics;
 import org.apache.ignite.internal.storage.pagememory.index.InlineUtils;
 import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeInnerIo;
 import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeIo;
@@ -47,6 +48,12 @@ public class SortedIndexTree extends BplusTree<SortedIndexRowKey, SortedIndexRow
     /** Comparator of index columns {@link BinaryTuple}s. */
     private final BinaryTupleComparator binaryTupleComparator;
 
+    /** Comparator of the inlined part of index columns {@link BinaryTuple}s. */
+    private final InlinedTupleComparator inlinedTupleComparator;
+
+    /** Statistics of the sizes of the index columns, shared by the partitions of the index. */
+    private final IndexColumnsSizeStatistics indexColumnsSizeStatistics;
+
     /** Inline size in bytes. */
     private final int inlineSize;
 
@@ -62,6 +69,7 @@ public class SortedIndexTree extends BplusTree<SortedIndexRowKey, SortedIndexRow
      * @param metaPageId Meta page ID.
      * @param reuseList Reuse list.
      * @param indexDescriptor Index descriptor.
+     * @param indexColumnsSizeStatistics Statistics of the sizes of the index columns, used to choose the inline size of a new tree.
      * @param initNew {@code True} if new tree should be created.
      * @throws IgniteInternalCheckedException If failed.
      */
@@ -75,11 +83,20 @@ public class SortedIndexTree extends BplusTree<SortedIndexRowKey, SortedIndexRow
             long metaPageId,
             @Nullable ReuseList reuseList,
             SortedIndexDescriptor indexDescriptor,
+            IndexColumnsSizeStatistics indexColumnsSizeStatistics,
             boolean initNew
     ) throws IgniteInternalCheckedException {
         super("SortedIndexTree_" + grpId, grpId, grpName, partId, pageMem, lockLsnr, globalRmvId, metaPageId, reuseList);
 
-        inlineSize = initNew ? InlineUtils.binaryTupleInlineSize(pageSize(), ITEM_SIZE_WITHOUT_COLUMNS, indexDescriptor)
+        this.indexColumnsSizeStatistics = indexColumnsSizeStatistics;
+
+        inlineSize = initNew
+                ? InlineUtils.binaryTupleInlineSize(
+                        pageSize(),
+                        ITEM_SIZE_WITHOUT_COLUMNS,
+                        indexDescriptor,
+                        indexColumnsSizeStatistics.recommendedIndexColumnsSize()
+                )
                 : readInlineSizeFromMetaIo();
 
         setIos(
@@ -92,11 +109,15 @@ public class SortedIndexTree extends BplusTree<SortedIndexRowKey, SortedIndexRow
 
         binaryTupleComparator = new BinaryTupleComparator(indexDescriptor);
 
+        inlinedTupleComparator = new InlinedTupleComparator(indexDescriptor, binaryTupleComparator);
+
         initTree(initNew);
 
         if (initNew) {
             writeInlineSizeToMetaIo(inlineSize);
         }
+
+        enableOptimisticReads();
     }
 
     /**
@@ -118,7 +139,13 @@ public class SortedIndexTree extends BplusTree<SortedIndexRowKey, SortedIndexRow
             throws IgniteInternalCheckedException {
         SortedIndexTreeIo sortedIndexTreeIo = (SortedIndexTreeIo) io;
 
-        return sortedIndexTreeIo.compare(dataPageReader, binaryTupleComparator, partId, pageAddr, idx, row);
+        return sortedIndexTreeIo.compare(dataPageReader, binaryTupleComparator, inlinedTupleComparator, partId, pageAddr, idx, row);
+    }
+
+    @Override
+    protected boolean canCompareOptimistically(BplusIo<SortedIndexRowKey> io, long pageAddr, int idx) {
+        // Index columns that are not fully inlined are read from the data pages by a link, which may be inconsistent.
+        return ((SortedIndexTreeIo) io).isFullyInlined(pageAddr, idx);
     }
 
     @Override
@@ -135,6 +162,13 @@ public class SortedIndexTree extends BplusTree<SortedIndexRowKey, SortedIndexRow
         return inlineSize;
     }
 
+    /**
+     * Returns statistics of the sizes of the index columns, shared by the partitions of the index.
+     */
+    public IndexColumnsSizeStatistics indexColumnsSizeStatistics() {
+        return indexColumnsSizeStatistics;
+    }
+
     private int readInlineSizeFromMetaIo() throws IgniteInternalCheckedException {
         Integer inlineSize = read(
                 metaPageId,
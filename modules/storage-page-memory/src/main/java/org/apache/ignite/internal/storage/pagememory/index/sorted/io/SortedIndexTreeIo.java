@@ -41,6 +41,7 @@ import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.index.BinaryTupleComparator;
 import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumns;
 import org.apache.ignite.internal.storage.pagememory.index.freelist.ReadIndexColumnsValue;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.InlinedTupleComparator;
 import org.apache.ignite.internal.storage.pagememory.index.sorted.SortedIndexRow;
 import org.apache.ignite.internal.storage.pagememory.index.sorted.SortedIndexRowKey;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
@@ -155,6 +156,7 @@ public interface SortedIndexTreeIo {
      *
      * @param dataPageReader Data page reader.
      * @param binaryTupleComparator Comparator of index columns {@link BinaryTuple}s.
+     * @param inlinedTupleComparator Comparator of the inlined part of index columns {@link BinaryTuple}s.
      * @param partitionId Partition ID.
      * @param pageAddr Page address.
      * @param idx Element's index.
@@ -165,6 +167,7 @@ public interface SortedIndexTreeIo {
     default int compare(
             DataPageReader dataPageReader,
             BinaryTupleComparator binaryTupleComparator,
+            InlinedTupleComparator inlinedTupleComparator,
             int partitionId,
             long pageAddr,
             int idx,
@@ -174,24 +177,32 @@ public interface SortedIndexTreeIo {
 
         int indexColumnsSize = getShort(pageAddr + off, SIZE_OFFSET);
 
-        ByteBuffer firstBinaryTupleBuffer;
+        ByteBuffer secondBinaryTupleBuffer = rowKey.indexColumns().valueBuffer();
+
+        int cmp;
 
         if (indexColumnsSize == NOT_FULLY_INLINE) {
-            // TODO: IGNITE-17325 Use a comparator for inlined tuple
-            long link = readPartitionless(partitionId, pageAddr + off, linkOffset());
+            ByteBuffer inlinedBuffer = wrapPointer(pageAddr + off + TUPLE_OFFSET, indexColumnsInlineSize());
 
-            ReadIndexColumnsValue indexColumnsTraversal = new ReadIndexColumnsValue();
+            cmp = inlinedTupleComparator.compare(inlinedBuffer.order(LITTLE_ENDIAN), secondBinaryTupleBuffer);
 
-            dataPageReader.traverse(link, indexColumnsTraversal, null);
+            if (cmp == InlinedTupleComparator.UNKNOWN) {
+                // The inlined part is not enough, read the complete index columns.
+                long link = readPartitionless(partitionId, pageAddr + off, linkOffset());
 
-            firstBinaryTupleBuffer = ByteBuffer.wrap(indexColumnsTraversal.result());
-        } else {
-            firstBinaryTupleBuffer = wrapPointer(pageAddr + off + TUPLE_OFFSET, indexColumnsSize);
-        }
+                ReadIndexColumnsValue indexColumnsTraversal = new ReadIndexColumnsValue();
 
-        ByteBuffer secondBinaryTupleBuffer = rowKey.indexColumns().valueBuffer();
+                dataPageReader.traverse(link, indexColumnsTraversal, null);
 
-        int cmp = binaryTupleComparator.compare(firstBinaryTupleBuffer.order(LITTLE_ENDIAN), secondBinaryTupleBuffer);
+                ByteBuffer firstBinaryTupleBuffer = ByteBuffer.wrap(indexColumnsTraversal.result());
+
+                cmp = binaryTupleComparator.compare(firstBinaryTupleBuffer.order(LITTLE_ENDIAN), secondBinaryTupleBuffer);
+            }
+        } else {
+            ByteBuffer firstBinaryTupleBuffer = wrapPointer(pageAddr + off + TUPLE_OFFSET, indexColumnsSize);
+
+            cmp = binaryTupleComparator.compare(firstBinaryTupleBuffer.order(LITTLE_ENDIAN), secondBinaryTupleBuffer);
+        }
 
         if (cmp != 0) {
             return cmp;
@@ -214,6 +225,19 @@ public interface SortedIndexTreeIo {
         return Long.compare(rowIdLsb, row.rowId().leastSignificantBits());
     }
 
+    /**
+     * Checks that the index columns of the element are fully inlined, so the element can be compared without reading the data pages.
+     *
+     * @param pageAddr Page address.
+     * @param idx Element's index.
+     * @return {@code True} if the index columns are fully inlined.
+     */
+    default boolean isFullyInlined(long pageAddr, int idx) {
+        int indexColumnsSize = getShort(pageAddr + offset(idx), SIZE_OFFSET);
+
+        return indexColumnsSize >= 0 && canFullyInline(indexColumnsSize, indexColumnsInlineSize());
+    }
+
     /**
      * Reads a sorted index row value.
      *
@@ -18,13 +18,17 @@
 package org.apache.ignite.internal.storage.pagememory.mv;
 
 import static org.apache.ignite.internal.configuration.util.ConfigurationUtil.getByInternalId;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.NULL_LINK;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageState;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageStateOnRebalance;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionIfStorageNotInRunnableOrRebalanceState;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwStorageExceptionIfItCause;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -49,6 +53,7 @@ import org.apache.ignite.internal.schema.configuration.index.SortedIndexView;
 import org.apache.ignite.internal.schema.configuration.index.TableIndexView;
 import org.apache.ignite.internal.storage.BinaryRowAndRowId;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.PartitionStatistics;
 import org.apache.ignite.internal.storage.PartitionTimestampCursor;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
@@ -311,6 +316,7 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
                     metaPageId,
                     rowVersionFreeList,
                     indexDescriptor,
+                    tableStorage.indexColumnsSizeStatistics(indexDescriptor.id()),
                     initNew
             );
 
@@ -533,6 +539,8 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Cannot store a row version: [row={}, {}]", e, rowVersion, createStorageInfo());
         }
+
+        updateRowStatistics(0, 1, rowVersion.valueSize());
     }
 
     static byte[] rowBytes(@Nullable BinaryRow row) {
@@ -548,25 +556,60 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         return busy(() -> {
             throwExceptionIfStorageNotInRunnableOrRebalanceState(state.get(), this::createStorageInfo);
 
-            return inUpdateVersionChainLock(rowId, () -> {
-                try {
-                    AddWriteInvokeClosure addWrite = new AddWriteInvokeClosure(rowId, row, txId, commitTableId, commitPartitionId, this);
+            return addWriteBusy(rowId, row, txId, commitTableId, commitPartitionId);
+        });
+    }
 
-                    versionChainTree.invoke(new VersionChainKey(rowId), null, addWrite);
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Rows are still written with a separate version chain tree invoke per row: the tree has no multi-key invoke, so only the busy
+     * lock and the storage state check are shared by the rows. Since the rows are sorted, consecutive invokes descend to the same or
+     * adjacent leaves, which are likely to be in the page memory already.
+     */
+    @Override
+    public Map<RowId, BinaryRow> addWriteAll(SortedMap<RowId, BinaryRow> rows, UUID txId, UUID commitTableId, int commitPartitionId)
+            throws TxIdMismatchException, StorageException {
+        return busy(() -> {
+            throwExceptionIfStorageNotInRunnableOrRebalanceState(state.get(), this::createStorageInfo);
 
-                    addWrite.afterCompletion();
+            Map<RowId, BinaryRow> previousRows = new HashMap<>();
 
-                    return addWrite.getPreviousUncommittedRowVersion();
-                } catch (IgniteInternalCheckedException e) {
-                    throwStorageExceptionIfItCause(e);
+            for (Map.Entry<RowId, BinaryRow> entry : rows.entrySet()) {
+                RowId rowId = entry.getKey();
 
-                    if (e.getCause() instanceof TxIdMismatchException) {
-                        throw (TxIdMismatchException) e.getCause();
-                    }
+                assert rowId.partitionId() == partitionId : rowId;
 
-                    throw new StorageException("Error while executing addWrite: [rowId={}, {}]", e, rowId, createStorageInfo());
+                BinaryRow previousRow = addWriteBusy(rowId, entry.getValue(), txId, commitTableId, commitPartitionId);
+
+                if (previousRow != null) {
+                    previousRows.put(rowId, previousRow);
                 }
-            });
+            }
+
+            return previousRows;
+        });
+    }
+
+    private @Nullable BinaryRow addWriteBusy(RowId rowId, @Nullable BinaryRow row, UUID txId, UUID commitTableId, int commitPartitionId) {
+        return inUpdateVersionChainLock(rowId, () -> {
+            try {
+                AddWriteInvokeClosure addWrite = new AddWriteInvokeClosure(rowId, row, txId, commitTableId, commitPartitionId, this);
+
+                versionChainTree.invoke(new VersionChainKey(rowId), null, addWrite);
+
+                addWrite.afterCompletion();
+
+                return addWrite.getPreviousUncommittedRowVersion();
+            } catch (IgniteInternalCheckedException e) {
+                throwStorageExceptionIfItCause(e);
+
+                if (e.getCause() instanceof TxIdMismatchException) {
+                    throw (TxIdMismatchException) e.getCause();
+                }
+
+                throw new StorageException("Error while executing addWrite: [rowId={}, {}]", e, rowId, createStorageInfo());
+            }
         });
     }
 
@@ -626,6 +669,8 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Cannot remove row version: [row={}, {}]", e, rowVersion, createStorageInfo());
         }
+
+        updateRowStatistics(0, -1, -rowVersion.valueSize());
     }
 
     @Override
@@ -733,6 +778,38 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         });
     }
 
+    /**
+     * Counts the row statistics of the partition by a scan of all its version chains, without reading the values.
+     */
+    PartitionStatistics countRowStatistics() {
+        long rowsCount = 0;
+        long versionsCount = 0;
+        long versionsSize = 0;
+
+        try (Cursor<VersionChain> cursor = versionChainTree.find(null, null)) {
+            for (VersionChain versionChain : cursor) {
+                long newestCommittedLink = versionChain.newestCommittedLink();
+
+                for (long link = versionChain.headLink(); link != NULL_LINK; ) {
+                    RowVersion rowVersion = readRowVersion(link, DONT_LOAD_VALUE);
+
+                    versionsCount++;
+                    versionsSize += rowVersion.valueSize();
+
+                    if (link == newestCommittedLink && !rowVersion.isTombstone()) {
+                        rowsCount++;
+                    }
+
+                    link = rowVersion.nextLink();
+                }
+            }
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Error occurred while counting the row statistics: [{}]", e, createStorageInfo());
+        }
+
+        return new PartitionStatistics(rowsCount, versionsCount, versionsSize);
+    }
+
     /**
      * Closes the partition in preparation for its destruction.
      */
@@ -873,6 +950,15 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
      */
     abstract List<AutoCloseable> getResourcesToCloseOnCleanup();
 
+    /**
+     * Updates the row statistics of the partition, called on every modification of the version chains.
+     *
+     * @param rowsCountDelta Delta of the count of the rows whose latest committed version is not a tombstone.
+     * @param versionsCountDelta Delta of the count of the stored row versions.
+     * @param versionsSizeDelta Delta of the total size of the values of the stored row versions in bytes.
+     */
+    abstract void updateRowStatistics(long rowsCountDelta, long versionsCountDelta, long versionsSizeDelta);
+
     /**
      * Sets the RAFT group configuration on rebalance.
      */
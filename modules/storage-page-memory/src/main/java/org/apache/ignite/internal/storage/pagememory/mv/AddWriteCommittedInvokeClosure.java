@@ -62,6 +62,9 @@ class AddWriteCommittedInvokeClosure implements InvokeClosure<VersionChain> {
      */
     private long rowLinkForAddToGcQueue = NULL_LINK;
 
+    /** Change of the count of the rows whose latest committed version is not a tombstone. */
+    private int rowsCountDelta;
+
     AddWriteCommittedInvokeClosure(
             RowId rowId,
             @Nullable BinaryRow row,
@@ -87,9 +90,13 @@ class AddWriteCommittedInvokeClosure implements InvokeClosure<VersionChain> {
             RowVersion newVersion = insertCommittedRowVersion(row, commitTimestamp, NULL_LINK);
 
             newRow = VersionChain.createCommitted(rowId, newVersion.link(), newVersion.nextLink());
+
+            rowsCountDelta = row == null ? 0 : 1;
         } else {
             RowVersion current = storage.readRowVersion(oldRow.headLink(), DONT_LOAD_VALUE);
 
+            rowsCountDelta = (row == null ? 0 : 1) - (current.isTombstone() ? 0 : 1);
+
             // If the current and new version are tombstones, then there is no need to add a new version.
             if (current.isTombstone() && row == null) {
                 operationType = OperationType.NOOP;
@@ -133,6 +140,10 @@ class AddWriteCommittedInvokeClosure implements InvokeClosure<VersionChain> {
      * Method to call after {@link BplusTree#invoke(Object, Object, InvokeClosure)} has completed.
      */
     void afterCompletion() {
+        if (rowsCountDelta != 0) {
+            storage.updateRowStatistics(rowsCountDelta, 0, 0);
+        }
+
         if (rowLinkForAddToGcQueue != NULL_LINK) {
             storage.gcQueue.add(rowId, commitTimestamp, rowLinkForAddToGcQueue);
         }
@@ -60,6 +60,9 @@ class CommitWriteInvokeClosure implements InvokeClosure<VersionChain> {
      */
     private long rowLinkForAddToGcQueue = NULL_LINK;
 
+    /** Change of the count of the rows whose latest committed version is not a tombstone. */
+    private int rowsCountDelta;
+
     CommitWriteInvokeClosure(RowId rowId, HybridTimestamp timestamp, AbstractPageMemoryMvPartitionStorage storage) {
         this.rowId = rowId;
         this.timestamp = timestamp;
@@ -80,6 +83,8 @@ class CommitWriteInvokeClosure implements InvokeClosure<VersionChain> {
         RowVersion current = storage.readRowVersion(oldRow.headLink(), DONT_LOAD_VALUE);
         RowVersion next = oldRow.hasNextLink() ? storage.readRowVersion(oldRow.nextLink(), DONT_LOAD_VALUE) : null;
 
+        rowsCountDelta = (current.isTombstone() ? 0 : 1) - (next == null || next.isTombstone() ? 0 : 1);
+
         // If the previous and current version are tombstones, then delete the current version.
         if (next != null && current.isTombstone() && next.isTombstone()) {
             toRemove = current;
@@ -137,6 +142,10 @@ class CommitWriteInvokeClosure implements InvokeClosure<VersionChain> {
             storage.removeRowVersion(toRemove);
         }
 
+        if (rowsCountDelta != 0) {
+            storage.updateRowStatistics(rowsCountDelta, 0, 0);
+        }
+
         if (rowLinkForAddToGcQueue != NULL_LINK) {
             storage.gcQueue.add(rowId, timestamp, rowLinkForAddToGcQueue);
         }
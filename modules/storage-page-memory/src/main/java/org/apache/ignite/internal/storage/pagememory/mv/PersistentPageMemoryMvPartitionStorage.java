@@ -38,6 +38,7 @@ import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointSt
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTimeoutLock;
 import org.apache.ignite.internal.pagememory.tree.BplusTree;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.PartitionStatistics;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.pagememory.PersistentPageMemoryTableStorage;
 import org.apache.ignite.internal.storage.pagememory.configuration.schema.PersistentPageMemoryStorageEngineView;
@@ -135,6 +136,32 @@ public class PersistentPageMemoryMvPartitionStorage extends AbstractPageMemoryMv
         );
     }
 
+    @Override
+    public void start() {
+        super.start();
+
+        if (!meta.hasRowStatistics()) {
+            // The partition was written before the row statistics were added to its meta, count them once, before any modification.
+            busy(() -> {
+                PartitionStatistics statistics = countRowStatistics();
+
+                checkpointTimeoutLock.checkpointReadLock();
+
+                try {
+                    CheckpointProgress lastCheckpoint = checkpointManager.lastCheckpointProgress();
+
+                    UUID lastCheckpointId = lastCheckpoint == null ? null : lastCheckpoint.id();
+
+                    meta.rowStatistics(lastCheckpointId, statistics.rowsCount(), statistics.versionsCount(), statistics.versionsSize());
+                } finally {
+                    checkpointTimeoutLock.checkpointReadUnlock();
+                }
+
+                return null;
+            });
+        }
+    }
+
     @Override
     public <V> V runConsistently(WriteClosure<V> closure) throws StorageException {
         return busy(() -> {
@@ -215,6 +242,26 @@ public class PersistentPageMemoryMvPartitionStorage extends AbstractPageMemoryMv
         meta.lastApplied(lastCheckpointId, lastAppliedIndex, lastAppliedTerm);
     }
 
+    @Override
+    public PartitionStatistics statistics() {
+        return busy(() -> {
+            throwExceptionIfStorageNotInRunnableOrRebalanceState(state.get(), this::createStorageInfo);
+
+            PartitionMeta meta = this.meta;
+
+            return new PartitionStatistics(meta.rowsCount(), meta.versionsCount(), meta.versionsSize());
+        });
+    }
+
+    @Override
+    void updateRowStatistics(long rowsCountDelta, long versionsCountDelta, long versionsSizeDelta) {
+        CheckpointProgress lastCheckpoint = checkpointManager.lastCheckpointProgress();
+
+        UUID lastCheckpointId = lastCheckpoint == null ? null : lastCheckpoint.id();
+
+        meta.updateRowStatistics(lastCheckpointId, rowsCountDelta, versionsCountDelta, versionsSizeDelta);
+    }
+
     @Override
     public long persistedIndex() {
         return busy(() -> {
@@ -74,6 +74,9 @@ public class VersionChainTree extends BplusTree<VersionChainKey, VersionChain> {
         setIos(VersionChainInnerIo.VERSIONS, VersionChainLeafIo.VERSIONS, VersionChainMetaIo.VERSIONS);
 
         initTree(initNew);
+
+        // Row IDs of the fixed size are compared in place.
+        enableOptimisticReads();
     }
 
     /** {@inheritDoc} */
@@ -25,6 +25,7 @@ import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptio
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.logger.IgniteLogger;
@@ -33,6 +34,7 @@ import org.apache.ignite.internal.pagememory.tree.BplusTree;
 import org.apache.ignite.internal.pagememory.util.GradualTaskExecutor;
 import org.apache.ignite.internal.pagememory.util.PageIdUtils;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.PartitionStatistics;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.pagememory.VolatilePageMemoryTableStorage;
 import org.apache.ignite.internal.storage.pagememory.index.hash.PageMemoryHashIndexStorage;
@@ -63,6 +65,15 @@ public class VolatilePageMemoryMvPartitionStorage extends AbstractPageMemoryMvPa
     /** Last group configuration. */
     private volatile byte @Nullable [] groupConfig;
 
+    /** Count of the rows whose latest committed version is not a tombstone. */
+    private final AtomicLong rowsCount = new AtomicLong();
+
+    /** Count of the stored row versions. */
+    private final AtomicLong versionsCount = new AtomicLong();
+
+    /** Total size of the values of the stored row versions in bytes. */
+    private final AtomicLong versionsSize = new AtomicLong();
+
     /**
      * Constructor.
      *
@@ -146,6 +157,22 @@ public class VolatilePageMemoryMvPartitionStorage extends AbstractPageMemoryMvPa
         });
     }
 
+    @Override
+    public PartitionStatistics statistics() {
+        return busy(() -> {
+            throwExceptionIfStorageNotInRunnableOrRebalanceState(state.get(), this::createStorageInfo);
+
+            return new PartitionStatistics(rowsCount.get(), versionsCount.get(), versionsSize.get());
+        });
+    }
+
+    @Override
+    void updateRowStatistics(long rowsCountDelta, long versionsCountDelta, long versionsSizeDelta) {
+        rowsCount.addAndGet(rowsCountDelta);
+        versionsCount.addAndGet(versionsCountDelta);
+        versionsSize.addAndGet(versionsSizeDelta);
+    }
+
     @Override
     public long persistedIndex() {
         return busy(() -> {
@@ -231,6 +258,10 @@ public class VolatilePageMemoryMvPartitionStorage extends AbstractPageMemoryMvPa
         lastAppliedTerm = 0;
         groupConfig = null;
 
+        rowsCount.set(0);
+        versionsCount.set(0);
+        versionsSize.set(0);
+
         if (removeIndexDescriptors) {
             hashIndexes.clear();
             sortedIndexes.clear();
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index;
+
+import static org.apache.ignite.internal.storage.pagememory.index.IndexColumnsSizeStatistics.MIN_SAMPLE_COUNT;
+import static org.apache.ignite.internal.storage.pagememory.index.InlineUtils.MAX_BINARY_TUPLE_INLINE_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link IndexColumnsSizeStatistics} testing.
+ */
+public class IndexColumnsSizeStatisticsTest {
+    private final IndexColumnsSizeStatistics statistics = new IndexColumnsSizeStatistics();
+
+    @Test
+    void testNotEnoughSamples() {
+        for (int i = 0; i < MIN_SAMPLE_COUNT - 1; i++) {
+            statistics.onInsert(20);
+        }
+
+        assertEquals(0, statistics.recommendedIndexColumnsSize());
+
+        statistics.onInsert(20);
+
+        assertEquals(24, statistics.recommendedIndexColumnsSize());
+    }
+
+    @Test
+    void testOutliersAreIgnored() {
+        for (int i = 0; i < 960; i++) {
+            statistics.onInsert(30 + i % 10);
+        }
+
+        for (int i = 0; i < 40; i++) {
+            statistics.onInsert(10_000);
+        }
+
+        assertEquals(40, statistics.recommendedIndexColumnsSize());
+
+        for (int i = 0; i < 20; i++) {
+            statistics.onInsert(10_000);
+        }
+
+        assertEquals(MAX_BINARY_TUPLE_INLINE_SIZE + 8, statistics.recommendedIndexColumnsSize());
+    }
+}
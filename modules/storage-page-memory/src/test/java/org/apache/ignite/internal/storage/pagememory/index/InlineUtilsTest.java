@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.storage.pagememory.index;
 
 import static org.apache.ignite.internal.pagememory.tree.io.BplusInnerIo.CHILD_LINK_SIZE;
+import static org.apache.ignite.internal.pagememory.util.PartitionlessLinks.PARTITIONLESS_LINK_SIZE_BYTES;
 import static org.apache.ignite.internal.storage.pagememory.index.InlineUtils.BIG_NUMBER_INLINE_SIZE;
 import static org.apache.ignite.internal.storage.pagememory.index.InlineUtils.MAX_BINARY_TUPLE_INLINE_SIZE;
 import static org.apache.ignite.internal.storage.pagememory.index.InlineUtils.MAX_VARLEN_INLINE_SIZE;
@@ -194,6 +195,35 @@ public class InlineUtilsTest {
         );
     }
 
+    @Test
+    void testBinaryTupleInlineSizeWithIndexColumnsSizeHint() {
+        // Let's check that the hint is ignored without variable length columns.
+
+        IndexDescriptor indexDescriptor = testIndexDescriptor(testColumnDescriptor(NativeTypes.INT64, false));
+
+        assertEquals(binaryTupleInlineSize(indexDescriptor), binaryTupleInlineSize(indexDescriptor, 100));
+
+        indexDescriptor = testIndexDescriptor(
+                testColumnDescriptor(NativeTypes.INT64, false),
+                testColumnDescriptor(NativeTypes.stringOf(256), true)
+        );
+
+        assertEquals(binaryTupleInlineSize(indexDescriptor), binaryTupleInlineSize(indexDescriptor, 0));
+
+        // Fully inlined index columns also take the place of the link.
+        assertEquals(40 - PARTITIONLESS_LINK_SIZE_BYTES, binaryTupleInlineSize(indexDescriptor, 40));
+
+        // Let's check that the header, the nullMap and the offset table are always inlined.
+        assertEquals(BinaryTupleCommon.HEADER_SIZE + 1 + 2, binaryTupleInlineSize(indexDescriptor, 5));
+
+        assertEquals(MAX_BINARY_TUPLE_INLINE_SIZE, binaryTupleInlineSize(indexDescriptor, 10 * MAX_BINARY_TUPLE_INLINE_SIZE));
+
+        assertEquals(
+                binaryTupleInlineSize(1024, 6, indexDescriptor),
+                binaryTupleInlineSize(1024, 6, indexDescriptor, 0)
+        );
+    }
+
     @Test
     void testInnerNodePayloadSize() {
         int pageSize = 1024;
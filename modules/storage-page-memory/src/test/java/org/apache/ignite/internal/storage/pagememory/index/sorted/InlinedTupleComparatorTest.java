@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index.sorted;
+
+import static org.apache.ignite.internal.binarytuple.BinaryTupleCommon.EQUALITY_FLAG;
+import static org.apache.ignite.internal.storage.pagememory.index.sorted.InlinedTupleComparator.UNKNOWN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.UUID;
+import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
+import org.apache.ignite.internal.binarytuple.BinaryTuplePrefixBuilder;
+import org.apache.ignite.internal.schema.NativeTypes;
+import org.apache.ignite.internal.storage.index.BinaryTupleComparator;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor.SortedIndexColumnDescriptor;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link InlinedTupleComparator} testing.
+ */
+public class InlinedTupleComparatorTest {
+    @Test
+    void testFullyInlinedColumns() {
+        SortedIndexDescriptor descriptor = descriptor(
+                new SortedIndexColumnDescriptor("intCol", NativeTypes.INT32, false, true),
+                new SortedIndexColumnDescriptor("strCol", NativeTypes.STRING, true, false)
+        );
+
+        ByteBuffer tuple1 = tuple(1, "abc");
+        ByteBuffer tuple2 = tuple(1, "abd");
+        ByteBuffer tuple3 = tuple(2, null);
+
+        for (ByteBuffer first : List.of(tuple1, tuple2, tuple3)) {
+            for (ByteBuffer second : List.of(tuple1, tuple2, tuple3)) {
+                assertCompare(descriptor, first, second, first.limit(), true);
+            }
+        }
+    }
+
+    @Test
+    void testStringPrefixes() {
+        for (boolean asc : new boolean[]{true, false}) {
+            SortedIndexDescriptor descriptor = descriptor(
+                    new SortedIndexColumnDescriptor("strCol", NativeTypes.STRING, true, asc),
+                    new SortedIndexColumnDescriptor("intCol", NativeTypes.INT32, false, true)
+            );
+
+            ByteBuffer inlined = tuple("abcdefgh", 1);
+
+            // Header, offset table and 4 bytes of the string.
+            int inlineSize = 1 + 2 + 4;
+
+            assertCompare(descriptor, inlined, tuple("abca", 1), inlineSize, true);
+            assertCompare(descriptor, inlined, tuple("abce", 1), inlineSize, true);
+            assertCompare(descriptor, inlined, tuple("abc", 1), inlineSize, true);
+            assertCompare(descriptor, inlined, tuple("abcd", 1), inlineSize, true);
+            assertCompare(descriptor, inlined, tuple("", 1), inlineSize, true);
+            assertCompare(descriptor, inlined, tuple(null, 1), inlineSize, true);
+
+            assertCompare(descriptor, inlined, tuple("abcdefgh", 1), inlineSize, false);
+            assertCompare(descriptor, inlined, tuple("abcdz", 1), inlineSize, false);
+        }
+    }
+
+    @Test
+    void testMultiByteStringPrefixes() {
+        SortedIndexDescriptor descriptor = descriptor(new SortedIndexColumnDescriptor("strCol", NativeTypes.STRING, false, true));
+
+        // Each of the characters takes 3 bytes, the last one is not completely inlined.
+        ByteBuffer inlined = tuple("中文字");
+
+        int inlineSize = 1 + 1 + 7;
+
+        assertCompare(descriptor, inlined, tuple("中斆"), inlineSize, true);
+        assertCompare(descriptor, inlined, tuple("中斈"), inlineSize, true);
+        assertCompare(descriptor, inlined, tuple("中"), inlineSize, true);
+        assertCompare(descriptor, inlined, tuple("中文"), inlineSize, true);
+        assertCompare(descriptor, inlined, tuple("中z"), inlineSize, true);
+
+        assertCompare(descriptor, inlined, tuple("中文孖"), inlineSize, false);
+        assertCompare(descriptor, inlined, tuple("中文字"), inlineSize, false);
+    }
+
+    @Test
+    void testBytesPrefixes() {
+        SortedIndexDescriptor descriptor = descriptor(new SortedIndexColumnDescriptor("bytesCol", NativeTypes.BYTES, false, true));
+
+        ByteBuffer inlined = tuple((Object) new byte[]{1, 2, 3, 4, 5, 6});
+
+        int inlineSize = 1 + 1 + 3;
+
+        assertCompare(descriptor, inlined, tuple((Object) new byte[]{1, 2, 2, 9}), inlineSize, true);
+        assertCompare(descriptor, inlined, tuple((Object) new byte[]{1, 2, 4}), inlineSize, true);
+        assertCompare(descriptor, inlined, tuple((Object) new byte[]{1, -2}), inlineSize, true);
+        assertCompare(descriptor, inlined, tuple((Object) new byte[]{1, 2}), inlineSize, true);
+        assertCompare(descriptor, inlined, tuple((Object) new byte[]{1, 2, 3}), inlineSize, true);
+
+        assertCompare(descriptor, inlined, tuple((Object) new byte[]{1, 2, 3, 4}), inlineSize, false);
+    }
+
+    @Test
+    void testPrefixes() {
+        SortedIndexDescriptor descriptor = descriptor(
+                new SortedIndexColumnDescriptor("strCol", NativeTypes.STRING, false, true),
+                new SortedIndexColumnDescriptor("intCol", NativeTypes.INT32, false, true)
+        );
+
+        ByteBuffer inlined = tuple("abcdefgh", 1);
+
+        int inlineSize = 1 + 2 + 4;
+
+        ByteBuffer prefix = new BinaryTuplePrefixBuilder(1, 2).appendString("abc").build();
+
+        assertCompare(descriptor, inlined, prefix, inlineSize, true);
+
+        prefix = new BinaryTuplePrefixBuilder(1, 2).appendString("abcdefgh").build();
+
+        assertCompare(descriptor, inlined, prefix, inlineSize, false);
+
+        // Completely inlined strings are compared with the prefixes, taking the equality flag into account.
+        inlined = tuple("ab", 1);
+
+        inlineSize = 1 + 2 + 3;
+
+        prefix = new BinaryTuplePrefixBuilder(1, 2).appendString("ab").build();
+
+        assertCompare(descriptor, inlined, prefix, inlineSize, true);
+
+        prefix.put(0, (byte) (prefix.get(0) | EQUALITY_FLAG));
+
+        assertCompare(descriptor, inlined, prefix, inlineSize, true);
+    }
+
+    @Test
+    void testOffsetTableNotInlined() {
+        SortedIndexDescriptor descriptor = descriptor(
+                new SortedIndexColumnDescriptor("strCol1", NativeTypes.STRING, false, true),
+                new SortedIndexColumnDescriptor("strCol2", NativeTypes.STRING, false, true)
+        );
+
+        assertCompare(descriptor, tuple("a", "b"), tuple("b", "b"), 2, false);
+    }
+
+    private static void assertCompare(
+            SortedIndexDescriptor descriptor,
+            ByteBuffer tuple1,
+            ByteBuffer tuple2,
+            int inlineSize,
+            boolean expectKnown
+    ) {
+        var binaryTupleComparator = new BinaryTupleComparator(descriptor);
+
+        var inlinedTupleComparator = new InlinedTupleComparator(descriptor, binaryTupleComparator);
+
+        ByteBuffer inlined = tuple1.duplicate().limit(inlineSize).slice().order(ByteOrder.LITTLE_ENDIAN);
+
+        int actual = inlinedTupleComparator.compare(inlined, tuple2);
+
+        if (expectKnown) {
+            assertEquals(Integer.signum(binaryTupleComparator.compare(tuple1, tuple2)), Integer.signum(actual));
+        } else {
+            assertEquals(UNKNOWN, actual);
+        }
+    }
+
+    private static SortedIndexDescriptor descriptor(SortedIndexColumnDescriptor... columns) {
+        return new SortedIndexDescriptor(UUID.randomUUID(), List.of(columns));
+    }
+
+    private static ByteBuffer tuple(Object... values) {
+        var builder = new BinaryTupleBuilder(values.length, true);
+
+        for (Object value : values) {
+            if (value == null) {
+                builder.appendNull();
+            } else if (value instanceof Integer) {
+                builder.appendInt((Integer) value);
+            } else if (value instanceof String) {
+                builder.appendString((String) value);
+            } else {
+                builder.appendBytes((byte[]) value);
+            }
+        }
+
+        return builder.build();
+    }
+}
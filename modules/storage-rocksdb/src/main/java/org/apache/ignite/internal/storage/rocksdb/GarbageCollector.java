@@ -98,13 +98,21 @@ class GarbageCollector {
      * @param rowId Row id.
      * @param timestamp New row's timestamp.
      * @param isNewValueTombstone If new row is a tombstone.
+     * @param statisticsDelta Changes of the row statistics, the count of the rows is updated according to the previous value.
      * @return {@code true} if new value and previous value are both tombstones.
      * @throws RocksDBException If failed.
      */
-    boolean tryAddToGcQueue(WriteBatchWithIndex writeBatch, RowId rowId, HybridTimestamp timestamp, boolean isNewValueTombstone)
-            throws RocksDBException {
+    boolean tryAddToGcQueue(
+            WriteBatchWithIndex writeBatch,
+            RowId rowId,
+            HybridTimestamp timestamp,
+            boolean isNewValueTombstone,
+            RowStatisticsDelta statisticsDelta
+    ) throws RocksDBException {
         ColumnFamilyHandle partCf = helper.partCf;
 
+        boolean isPrevValueRow = false;
+
         boolean newAndPrevTombstones = false;
 
         // Try find previous value for the row id.
@@ -116,37 +124,37 @@ class GarbageCollector {
         try (RocksIterator it = db.newIterator(partCf, helper.upperBoundReadOpts)) {
             it.seek(keyBuffer);
 
-            if (invalid(it)) {
-                return false;
-            }
-
-            keyBuffer.clear();
+            if (!invalid(it)) {
+                keyBuffer.clear();
 
-            int keyLen = it.key(keyBuffer);
+                int keyLen = it.key(keyBuffer);
 
-            RowId readRowId = helper.getRowId(keyBuffer, ROW_ID_OFFSET);
+                RowId readRowId = helper.getRowId(keyBuffer, ROW_ID_OFFSET);
 
-            if (readRowId.equals(rowId)) {
-                // Found previous value.
-                assert keyLen == MAX_KEY_SIZE; // Can not be write-intent.
+                if (readRowId.equals(rowId)) {
+                    // Found previous value.
+                    assert keyLen == MAX_KEY_SIZE; // Can not be write-intent.
 
-                if (isNewValueTombstone) {
-                    // If new value is a tombstone, lets check if previous value was also a tombstone.
+                    // Let's check if previous value was a tombstone.
                     int valueSize = it.value(EMPTY_DIRECT_BUFFER);
 
-                    newAndPrevTombstones = valueSize == 0;
-                }
+                    isPrevValueRow = valueSize != 0;
 
-                if (!newAndPrevTombstones) {
-                    keyBuffer.clear();
+                    newAndPrevTombstones = isNewValueTombstone && !isPrevValueRow;
 
-                    helper.putGcKey(keyBuffer, rowId, timestamp);
+                    if (!newAndPrevTombstones) {
+                        keyBuffer.clear();
 
-                    writeBatch.put(gcQueueCf, keyBuffer, EMPTY_DIRECT_BUFFER);
+                        helper.putGcKey(keyBuffer, rowId, timestamp);
+
+                        writeBatch.put(gcQueueCf, keyBuffer, EMPTY_DIRECT_BUFFER);
+                    }
                 }
             }
         }
 
+        statisticsDelta.rowsCount += (isNewValueTombstone ? 0 : 1) - (isPrevValueRow ? 1 : 0);
+
         return newAndPrevTombstones;
     }
 
@@ -155,10 +163,15 @@ class GarbageCollector {
      *
      * @param batch Write batch.
      * @param lowWatermark Low watermark.
+     * @param statisticsDelta Changes of the row statistics, updated with the removed row versions.
      * @return Garbage collected element.
      * @throws RocksDBException If failed to collect the garbage.
      */
-    @Nullable BinaryRowAndRowId pollForVacuum(WriteBatchWithIndex batch, HybridTimestamp lowWatermark) throws RocksDBException {
+    @Nullable BinaryRowAndRowId pollForVacuum(
+            WriteBatchWithIndex batch,
+            HybridTimestamp lowWatermark,
+            RowStatisticsDelta statisticsDelta
+    ) throws RocksDBException {
         ColumnFamilyHandle partCf = helper.partCf;
 
         // We retrieve the first element of the GC queue and seek for it in the data CF.
@@ -217,7 +230,7 @@ class GarbageCollector {
 
             try (RocksIterator it = db.newIterator(partCf, helper.upperBoundReadOpts)) {
                 // Process the element in data cf that triggered the addition to the GC queue.
-                boolean proceed = checkHasNewerRowAndRemoveTombstone(it, batch, gcRowVersion);
+                boolean proceed = checkHasNewerRowAndRemoveTombstone(it, batch, gcRowVersion, statisticsDelta);
 
                 if (!proceed) {
                     // No further processing required.
@@ -243,6 +256,8 @@ class GarbageCollector {
                 // Delete the row from the data cf.
                 batch.delete(partCf, dataKey);
 
+                statisticsDelta.onVersionRemoved(valueBytes.length);
+
                 return retVal;
             }
         }
@@ -258,12 +273,14 @@ class GarbageCollector {
      * @param it RocksDB data column family iterator.
      * @param batch Write batch.
      * @param gcRowVersion Row version from the GC queue.
+     * @param statisticsDelta Changes of the row statistics.
      * @return {@code true} if further processing by garbage collector is needed.
      */
     private boolean checkHasNewerRowAndRemoveTombstone(
             RocksIterator it,
             WriteBatchWithIndex batch,
-            GcRowVersion gcRowVersion
+            GcRowVersion gcRowVersion,
+            RowStatisticsDelta statisticsDelta
     ) throws RocksDBException {
         ByteBuffer dataKeyBuffer = MV_KEY_BUFFER.get();
         dataKeyBuffer.clear();
@@ -297,6 +314,8 @@ class GarbageCollector {
         if (len == 0) {
             // This is a tombstone, we need to delete it.
             batch.delete(partCf, dataKeyBuffer);
+
+            statisticsDelta.onVersionRemoved(0);
         }
 
         return true;
@@ -46,12 +46,20 @@ import static org.apache.ignite.internal.util.ByteUtils.putUuidToBytes;
 import static org.rocksdb.ReadTier.PERSISTED_TIER;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.SortedMap;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
@@ -61,6 +69,7 @@ import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.ByteBufferRow;
 import org.apache.ignite.internal.storage.BinaryRowAndRowId;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.PartitionStatistics;
 import org.apache.ignite.internal.storage.PartitionTimestampCursor;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
@@ -121,6 +130,9 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
     /** Thread-local write batch for {@link #runConsistently(WriteClosure)}. */
     private final ThreadLocal<WriteBatchWithIndex> threadLocalWriteBatch = new ThreadLocal<>();
 
+    /** Thread-local changes of the row statistics for {@link #runConsistently(WriteClosure)}. */
+    private final ThreadLocal<RowStatisticsDelta> threadLocalStatisticsDelta = new ThreadLocal<>();
+
     /** Table storage instance. */
     private final RocksDbTableStorage tableStorage;
 
@@ -161,6 +173,15 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
     /** Key to store group config in meta. */
     private final byte[] lastGroupConfigKey;
 
+    /** Key to store the count of the rows in meta, updated by the {@link RocksDbTableStorage#META_MERGE_OPERATOR merge operator}. */
+    private final byte[] rowsCountKey;
+
+    /** Key to store the count of the row versions in meta, updated by the merge operator. */
+    private final byte[] versionsCountKey;
+
+    /** Key to store the total size of the row versions in meta, updated by the merge operator. */
+    private final byte[] versionsSizeKey;
+
     /** On-heap-cached last applied index value. */
     private volatile long lastAppliedIndex;
 
@@ -176,6 +197,15 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
     private volatile byte @Nullable [] pendingGroupConfig;
 
+    /** On-heap-cached count of the rows whose latest committed version is not a tombstone. */
+    private final AtomicLong rowsCount = new AtomicLong();
+
+    /** On-heap-cached count of the row versions. */
+    private final AtomicLong versionsCount = new AtomicLong();
+
+    /** On-heap-cached total size of the values of the row versions. */
+    private final AtomicLong versionsSize = new AtomicLong();
+
     /** The value of {@link #lastAppliedIndex} persisted to the device at this moment. */
     private volatile long persistedIndex;
 
@@ -202,11 +232,18 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         lastAppliedIndexKey = ("index" + partitionId).getBytes(StandardCharsets.UTF_8);
         lastAppliedTermKey = ("term" + partitionId).getBytes(StandardCharsets.UTF_8);
         lastGroupConfigKey = ("config" + partitionId).getBytes(StandardCharsets.UTF_8);
+        rowsCountKey = ("rows" + partitionId).getBytes(StandardCharsets.UTF_8);
+        versionsCountKey = ("versions" + partitionId).getBytes(StandardCharsets.UTF_8);
+        versionsSizeKey = ("size" + partitionId).getBytes(StandardCharsets.UTF_8);
 
         lastAppliedIndex = readLastAppliedIndex(readOpts);
         lastAppliedTerm = readLastAppliedTerm(readOpts);
         lastGroupConfig = readLastGroupConfig(readOpts);
 
+        rowsCount.set(readCounterFromMetaCf(rowsCountKey));
+        versionsCount.set(readCounterFromMetaCf(versionsCountKey));
+        versionsSize.set(readCounterFromMetaCf(versionsSizeKey));
+
         persistedIndex = lastAppliedIndex;
     }
 
@@ -217,7 +254,10 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         } else {
             return busy(() -> {
                 try (var writeBatch = new WriteBatchWithIndex()) {
+                    var statisticsDelta = new RowStatisticsDelta();
+
                     threadLocalWriteBatch.set(writeBatch);
+                    threadLocalStatisticsDelta.set(statisticsDelta);
 
                     pendingAppliedIndex = lastAppliedIndex;
                     pendingAppliedTerm = lastAppliedTerm;
@@ -226,6 +266,10 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
                     try {
                         V res = closure.execute();
 
+                        if (!statisticsDelta.isEmpty()) {
+                            saveStatisticsDelta(writeBatch, statisticsDelta);
+                        }
+
                         if (writeBatch.count() > 0) {
                             db.write(writeOpts, writeBatch);
                         }
@@ -234,6 +278,10 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
                         lastAppliedTerm = pendingAppliedTerm;
                         lastGroupConfig = pendingGroupConfig;
 
+                        rowsCount.addAndGet(statisticsDelta.rowsCount);
+                        versionsCount.addAndGet(statisticsDelta.versionsCount);
+                        versionsSize.addAndGet(statisticsDelta.versionsSize);
+
                         return res;
                     } catch (RocksDBException e) {
                         throw new StorageException("Unable to apply a write batch to RocksDB instance.", e);
@@ -242,6 +290,7 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
                     }
                 } finally {
                     threadLocalWriteBatch.set(null);
+                    threadLocalStatisticsDelta.set(null);
                 }
             });
         }
@@ -341,6 +390,44 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         return Arrays.copyOf(array, array.length);
     }
 
+    /**
+     * Adds the changes of the row statistics to the counters in meta. Merge operands of concurrent write batches are summed up by
+     * RocksDB, hence the batches don't have to be serialized to keep the counters consistent with the data.
+     */
+    private void saveStatisticsDelta(AbstractWriteBatch writeBatch, RowStatisticsDelta delta) throws RocksDBException {
+        if (delta.rowsCount != 0) {
+            writeBatch.merge(meta, rowsCountKey, counterToBytes(delta.rowsCount));
+        }
+
+        if (delta.versionsCount != 0) {
+            writeBatch.merge(meta, versionsCountKey, counterToBytes(delta.versionsCount));
+        }
+
+        if (delta.versionsSize != 0) {
+            writeBatch.merge(meta, versionsSizeKey, counterToBytes(delta.versionsSize));
+        }
+    }
+
+    /**
+     * Converts a counter or its delta to the format of the {@link RocksDbTableStorage#META_MERGE_OPERATOR merge operator}, which is
+     * a little-endian 64-bit integer. Negative deltas are added as two's complement numbers.
+     */
+    private static byte[] counterToBytes(long value) {
+        return allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(value).array();
+    }
+
+    private long readCounterFromMetaCf(byte[] key) {
+        byte[] bytes;
+
+        try {
+            bytes = db.get(meta, readOpts, key);
+        } catch (RocksDBException e) {
+            throw new StorageException(e);
+        }
+
+        return bytes == null ? 0 : ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).getLong();
+    }
+
     /**
      * Reads a value of {@link #lastAppliedIndex()} from the storage, avoiding mem-table, and sets it as a new value of
      * {@link #persistedIndex()}.
@@ -414,48 +501,128 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
             ByteBuffer keyBuf = prepareHeapKeyBuf(rowId);
 
-            BinaryRow res = null;
-
             try {
-                // Check concurrent transaction data.
-                byte[] keyBufArray = keyBuf.array();
-
-                byte[] keyBytes = copyOf(keyBufArray, ROW_PREFIX_SIZE);
+                byte[] keyBytes = copyOf(keyBuf.array(), ROW_PREFIX_SIZE);
 
                 byte[] previousValue = writeBatch.getFromBatchAndDB(db, helper.partCf, readOpts, keyBytes);
 
-                // Previous value must belong to the same transaction.
-                if (previousValue != null) {
-                    validateTxId(previousValue, txId);
+                return writeIntent(writeBatch, keyBytes, previousValue, row, txId, commitTableId, commitPartitionId);
+            } catch (RocksDBException e) {
+                throw new StorageException("Failed to update a row in storage: " + createStorageInfo(), e);
+            }
+        });
+    }
 
-                    res = wrapValueIntoBinaryRow(previousValue, true);
-                }
+    @Override
+    public Map<RowId, BinaryRow> addWriteAll(SortedMap<RowId, BinaryRow> rows, UUID txId, UUID commitTableId, int commitPartitionId)
+            throws TxIdMismatchException, StorageException {
+        return busy(() -> {
+            @SuppressWarnings("resource") WriteBatchWithIndex writeBatch = requireWriteBatch();
+
+            List<byte[]> keys = new ArrayList<>(rows.size());
 
-                if (row == null) {
-                    // Write empty value as a tombstone.
-                    if (previousValue != null) {
-                        // Reuse old array with transaction id already written to it.
-                        writeBatch.put(helper.partCf, keyBytes, copyOf(previousValue, VALUE_HEADER_SIZE));
-                    } else {
-                        byte[] valueHeaderBytes = new byte[VALUE_HEADER_SIZE];
+            for (RowId rowId : rows.keySet()) {
+                keys.add(copyOf(prepareHeapKeyBuf(rowId).array(), ROW_PREFIX_SIZE));
+            }
 
-                        putUuidToBytes(txId, valueHeaderBytes, TX_ID_OFFSET);
-                        putUuidToBytes(commitTableId, valueHeaderBytes, TABLE_ID_OFFSET);
-                        putShort(valueHeaderBytes, PARTITION_ID_OFFSET, (short) commitPartitionId);
+            Map<RowId, BinaryRow> previousRows = new HashMap<>();
 
-                        writeBatch.put(helper.partCf, keyBytes, valueHeaderBytes);
+            try {
+                // Write intents of all rows are read from the DB at once, unless the batch already has some writes that may shadow them.
+                List<byte[]> previousValues = writeBatch.count() == 0
+                        ? db.multiGetAsList(readOpts, Collections.nCopies(keys.size(), helper.partCf), keys)
+                        : null;
+
+                int i = 0;
+
+                for (Map.Entry<RowId, BinaryRow> entry : rows.entrySet()) {
+                    byte[] keyBytes = keys.get(i);
+
+                    byte[] previousValue = previousValues != null
+                            ? previousValues.get(i)
+                            : writeBatch.getFromBatchAndDB(db, helper.partCf, readOpts, keyBytes);
+
+                    BinaryRow previousRow = writeIntent(
+                            writeBatch,
+                            keyBytes,
+                            previousValue,
+                            entry.getValue(),
+                            txId,
+                            commitTableId,
+                            commitPartitionId
+                    );
+
+                    if (previousRow != null) {
+                        previousRows.put(entry.getKey(), previousRow);
                     }
-                } else {
-                    writeUnversioned(keyBufArray, row, txId, commitTableId, commitPartitionId);
+
+                    i++;
                 }
             } catch (RocksDBException e) {
-                throw new StorageException("Failed to update a row in storage: " + createStorageInfo(), e);
+                throw new StorageException("Failed to update rows in storage: " + createStorageInfo(), e);
             }
 
-            return res;
+            return previousRows;
         });
     }
 
+    /**
+     * Writes a write intent of a row, replacing the previous one if it exists.
+     *
+     * @param writeBatch Write batch.
+     * @param keyBytes Key of the write intent, i.e. the "row prefix" of the row.
+     * @param previousValue Previous write intent value or {@code null} if there's none.
+     * @param row Binary row or {@code null} for a tombstone.
+     * @param txId Transaction id.
+     * @param commitTableId Commit table id.
+     * @param commitPartitionId Commit partition id.
+     * @return Previous uncommitted row version or {@code null} if there was none.
+     * @throws TxIdMismatchException If the previous write intent belongs to another transaction.
+     * @throws RocksDBException If write failed.
+     */
+    private @Nullable BinaryRow writeIntent(
+            WriteBatchWithIndex writeBatch,
+            byte[] keyBytes,
+            byte @Nullable [] previousValue,
+            @Nullable BinaryRow row,
+            UUID txId,
+            UUID commitTableId,
+            int commitPartitionId
+    ) throws RocksDBException {
+        BinaryRow res = null;
+
+        // Previous value must belong to the same transaction.
+        if (previousValue != null) {
+            validateTxId(previousValue, txId);
+
+            res = wrapValueIntoBinaryRow(previousValue, true);
+
+            requireStatisticsDelta().onVersionRemoved(previousValue.length - VALUE_HEADER_SIZE);
+        }
+
+        requireStatisticsDelta().onVersionAdded(row == null ? 0 : row.byteBuffer().remaining());
+
+        if (row == null) {
+            // Write empty value as a tombstone.
+            if (previousValue != null) {
+                // Reuse old array with transaction id already written to it.
+                writeBatch.put(helper.partCf, keyBytes, copyOf(previousValue, VALUE_HEADER_SIZE));
+            } else {
+                byte[] valueHeaderBytes = new byte[VALUE_HEADER_SIZE];
+
+                putUuidToBytes(txId, valueHeaderBytes, TX_ID_OFFSET);
+                putUuidToBytes(commitTableId, valueHeaderBytes, TABLE_ID_OFFSET);
+                putShort(valueHeaderBytes, PARTITION_ID_OFFSET, (short) commitPartitionId);
+
+                writeBatch.put(helper.partCf, keyBytes, valueHeaderBytes);
+            }
+        } else {
+            writeUnversioned(keyBytes, row, txId, commitTableId, commitPartitionId);
+        }
+
+        return res;
+    }
+
     /**
      * Writes a tuple of transaction id and a row bytes, using "row prefix" of a key array as a storage key.
      *
@@ -510,6 +677,8 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
                 // Perform unconditional remove for the key without associated timestamp.
                 writeBatch.delete(helper.partCf, keyBytes);
 
+                requireStatisticsDelta().onVersionRemoved(previousValue.length - VALUE_HEADER_SIZE);
+
                 return wrapValueIntoBinaryRow(previousValue, true);
             } catch (RocksDBException e) {
                 throw new StorageException("Failed to roll back insert/update", e);
@@ -537,8 +706,10 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
                 boolean isNewValueTombstone = valueBytes.length == VALUE_HEADER_SIZE;
 
+                RowStatisticsDelta statisticsDelta = requireStatisticsDelta();
+
                 // Both this and previous values for the row id are tombstones.
-                boolean newAndPrevTombstones = gc.tryAddToGcQueue(writeBatch, rowId, timestamp, isNewValueTombstone);
+                boolean newAndPrevTombstones = gc.tryAddToGcQueue(writeBatch, rowId, timestamp, isNewValueTombstone, statisticsDelta);
 
                 // Delete pending write.
                 writeBatch.delete(helper.partCf, uncommittedKeyBytes);
@@ -554,6 +725,9 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
                             copyOf(keyBuf.array(), MAX_KEY_SIZE),
                             copyOfRange(valueBytes, VALUE_HEADER_SIZE, valueBytes.length)
                     );
+                } else {
+                    // The write intent was a tombstone, it's removed without being committed.
+                    statisticsDelta.onVersionRemoved(0);
                 }
 
                 return null;
@@ -576,9 +750,11 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
             //TODO IGNITE-16913 Add proper way to write row bytes into array without allocations.
             byte[] rowBytes = row != null ? rowBytes(row) : ArrayUtils.BYTE_EMPTY_ARRAY;
 
+            RowStatisticsDelta statisticsDelta = requireStatisticsDelta();
+
             boolean newAndPrevTombstones; // Both this and previous values for the row id are tombstones.
             try {
-                newAndPrevTombstones = gc.tryAddToGcQueue(writeBatch, rowId, commitTimestamp, isNewValueTombstone);
+                newAndPrevTombstones = gc.tryAddToGcQueue(writeBatch, rowId, commitTimestamp, isNewValueTombstone, statisticsDelta);
             } catch (RocksDBException e) {
                 throw new StorageException("Failed to add row to the GC queue: " + createStorageInfo(), e);
             }
@@ -591,6 +767,8 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
                 } catch (RocksDBException e) {
                     throw new StorageException("Failed to update a row in storage: " + createStorageInfo(), e);
                 }
+
+                statisticsDelta.onVersionAdded(rowBytes.length);
             }
 
             return null;
@@ -987,6 +1165,15 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         });
     }
 
+    @Override
+    public PartitionStatistics statistics() {
+        return busy(() -> {
+            throwExceptionIfStorageInProgressOfRebalance(state.get(), this::createStorageInfo);
+
+            return new PartitionStatistics(rowsCount.get(), versionsCount.get(), versionsSize.get());
+        });
+    }
+
     /**
      * Deletes partition data from the storage, using write batch to perform the operation.
      */
@@ -995,6 +1182,8 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         writeBatch.delete(meta, lastAppliedTermKey);
         writeBatch.delete(meta, lastGroupConfigKey);
 
+        deleteStatistics(writeBatch);
+
         writeBatch.delete(meta, partitionIdKey(partitionId));
 
         writeBatch.deleteRange(helper.partCf, helper.partitionStartPrefix(), helper.partitionEndPrefix());
@@ -1008,7 +1197,7 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
             throwExceptionIfStorageInProgressOfRebalance(state.get(), this::createStorageInfo);
 
             try {
-                return gc.pollForVacuum(requireWriteBatch(), lowWatermark);
+                return gc.pollForVacuum(requireWriteBatch(), lowWatermark, requireStatisticsDelta());
             } catch (RocksDBException e) {
                 throw new StorageException("Failed to collect garbage: " + createStorageInfo(), e);
             }
@@ -1042,6 +1231,14 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         return writeBatch;
     }
 
+    private RowStatisticsDelta requireStatisticsDelta() {
+        RowStatisticsDelta statisticsDelta = threadLocalStatisticsDelta.get();
+
+        assert statisticsDelta != null : "Attempting to write data outside of data access closure.";
+
+        return statisticsDelta;
+    }
+
     /**
      * Prepares thread-local on-heap byte buffer. Writes row id in it. Partition id is already there. Timestamp is not cleared.
      */
@@ -1503,9 +1700,21 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         writeBatch.delete(meta, partitionIdKey(partitionId));
         writeBatch.deleteRange(helper.partCf, helper.partitionStartPrefix(), helper.partitionEndPrefix());
 
+        deleteStatistics(writeBatch);
+
         gc.deleteQueue(writeBatch);
     }
 
+    private void deleteStatistics(WriteBatch writeBatch) throws RocksDBException {
+        writeBatch.delete(meta, rowsCountKey);
+        writeBatch.delete(meta, versionsCountKey);
+        writeBatch.delete(meta, versionsSizeKey);
+
+        rowsCount.set(0);
+        versionsCount.set(0);
+        versionsSize.set(0);
+    }
+
     private void saveLastApplied(WriteBatch writeBatch, long lastAppliedIndex, long lastAppliedTerm) throws RocksDBException {
         savePendingLastApplied(writeBatch, lastAppliedIndex, lastAppliedTerm);
 
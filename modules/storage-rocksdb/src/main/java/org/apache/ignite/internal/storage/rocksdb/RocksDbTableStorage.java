@@ -58,7 +58,6 @@ import org.apache.ignite.internal.storage.index.HashIndexStorage;
 import org.apache.ignite.internal.storage.index.SortedIndexDescriptor;
 import org.apache.ignite.internal.storage.index.SortedIndexStorage;
 import org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.ColumnFamilyType;
-import org.apache.ignite.internal.storage.rocksdb.index.RocksDbBinaryTupleComparator;
 import org.apache.ignite.internal.storage.rocksdb.index.RocksDbHashIndexStorage;
 import org.apache.ignite.internal.storage.rocksdb.index.RocksDbSortedIndexStorage;
 import org.apache.ignite.internal.storage.util.MvPartitionStorages;
@@ -83,6 +82,12 @@ public class RocksDbTableStorage implements MvTableStorage {
     /** Logger. */
     private static final IgniteLogger LOG = Loggers.forClass(RocksDbTableStorage.class);
 
+    /**
+     * Name of the built-in merge operator of the meta Column Family, which sums up little-endian 64-bit integers. It's used to update
+     * the row statistics of the partitions, see {@link RocksDbMvPartitionStorage#statistics()}.
+     */
+    static final String META_MERGE_OPERATOR = "uint64add";
+
     /** RocksDB storage engine instance. */
     private final RocksDbStorageEngine engine;
 
@@ -456,7 +461,7 @@ public class RocksDbTableStorage implements MvTableStorage {
     private SortedIndex createSortedIndex(UUID indexId) {
         var indexDescriptor = new SortedIndexDescriptor(indexId, tablesCfg.value());
 
-        ColumnFamilyDescriptor cfDescriptor = sortedIndexCfDescriptor(sortedIndexCfName(indexId), indexDescriptor);
+        ColumnFamilyDescriptor cfDescriptor = sortedIndexCfDescriptor(sortedIndexCfName(indexId));
 
         ColumnFamily columnFamily;
         try {
@@ -564,6 +569,11 @@ public class RocksDbTableStorage implements MvTableStorage {
     private ColumnFamilyDescriptor cfDescriptorFromName(String cfName) {
         switch (ColumnFamilyType.fromCfName(cfName)) {
             case META:
+                return new ColumnFamilyDescriptor(
+                        cfName.getBytes(UTF_8),
+                        new ColumnFamilyOptions().setMergeOperatorName(META_MERGE_OPERATOR)
+                );
+
             case GC_QUEUE:
                 return new ColumnFamilyDescriptor(
                         cfName.getBytes(UTF_8),
@@ -583,9 +593,7 @@ public class RocksDbTableStorage implements MvTableStorage {
                 );
 
             case SORTED_INDEX:
-                var indexDescriptor = new SortedIndexDescriptor(sortedIndexId(cfName), tablesCfg.value());
-
-                return sortedIndexCfDescriptor(cfName, indexDescriptor);
+                return sortedIndexCfDescriptor(cfName);
 
             default:
                 throw new StorageException("Unidentified column family [name=" + cfName + ", table=" + getTableName() + ']');
@@ -593,14 +601,11 @@ public class RocksDbTableStorage implements MvTableStorage {
     }
 
     /**
-     * Creates a Column Family descriptor for a Sorted Index.
+     * Creates a Column Family descriptor for a Sorted Index. Keys of the index are byte-comparable (see {@link RocksDbSortedIndexStorage}),
+     * hence the default bytewise comparator is used.
      */
-    private static ColumnFamilyDescriptor sortedIndexCfDescriptor(String cfName, SortedIndexDescriptor descriptor) {
-        var comparator = new RocksDbBinaryTupleComparator(descriptor);
-
-        ColumnFamilyOptions options = new ColumnFamilyOptions().setComparator(comparator);
-
-        return new ColumnFamilyDescriptor(cfName.getBytes(UTF_8), options);
+    private static ColumnFamilyDescriptor sortedIndexCfDescriptor(String cfName) {
+        return new ColumnFamilyDescriptor(cfName.getBytes(UTF_8), new ColumnFamilyOptions());
     }
 
     @Override
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb;
+
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.PartitionStatistics;
+
+/**
+ * Changes of the {@link MvPartitionStorage#statistics() row statistics} of a partition, accumulated by a single write batch of
+ * {@link MvPartitionStorage#runConsistently}. Not thread-safe, every write batch has its own instance.
+ */
+class RowStatisticsDelta {
+    /** Delta of {@link PartitionStatistics#rowsCount()}. */
+    long rowsCount;
+
+    /** Delta of {@link PartitionStatistics#versionsCount()}. */
+    long versionsCount;
+
+    /** Delta of {@link PartitionStatistics#versionsSize()}. */
+    long versionsSize;
+
+    /**
+     * Accounts a row version added to the partition.
+     *
+     * @param valueSize Size of the value of the row version, {@code 0} for a tombstone.
+     */
+    void onVersionAdded(int valueSize) {
+        versionsCount++;
+        versionsSize += valueSize;
+    }
+
+    /**
+     * Accounts a row version removed from the partition.
+     *
+     * @param valueSize Size of the value of the row version, {@code 0} for a tombstone.
+     */
+    void onVersionRemoved(int valueSize) {
+        versionsCount--;
+        versionsSize -= valueSize;
+    }
+
+    /**
+     * Returns {@code true} if the statistics haven't changed.
+     */
+    boolean isEmpty() {
+        return rowsCount == 0 && versionsCount == 0 && versionsSize == 0;
+    }
+}
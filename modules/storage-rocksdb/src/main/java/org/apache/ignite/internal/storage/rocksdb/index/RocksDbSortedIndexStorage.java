@@ -21,20 +21,19 @@ import static org.apache.ignite.internal.rocksdb.RocksUtils.incrementPrefix;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageState;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageStateOnRebalance;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionIfStorageInProgressOfRebalance;
-import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Function;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
-import org.apache.ignite.internal.binarytuple.BinaryTupleCommon;
 import org.apache.ignite.internal.rocksdb.ColumnFamily;
 import org.apache.ignite.internal.rocksdb.RocksUtils;
 import org.apache.ignite.internal.schema.BinaryTuple;
 import org.apache.ignite.internal.schema.BinaryTuplePrefix;
+import org.apache.ignite.internal.schema.row.InternalTuple;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.StorageRebalanceException;
@@ -59,18 +58,10 @@ import org.rocksdb.WriteBatchWithIndex;
 /**
  * {@link SortedIndexStorage} implementation based on RocksDB.
  *
- * <p>This storage uses the following format for keys:
- * <pre>
- * Partition ID - 2 bytes
- * Tuple value - variable length
- * Row ID (UUID) - 16 bytes
- * </pre>
- *
- * <p>We use an empty array as values, because all required information can be extracted from the key.
+ * <p>Keys of this storage are encoded by {@link SortedIndexKeyEncoder}, so that they are sorted by the native bytewise comparator
+ * of RocksDB. Values are the Binary Tuples of the indexed columns, since the encoded keys can't be decoded back.
  */
 public class RocksDbSortedIndexStorage implements SortedIndexStorage {
-    private static final int ROW_ID_SIZE = Long.BYTES * 2;
-
     private static final ByteOrder ORDER = ByteOrder.BIG_ENDIAN;
 
     private final SortedIndexDescriptor descriptor;
@@ -112,9 +103,7 @@ public class RocksDbSortedIndexStorage implements SortedIndexStorage {
         return busy(() -> {
             throwExceptionIfStorageInProgressOfRebalance(state.get(), this::createStorageInfo);
 
-            BinaryTuplePrefix keyPrefix = BinaryTuplePrefix.fromBinaryTuple(key);
-
-            return scan(keyPrefix, keyPrefix, true, true, this::decodeRowId);
+            return scan(key, key, true, true, (k, v) -> decodeRowId(k));
         });
     }
 
@@ -124,7 +113,7 @@ public class RocksDbSortedIndexStorage implements SortedIndexStorage {
             try {
                 WriteBatchWithIndex writeBatch = partitionStorage.currentWriteBatch();
 
-                writeBatch.put(indexCf.handle(), rocksKey(row), BYTE_EMPTY_ARRAY);
+                writeBatch.put(indexCf.handle(), rocksKey(row), tupleBytes(row.indexColumns()));
 
                 return null;
             } catch (RocksDBException e) {
@@ -163,11 +152,11 @@ public class RocksDbSortedIndexStorage implements SortedIndexStorage {
     }
 
     private <T> PeekCursor<T> scan(
-            @Nullable BinaryTuplePrefix lowerBound,
-            @Nullable BinaryTuplePrefix upperBound,
+            @Nullable InternalTuple lowerBound,
+            @Nullable InternalTuple upperBound,
             boolean includeLower,
             boolean includeUpper,
-            Function<ByteBuffer, T> mapper
+            BiFunction<ByteBuffer, byte[], T> mapper
     ) {
         byte[] lowerBoundBytes;
 
@@ -178,7 +167,7 @@ public class RocksDbSortedIndexStorage implements SortedIndexStorage {
 
             // Skip the lower bound, if needed (RocksDB includes the lower bound by default).
             if (!includeLower) {
-                setEqualityFlag(lowerBoundBytes);
+                lowerBoundBytes = keysAfter(lowerBoundBytes);
             }
         }
 
@@ -191,7 +180,7 @@ public class RocksDbSortedIndexStorage implements SortedIndexStorage {
 
             // Include the upper bound, if needed (RocksDB excludes the upper bound by default).
             if (includeUpper) {
-                setEqualityFlag(upperBoundBytes);
+                upperBoundBytes = keysAfter(upperBoundBytes);
             }
         }
 
@@ -201,7 +190,7 @@ public class RocksDbSortedIndexStorage implements SortedIndexStorage {
     private <T> PeekCursor<T> createScanCursor(
             byte @Nullable [] lowerBound,
             byte @Nullable [] upperBound,
-            Function<ByteBuffer, T> mapper
+            BiFunction<ByteBuffer, byte[], T> mapper
     ) {
         Slice upperBoundSlice = upperBound == null ? new Slice(partitionStorage.partitionEndPrefix()) : new Slice(upperBound);
 
@@ -215,6 +204,8 @@ public class RocksDbSortedIndexStorage implements SortedIndexStorage {
 
             private byte @Nullable [] key;
 
+            private byte @Nullable [] value;
+
             @Override
             public void close() {
                 try {
@@ -246,7 +237,7 @@ public class RocksDbSortedIndexStorage implements SortedIndexStorage {
 
                     this.hasNext = null;
 
-                    return mapper.apply(ByteBuffer.wrap(key).order(ORDER));
+                    return mapper.apply(ByteBuffer.wrap(key).order(ORDER), value);
                 });
             }
 
@@ -257,7 +248,7 @@ public class RocksDbSortedIndexStorage implements SortedIndexStorage {
 
                     if (hasNext != null) {
                         if (hasNext) {
-                            return mapper.apply(ByteBuffer.wrap(key).order(ORDER));
+                            return mapper.apply(ByteBuffer.wrap(key).order(ORDER), value);
                         }
 
                         return null;
@@ -270,7 +261,7 @@ public class RocksDbSortedIndexStorage implements SortedIndexStorage {
 
                         return null;
                     } else {
-                        return mapper.apply(ByteBuffer.wrap(it.key()).order(ORDER));
+                        return mapper.apply(ByteBuffer.wrap(it.key()).order(ORDER), it.value());
                     }
                 });
             }
@@ -290,6 +281,7 @@ public class RocksDbSortedIndexStorage implements SortedIndexStorage {
                     hasNext = false;
                 } else {
                     key = it.key();
+                    value = it.value();
 
                     hasNext = true;
                 }
@@ -319,59 +311,47 @@ public class RocksDbSortedIndexStorage implements SortedIndexStorage {
         };
     }
 
-    private static void setEqualityFlag(byte[] prefix) {
-        // Flags start after the partition ID.
-        byte flags = prefix[Short.BYTES];
+    /**
+     * Returns the smallest key that is greater than all the keys starting with the given prefix.
+     */
+    private byte[] keysAfter(byte[] prefix) {
+        byte[] res = incrementPrefix(prefix);
 
-        prefix[Short.BYTES] = (byte) (flags | BinaryTupleCommon.EQUALITY_FLAG);
+        return res == null ? partitionStorage.partitionEndPrefix() : res;
     }
 
-    private IndexRow decodeRow(ByteBuffer bytes) {
-        assert bytes.getShort(0) == partitionStorage.partitionId();
+    private IndexRow decodeRow(ByteBuffer key, byte[] value) {
+        assert key.getShort(0) == partitionStorage.partitionId();
 
-        var tuple = new BinaryTuple(descriptor.binaryTupleSchema(), binaryTupleSlice(bytes));
+        var tuple = new BinaryTuple(descriptor.binaryTupleSchema(), ByteBuffer.wrap(value).order(ByteOrder.LITTLE_ENDIAN));
 
-        return new IndexRowImpl(tuple, decodeRowId(bytes));
+        return new IndexRowImpl(tuple, decodeRowId(key));
     }
 
-    private RowId decodeRowId(ByteBuffer bytes) {
+    private RowId decodeRowId(ByteBuffer key) {
         // RowId UUID is located at the last 16 bytes of the key
-        long mostSignificantBits = bytes.getLong(bytes.limit() - Long.BYTES * 2);
-        long leastSignificantBits = bytes.getLong(bytes.limit() - Long.BYTES);
+        long mostSignificantBits = SortedIndexKeyEncoder.decodeRowIdBits(key.getLong(key.limit() - Long.BYTES * 2));
+        long leastSignificantBits = SortedIndexKeyEncoder.decodeRowIdBits(key.getLong(key.limit() - Long.BYTES));
 
         return new RowId(partitionStorage.partitionId(), mostSignificantBits, leastSignificantBits);
     }
 
-    private byte[] rocksPrefix(BinaryTuplePrefix prefix) {
-        ByteBuffer bytes = prefix.byteBuffer();
-
-        return ByteBuffer.allocate(Short.BYTES + bytes.remaining())
-                .order(ORDER)
-                .putShort((short) partitionStorage.partitionId())
-                .put(bytes)
-                .array();
+    private byte[] rocksPrefix(InternalTuple prefix) {
+        return SortedIndexKeyEncoder.encode(descriptor, partitionStorage.partitionId(), prefix, null);
     }
 
     private byte[] rocksKey(IndexRow row) {
-        ByteBuffer bytes = row.indexColumns().byteBuffer();
-
-        return ByteBuffer.allocate(Short.BYTES + bytes.remaining() + ROW_ID_SIZE)
-                .order(ORDER)
-                .putShort((short) partitionStorage.partitionId())
-                .put(bytes)
-                .putLong(row.rowId().mostSignificantBits())
-                .putLong(row.rowId().leastSignificantBits())
-                .array();
+        return SortedIndexKeyEncoder.encode(descriptor, partitionStorage.partitionId(), row.indexColumns(), row.rowId());
     }
 
-    private static ByteBuffer binaryTupleSlice(ByteBuffer key) {
-        return key.duplicate()
-                // Discard partition ID.
-                .position(Short.BYTES)
-                // Discard row ID.
-                .limit(key.limit() - ROW_ID_SIZE)
-                .slice()
-                .order(ByteOrder.LITTLE_ENDIAN);
+    private static byte[] tupleBytes(BinaryTuple tuple) {
+        ByteBuffer bytes = tuple.byteBuffer();
+
+        byte[] res = new byte[bytes.remaining()];
+
+        bytes.get(res);
+
+        return res;
     }
 
     /**
@@ -0,0 +1,362 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb.index;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.UUID;
+import org.apache.ignite.internal.schema.row.InternalTuple;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.index.BinaryTupleComparator;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor.SortedIndexColumnDescriptor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Encoder of the sorted index keys, unsigned lexicographic order of the encoded keys is the order of {@link BinaryTupleComparator}.
+ *
+ * <p>Such keys are compared by the native bytewise comparator of RocksDB, without calling back to Java. Key format:
+ * <pre>
+ * Partition ID - 2 bytes
+ * Columns - variable length
+ * Row ID (UUID) - 16 bytes, absent in the scan bounds
+ * </pre>
+ *
+ * <p>Every column starts with a marker byte, nulls are greater than any value (like in {@link BinaryTupleComparator}). Values of
+ * the fixed size types follow the marker as the big-endian numbers, with the sign bits flipped for the signed ones. Values of the
+ * variable length types are terminated by {@code 0x00 0x01}, zero bytes of such values are escaped as {@code 0x00 0xFF}. All bytes
+ * of a descending column are inverted. Since the encoding of a column is never a prefix of the encoding of another value, the
+ * encoding of a prefix of the columns is a prefix of the keys starting with these columns.
+ */
+class SortedIndexKeyEncoder {
+    /** Marker of a non-null value. */
+    private static final byte VALUE = 0x01;
+
+    /** Marker of a null value. */
+    private static final byte NULL = 0x02;
+
+    /** Terminator of a variable length value. */
+    private static final byte[] TERMINATOR = {0x00, 0x01};
+
+    /** Second byte of an escaped zero byte of a variable length value. */
+    private static final byte ESCAPE = (byte) 0xFF;
+
+    /** Sign of a negative decimal, the sign of a positive one is inverted. */
+    private static final byte NEGATIVE = 0x01;
+
+    /** Sign of the zero decimal. */
+    private static final byte ZERO = 0x02;
+
+    private final SortedIndexDescriptor descriptor;
+
+    /** Encoded key. */
+    private byte[] buf = new byte[64];
+
+    /** Length of the encoded key. */
+    private int len;
+
+    private SortedIndexKeyEncoder(SortedIndexDescriptor descriptor) {
+        this.descriptor = descriptor;
+    }
+
+    /**
+     * Encodes the key.
+     *
+     * @param descriptor Sorted Index descriptor.
+     * @param partitionId Partition ID.
+     * @param tuple Tuple or prefix of the indexed columns.
+     * @param rowId Row ID or {@code null} if the key is a scan bound.
+     * @return Encoded key.
+     */
+    static byte[] encode(SortedIndexDescriptor descriptor, int partitionId, InternalTuple tuple, @Nullable RowId rowId) {
+        var encoder = new SortedIndexKeyEncoder(descriptor);
+
+        encoder.putShort((short) partitionId);
+
+        for (int i = 0; i < tuple.count(); i++) {
+            int start = encoder.len;
+
+            encoder.putColumn(tuple, i);
+
+            if (!descriptor.columns().get(i).asc()) {
+                encoder.invert(start);
+            }
+        }
+
+        if (rowId != null) {
+            encoder.putLong(rowId.mostSignificantBits() ^ Long.MIN_VALUE);
+            encoder.putLong(rowId.leastSignificantBits() ^ Long.MIN_VALUE);
+        }
+
+        return Arrays.copyOf(encoder.buf, encoder.len);
+    }
+
+    /**
+     * Decodes the most or the least significant bits of the row ID stored at the end of a key.
+     */
+    static long decodeRowIdBits(long encoded) {
+        return encoded ^ Long.MIN_VALUE;
+    }
+
+    private void putColumn(InternalTuple tuple, int col) {
+        if (tuple.hasNullValue(col)) {
+            put(NULL);
+
+            return;
+        }
+
+        put(VALUE);
+
+        SortedIndexColumnDescriptor columnDescriptor = descriptor.columns().get(col);
+
+        switch (columnDescriptor.type().spec()) {
+            case INT8:
+                put((byte) (tuple.byteValue(col) ^ Byte.MIN_VALUE));
+                break;
+
+            case INT16:
+                putShort((short) (tuple.shortValue(col) ^ Short.MIN_VALUE));
+                break;
+
+            case INT32:
+                putInt(tuple.intValue(col) ^ Integer.MIN_VALUE);
+                break;
+
+            case INT64:
+                putLong(tuple.longValue(col) ^ Long.MIN_VALUE);
+                break;
+
+            case FLOAT: {
+                // Same order as Float.compare: -0.0 is less than 0.0, NaN is greater than any other value.
+                int bits = Float.floatToIntBits(tuple.floatValue(col));
+
+                putInt(bits < 0 ? ~bits : bits ^ Integer.MIN_VALUE);
+                break;
+            }
+
+            case DOUBLE: {
+                long bits = Double.doubleToLongBits(tuple.doubleValue(col));
+
+                putLong(bits < 0 ? ~bits : bits ^ Long.MIN_VALUE);
+                break;
+            }
+
+            case DECIMAL:
+                putDecimal(tuple.decimalValue(col));
+                break;
+
+            case NUMBER:
+                putDecimal(new BigDecimal(tuple.numberValue(col)));
+                break;
+
+            case UUID: {
+                UUID uuid = tuple.uuidValue(col);
+
+                putLong(uuid.getMostSignificantBits() ^ Long.MIN_VALUE);
+                putLong(uuid.getLeastSignificantBits() ^ Long.MIN_VALUE);
+                break;
+            }
+
+            case STRING:
+                putString(tuple.stringValue(col));
+                break;
+
+            case BYTES: {
+                // Bytes are compared as signed values.
+                for (byte b : tuple.bytesValue(col)) {
+                    putEscaped((byte) (b ^ Byte.MIN_VALUE));
+                }
+
+                putTerminator();
+                break;
+            }
+
+            case BITMASK: {
+                for (long word : tuple.bitmaskValue(col).toLongArray()) {
+                    long bits = word ^ Long.MIN_VALUE;
+
+                    for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+                        putEscaped((byte) (bits >>> shift));
+                    }
+                }
+
+                putTerminator();
+                break;
+            }
+
+            case DATE:
+                putDate(tuple.dateValue(col));
+                break;
+
+            case TIME:
+                putTime(tuple.timeValue(col));
+                break;
+
+            case DATETIME: {
+                LocalDateTime dateTime = tuple.dateTimeValue(col);
+
+                putDate(dateTime.toLocalDate());
+                putTime(dateTime.toLocalTime());
+                break;
+            }
+
+            case TIMESTAMP: {
+                Instant instant = tuple.timestampValue(col);
+
+                putLong(instant.getEpochSecond() ^ Long.MIN_VALUE);
+                putInt(instant.getNano());
+                break;
+            }
+
+            default:
+                throw new IllegalArgumentException(String.format(
+                        "Unsupported column type in sorted index key encoder. Column name: %s, column type: %s",
+                        columnDescriptor.name(), columnDescriptor.type()
+                ));
+        }
+    }
+
+    private void putDate(LocalDate date) {
+        putLong(date.toEpochDay() ^ Long.MIN_VALUE);
+    }
+
+    private void putTime(LocalTime time) {
+        putLong(time.toNanoOfDay());
+    }
+
+    /**
+     * Writes a string as a sequence of UTF-16 code units, each one encoded like in UTF-8 (also known as CESU-8). Unlike UTF-8, the
+     * order of such bytes is the order of {@link String#compareTo}.
+     */
+    private void putString(String str) {
+        ensureCapacity(str.length() * 3 + TERMINATOR.length);
+
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+
+            if (c == 0) {
+                put((byte) 0);
+                put(ESCAPE);
+            } else if (c < 0x80) {
+                put((byte) c);
+            } else if (c < 0x800) {
+                put((byte) (0xC0 | (c >> 6)));
+                put((byte) (0x80 | (c & 0x3F)));
+            } else {
+                put((byte) (0xE0 | (c >> 12)));
+                put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+
+        putTerminator();
+    }
+
+    /**
+     * Writes a decimal as the sign, the exponent and the digits of the normalized unscaled value, the value being {@code 0.digits *
+     * 10 ^ exponent}. All bytes of a negative decimal but the sign are inverted.
+     */
+    private void putDecimal(BigDecimal val) {
+        int signum = val.signum();
+
+        if (signum == 0) {
+            put(ZERO);
+
+            return;
+        }
+
+        put(signum < 0 ? NEGATIVE : (byte) ~NEGATIVE);
+
+        int start = len;
+
+        BigDecimal normalized = val.abs().stripTrailingZeros();
+        String digits = normalized.unscaledValue().toString();
+
+        putInt((normalized.precision() - normalized.scale()) ^ Integer.MIN_VALUE);
+
+        ensureCapacity(digits.length() + 1);
+
+        for (int i = 0; i < digits.length(); i++) {
+            put((byte) digits.charAt(i));
+        }
+
+        // Digits are never zero bytes, the shorter mantissa is the lesser one.
+        put((byte) 0);
+
+        if (signum < 0) {
+            invert(start);
+        }
+    }
+
+    /** Inverts the bytes written starting from the given position. */
+    private void invert(int start) {
+        for (int i = start; i < len; i++) {
+            buf[i] = (byte) ~buf[i];
+        }
+    }
+
+    private void putEscaped(byte b) {
+        put(b);
+
+        if (b == 0) {
+            put(ESCAPE);
+        }
+    }
+
+    private void putTerminator() {
+        put(TERMINATOR[0]);
+        put(TERMINATOR[1]);
+    }
+
+    private void putShort(short val) {
+        put((byte) (val >>> 8));
+        put((byte) val);
+    }
+
+    private void putInt(int val) {
+        ensureCapacity(Integer.BYTES);
+
+        for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            buf[len++] = (byte) (val >>> shift);
+        }
+    }
+
+    private void putLong(long val) {
+        ensureCapacity(Long.BYTES);
+
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            buf[len++] = (byte) (val >>> shift);
+        }
+    }
+
+    private void put(byte b) {
+        ensureCapacity(1);
+
+        buf[len++] = b;
+    }
+
+    private void ensureCapacity(int size) {
+        if (len + size > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, len + size));
+        }
+    }
+}
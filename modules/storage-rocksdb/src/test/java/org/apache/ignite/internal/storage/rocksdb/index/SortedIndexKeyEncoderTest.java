@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb.index;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.schema.NativeType;
+import org.apache.ignite.internal.schema.NativeTypes;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.index.BinaryTupleComparator;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor.SortedIndexColumnDescriptor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests for the {@link SortedIndexKeyEncoder} class.
+ */
+public class SortedIndexKeyEncoderTest {
+    private static Stream<Arguments> values() {
+        return Stream.of(
+                Arguments.of(NativeTypes.INT8, List.of(Byte.MIN_VALUE, (byte) -1, (byte) 0, (byte) 1, Byte.MAX_VALUE)),
+                Arguments.of(NativeTypes.INT16, List.of(Short.MIN_VALUE, (short) -1, (short) 0, (short) 256, Short.MAX_VALUE)),
+                Arguments.of(NativeTypes.INT32, List.of(Integer.MIN_VALUE, -256, -1, 0, 1, 256, Integer.MAX_VALUE)),
+                Arguments.of(NativeTypes.INT64, List.of(Long.MIN_VALUE, -1L, 0L, 1L, 1L << 40, Long.MAX_VALUE)),
+                Arguments.of(NativeTypes.FLOAT, List.of(Float.NEGATIVE_INFINITY, -1.5f, -Float.MIN_VALUE, -0.0f, 0.0f, Float.MIN_VALUE,
+                        1.5f, Float.MAX_VALUE, Float.POSITIVE_INFINITY, Float.NaN)),
+                Arguments.of(NativeTypes.DOUBLE, List.of(Double.NEGATIVE_INFINITY, -1.5, -Double.MIN_VALUE, -0.0, 0.0, Double.MIN_VALUE,
+                        1.5, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN)),
+                Arguments.of(NativeTypes.decimalOf(20, 3), Stream.of("-1000", "-123.45", "-123.4", "-0.001", "0", "0.001", "0.01", "0.011",
+                        "1", "1.5", "9.999", "10", "100", "123.4", "123.45").map(BigDecimal::new).collect(toList())),
+                Arguments.of(NativeTypes.numberOf(30), Stream.of("-100000000000000000000", "-10", "-9", "0", "9", "10", "11",
+                        "100000000000000000000").map(BigInteger::new).collect(toList())),
+                Arguments.of(NativeTypes.UUID, List.of(new UUID(Long.MIN_VALUE, 0), new UUID(-1, -1), new UUID(0, Long.MIN_VALUE),
+                        new UUID(0, 0), new UUID(0, 1), new UUID(Long.MAX_VALUE, Long.MAX_VALUE))),
+                Arguments.of(NativeTypes.STRING, List.of("", "\0", "\0\0", "\0a", "\u0001", "a", "a\0", "a\0b", "a\u0001", "ab",
+                        "\u00E9", "\u07FF", "\u0800", "\uD800\uDC00", "\uD83D\uDE00", "\uE000", "\uFFFF")),
+                Arguments.of(NativeTypes.BYTES, List.of(new byte[] {Byte.MIN_VALUE}, new byte[] {-1}, new byte[0], new byte[] {0},
+                        new byte[] {0, 0}, new byte[] {0, 1}, new byte[] {1}, new byte[] {1, 0}, new byte[] {Byte.MAX_VALUE})),
+                Arguments.of(NativeTypes.bitmaskOf(128), List.of(BitSet.valueOf(new long[] {Long.MIN_VALUE}), BitSet.valueOf(new long[0]),
+                        BitSet.valueOf(new long[] {1}), BitSet.valueOf(new long[] {1, 1}), BitSet.valueOf(new long[] {2}))),
+                Arguments.of(NativeTypes.DATE, List.of(LocalDate.MIN, LocalDate.of(1969, 12, 31), LocalDate.of(1970, 1, 1),
+                        LocalDate.of(2023, 1, 31), LocalDate.of(2023, 2, 1), LocalDate.MAX)),
+                Arguments.of(NativeTypes.time(), List.of(LocalTime.MIN, LocalTime.of(0, 0, 1), LocalTime.NOON, LocalTime.MAX)),
+                Arguments.of(NativeTypes.datetime(), List.of(LocalDateTime.of(1969, 12, 31, 23, 59), LocalDateTime.of(1970, 1, 1, 0, 0),
+                        LocalDateTime.of(1970, 1, 1, 0, 1))),
+                Arguments.of(NativeTypes.timestamp(), List.of(Instant.ofEpochSecond(-1, 999_999_999), Instant.EPOCH,
+                        Instant.ofEpochSecond(0, 1), Instant.ofEpochSecond(1)))
+        );
+    }
+
+    /**
+     * Tests that the byte order of the encoded keys is the order of {@link BinaryTupleComparator}, for both sort orders and nulls.
+     */
+    @ParameterizedTest
+    @MethodSource("values")
+    public void testOrder(NativeType type, List<Object> values) {
+        for (boolean asc : new boolean[] {true, false}) {
+            var descriptor = new SortedIndexDescriptor(
+                    UUID.randomUUID(),
+                    List.of(new SortedIndexColumnDescriptor("column", type, true, asc))
+            );
+
+            var comparator = new BinaryTupleComparator(descriptor);
+
+            List<ByteBuffer> tuples = new ArrayList<>();
+
+            for (Object value : values) {
+                tuples.add(tuple(value));
+            }
+
+            tuples.add(tuple(null));
+
+            for (ByteBuffer tuple1 : tuples) {
+                for (ByteBuffer tuple2 : tuples) {
+                    byte[] key1 = encode(descriptor, tuple1);
+                    byte[] key2 = encode(descriptor, tuple2);
+
+                    assertEquals(
+                            Integer.signum(comparator.compare(tuple1, tuple2)),
+                            Integer.signum(Arrays.compareUnsigned(key1, key2)),
+                            "asc=" + asc + ", tuple1=" + Arrays.toString(key1) + ", tuple2=" + Arrays.toString(key2)
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that the row ID is compared after the columns and is stored in the last bytes of the key.
+     */
+    @Test
+    public void testRowId() {
+        var descriptor = new SortedIndexDescriptor(
+                UUID.randomUUID(),
+                List.of(new SortedIndexColumnDescriptor("column", NativeTypes.INT32, false, true))
+        );
+
+        var tuple = new BinaryTuple(descriptor.binaryTupleSchema(), tuple(1));
+
+        byte[] prefix = SortedIndexKeyEncoder.encode(descriptor, 1, tuple, null);
+        byte[] key1 = SortedIndexKeyEncoder.encode(descriptor, 1, tuple, new RowId(1, -1, 0));
+        byte[] key2 = SortedIndexKeyEncoder.encode(descriptor, 1, tuple, new RowId(1, 1, 0));
+
+        assertArrayEquals(prefix, Arrays.copyOf(key1, prefix.length));
+        assertEquals(-1, Integer.signum(Arrays.compareUnsigned(prefix, key1)));
+        assertEquals(-1, Integer.signum(Arrays.compareUnsigned(key1, key2)));
+
+        ByteBuffer buf = ByteBuffer.wrap(key1);
+
+        assertEquals(-1L, SortedIndexKeyEncoder.decodeRowIdBits(buf.getLong(key1.length - Long.BYTES * 2)));
+        assertEquals(0L, SortedIndexKeyEncoder.decodeRowIdBits(buf.getLong(key1.length - Long.BYTES)));
+    }
+
+    private static byte[] encode(SortedIndexDescriptor descriptor, ByteBuffer tuple) {
+        return SortedIndexKeyEncoder.encode(descriptor, 0, new BinaryTuple(descriptor.binaryTupleSchema(), tuple), null);
+    }
+
+    private static ByteBuffer tuple(Object value) {
+        BinaryTupleBuilder builder = new BinaryTupleBuilder(1, true);
+
+        if (value == null) {
+            builder.appendNull();
+        } else if (value instanceof Byte) {
+            builder.appendByte((Byte) value);
+        } else if (value instanceof Short) {
+            builder.appendShort((Short) value);
+        } else if (value instanceof Integer) {
+            builder.appendInt((Integer) value);
+        } else if (value instanceof Long) {
+            builder.appendLong((Long) value);
+        } else if (value instanceof Float) {
+            builder.appendFloat((Float) value);
+        } else if (value instanceof Double) {
+            builder.appendDouble((Double) value);
+        } else if (value instanceof BigDecimal) {
+            builder.appendDecimal((BigDecimal) value, 3);
+        } else if (value instanceof BigInteger) {
+            builder.appendNumber((BigInteger) value);
+        } else if (value instanceof UUID) {
+            builder.appendUuid((UUID) value);
+        } else if (value instanceof String) {
+            builder.appendString((String) value);
+        } else if (value instanceof byte[]) {
+            builder.appendBytes((byte[]) value);
+        } else if (value instanceof BitSet) {
+            builder.appendBitmask((BitSet) value);
+        } else if (value instanceof LocalDate) {
+            builder.appendDate((LocalDate) value);
+        } else if (value instanceof LocalTime) {
+            builder.appendTime((LocalTime) value);
+        } else if (value instanceof LocalDateTime) {
+            builder.appendDateTime((LocalDateTime) value);
+        } else {
+            builder.appendTimestamp((Instant) value);
+        }
+
+        return builder.build();
+    }
+}
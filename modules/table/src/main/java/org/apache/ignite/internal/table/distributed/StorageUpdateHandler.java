@@ -25,8 +25,11 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.schema.BinaryRow;
@@ -124,13 +127,24 @@ public class StorageUpdateHandler {
             int commitPartId = commitPartitionId.partitionId();
 
             if (!nullOrEmpty(rowsToUpdate)) {
-                List<RowId> rowIds = new ArrayList<>();
+                // Rows are written in the order of row ids, which lets the storage process them in a single pass.
+                SortedMap<RowId, BinaryRow> rows = new TreeMap<>();
 
                 for (Map.Entry<UUID, ByteBuffer> entry : rowsToUpdate.entrySet()) {
                     RowId rowId = new RowId(partitionId, entry.getKey());
                     BinaryRow row = entry.getValue() != null ? new ByteBufferRow(entry.getValue()) : null;
 
-                    BinaryRow oldRow = storage.addWrite(rowId, row, txId, commitTblId, commitPartId);
+                    rows.put(rowId, row);
+                }
+
+                Map<RowId, BinaryRow> oldRows = storage.addWriteAll(rows, txId, commitTblId, commitPartId);
+
+                List<RowId> rowIds = new ArrayList<>(rows.size());
+
+                for (Map.Entry<RowId, BinaryRow> entry : rows.entrySet()) {
+                    RowId rowId = entry.getKey();
+
+                    BinaryRow oldRow = oldRows.get(rowId);
 
                     if (oldRow != null) {
                         // Previous uncommitted row should be removed from indexes.
@@ -138,7 +152,7 @@ public class StorageUpdateHandler {
                     }
 
                     rowIds.add(rowId);
-                    addToIndexes(row, rowId);
+                    addToIndexes(entry.getValue(), rowId);
                 }
 
                 if (onReplication != null) {
@@ -263,26 +277,58 @@ public class StorageUpdateHandler {
      * @see MvPartitionStorage#pollForVacuum(HybridTimestamp)
      */
     public boolean vacuum(HybridTimestamp lowWatermark) {
+        return storage.runConsistently(() -> internalVacuum(lowWatermark) != null);
+    }
+
+    /**
+     * Tries removing up to {@code count} oldest stale entries of the partition and their indexes, in a single storage write.
+     *
+     * @param lowWatermark Low watermark for the vacuum.
+     * @param count Maximum number of the entries to remove.
+     * @param onVacuumed Consumer of the sizes (in bytes) of the removed entries.
+     * @return Number of the removed entries, less than {@code count} if there's nothing more to collect.
+     * @see MvPartitionStorage#pollForVacuum(HybridTimestamp)
+     */
+    public int vacuumBatch(HybridTimestamp lowWatermark, int count, IntConsumer onVacuumed) {
         return storage.runConsistently(() -> {
-            BinaryRowAndRowId vacuumed = storage.pollForVacuum(lowWatermark);
+            for (int i = 0; i < count; i++) {
+                BinaryRow vacuumed = internalVacuum(lowWatermark);
+
+                if (vacuumed == null) {
+                    return i;
+                }
 
-            if (vacuumed == null) {
-                // Nothing was garbage collected.
-                return false;
+                onVacuumed.accept(vacuumed.byteBuffer().remaining());
             }
 
-            BinaryRow binaryRow = vacuumed.binaryRow();
+            return count;
+        });
+    }
+
+    /**
+     * Executes the vacuum of a single entry, must be called inside {@link PartitionDataStorage#runConsistently}.
+     *
+     * @return Garbage collected row or {@code null} if there was nothing to collect.
+     */
+    private @Nullable BinaryRow internalVacuum(HybridTimestamp lowWatermark) {
+        BinaryRowAndRowId vacuumed = storage.pollForVacuum(lowWatermark);
+
+        if (vacuumed == null) {
+            // Nothing was garbage collected.
+            return null;
+        }
 
-            assert binaryRow != null;
+        BinaryRow binaryRow = vacuumed.binaryRow();
 
-            RowId rowId = vacuumed.rowId();
+        assert binaryRow != null;
 
-            try (Cursor<ReadResult> cursor = storage.scanVersions(rowId)) {
-                tryRemoveFromIndexes(binaryRow, rowId, cursor);
-            }
+        RowId rowId = vacuumed.rowId();
 
-            return true;
-        });
+        try (Cursor<ReadResult> cursor = storage.scanVersions(rowId)) {
+            tryRemoveFromIndexes(binaryRow, rowId, cursor);
+        }
+
+        return binaryRow;
     }
 
     private void addToIndexes(@Nullable BinaryRow binaryRow, RowId rowId) {
@@ -122,6 +122,7 @@ import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.table.IgniteTablesInternal;
 import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.table.TableImpl;
+import org.apache.ignite.internal.table.distributed.gc.MvGc;
 import org.apache.ignite.internal.table.distributed.message.HasDataRequest;
 import org.apache.ignite.internal.table.distributed.message.HasDataResponse;
 import org.apache.ignite.internal.table.distributed.raft.PartitionDataStorage;
@@ -292,6 +293,9 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
     /** Incoming RAFT snapshots executor. */
     private final ExecutorService incomingSnapshotsExecutor;
 
+    /** Garbage collector of the stale row versions. */
+    private final MvGc mvGc;
+
     /** Rebalance scheduler pool size. */
     private static final int REBALANCE_SCHEDULER_POOL_SIZE = Math.min(Runtime.getRuntime().availableProcessors() * 3, 20);
 
@@ -362,6 +366,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
         this.clock = clock;
         this.outgoingSnapshotsManager = outgoingSnapshotsManager;
 
+        mvGc = new MvGc(nodeName, tablesCfg.gcConfig(), clock);
+
         clusterNodeResolver = topologyService::getByConsistentId;
 
         placementDriver = new PlacementDriver(replicaSvc, clusterNodeResolver);
@@ -456,6 +462,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
     /** {@inheritDoc} */
     @Override
     public void start() {
+        mvGc.start();
+
         tablesCfg.tables().any().replicas().listen(this::onUpdateReplicas);
 
         // TODO: IGNITE-18694 - Recovery for the case when zones watch listener processed event but assignments were not updated.
@@ -742,7 +750,14 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                                 internalTbl, partId));
 
                 CompletableFuture<StorageUpdateHandler> storageUpdateHandlerFut = partitionDataStorageFut
-                        .thenApply(storage -> new StorageUpdateHandler(partId, storage, table.indexStorageAdapters(partId)));
+                        .thenApply(storage -> {
+                            StorageUpdateHandler storageUpdateHandler =
+                                    new StorageUpdateHandler(partId, storage, table.indexStorageAdapters(partId));
+
+                            mvGc.addStorage(replicaGrpId, storageUpdateHandler);
+
+                            return storageUpdateHandler;
+                        });
 
                 CompletableFuture<Void> startGroupFut;
 
@@ -989,6 +1004,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
 
         busyLock.block();
 
+        mvGc.stop();
+
         metaStorageMgr.unregisterWatch(distributionZonesDataNodesListener);
 
         metaStorageMgr.unregisterWatch(pendingAssignmentsRebalanceListener);
@@ -1247,6 +1264,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                 raftMgr.stopRaftNodes(replicationGroupId);
 
                 replicaMgr.stopReplica(replicationGroupId);
+
+                mvGc.removeStorage(replicationGroupId);
             }
 
             tablesByIdVv.update(causalityToken, (previousVal, e) -> inBusyLock(busyLock, () -> {
@@ -1631,6 +1650,13 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
         }
     }
 
+    /**
+     * Returns the garbage collector of the stale row versions.
+     */
+    public MvGc mvGc() {
+        return mvGc;
+    }
+
     /**
      * Actual tables map.
      *
@@ -1989,6 +2015,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                         StorageUpdateHandler storageUpdateHandler =
                                 new StorageUpdateHandler(partId, partitionDataStorage, tbl.indexStorageAdapters(partId));
 
+                        mvGc.addStorage(replicaGrpId, storageUpdateHandler);
+
                         RaftGroupOptions groupOptions = groupOptionsForPartition(
                                 internalTable.storage(),
                                 internalTable.txStateStorage(),
@@ -2246,6 +2274,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                     // no-op
                 }
 
+                mvGc.removeStorage(tablePartitionId);
+
                 InternalTable internalTable = tablesByIdVv.latest().get(tableId).internalTable();
 
                 // TODO: IGNITE-18703 Destroy raft log and meta
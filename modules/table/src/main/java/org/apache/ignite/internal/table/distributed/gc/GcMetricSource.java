@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.gc;
+
+import java.util.function.LongSupplier;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+import org.apache.ignite.internal.table.distributed.gc.GcMetricSource.Holder;
+
+/**
+ * Metric source of the garbage collector of the stale row versions.
+ */
+public class GcMetricSource extends AbstractMetricSource<Holder> {
+    /** Source name. */
+    public static final String SOURCE_NAME = "table.gc";
+
+    /** Supplier of the number of the partitions waiting for the vacuum. */
+    private final LongSupplier backlog;
+
+    /** Supplier of the physical time of the low watermark. */
+    private final LongSupplier lowWatermark;
+
+    /**
+     * Constructor.
+     *
+     * @param backlog Supplier of the number of the partitions waiting for the vacuum or being vacuumed.
+     * @param lowWatermark Supplier of the physical time of the low watermark, {@code 0} if it's not known yet.
+     */
+    GcMetricSource(LongSupplier backlog, LongSupplier lowWatermark) {
+        super(SOURCE_NAME);
+
+        this.backlog = backlog;
+        this.lowWatermark = lowWatermark;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void init(MetricSetBuilder bldr, Holder holder) {
+        holder.vacuumedVersions = bldr.longAdder("VacuumedVersions", "Total number of the stale row versions removed by the vacuum.");
+
+        holder.vacuumedBytes = bldr.longAdder("VacuumedBytes", "Total size in bytes of the stale row versions removed by the vacuum.");
+
+        bldr.longGauge("Backlog", "Number of the partitions waiting for the vacuum or being vacuumed.", backlog);
+
+        bldr.longGauge("LowWatermark", "Physical time of the low watermark in milliseconds.", lowWatermark);
+    }
+
+    /**
+     * Records that a stale row version was removed.
+     *
+     * @param bytes Size of the row version in bytes.
+     */
+    void onVacuumed(int bytes) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.vacuumedVersions.increment();
+            holder.vacuumedBytes.add(bytes);
+        }
+    }
+
+    /**
+     * Holder class.
+     */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private LongAdderMetric vacuumedVersions;
+
+        private LongAdderMetric vacuumedBytes;
+    }
+}
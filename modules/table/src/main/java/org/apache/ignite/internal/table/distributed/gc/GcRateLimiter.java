@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.gc;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Limiter of the rate of the vacuum, shared by all the partitions of a node.
+ *
+ * <p>A batch acquires the budget of its maximum size before it starts, the budget left unused by a smaller batch is released after it.
+ * Unused budget is not accumulated, so an idle period doesn't allow a burst of writes afterwards.
+ */
+class GcRateLimiter {
+    /** Supplier of the maximum number of the row versions removed per second, non-positive value means no limit. */
+    private final IntSupplier rate;
+
+    /** Time (in nanoseconds) since which the next batch is allowed. */
+    private final AtomicLong nextBatchNanos = new AtomicLong(System.nanoTime());
+
+    /**
+     * Constructor.
+     *
+     * @param rate Supplier of the maximum number of the row versions removed per second, non-positive value means no limit.
+     */
+    GcRateLimiter(IntSupplier rate) {
+        this.rate = rate;
+    }
+
+    /**
+     * Tries to acquire the budget for a batch.
+     *
+     * @param batchSize Maximum number of the row versions removed by the batch.
+     * @return {@code 0} if the budget is acquired, otherwise the delay (in nanoseconds) before the next attempt.
+     */
+    long tryAcquire(int batchSize) {
+        int rate = this.rate.getAsInt();
+
+        if (rate <= 0) {
+            return 0;
+        }
+
+        while (true) {
+            long next = nextBatchNanos.get();
+
+            long now = System.nanoTime();
+
+            if (next - now > 0) {
+                return next - now;
+            }
+
+            if (nextBatchNanos.compareAndSet(next, now + costNanos(batchSize, rate))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Releases the budget left unused by a batch.
+     *
+     * @param count Number of the row versions the batch was allowed to remove but didn't.
+     */
+    void release(int count) {
+        int rate = this.rate.getAsInt();
+
+        if (rate <= 0 || count <= 0) {
+            return;
+        }
+
+        nextBatchNanos.addAndGet(-costNanos(count, rate));
+    }
+
+    private static long costNanos(int count, int rate) {
+        return count * TimeUnit.SECONDS.toNanos(1) / rate;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.gc;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.table.distributed.StorageUpdateHandler;
+import org.apache.ignite.internal.util.IgniteSpinBusyLock;
+
+/**
+ * Partition storage handle of the garbage collector.
+ */
+class GcStorageHandler {
+    private final StorageUpdateHandler storageUpdateHandler;
+
+    /** Guards the batches of the vacuum from the removal of the storage. */
+    private final IgniteSpinBusyLock busyLock = new IgniteSpinBusyLock();
+
+    /** Whether the vacuum of the partition is scheduled or being executed. */
+    final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /** Whether the low watermark was moved since the start of the last batch. */
+    volatile boolean pending;
+
+    /** Whether the storage was removed from the garbage collector. */
+    private volatile boolean stopped;
+
+    GcStorageHandler(StorageUpdateHandler storageUpdateHandler) {
+        this.storageUpdateHandler = storageUpdateHandler;
+    }
+
+    /**
+     * Removes a batch of the stale row versions.
+     *
+     * @return Number of the removed row versions or {@code -1} if the storage was removed from the garbage collector.
+     * @see StorageUpdateHandler#vacuumBatch(HybridTimestamp, int, IntConsumer)
+     */
+    int vacuumBatch(HybridTimestamp lowWatermark, int count, IntConsumer onVacuumed) {
+        if (!busyLock.enterBusy()) {
+            return -1;
+        }
+
+        try {
+            return storageUpdateHandler.vacuumBatch(lowWatermark, count, onVacuumed);
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    boolean stopped() {
+        return stopped;
+    }
+
+    /**
+     * Stops the vacuum of the storage, waiting for the batch being executed.
+     */
+    void stop() {
+        stopped = true;
+
+        busyLock.block();
+    }
+}
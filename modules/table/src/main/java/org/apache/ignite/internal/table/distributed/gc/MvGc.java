@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.gc;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.internal.util.IgniteUtils.inBusyLock;
+import static org.apache.ignite.internal.util.IgniteUtils.shutdownAndAwaitTermination;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ignite.internal.hlc.HybridClock;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.manager.IgniteComponent;
+import org.apache.ignite.internal.schema.configuration.GcConfiguration;
+import org.apache.ignite.internal.table.distributed.StorageUpdateHandler;
+import org.apache.ignite.internal.table.distributed.replicator.TablePartitionId;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.apache.ignite.internal.util.IgniteSpinBusyLock;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Garbage collector of the stale row versions (vacuum) of the partitions of a node.
+ *
+ * <p>The low watermark is moved by {@link #updateLowWatermark}, or, if {@link GcConfiguration#lowWatermarkUpdateEnabled()}, periodically
+ * to {@link GcConfiguration#dataAvailabilityTime()} before the current time of the local clock. After every move, the partitions are
+ * vacuumed by a pool of {@link GcConfiguration#threads()} threads. A partition is vacuumed in batches of
+ * {@link GcConfiguration#batchSize()} row versions, each batch being a single storage write, until there's no garbage below the low
+ * watermark left. Batches of all the partitions share the {@link GcConfiguration#rateLimit()} of the node, so the vacuum doesn't
+ * starve the user load of the disk bandwidth.
+ */
+public class MvGc implements IgniteComponent {
+    private static final IgniteLogger LOG = Loggers.forClass(MvGc.class);
+
+    private final String nodeName;
+
+    private final GcConfiguration gcConfig;
+
+    private final HybridClock clock;
+
+    private final Map<TablePartitionId, GcStorageHandler> storageHandlerByPartitionId = new ConcurrentHashMap<>();
+
+    private final AtomicReference<HybridTimestamp> lowWatermarkReference = new AtomicReference<>();
+
+    /** Number of the partitions waiting for the vacuum or being vacuumed. */
+    private final AtomicInteger backlog = new AtomicInteger();
+
+    private final GcRateLimiter rateLimiter;
+
+    private final GcMetricSource metricSource;
+
+    private final IgniteSpinBusyLock busyLock = new IgniteSpinBusyLock();
+
+    private final AtomicBoolean stopGuard = new AtomicBoolean();
+
+    private volatile ScheduledThreadPoolExecutor executor;
+
+    /**
+     * Constructor.
+     *
+     * @param nodeName Node name.
+     * @param gcConfig Garbage collector configuration.
+     * @param clock Hybrid clock.
+     */
+    public MvGc(String nodeName, GcConfiguration gcConfig, HybridClock clock) {
+        this.nodeName = nodeName;
+        this.gcConfig = gcConfig;
+        this.clock = clock;
+
+        rateLimiter = new GcRateLimiter(() -> gcConfig.rateLimit().value());
+
+        metricSource = new GcMetricSource(backlog::get, () -> {
+            HybridTimestamp lowWatermark = lowWatermarkReference.get();
+
+            return lowWatermark == null ? 0 : lowWatermark.getPhysical();
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        inBusyLock(busyLock, () -> {
+            executor = new ScheduledThreadPoolExecutor(gcConfig.threads().value(), NamedThreadFactory.create(nodeName, "mv-gc", LOG));
+
+            // Postponed batches are of no use after the stop.
+            executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+
+            if (gcConfig.lowWatermarkUpdateEnabled().value()) {
+                executor.scheduleWithFixedDelay(
+                        this::updateLowWatermarkFromClock,
+                        0,
+                        gcConfig.lowWatermarkUpdateFrequency().value(),
+                        MILLISECONDS
+                );
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() {
+        if (!stopGuard.compareAndSet(false, true)) {
+            return;
+        }
+
+        busyLock.block();
+
+        storageHandlerByPartitionId.clear();
+
+        shutdownAndAwaitTermination(executor, 10, SECONDS);
+    }
+
+    /**
+     * Returns the metric source of the garbage collector.
+     */
+    public GcMetricSource metricSource() {
+        return metricSource;
+    }
+
+    /**
+     * Returns the current low watermark, {@code null} if it's not known yet.
+     */
+    public @Nullable HybridTimestamp lowWatermark() {
+        return lowWatermarkReference.get();
+    }
+
+    /**
+     * Adds a partition storage to the garbage collection.
+     *
+     * @param tablePartitionId Table partition ID.
+     * @param storageUpdateHandler Storage update handler of the partition.
+     */
+    public void addStorage(TablePartitionId tablePartitionId, StorageUpdateHandler storageUpdateHandler) {
+        inBusyLock(busyLock, () -> {
+            GcStorageHandler storageHandler = new GcStorageHandler(storageUpdateHandler);
+
+            GcStorageHandler previous = storageHandlerByPartitionId.put(tablePartitionId, storageHandler);
+
+            if (previous != null) {
+                previous.stop();
+            }
+
+            if (lowWatermarkReference.get() != null) {
+                scheduleGc(storageHandler);
+            }
+        });
+    }
+
+    /**
+     * Removes a partition storage from the garbage collection. Waits for the batch of the vacuum being executed, so the storage can be
+     * closed or destroyed right after the method returns.
+     *
+     * @param tablePartitionId Table partition ID.
+     */
+    public void removeStorage(TablePartitionId tablePartitionId) {
+        GcStorageHandler storageHandler = storageHandlerByPartitionId.remove(tablePartitionId);
+
+        if (storageHandler != null) {
+            storageHandler.stop();
+        }
+    }
+
+    /**
+     * Moves the low watermark forward and schedules the vacuum of all the partitions. Does nothing if the low watermark is not greater
+     * than the current one.
+     *
+     * @param lowWatermark New low watermark.
+     */
+    public void updateLowWatermark(HybridTimestamp lowWatermark) {
+        inBusyLock(busyLock, () -> {
+            HybridTimestamp previous = lowWatermarkReference.getAndAccumulate(
+                    lowWatermark,
+                    (prev, next) -> prev == null || next.compareTo(prev) > 0 ? next : prev
+            );
+
+            if (previous == null || lowWatermark.compareTo(previous) > 0) {
+                storageHandlerByPartitionId.values().forEach(this::scheduleGc);
+            }
+        });
+    }
+
+    private void updateLowWatermarkFromClock() {
+        if (!busyLock.enterBusy()) {
+            return;
+        }
+
+        try {
+            updateLowWatermark(new HybridTimestamp(clock.now().getPhysical() - gcConfig.dataAvailabilityTime().value(), 0));
+        } catch (Throwable t) {
+            // Periodic task is cancelled by an exception.
+            LOG.error("Failed to update the low watermark", t);
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    private void scheduleGc(GcStorageHandler storageHandler) {
+        storageHandler.pending = true;
+
+        if (storageHandler.scheduled.compareAndSet(false, true)) {
+            backlog.incrementAndGet();
+
+            executor.execute(() -> vacuum(storageHandler));
+        }
+    }
+
+    private void vacuum(GcStorageHandler storageHandler) {
+        if (!busyLock.enterBusy()) {
+            return;
+        }
+
+        try {
+            int batchSize = gcConfig.batchSize().value();
+
+            long delayNanos = rateLimiter.tryAcquire(batchSize);
+
+            if (delayNanos > 0) {
+                executor.schedule(() -> vacuum(storageHandler), delayNanos, NANOSECONDS);
+
+                return;
+            }
+
+            storageHandler.pending = false;
+
+            HybridTimestamp lowWatermark = lowWatermarkReference.get();
+
+            assert lowWatermark != null;
+
+            int vacuumed = storageHandler.vacuumBatch(lowWatermark, batchSize, metricSource::onVacuumed);
+
+            rateLimiter.release(batchSize - Math.max(vacuumed, 0));
+
+            if (vacuumed == batchSize) {
+                // There may be more garbage, the partition is put to the end of the queue to let the other ones progress.
+                executor.execute(() -> vacuum(storageHandler));
+            } else {
+                finishGc(storageHandler);
+            }
+        } catch (Throwable t) {
+            LOG.error("Failed to vacuum a partition", t);
+
+            // The partition will be vacuumed again after the next move of the low watermark.
+            storageHandler.pending = false;
+
+            finishGc(storageHandler);
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    private void finishGc(GcStorageHandler storageHandler) {
+        backlog.decrementAndGet();
+
+        storageHandler.scheduled.set(false);
+
+        // Low watermark could have been moved after the last batch had started.
+        if (storageHandler.pending && !storageHandler.stopped()) {
+            scheduleGc(storageHandler);
+        }
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.table.distributed.raft;
 
+import java.util.Map;
+import java.util.SortedMap;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.close.ManuallyCloseable;
@@ -131,6 +133,23 @@ public interface PartitionDataStorage extends ManuallyCloseable {
     @Nullable BinaryRow addWrite(RowId rowId, @Nullable BinaryRow row, UUID txId, UUID commitTableId, int commitPartitionId)
             throws TxIdMismatchException, StorageException;
 
+    /**
+     * Creates (or replaces) uncommitted versions of several rows, assigned to the given transaction id.
+     *
+     * <p>This must be called under a lock acquired using {@link #acquirePartitionSnapshotsReadLock()}.
+     *
+     * @param rows Table rows to update, sorted by row id. {@code null} value means value removal.
+     * @param txId Transaction id.
+     * @param commitTableId Commit table id.
+     * @param commitPartitionId Commit partitionId.
+     * @return Previous uncommitted row versions of the rows that had them.
+     * @throws TxIdMismatchException If there's another pending update associated with different transaction id.
+     * @throws StorageException If failed to write data to the storage.
+     * @see MvPartitionStorage#addWriteAll(SortedMap, UUID, UUID, int)
+     */
+    Map<RowId, BinaryRow> addWriteAll(SortedMap<RowId, BinaryRow> rows, UUID txId, UUID commitTableId, int commitPartitionId)
+            throws TxIdMismatchException, StorageException;
+
     /**
      * Aborts a pending update of the ongoing uncommitted transaction. Invoked during rollback.
      *
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.table.distributed.raft.snapshot.outgoing;
 
+import java.util.Map;
+import java.util.SortedMap;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
@@ -116,6 +118,14 @@ public class SnapshotAwarePartitionDataStorage implements PartitionDataStorage {
         return partitionStorage.addWrite(rowId, row, txId, commitTableId, commitPartitionId);
     }
 
+    @Override
+    public Map<RowId, BinaryRow> addWriteAll(SortedMap<RowId, BinaryRow> rows, UUID txId, UUID commitTableId, int commitPartitionId)
+            throws TxIdMismatchException, StorageException {
+        rows.keySet().forEach(this::handleSnapshotInterference);
+
+        return partitionStorage.addWriteAll(rows, txId, commitTableId, commitPartitionId);
+    }
+
     @Override
     public @Nullable BinaryRow abortWrite(RowId rowId) throws StorageException {
         handleSnapshotInterference(rowId);
@@ -21,6 +21,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.schema.BinaryRow;
@@ -161,4 +163,40 @@ public class IndexGcTest extends IndexBaseTest {
         assertEquals(0, getRowVersions(rowId).size());
         assertTrue(notInAnyIndex(row));
     }
+
+    @Test
+    void testVacuumBatch() {
+        UUID rowUuid = UUID.randomUUID();
+        RowId rowId = new RowId(1, rowUuid);
+
+        var key = new TestKey(1, "foo");
+
+        BinaryRow row1 = binaryRow(key, new TestValue(2, "bar"));
+        BinaryRow row2 = binaryRow(key, new TestValue(5, "baz"));
+        BinaryRow row3 = binaryRow(key, new TestValue(7, "qux"));
+
+        addWrite(storageUpdateHandler, rowUuid, row1);
+        commitWrite(rowId);
+
+        addWrite(storageUpdateHandler, rowUuid, row2);
+        commitWrite(rowId);
+
+        addWrite(storageUpdateHandler, rowUuid, row3);
+        commitWrite(rowId);
+
+        HybridTimestamp afterCommits = now();
+
+        List<Integer> vacuumedSizes = new ArrayList<>();
+
+        assertEquals(1, storageUpdateHandler.vacuumBatch(afterCommits, 1, vacuumedSizes::add));
+        assertEquals(1, storageUpdateHandler.vacuumBatch(afterCommits, 10, vacuumedSizes::add));
+        assertEquals(0, storageUpdateHandler.vacuumBatch(afterCommits, 10, vacuumedSizes::add));
+
+        assertEquals(List.of(row1.bytes().length, row2.bytes().length), vacuumedSizes);
+
+        assertEquals(1, getRowVersions(rowId).size());
+        assertTrue(inIndexes(row1, true, false));
+        assertTrue(inIndexes(row2, true, false));
+        assertTrue(inAllIndexes(row3));
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.gc;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.runMultiThreaded;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link GcRateLimiter} testing.
+ */
+public class GcRateLimiterTest {
+    @Test
+    void testNoLimit() {
+        GcRateLimiter limiter = new GcRateLimiter(() -> 0);
+
+        assertEquals(0, limiter.tryAcquire(100));
+        assertEquals(0, limiter.tryAcquire(100));
+    }
+
+    @Test
+    void testUnusedBudgetIsReleased() {
+        GcRateLimiter limiter = new GcRateLimiter(() -> 1);
+
+        assertEquals(0, limiter.tryAcquire(100));
+        assertTrue(limiter.tryAcquire(1) > 0);
+
+        limiter.release(100);
+
+        assertEquals(0, limiter.tryAcquire(1));
+    }
+
+    @Test
+    void testConcurrentAcquire() throws Exception {
+        GcRateLimiter limiter = new GcRateLimiter(() -> 1);
+
+        AtomicInteger acquired = new AtomicInteger();
+
+        // With the rate of one row version per second, only one of the concurrent batches may start.
+        runMultiThreaded(() -> {
+            if (limiter.tryAcquire(1) == 0) {
+                acquired.incrementAndGet();
+            }
+
+            return null;
+        }, 8, "gc-rate-limiter-test");
+
+        assertEquals(1, acquired.get());
+    }
+}
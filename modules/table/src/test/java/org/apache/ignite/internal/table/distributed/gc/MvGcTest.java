@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.gc;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.hlc.HybridClock;
+import org.apache.ignite.internal.hlc.HybridClockImpl;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.configuration.TablesConfiguration;
+import org.apache.ignite.internal.table.distributed.StorageUpdateHandler;
+import org.apache.ignite.internal.table.distributed.replicator.TablePartitionId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * For {@link MvGc} testing.
+ */
+@ExtendWith(ConfigurationExtension.class)
+public class MvGcTest {
+    private static final int BATCH_SIZE = 2;
+
+    private final HybridClock clock = new HybridClockImpl();
+
+    @InjectConfiguration("mock.gcConfig {threads: 1, batchSize: 2, lowWatermarkUpdateFrequency: 1000000}")
+    private TablesConfiguration tablesConfig;
+
+    private MvGc gc;
+
+    @BeforeEach
+    void setUp() {
+        gc = new MvGc("test", tablesConfig.gcConfig(), clock);
+
+        gc.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        gc.stop();
+    }
+
+    @Test
+    void testVacuumAfterLowWatermarkUpdate() {
+        StorageUpdateHandler handler = mock(StorageUpdateHandler.class);
+
+        gc.addStorage(new TablePartitionId(UUID.randomUUID(), 0), handler);
+
+        HybridTimestamp lowWatermark = clock.now();
+
+        gc.updateLowWatermark(lowWatermark);
+
+        verify(handler, timeout(1_000)).vacuumBatch(eq(lowWatermark), eq(BATCH_SIZE), any());
+    }
+
+    @Test
+    void testVacuumUntilNoGarbage() {
+        StorageUpdateHandler handler = mock(StorageUpdateHandler.class);
+
+        HybridTimestamp lowWatermark = clock.now();
+
+        when(handler.vacuumBatch(eq(lowWatermark), anyInt(), any())).thenReturn(BATCH_SIZE, BATCH_SIZE, 1);
+
+        gc.addStorage(new TablePartitionId(UUID.randomUUID(), 0), handler);
+
+        gc.updateLowWatermark(lowWatermark);
+
+        verify(handler, timeout(1_000).times(3)).vacuumBatch(eq(lowWatermark), eq(BATCH_SIZE), any());
+        verify(handler, after(100).times(3)).vacuumBatch(eq(lowWatermark), eq(BATCH_SIZE), any());
+    }
+
+    @Test
+    void testRemovedStorageIsNotVacuumed() {
+        StorageUpdateHandler handler = mock(StorageUpdateHandler.class);
+
+        TablePartitionId tablePartitionId = new TablePartitionId(UUID.randomUUID(), 0);
+
+        gc.addStorage(tablePartitionId, handler);
+        gc.removeStorage(tablePartitionId);
+
+        HybridTimestamp lowWatermark = clock.now();
+
+        gc.updateLowWatermark(lowWatermark);
+
+        verify(handler, after(100).never()).vacuumBatch(eq(lowWatermark), anyInt(), any());
+    }
+
+    @Test
+    void testLowWatermarkIsNotMovedBackwards() {
+        HybridTimestamp lowWatermark = clock.now();
+
+        gc.updateLowWatermark(lowWatermark);
+        gc.updateLowWatermark(new HybridTimestamp(lowWatermark.getPhysical() - 1, 0));
+
+        assertEquals(lowWatermark, gc.lowWatermark());
+    }
+
+    @Test
+    void testRateLimit() {
+        tablesConfig.gcConfig().rateLimit().update(BATCH_SIZE).join();
+
+        StorageUpdateHandler handler = mock(StorageUpdateHandler.class);
+
+        HybridTimestamp lowWatermark = clock.now();
+
+        when(handler.vacuumBatch(eq(lowWatermark), anyInt(), any())).thenReturn(BATCH_SIZE);
+
+        gc.addStorage(new TablePartitionId(UUID.randomUUID(), 0), handler);
+
+        gc.updateLowWatermark(lowWatermark);
+
+        // With the rate of one batch per second, the second batch has to wait for a second.
+        verify(handler, timeout(1_000)).vacuumBatch(eq(lowWatermark), eq(BATCH_SIZE), any());
+        verify(handler, after(500).times(1)).vacuumBatch(eq(lowWatermark), eq(BATCH_SIZE), any());
+    }
+
+    @Test
+    void testLowWatermarkIsNotUpdatedFromClockByDefault() throws Exception {
+        assertFalse(waitForCondition(() -> gc.lowWatermark() != null, 200));
+    }
+
+    @Test
+    void testLowWatermarkUpdatedFromClockWhenEnabled() throws Exception {
+        tablesConfig.gcConfig().lowWatermarkUpdateEnabled().update(true).join();
+
+        MvGc clockGc = new MvGc("test", tablesConfig.gcConfig(), clock);
+
+        clockGc.start();
+
+        try {
+            assertTrue(waitForCondition(() -> clockGc.lowWatermark() != null, 1_000));
+        } finally {
+            clockGc.stop();
+        }
+    }
+}
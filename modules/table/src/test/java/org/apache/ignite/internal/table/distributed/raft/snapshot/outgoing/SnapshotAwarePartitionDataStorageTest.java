@@ -31,6 +31,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.hlc.HybridClockImpl;
@@ -155,6 +158,20 @@ class SnapshotAwarePartitionDataStorageTest {
         verify(partitionStorage).addWrite(rowId, argumentRow, txId, commitTableId, 42);
     }
 
+    @Test
+    void delegatesAddWriteAll() {
+        Map<RowId, BinaryRow> resultRows = Map.of(rowId, mock(BinaryRow.class));
+
+        when(partitionStorage.addWriteAll(any(), any(), any(), anyInt())).thenReturn(resultRows);
+
+        SortedMap<RowId, BinaryRow> argumentRows = new TreeMap<>(Map.of(rowId, mock(BinaryRow.class)));
+        UUID txId = UUID.randomUUID();
+        UUID commitTableId = UUID.randomUUID();
+
+        assertThat(testedStorage.addWriteAll(argumentRows, txId, commitTableId, 42), is(resultRows));
+        verify(partitionStorage).addWriteAll(argumentRows, txId, commitTableId, 42);
+    }
+
     @Test
     void delegatesAbortWrite() {
         BinaryRow resultRow = mock(BinaryRow.class);
@@ -297,6 +314,12 @@ class SnapshotAwarePartitionDataStorageTest {
                 storage.abortWrite(rowId);
             }
         },
+        ADD_WRITE_ALL {
+            @Override
+            void executeOn(SnapshotAwarePartitionDataStorage storage, RowId rowId) {
+                storage.addWriteAll(new TreeMap<>(Map.of(rowId, mock(BinaryRow.class))), UUID.randomUUID(), UUID.randomUUID(), 42);
+            }
+        },
         COMMIT_WRITE {
             @Override
             void executeOn(SnapshotAwarePartitionDataStorage storage, RowId rowId) {
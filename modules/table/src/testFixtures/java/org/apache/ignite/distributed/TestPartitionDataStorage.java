@@ -17,6 +17,8 @@
 
 package org.apache.ignite.distributed;
 
+import java.util.Map;
+import java.util.SortedMap;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.Lock;
@@ -97,6 +99,12 @@ public class TestPartitionDataStorage implements PartitionDataStorage {
         return partitionStorage.addWrite(rowId, row, txId, commitTableId, commitPartitionId);
     }
 
+    @Override
+    public Map<RowId, BinaryRow> addWriteAll(SortedMap<RowId, BinaryRow> rows, UUID txId, UUID commitTableId, int commitPartitionId)
+            throws TxIdMismatchException, StorageException {
+        return partitionStorage.addWriteAll(rows, txId, commitTableId, commitPartitionId);
+    }
+
     @Override
     public @Nullable BinaryRow abortWrite(RowId rowId) throws StorageException {
         return partitionStorage.abortWrite(rowId);